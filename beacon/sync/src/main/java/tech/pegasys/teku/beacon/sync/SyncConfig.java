@@ -13,18 +13,33 @@
 
 package tech.pegasys.teku.beacon.sync;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class SyncConfig {
 
   public static final boolean DEFAULT_MULTI_PEER_SYNC_ENABLED = true;
+  public static final boolean DEFAULT_BATCH_SIGNATURE_VERIFICATION_ENABLED = false;
+  public static final boolean DEFAULT_PIPELINED_IMPORT_ENABLED = false;
+  public static final int DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_REQUESTS = 4;
 
   private final boolean isEnabled;
   private final boolean isMultiPeerSyncEnabled;
-
-  private SyncConfig(final boolean isEnabled, final boolean isMultiPeerSyncEnabled) {
+  private final boolean isBatchSignatureVerificationEnabled;
+  private final boolean isPipelinedImportEnabled;
+  private final int historicalSyncMaxConcurrentRequests;
+
+  private SyncConfig(
+      final boolean isEnabled,
+      final boolean isMultiPeerSyncEnabled,
+      final boolean isBatchSignatureVerificationEnabled,
+      final boolean isPipelinedImportEnabled,
+      final int historicalSyncMaxConcurrentRequests) {
     this.isEnabled = isEnabled;
     this.isMultiPeerSyncEnabled = isMultiPeerSyncEnabled;
+    this.isBatchSignatureVerificationEnabled = isBatchSignatureVerificationEnabled;
+    this.isPipelinedImportEnabled = isPipelinedImportEnabled;
+    this.historicalSyncMaxConcurrentRequests = historicalSyncMaxConcurrentRequests;
   }
 
   public static Builder builder() {
@@ -39,15 +54,37 @@ public class SyncConfig {
     return isMultiPeerSyncEnabled;
   }
 
+  public boolean isBatchSignatureVerificationEnabled() {
+    return isBatchSignatureVerificationEnabled;
+  }
+
+  public boolean isPipelinedImportEnabled() {
+    return isPipelinedImportEnabled;
+  }
+
+  public int getHistoricalSyncMaxConcurrentRequests() {
+    return historicalSyncMaxConcurrentRequests;
+  }
+
   public static class Builder {
     private Boolean isEnabled;
     private Boolean isMultiPeerSyncEnabled = DEFAULT_MULTI_PEER_SYNC_ENABLED;
+    private Boolean isBatchSignatureVerificationEnabled =
+        DEFAULT_BATCH_SIGNATURE_VERIFICATION_ENABLED;
+    private Boolean isPipelinedImportEnabled = DEFAULT_PIPELINED_IMPORT_ENABLED;
+    private int historicalSyncMaxConcurrentRequests =
+        DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_REQUESTS;
 
     private Builder() {}
 
     public SyncConfig build() {
       initMissingDefaults();
-      return new SyncConfig(isEnabled, isMultiPeerSyncEnabled);
+      return new SyncConfig(
+          isEnabled,
+          isMultiPeerSyncEnabled,
+          isBatchSignatureVerificationEnabled,
+          isPipelinedImportEnabled,
+          historicalSyncMaxConcurrentRequests);
     }
 
     private void initMissingDefaults() {
@@ -74,5 +111,27 @@ public class SyncConfig {
       isMultiPeerSyncEnabled = multiPeerSyncEnabled;
       return this;
     }
+
+    public Builder isBatchSignatureVerificationEnabled(
+        final Boolean batchSignatureVerificationEnabled) {
+      checkNotNull(batchSignatureVerificationEnabled);
+      isBatchSignatureVerificationEnabled = batchSignatureVerificationEnabled;
+      return this;
+    }
+
+    public Builder isPipelinedImportEnabled(final Boolean pipelinedImportEnabled) {
+      checkNotNull(pipelinedImportEnabled);
+      isPipelinedImportEnabled = pipelinedImportEnabled;
+      return this;
+    }
+
+    public Builder historicalSyncMaxConcurrentRequests(
+        final int historicalSyncMaxConcurrentRequests) {
+      checkArgument(
+          historicalSyncMaxConcurrentRequests > 0,
+          "Historical sync max concurrent requests must be positive");
+      this.historicalSyncMaxConcurrentRequests = historicalSyncMaxConcurrentRequests;
+      return this;
+    }
   }
 }
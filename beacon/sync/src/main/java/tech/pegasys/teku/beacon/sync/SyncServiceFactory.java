@@ -32,6 +32,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
 import tech.pegasys.teku.statetransition.util.PendingPool;
+import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority;
 import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationService;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -82,7 +83,7 @@ public class SyncServiceFactory {
     this.blockImporter = blockImporter;
     this.pendingBlocks = pendingBlocks;
     this.getStartupTargetPeerCount = getStartupTargetPeerCount;
-    this.signatureVerifier = signatureVerifier;
+    this.signatureVerifier = signatureVerifier.forPriority(SignatureVerificationPriority.BACKFILL);
     this.startupTimeout = startupTimeout;
     this.spec = spec;
   }
@@ -151,7 +152,8 @@ public class SyncServiceFactory {
         p2pNetwork,
         combinedChainDataClient,
         signatureVerifier,
-        syncStateProvider);
+        syncStateProvider,
+        syncConfig.getHistoricalSyncMaxConcurrentRequests());
   }
 
   private SyncStateTracker createSyncStateTracker(final ForwardSync forwardSync) {
@@ -171,6 +173,9 @@ public class SyncServiceFactory {
               pendingBlocks,
               p2pNetwork,
               blockImporter,
+              syncConfig.isBatchSignatureVerificationEnabled(),
+              syncConfig.isPipelinedImportEnabled(),
+              metrics,
               spec);
     } else {
       forwardSync =
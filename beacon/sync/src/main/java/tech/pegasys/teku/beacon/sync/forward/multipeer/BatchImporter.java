@@ -34,10 +34,18 @@ public class BatchImporter {
 
   private final BlockImporter blockImporter;
   private final AsyncRunner asyncRunner;
+  private final boolean batchSignatureVerificationEnabled;
+  private final Optional<BlockImportPipeline> importPipeline;
 
-  public BatchImporter(final BlockImporter blockImporter, final AsyncRunner asyncRunner) {
+  public BatchImporter(
+      final BlockImporter blockImporter,
+      final AsyncRunner asyncRunner,
+      final boolean batchSignatureVerificationEnabled,
+      final Optional<BlockImportPipeline> importPipeline) {
     this.blockImporter = blockImporter;
     this.asyncRunner = asyncRunner;
+    this.batchSignatureVerificationEnabled = batchSignatureVerificationEnabled;
+    this.importPipeline = importPipeline;
   }
 
   /**
@@ -56,19 +64,14 @@ public class BatchImporter {
     checkState(!blocks.isEmpty(), "Batch has no blocks to import");
     return asyncRunner.runAsync(
         () -> {
-          SafeFuture<BlockImportResult> importResult =
-              importBlock(blocks.get(0), source.orElseThrow());
-          for (int i = 1; i < blocks.size(); i++) {
-            final SignedBeaconBlock block = blocks.get(i);
+          final SafeFuture<BlockImportResult> importResult;
+          if (importPipeline.isPresent()) {
             importResult =
-                importResult.thenCompose(
-                    previousResult -> {
-                      if (previousResult.isSuccessful()) {
-                        return importBlock(block, source.orElseThrow());
-                      } else {
-                        return SafeFuture.completedFuture(previousResult);
-                      }
-                    });
+                importBlocksPipelined(importPipeline.get(), blocks, source.orElseThrow());
+          } else if (batchSignatureVerificationEnabled) {
+            importResult = importBlocks(blocks, source.orElseThrow());
+          } else {
+            importResult = importBlocksIndividually(blocks, source.orElseThrow());
           }
           return importResult.thenApply(
               lastBlockImportResult -> {
@@ -88,22 +91,58 @@ public class BatchImporter {
         });
   }
 
+  private SafeFuture<BlockImportResult> importBlocksIndividually(
+      final List<SignedBeaconBlock> blocks, final SyncSource source) {
+    SafeFuture<BlockImportResult> importResult = importBlock(blocks.get(0), source);
+    for (int i = 1; i < blocks.size(); i++) {
+      final SignedBeaconBlock block = blocks.get(i);
+      importResult =
+          importResult.thenCompose(
+              previousResult -> {
+                if (previousResult.isSuccessful()) {
+                  return importBlock(block, source);
+                } else {
+                  return SafeFuture.completedFuture(previousResult);
+                }
+              });
+    }
+    return importResult;
+  }
+
+  private SafeFuture<BlockImportResult> importBlocks(
+      final List<SignedBeaconBlock> blocks, final SyncSource source) {
+    return blockImporter
+        .importBlocks(blocks)
+        .thenApply(result -> checkWeakSubjectivityResult(result, source));
+  }
+
+  private SafeFuture<BlockImportResult> importBlocksPipelined(
+      final BlockImportPipeline importPipeline,
+      final List<SignedBeaconBlock> blocks,
+      final SyncSource source) {
+    return importPipeline
+        .importBlocks(blocks)
+        .thenApply(result -> checkWeakSubjectivityResult(result, source));
+  }
+
   private SafeFuture<BlockImportResult> importBlock(
       final SignedBeaconBlock block, final SyncSource source) {
     return blockImporter
         .importBlock(block)
-        .thenApply(
-            result -> {
-              if (result.getFailureReason()
-                  == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
-                LOG.warn(
-                    "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
-                    source,
-                    result);
-                source.disconnectCleanly(DisconnectReason.REMOTE_FAULT).reportExceptions();
-              }
-              return result;
-            });
+        .thenApply(result -> checkWeakSubjectivityResult(result, source));
+  }
+
+  private BlockImportResult checkWeakSubjectivityResult(
+      final BlockImportResult result, final SyncSource source) {
+    if (result.getFailureReason()
+        == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
+      LOG.warn(
+          "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
+          source,
+          result);
+      source.disconnectCleanly(DisconnectReason.REMOTE_FAULT).reportExceptions();
+    }
+    return result;
   }
 
   public enum BatchImportResult {
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.statetransition.block.BlockImporter;
+import tech.pegasys.teku.statetransition.forkchoice.PreparedBlock;
+import tech.pegasys.teku.statetransition.forkchoice.PreparedBlocks;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Imports a chain of blocks in three stages which each run on their own executor: applying state
+ * transitions, verifying signatures and importing into fork choice and storage.
+ *
+ * <p>Blocks are processed in chunks so that while one chunk is being imported, the signatures for
+ * the next chunk are being verified and the state transition for the chunk after that is being
+ * applied. The number of chunks waiting for each stage is bounded to limit the number of states
+ * held in memory.
+ */
+public class BlockImportPipeline {
+  private static final Logger LOG = LogManager.getLogger();
+  static final int CHUNK_SIZE = 8;
+  static final int MAX_QUEUED_CHUNKS = 2;
+
+  private final RecentChainData recentChainData;
+  private final BlockImporter blockImporter;
+  private final Stage stateTransitionStage;
+  private final Stage signatureVerificationStage;
+  private final Stage importStage;
+
+  BlockImportPipeline(
+      final RecentChainData recentChainData,
+      final BlockImporter blockImporter,
+      final AsyncRunner stateTransitionRunner,
+      final AsyncRunner signatureVerificationRunner,
+      final AsyncRunner importRunner,
+      final MetricsSystem metricsSystem) {
+    this.recentChainData = recentChainData;
+    this.blockImporter = blockImporter;
+    final LabelledGauge queueSizeGauge =
+        metricsSystem.createLabelledGauge(
+            TekuMetricCategory.BEACON,
+            "sync_pipeline_queue_size",
+            "Number of block chunks waiting for each stage of the sync import pipeline",
+            "stage");
+    final LabelledMetric<Counter> processedBlocksCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "sync_pipeline_blocks_processed_total",
+            "Number of blocks processed by each stage of the sync import pipeline",
+            "stage");
+    final LabelledMetric<OperationTimer> stageTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.BEACON,
+            "sync_pipeline_stage_time",
+            "Time taken by each stage of the sync import pipeline to process a chunk of blocks",
+            "stage");
+    this.stateTransitionStage =
+        new Stage(
+            "state_transition",
+            stateTransitionRunner,
+            queueSizeGauge,
+            processedBlocksCounter,
+            stageTimer);
+    this.signatureVerificationStage =
+        new Stage(
+            "signature_verification",
+            signatureVerificationRunner,
+            queueSizeGauge,
+            processedBlocksCounter,
+            stageTimer);
+    this.importStage =
+        new Stage("import", importRunner, queueSizeGauge, processedBlocksCounter, stageTimer);
+  }
+
+  public static BlockImportPipeline create(
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final RecentChainData recentChainData,
+      final BlockImporter blockImporter,
+      final MetricsSystem metricsSystem) {
+    return new BlockImportPipeline(
+        recentChainData,
+        blockImporter,
+        asyncRunnerFactory.create("sync_state_transition", 1),
+        asyncRunnerFactory.create("sync_signature_verification", 1),
+        asyncRunnerFactory.create("sync_import", 1),
+        metricsSystem);
+  }
+
+  /**
+   * Import a chain of blocks, where each block is the child of the previous one.
+   *
+   * <p>Blocks are imported in order until the first failure.
+   *
+   * @param blocks the blocks to import
+   * @return the result of importing the last block, or of the first block that failed to import
+   */
+  public SafeFuture<BlockImportResult> importBlocks(final List<SignedBeaconBlock> blocks) {
+    checkArgument(!blocks.isEmpty(), "No blocks to import");
+    final List<SignedBeaconBlock> unknownBlocks =
+        blocks.stream()
+            .dropWhile(block -> recentChainData.containsBlock(block.getRoot()))
+            .collect(Collectors.toList());
+    if (unknownBlocks.isEmpty()) {
+      return blockImporter.importBlock(blocks.get(blocks.size() - 1));
+    }
+
+    final List<SafeFuture<Optional<PreparedBlocks>>> verifiedChunks = new ArrayList<>();
+    final List<SafeFuture<Optional<BlockImportResult>>> importedChunks = new ArrayList<>();
+    // Empty indicates the chunk was skipped because an earlier block failed to import
+    SafeFuture<Optional<PreparedBlocks>> previousTransitioned = SafeFuture.completedFuture(null);
+    SafeFuture<Optional<PreparedBlocks>> previousVerified = SafeFuture.completedFuture(null);
+    SafeFuture<Optional<BlockImportResult>> previousImported =
+        SafeFuture.completedFuture(Optional.empty());
+    for (List<SignedBeaconBlock> chunk : Lists.partition(unknownBlocks, CHUNK_SIZE)) {
+      final int chunkIndex = verifiedChunks.size();
+      final SafeFuture<Optional<PreparedBlocks>> transitioned =
+          applyStateTransitions(
+              chunk,
+              previousTransitioned,
+              getChunkToWaitFor(verifiedChunks, chunkIndex - MAX_QUEUED_CHUNKS));
+      final SafeFuture<Optional<PreparedBlocks>> verified =
+          verifySignatures(
+              transitioned,
+              previousVerified,
+              getChunkToWaitFor(importedChunks, chunkIndex - MAX_QUEUED_CHUNKS));
+      final SafeFuture<Optional<BlockImportResult>> imported =
+          importPreparedBlocks(verified, previousImported);
+      verifiedChunks.add(verified);
+      importedChunks.add(imported);
+      previousTransitioned = transitioned;
+      previousVerified = verified;
+      previousImported = imported;
+    }
+    return previousImported
+        .thenApply(Optional::orElseThrow)
+        .exceptionally(
+            error -> {
+              LOG.error("Internal error while importing blocks", error);
+              return BlockImportResult.internalError(error);
+            });
+  }
+
+  private SafeFuture<Optional<PreparedBlocks>> applyStateTransitions(
+      final List<SignedBeaconBlock> chunk,
+      final SafeFuture<Optional<PreparedBlocks>> previousTransitioned,
+      final SafeFuture<?> queueHasCapacity) {
+    return previousTransitioned
+        .thenCombine(queueHasCapacity, (previous, __) -> previous)
+        .thenCompose(
+            previous -> {
+              // previous is null for the first chunk, whose parent is already imported
+              final Optional<PreparedBlock> parent;
+              if (previous == null) {
+                parent = Optional.empty();
+              } else if (previous.map(BlockImportPipeline::isComplete).orElse(false)) {
+                final List<PreparedBlock> previousBlocks = previous.get().getBlocks();
+                parent = Optional.of(previousBlocks.get(previousBlocks.size() - 1));
+              } else {
+                return SafeFuture.completedFuture(Optional.<PreparedBlocks>empty());
+              }
+              return stateTransitionStage
+                  .run(chunk.size(), () -> blockImporter.applyStateTransitions(chunk, parent))
+                  .thenApply(Optional::of);
+            })
+        .thenPeek(__ -> signatureVerificationStage.onQueued());
+  }
+
+  private SafeFuture<Optional<PreparedBlocks>> verifySignatures(
+      final SafeFuture<Optional<PreparedBlocks>> transitioned,
+      final SafeFuture<Optional<PreparedBlocks>> previousVerified,
+      final SafeFuture<?> queueHasCapacity) {
+    return transitioned
+        .thenCombine(
+            previousVerified,
+            (current, previous) ->
+                previous == null || previous.map(BlockImportPipeline::isComplete).orElse(false)
+                    ? current
+                    : Optional.<PreparedBlocks>empty())
+        .thenCombine(queueHasCapacity, (current, __) -> current)
+        .thenCompose(
+            current -> {
+              signatureVerificationStage.onDequeued();
+              if (current.isEmpty() || current.get().getBlocks().isEmpty()) {
+                return SafeFuture.completedFuture(current);
+              }
+              final PreparedBlocks preparedBlocks = current.get();
+              return signatureVerificationStage
+                  .run(
+                      preparedBlocks.getBlocks().size(),
+                      () ->
+                          SafeFuture.completedFuture(
+                              blockImporter.verifySignatures(preparedBlocks)))
+                  .thenApply(Optional::of);
+            })
+        .thenPeek(__ -> importStage.onQueued());
+  }
+
+  private SafeFuture<Optional<BlockImportResult>> importPreparedBlocks(
+      final SafeFuture<Optional<PreparedBlocks>> verified,
+      final SafeFuture<Optional<BlockImportResult>> previousImported) {
+    return verified
+        .thenCombine(previousImported, VerifiedChunk::new)
+        .thenCompose(
+            chunk -> {
+              importStage.onDequeued();
+              final boolean previousFailed =
+                  chunk.previousResult.map(result -> !result.isSuccessful()).orElse(false);
+              if (previousFailed || chunk.preparedBlocks.isEmpty()) {
+                return SafeFuture.completedFuture(chunk.previousResult);
+              }
+              final PreparedBlocks preparedBlocks = chunk.preparedBlocks.get();
+              return importStage
+                  .run(
+                      preparedBlocks.getBlocks().size(),
+                      () -> blockImporter.importPreparedBlocks(preparedBlocks))
+                  .thenApply(Optional::of);
+            });
+  }
+
+  private static SafeFuture<?> getChunkToWaitFor(
+      final List<? extends SafeFuture<?>> chunks, final int index) {
+    return index >= 0 ? chunks.get(index) : SafeFuture.COMPLETE;
+  }
+
+  private static boolean isComplete(final PreparedBlocks preparedBlocks) {
+    return preparedBlocks.getFailureResult().isEmpty() && !preparedBlocks.getBlocks().isEmpty();
+  }
+
+  private static class VerifiedChunk {
+    private final Optional<PreparedBlocks> preparedBlocks;
+    private final Optional<BlockImportResult> previousResult;
+
+    private VerifiedChunk(
+        final Optional<PreparedBlocks> preparedBlocks,
+        final Optional<BlockImportResult> previousResult) {
+      this.preparedBlocks = preparedBlocks;
+      this.previousResult = previousResult;
+    }
+  }
+
+  private static class Stage {
+    private final AsyncRunner asyncRunner;
+    private final Counter processedBlocksCounter;
+    private final OperationTimer stageTimer;
+    private final AtomicInteger queuedChunks = new AtomicInteger();
+
+    private Stage(
+        final String name,
+        final AsyncRunner asyncRunner,
+        final LabelledGauge queueSizeGauge,
+        final LabelledMetric<Counter> processedBlocksCounter,
+        final LabelledMetric<OperationTimer> stageTimer) {
+      this.asyncRunner = asyncRunner;
+      this.processedBlocksCounter = processedBlocksCounter.labels(name);
+      this.stageTimer = stageTimer.labels(name);
+      queueSizeGauge.labels(queuedChunks::get, name);
+    }
+
+    void onQueued() {
+      queuedChunks.incrementAndGet();
+    }
+
+    void onDequeued() {
+      queuedChunks.decrementAndGet();
+    }
+
+    <T> SafeFuture<T> run(final int blockCount, final ExceptionThrowingFutureSupplier<T> action) {
+      return asyncRunner.runAsync(
+          () -> {
+            final OperationTimer.TimingContext timingContext = stageTimer.startTimer();
+            return SafeFuture.of(action)
+                .thenPeek(
+                    __ -> {
+                      timingContext.stopTimer();
+                      processedBlocksCounter.inc(blockCount);
+                    });
+          });
+    }
+  }
+}
@@ -13,8 +13,10 @@
 
 package tech.pegasys.teku.beacon.sync.forward.multipeer;
 
+import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.beacon.sync.events.SyncingStatus;
 import tech.pegasys.teku.beacon.sync.forward.ForwardSyncService;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.BatchFactory;
@@ -69,10 +71,19 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
       final PendingPool<SignedBeaconBlock> pendingBlocks,
       final P2PNetwork<Eth2Peer> p2pNetwork,
       final BlockImporter blockImporter,
+      final boolean batchSignatureVerificationEnabled,
+      final boolean pipelinedImportEnabled,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     LOG.info("Using multipeer sync");
     final EventThread eventThread = new AsyncRunnerEventThread("sync", asyncRunnerFactory);
 
+    final Optional<BlockImportPipeline> importPipeline =
+        pipelinedImportEnabled
+            ? Optional.of(
+                BlockImportPipeline.create(
+                    asyncRunnerFactory, recentChainData, blockImporter, metricsSystem))
+            : Optional.empty();
     final TargetChains finalizedTargetChains = new TargetChains();
     final TargetChains nonfinalizedTargetChains = new TargetChains();
     final BatchSync batchSync =
@@ -80,7 +91,8 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             eventThread,
             asyncRunner,
             recentChainData,
-            new BatchImporter(blockImporter, asyncRunner),
+            new BatchImporter(
+                blockImporter, asyncRunner, batchSignatureVerificationEnabled, importPipeline),
             new BatchFactory(eventThread, new PeerScoringConflictResolutionStrategy()),
             Constants.SYNC_BATCH_SIZE,
             MultipeerCommonAncestorFinder.create(recentChainData, eventThread, spec),
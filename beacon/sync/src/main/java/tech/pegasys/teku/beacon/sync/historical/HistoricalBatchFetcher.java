@@ -17,6 +17,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
@@ -58,6 +59,7 @@ public class HistoricalBatchFetcher {
   private final Bytes32 lastBlockRoot;
   private final UInt64 batchSize;
   private final int maxRequests;
+  private final List<SegmentRequest> additionalSegments;
 
   private final Spec spec;
   private final SafeFuture<BeaconBlockSummary> future = new SafeFuture<>();
@@ -91,6 +93,38 @@ public class HistoricalBatchFetcher {
         maxSlot,
         lastBlockRoot,
         batchSize,
+        Collections.emptyList());
+  }
+
+  /**
+   * @param storageUpdateChannel The storage channel where finalized blocks will be imported
+   * @param peer The peer to request blocks from
+   * @param maxSlot The maxSlot to pull
+   * @param lastBlockRoot The block root that defines the last block in our batch
+   * @param batchSize The number of blocks to sync (assuming all slots are filled)
+   * @param additionalSegments Segments of blocks prior to this batch being fetched concurrently,
+   *     ordered from newest to oldest, which are imported along with the batch if they link to it
+   */
+  public HistoricalBatchFetcher(
+      final StorageUpdateChannel storageUpdateChannel,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final CombinedChainDataClient chainDataClient,
+      final Spec spec,
+      final Eth2Peer peer,
+      final UInt64 maxSlot,
+      final Bytes32 lastBlockRoot,
+      final UInt64 batchSize,
+      final List<SegmentRequest> additionalSegments) {
+    this(
+        storageUpdateChannel,
+        signatureVerifier,
+        chainDataClient,
+        spec,
+        peer,
+        maxSlot,
+        lastBlockRoot,
+        batchSize,
+        additionalSegments,
         MAX_REQUESTS);
   }
 
@@ -105,6 +139,31 @@ public class HistoricalBatchFetcher {
       final Bytes32 lastBlockRoot,
       final UInt64 batchSize,
       final int maxRequests) {
+    this(
+        storageUpdateChannel,
+        signatureVerifier,
+        chainDataClient,
+        spec,
+        peer,
+        maxSlot,
+        lastBlockRoot,
+        batchSize,
+        Collections.emptyList(),
+        maxRequests);
+  }
+
+  @VisibleForTesting
+  HistoricalBatchFetcher(
+      final StorageUpdateChannel storageUpdateChannel,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final CombinedChainDataClient chainDataClient,
+      final Spec spec,
+      final Eth2Peer peer,
+      final UInt64 maxSlot,
+      final Bytes32 lastBlockRoot,
+      final UInt64 batchSize,
+      final List<SegmentRequest> additionalSegments,
+      final int maxRequests) {
     this.storageUpdateChannel = storageUpdateChannel;
     this.signatureVerificationService = signatureVerifier;
     this.chainDataClient = chainDataClient;
@@ -113,6 +172,7 @@ public class HistoricalBatchFetcher {
     this.maxSlot = maxSlot;
     this.lastBlockRoot = lastBlockRoot;
     this.batchSize = batchSize;
+    this.additionalSegments = additionalSegments;
     this.maxRequests = maxRequests;
   }
 
@@ -210,33 +270,123 @@ public class HistoricalBatchFetcher {
   }
 
   private SafeFuture<Void> importBatch() {
-    final SignedBeaconBlock newEarliestBlock = blocksToImport.getFirst();
+    final List<SignedBeaconBlock> batch = new ArrayList<>(blocksToImport);
+    return SafeFuture.collectAll(additionalSegments.stream().map(SegmentRequest::getBlocks))
+        .thenCompose(segments -> verifyLinkedSegments(batch, linkAdditionalSegments(segments)))
+        .thenCompose(
+            blocks -> {
+              final SignedBeaconBlock newEarliestBlock = blocks.get(0);
+              return storageUpdateChannel
+                  .onFinalizedBlocks(blocks)
+                  .thenRun(
+                      () -> {
+                        LOG.trace(
+                            "Earliest block is now from slot {}", newEarliestBlock.getSlot());
+                        future.complete(newEarliestBlock);
+                      });
+            });
+  }
+
+  /**
+   * Returns the additional segments that form a chain with the blocks in this batch.
+   *
+   * @return the linked segments, ordered from newest to oldest, so segment {@code i} was supplied
+   *     by {@code additionalSegments.get(i)}
+   */
+  private List<List<SignedBeaconBlock>> linkAdditionalSegments(
+      final List<List<SignedBeaconBlock>> segments) {
+    final List<List<SignedBeaconBlock>> linkedSegments = new ArrayList<>();
+    Bytes32 expectedRoot = blocksToImport.getFirst().getParentRoot();
+    for (List<SignedBeaconBlock> segment : segments) {
+      // An empty segment may be a range of empty slots or blocks withheld by the peer, so stop
+      if (segment.isEmpty() || !segment.get(segment.size() - 1).getRoot().equals(expectedRoot)) {
+        LOG.trace("Unable to link historical segment to batch, ignoring remaining segments");
+        break;
+      }
+      linkedSegments.add(segment);
+      expectedRoot = segment.get(0).getParentRoot();
+    }
+    return linkedSegments;
+  }
+
+  /**
+   * Verifies the signatures of the batch and the linked segments, dropping the first segment with
+   * an invalid signature and every older segment.
+   *
+   * @return the blocks to import, in slot order
+   */
+  private SafeFuture<List<SignedBeaconBlock>> verifyLinkedSegments(
+      final List<SignedBeaconBlock> batch, final List<List<SignedBeaconBlock>> linkedSegments) {
+    final List<SignedBeaconBlock> allBlocks = toSlotOrder(batch, linkedSegments);
+    if (linkedSegments.isEmpty()) {
+      return batchVerifyHistoricalBlockSignatures(allBlocks).thenApply(__ -> allBlocks);
+    }
+    // Verify everything together first as normally all signatures are valid
+    return verifyHistoricalBlockSignatures(allBlocks)
+        .thenCompose(
+            allValid -> {
+              if (allValid) {
+                return SafeFuture.completedFuture(allBlocks);
+              }
+              // Find which peer supplied the invalid signature, failing if it was this batch's peer
+              return batchVerifyHistoricalBlockSignatures(batch)
+                  .thenCompose(__ -> countValidSegments(linkedSegments, 0))
+                  .thenApply(
+                      validSegments ->
+                          toSlotOrder(batch, linkedSegments.subList(0, validSegments)));
+            });
+  }
 
-    return batchVerifyHistoricalBlockSignatures(blocksToImport)
+  private SafeFuture<Integer> countValidSegments(
+      final List<List<SignedBeaconBlock>> linkedSegments, final int index) {
+    if (index == linkedSegments.size()) {
+      return SafeFuture.completedFuture(index);
+    }
+    return verifyHistoricalBlockSignatures(linkedSegments.get(index))
         .thenCompose(
-            validSignatures ->
-                storageUpdateChannel
-                    // send to signature verification then store
-                    // all pass, or if one fails we reject the entire response
-                    .onFinalizedBlocks(blocksToImport)
-                    .thenRun(
-                        () -> {
-                          LOG.trace(
-                              "Earliest block is now from slot {}", newEarliestBlock.getSlot());
-                          future.complete(newEarliestBlock);
-                        }));
+            valid -> {
+              if (valid) {
+                return countValidSegments(linkedSegments, index + 1);
+              }
+              final Eth2Peer segmentPeer = additionalSegments.get(index).getPeer();
+              LOG.debug(
+                  "Received historical segment with invalid signature. Disconnecting: {}",
+                  segmentPeer);
+              segmentPeer.disconnectCleanly(DisconnectReason.REMOTE_FAULT).reportExceptions();
+              return SafeFuture.completedFuture(index);
+            });
+  }
+
+  private static List<SignedBeaconBlock> toSlotOrder(
+      final List<SignedBeaconBlock> batch, final List<List<SignedBeaconBlock>> linkedSegments) {
+    final List<SignedBeaconBlock> blocks = new ArrayList<>();
+    for (int i = linkedSegments.size() - 1; i >= 0; i--) {
+      blocks.addAll(linkedSegments.get(i));
+    }
+    blocks.addAll(batch);
+    return blocks;
   }
 
   SafeFuture<Void> batchVerifyHistoricalBlockSignatures(
       final Collection<SignedBeaconBlock> blocks) {
+    return verifyHistoricalBlockSignatures(blocks)
+        .thenAccept(
+            signaturesValid -> {
+              if (!signaturesValid) {
+                throw new IllegalArgumentException("Batch signature verification failed");
+              }
+            });
+  }
 
+  private SafeFuture<Boolean> verifyHistoricalBlockSignatures(
+      final Collection<SignedBeaconBlock> blocks) {
     return chainDataClient
         .getBestState()
         .orElseThrow()
-        .thenCompose(bestState -> batchVerifyHistoricalBlockSignature(blocks, bestState));
+        .thenCompose(bestState -> verifyHistoricalBlockSignatures(blocks, bestState));
   }
 
-  private SafeFuture<Void> batchVerifyHistoricalBlockSignature(
+  private SafeFuture<Boolean> verifyHistoricalBlockSignatures(
       final Collection<SignedBeaconBlock> blocks, final BeaconState bestState) {
     List<BLSSignature> signatures = new ArrayList<>();
     List<Bytes> signingRoots = new ArrayList<>();
@@ -264,14 +414,7 @@ public class HistoricalBatchFetcher {
           }
         });
 
-    return signatureVerificationService
-        .verify(proposerPublicKeys, signingRoots, signatures)
-        .thenAccept(
-            signaturesValid -> {
-              if (!signaturesValid) {
-                throw new IllegalArgumentException("Batch signature verification failed");
-              }
-            });
+    return signatureVerificationService.verify(proposerPublicKeys, signingRoots, signatures);
   }
 
   private RequestParameters calculateRequestParams() {
@@ -306,6 +449,25 @@ public class HistoricalBatchFetcher {
         .orElse(false);
   }
 
+  /** A request for a segment of blocks prior to the batch and the peer it was made to. */
+  public static class SegmentRequest {
+    private final Eth2Peer peer;
+    private final SafeFuture<List<SignedBeaconBlock>> blocks;
+
+    public SegmentRequest(final Eth2Peer peer, final SafeFuture<List<SignedBeaconBlock>> blocks) {
+      this.peer = peer;
+      this.blocks = blocks;
+    }
+
+    public Eth2Peer getPeer() {
+      return peer;
+    }
+
+    public SafeFuture<List<SignedBeaconBlock>> getBlocks() {
+      return blocks;
+    }
+  }
+
   private static class RequestManager {
     private final Bytes32 lastBlockRoot;
     private final Optional<SignedBeaconBlock> previousBlock;
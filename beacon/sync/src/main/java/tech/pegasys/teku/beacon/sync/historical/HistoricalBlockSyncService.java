@@ -16,16 +16,20 @@ package tech.pegasys.teku.beacon.sync.historical;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
+import tech.pegasys.teku.beacon.sync.historical.HistoricalBatchFetcher.SegmentRequest;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
@@ -37,6 +41,7 @@ import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -59,6 +64,7 @@ public class HistoricalBlockSyncService extends Service {
   private final CombinedChainDataClient chainData;
   private final SyncStateProvider syncStateProvider;
   private final UInt64 batchSize;
+  private final int maxConcurrentRequests;
 
   private final AtomicLong syncStateSubscription = new AtomicLong(-1);
   private final AtomicBoolean requestInProgress = new AtomicBoolean(false);
@@ -77,7 +83,8 @@ public class HistoricalBlockSyncService extends Service {
       final CombinedChainDataClient chainData,
       final SyncStateProvider syncStateProvider,
       final AsyncBLSSignatureVerifier signatureVerifier,
-      final UInt64 batchSize) {
+      final UInt64 batchSize,
+      final int maxConcurrentRequests) {
     this.spec = spec;
     this.storageUpdateChannel = storageUpdateChannel;
 
@@ -86,6 +93,7 @@ public class HistoricalBlockSyncService extends Service {
     this.chainData = chainData;
     this.syncStateProvider = syncStateProvider;
     this.batchSize = batchSize;
+    this.maxConcurrentRequests = maxConcurrentRequests;
     this.signatureVerifier = signatureVerifier;
 
     this.badPeerCache =
@@ -113,7 +121,8 @@ public class HistoricalBlockSyncService extends Service {
       final P2PNetwork<Eth2Peer> network,
       final CombinedChainDataClient chainData,
       final AsyncBLSSignatureVerifier signatureVerifier,
-      final SyncStateProvider syncStateProvider) {
+      final SyncStateProvider syncStateProvider,
+      final int maxConcurrentRequests) {
     return new HistoricalBlockSyncService(
         spec,
         metricsSystem,
@@ -123,7 +132,8 @@ public class HistoricalBlockSyncService extends Service {
         chainData,
         syncStateProvider,
         signatureVerifier,
-        BATCH_SIZE);
+        BATCH_SIZE,
+        maxConcurrentRequests);
   }
 
   @Override
@@ -177,9 +187,10 @@ public class HistoricalBlockSyncService extends Service {
   private SafeFuture<Boolean> findPeerAndRequestBlocks() {
     final Optional<MaxMissingBlockParams> blockParams = getMaxMissingBlockParams();
     if (blockParams.isPresent() && isActive() && requestInProgress.compareAndSet(false, true)) {
-      return findPeer()
-          .map(peer -> requestBlocks(peer, blockParams.get()))
-          .orElseGet(this::waitToRetry)
+      final List<Eth2Peer> peers = findPeers();
+      final SafeFuture<Void> request =
+          peers.isEmpty() ? waitToRetry() : requestBlocks(peers, blockParams.get());
+      return request
           .alwaysRun(() -> requestInProgress.set(false))
           .thenApply(__ -> true);
     } else {
@@ -191,20 +202,26 @@ public class HistoricalBlockSyncService extends Service {
     return isRunning() && syncStateProvider.getCurrentSyncState().isInSync();
   }
 
-  private SafeFuture<Void> requestBlocks(final Eth2Peer peer, final MaxMissingBlockParams params) {
-    return createFetcher(peer, params)
+  private SafeFuture<Void> requestBlocks(
+      final List<Eth2Peer> peers, final MaxMissingBlockParams params) {
+    // The first peer fetches the batch that links to our earliest block while the remaining peers
+    // concurrently fetch the ranges of slots before it
+    final Eth2Peer peer = peers.get(0);
+    final List<SegmentRequest> additionalSegments = new ArrayList<>();
+    for (int i = 1; i < peers.size(); i++) {
+      final Optional<UInt64> segmentMaxSlot = params.getMaxSlot().safeMinus(batchSize.times(i));
+      if (segmentMaxSlot.isEmpty()) {
+        break;
+      }
+      final Eth2Peer segmentPeer = peers.get(i);
+      additionalSegments.add(
+          new SegmentRequest(segmentPeer, requestSegment(segmentPeer, segmentMaxSlot.get())));
+    }
+    return createFetcher(peer, params, additionalSegments)
         .run()
         .exceptionally(
             (err) -> {
-              // We ran into trouble with this peer - ignore it for a while
-              LOG.debug(
-                  "Encountered a problem requesting historical blocks from peer: " + peer, err);
-              if (peer.isConnected()) {
-                // If we didn't disconnect the peer altogether, avoid making new requests for a
-                // while
-                badPeerCache.add(peer.getId());
-                logBadPeerCacheSize(true);
-              }
+              handlePeerError(peer, err);
               return null;
             })
         .thenAccept(
@@ -220,8 +237,33 @@ public class HistoricalBlockSyncService extends Service {
             });
   }
 
+  private SafeFuture<List<SignedBeaconBlock>> requestSegment(
+      final Eth2Peer peer, final UInt64 maxSlot) {
+    final UInt64 startSlot = maxSlot.plus(1).safeMinus(batchSize).orElse(UInt64.ZERO);
+    return new HistoricalSegmentFetcher(peer, startSlot, maxSlot.plus(1).minus(startSlot))
+        .run()
+        .exceptionally(
+            err -> {
+              handlePeerError(peer, err);
+              return Collections.emptyList();
+            });
+  }
+
+  private void handlePeerError(final Eth2Peer peer, final Throwable err) {
+    // We ran into trouble with this peer - ignore it for a while
+    LOG.debug("Encountered a problem requesting historical blocks from peer: " + peer, err);
+    if (peer.isConnected()) {
+      // If we didn't disconnect the peer altogether, avoid making new requests for a
+      // while
+      badPeerCache.add(peer.getId());
+      logBadPeerCacheSize(true);
+    }
+  }
+
   private HistoricalBatchFetcher createFetcher(
-      final Eth2Peer peer, final MaxMissingBlockParams params) {
+      final Eth2Peer peer,
+      final MaxMissingBlockParams params,
+      final List<SegmentRequest> additionalSegments) {
     return new HistoricalBatchFetcher(
         storageUpdateChannel,
         signatureVerifier,
@@ -230,7 +272,8 @@ public class HistoricalBlockSyncService extends Service {
         peer,
         params.getMaxSlot(),
         params.getBlockRoot(),
-        batchSize);
+        batchSize,
+        additionalSegments);
   }
 
   private boolean isSyncDone() {
@@ -259,7 +302,7 @@ public class HistoricalBlockSyncService extends Service {
     return asyncRunner.getDelayedFuture(RETRY_TIMEOUT);
   }
 
-  private Optional<Eth2Peer> findPeer() {
+  private List<Eth2Peer> findPeers() {
     return network
         .streamPeers()
         .filter(p -> !badPeerCache.contains(p.getId()))
@@ -269,7 +312,8 @@ public class HistoricalBlockSyncService extends Service {
                     .getFinalizedCheckpoint()
                     .getEpochStartSlot(spec)
                     .isGreaterThan(earliestBlock.getSlot()))
-        .findAny();
+        .limit(maxConcurrentRequests)
+        .collect(Collectors.toList());
   }
 
   private void logBadPeerCacheSize(final boolean peerAdded) {
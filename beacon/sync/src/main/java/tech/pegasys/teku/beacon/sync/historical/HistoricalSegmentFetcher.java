@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import com.google.common.base.Throwables;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.InvalidResponseException;
+import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+
+/**
+ * Fetches a range of historical blocks from a peer without knowing which block the range should end
+ * with. The blocks received are checked to form a chain but can only be trusted once they are
+ * linked to an already validated block, which is done by {@link HistoricalBatchFetcher}.
+ */
+class HistoricalSegmentFetcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Eth2Peer peer;
+  private final UInt64 startSlot;
+  private final UInt64 count;
+
+  private final List<SignedBeaconBlock> blocks = Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * @param peer The peer to request blocks from
+   * @param startSlot The first slot in the range
+   * @param count The number of slots in the range
+   */
+  HistoricalSegmentFetcher(final Eth2Peer peer, final UInt64 startSlot, final UInt64 count) {
+    this.peer = peer;
+    this.startSlot = startSlot;
+    this.count = count;
+  }
+
+  /**
+   * Fetch the blocks in the range.
+   *
+   * @return A future that resolves with the blocks received, in slot order
+   */
+  SafeFuture<List<SignedBeaconBlock>> run() {
+    LOG.trace(
+        "Request historical segment of {} blocks from slot {} from {}", count, startSlot, peer);
+    return peer.requestBlocksByRange(startSlot, count, UInt64.ONE, this::processBlock)
+        .thenApply(__ -> List.copyOf(blocks))
+        .catchAndRethrow(this::handleRequestError);
+  }
+
+  private SafeFuture<?> processBlock(final SignedBeaconBlock block) {
+    return SafeFuture.of(
+        () -> {
+          if (block.getSlot().isLessThan(startSlot)) {
+            throw new InvalidResponseException("Received block before the requested range");
+          }
+          // Ignore any extra blocks after the range
+          if (block.getSlot().isGreaterThanOrEqualTo(startSlot.plus(count))) {
+            return SafeFuture.COMPLETE;
+          }
+          if (!blocks.isEmpty()
+              && !block.getParentRoot().equals(blocks.get(blocks.size() - 1).getRoot())) {
+            throw new InvalidResponseException("Expected block to descend from previous block.");
+          }
+          blocks.add(block);
+          return SafeFuture.COMPLETE;
+        });
+  }
+
+  private void handleRequestError(final Throwable throwable) {
+    if (Throwables.getRootCause(throwable) instanceof InvalidResponseException) {
+      LOG.debug("Received invalid response from peer. Disconnecting: " + peer, throwable);
+      peer.disconnectCleanly(DisconnectReason.REMOTE_FAULT).reportExceptions();
+    }
+  }
+}
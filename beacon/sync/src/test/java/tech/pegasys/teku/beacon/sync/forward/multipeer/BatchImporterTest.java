@@ -46,7 +46,8 @@ class BatchImporterTest {
   private final Batch batch = mock(Batch.class);
   final SyncSource syncSource = mock(SyncSource.class);
 
-  private final BatchImporter importer = new BatchImporter(blockImporter, asyncRunner);
+  private final BatchImporter importer =
+      new BatchImporter(blockImporter, asyncRunner, false, Optional.empty());
 
   @BeforeEach
   public void setup() {
@@ -190,6 +191,75 @@ class BatchImporterTest {
     verifyNoMoreInteractions(blockImporter);
   }
 
+  @Test
+  void shouldImportBlocksTogetherWhenBatchSignatureVerificationEnabled() {
+    final BatchImporter importer =
+        new BatchImporter(blockImporter, asyncRunner, true, Optional.empty());
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
+    when(blockImporter.importBlocks(List.of(block1, block2))).thenReturn(importResult);
+
+    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
+
+    // Should not be started on the calling thread
+    verifyNoInteractions(blockImporter);
+
+    asyncRunner.executeQueuedActions();
+
+    ignoreFuture(verify(blockImporter).importBlocks(List.of(block1, block2)));
+    verifyNoMoreInteractions(blockImporter);
+    assertThat(result).isNotDone();
+
+    importResult.complete(BlockImportResult.successful(block2));
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
+  }
+
+  @Test
+  void shouldDisconnectPeersForWeakSubjectivityViolationWhenImportingBlocksTogether() {
+    when(syncSource.disconnectCleanly(any())).thenReturn(SafeFuture.completedFuture(null));
+    final BatchImporter importer =
+        new BatchImporter(blockImporter, asyncRunner, true, Optional.empty());
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
+    when(blockImporter.importBlocks(List.of(block1, block2)))
+        .thenReturn(SafeFuture.completedFuture(BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS));
+
+    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
+    verify(syncSource).disconnectCleanly(DisconnectReason.REMOTE_FAULT);
+  }
+
+  @Test
+  void shouldImportBlocksThroughPipelineWhenEnabled() {
+    final BlockImportPipeline importPipeline = mock(BlockImportPipeline.class);
+    final BatchImporter importer =
+        new BatchImporter(blockImporter, asyncRunner, true, Optional.of(importPipeline));
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
+    when(importPipeline.importBlocks(List.of(block1, block2))).thenReturn(importResult);
+
+    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
+
+    // Should not be started on the calling thread
+    verifyNoInteractions(importPipeline);
+
+    asyncRunner.executeQueuedActions();
+
+    ignoreFuture(verify(importPipeline).importBlocks(List.of(block1, block2)));
+    verifyNoInteractions(blockImporter);
+    assertThat(result).isNotDone();
+
+    importResult.complete(BlockImportResult.successful(block2));
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
+  }
+
   private void blockImportedSuccessfully(
       final SignedBeaconBlock block, final SafeFuture<BlockImportResult> importResult1) {
     ignoreFuture(verify(blockImporter).importBlock(block));
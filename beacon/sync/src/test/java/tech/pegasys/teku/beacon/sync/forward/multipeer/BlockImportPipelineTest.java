@@ -0,0 +1,233 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.FutureUtil.ignoreFuture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.block.BlockImporter;
+import tech.pegasys.teku.statetransition.forkchoice.PreparedBlock;
+import tech.pegasys.teku.statetransition.forkchoice.PreparedBlocks;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+class BlockImportPipelineTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+  private final BlockImporter blockImporter = mock(BlockImporter.class);
+  private final StubAsyncRunner stateTransitionRunner = new StubAsyncRunner();
+  private final StubAsyncRunner signatureVerificationRunner = new StubAsyncRunner();
+  private final StubAsyncRunner importRunner = new StubAsyncRunner();
+
+  private final BlockImportPipeline pipeline =
+      new BlockImportPipeline(
+          recentChainData,
+          blockImporter,
+          stateTransitionRunner,
+          signatureVerificationRunner,
+          importRunner,
+          new NoOpMetricsSystem());
+
+  @Test
+  void shouldImportAllBlocksInOrder() {
+    final List<SignedBeaconBlock> blocks = createBlocks(BlockImportPipeline.CHUNK_SIZE * 2 + 1);
+    final List<PreparedBlocks> chunks = prepareChunks(blocks);
+
+    final SafeFuture<BlockImportResult> result = pipeline.importBlocks(blocks);
+    executeAllActions();
+
+    assertImported(result, blocks.get(blocks.size() - 1));
+    final InOrder inOrder = inOrder(blockImporter);
+    for (PreparedBlocks chunk : chunks) {
+      ignoreFuture(inOrder.verify(blockImporter).importPreparedBlocks(chunk));
+    }
+  }
+
+  @Test
+  void shouldOverlapStages() {
+    final List<SignedBeaconBlock> blocks = createBlocks(BlockImportPipeline.CHUNK_SIZE * 2);
+    prepareChunks(blocks);
+
+    final SafeFuture<BlockImportResult> result = pipeline.importBlocks(blocks);
+    stateTransitionRunner.executeQueuedActions();
+
+    // Second chunk's state transition runs alongside the first chunk's signature verification
+    assertThat(stateTransitionRunner.countDelayedActions()).isEqualTo(1);
+    assertThat(signatureVerificationRunner.countDelayedActions()).isEqualTo(1);
+
+    signatureVerificationRunner.executeQueuedActions();
+    stateTransitionRunner.executeQueuedActions();
+
+    // First chunk's import runs alongside the second chunk's signature verification
+    assertThat(importRunner.countDelayedActions()).isEqualTo(1);
+    assertThat(signatureVerificationRunner.countDelayedActions()).isEqualTo(1);
+
+    executeAllActions();
+    assertImported(result, blocks.get(blocks.size() - 1));
+  }
+
+  @Test
+  void shouldLimitNumberOfChunksWaitingForSignatureVerification() {
+    final List<SignedBeaconBlock> blocks = createBlocks(BlockImportPipeline.CHUNK_SIZE * 5);
+    prepareChunks(blocks);
+
+    final SafeFuture<BlockImportResult> result = pipeline.importBlocks(blocks);
+    stateTransitionRunner.executeUntilDone();
+
+    ignoreFuture(
+        verify(blockImporter, times(BlockImportPipeline.MAX_QUEUED_CHUNKS))
+            .applyStateTransitions(any(), any()));
+
+    executeAllActions();
+    assertImported(result, blocks.get(blocks.size() - 1));
+  }
+
+  @Test
+  void shouldStopAtFirstInvalidSignature() {
+    final List<SignedBeaconBlock> blocks = createBlocks(BlockImportPipeline.CHUNK_SIZE * 3);
+    final List<PreparedBlocks> chunks = prepareChunks(blocks);
+    final BlockImportResult failure = BlockImportResult.FAILED_INVALID_ANCESTRY;
+    final PreparedBlocks validPrefix =
+        createPreparedBlocks(
+            chunks.get(0).getBlocks().subList(0, 3).stream()
+                .map(PreparedBlock::getBlock)
+                .collect(Collectors.toList()),
+            Optional.of(failure));
+    when(blockImporter.verifySignatures(chunks.get(0))).thenReturn(validPrefix);
+    when(blockImporter.importPreparedBlocks(validPrefix))
+        .thenReturn(SafeFuture.completedFuture(failure));
+
+    final SafeFuture<BlockImportResult> result = pipeline.importBlocks(blocks);
+    executeAllActions();
+
+    assertThat(result).isCompletedWithValue(failure);
+    ignoreFuture(verify(blockImporter).importPreparedBlocks(validPrefix));
+    ignoreFuture(verify(blockImporter, never()).importPreparedBlocks(chunks.get(1)));
+    ignoreFuture(verify(blockImporter, never()).importPreparedBlocks(chunks.get(2)));
+  }
+
+  @Test
+  void shouldSkipBlocksWhichAreAlreadyImported() {
+    final List<SignedBeaconBlock> blocks = createBlocks(3);
+    when(recentChainData.containsBlock(blocks.get(0).getRoot())).thenReturn(true);
+    final PreparedBlocks preparedBlocks =
+        createPreparedBlocks(blocks.subList(1, 3), Optional.empty());
+    when(blockImporter.applyStateTransitions(blocks.subList(1, 3), Optional.empty()))
+        .thenReturn(SafeFuture.completedFuture(preparedBlocks));
+    when(blockImporter.verifySignatures(preparedBlocks)).thenReturn(preparedBlocks);
+    when(blockImporter.importPreparedBlocks(preparedBlocks))
+        .thenReturn(SafeFuture.completedFuture(BlockImportResult.successful(blocks.get(2))));
+
+    final SafeFuture<BlockImportResult> result = pipeline.importBlocks(blocks);
+    executeAllActions();
+
+    assertImported(result, blocks.get(2));
+  }
+
+  @Test
+  void shouldImportLastBlockWhenAllBlocksAreAlreadyImported() {
+    final List<SignedBeaconBlock> blocks = createBlocks(2);
+    when(recentChainData.containsBlock(any())).thenReturn(true);
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
+    when(blockImporter.importBlock(blocks.get(1))).thenReturn(importResult);
+
+    assertThat(pipeline.importBlocks(blocks)).isSameAs(importResult);
+  }
+
+  private void assertImported(
+      final SafeFuture<BlockImportResult> result, final SignedBeaconBlock expectedBlock) {
+    assertThat(result).isCompleted();
+    assertThat(result.join().isSuccessful()).isTrue();
+    assertThat(result.join().getBlock()).isEqualTo(expectedBlock);
+  }
+
+  private List<SignedBeaconBlock> createBlocks(final int count) {
+    final List<SignedBeaconBlock> blocks = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      blocks.add(dataStructureUtil.randomSignedBeaconBlock(UInt64.valueOf(i)));
+    }
+    return blocks;
+  }
+
+  private List<PreparedBlocks> prepareChunks(final List<SignedBeaconBlock> blocks) {
+    final List<PreparedBlocks> chunks = new ArrayList<>();
+    for (int i = 0; i < blocks.size(); i += BlockImportPipeline.CHUNK_SIZE) {
+      final List<SignedBeaconBlock> chunkBlocks =
+          blocks.subList(i, Math.min(i + BlockImportPipeline.CHUNK_SIZE, blocks.size()));
+      final PreparedBlocks chunk = createPreparedBlocks(chunkBlocks, Optional.empty());
+      final Optional<PreparedBlock> parent =
+          chunks.isEmpty()
+              ? Optional.empty()
+              : Optional.of(
+                  chunks
+                      .get(chunks.size() - 1)
+                      .getBlocks()
+                      .get(BlockImportPipeline.CHUNK_SIZE - 1));
+      when(blockImporter.applyStateTransitions(eq(chunkBlocks), eq(parent)))
+          .thenReturn(SafeFuture.completedFuture(chunk));
+      when(blockImporter.verifySignatures(chunk)).thenReturn(chunk);
+      when(blockImporter.importPreparedBlocks(chunk))
+          .thenReturn(
+              SafeFuture.completedFuture(
+                  BlockImportResult.successful(chunkBlocks.get(chunkBlocks.size() - 1))));
+      chunks.add(chunk);
+    }
+    return Collections.unmodifiableList(chunks);
+  }
+
+  private PreparedBlocks createPreparedBlocks(
+      final List<SignedBeaconBlock> blocks, final Optional<BlockImportResult> failureResult) {
+    final List<PreparedBlock> preparedBlocks = new ArrayList<>();
+    for (SignedBeaconBlock block : blocks) {
+      final PreparedBlock preparedBlock = mock(PreparedBlock.class);
+      when(preparedBlock.getBlock()).thenReturn(block);
+      preparedBlocks.add(preparedBlock);
+    }
+    final PreparedBlocks result = mock(PreparedBlocks.class);
+    when(result.getBlocks()).thenReturn(preparedBlocks);
+    when(result.getFailureResult()).thenReturn(failureResult);
+    return result;
+  }
+
+  private void executeAllActions() {
+    while (stateTransitionRunner.hasDelayedActions()
+        || signatureVerificationRunner.hasDelayedActions()
+        || importRunner.hasDelayedActions()) {
+      stateTransitionRunner.executeQueuedActions();
+      signatureVerificationRunner.executeQueuedActions();
+      importRunner.executeQueuedActions();
+    }
+  }
+}
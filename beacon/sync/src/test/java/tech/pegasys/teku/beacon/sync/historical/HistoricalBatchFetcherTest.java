@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -30,6 +31,8 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.beacon.sync.historical.HistoricalBatchFetcher.SegmentRequest;
+import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.core.ChainBuilder;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -72,6 +75,7 @@ public class HistoricalBatchFetcherTest {
   private SignedBeaconBlock lastBlockInBatch;
   private HistoricalBatchFetcher fetcher;
   private RespondingEth2Peer peer;
+  private RespondingEth2Peer segmentPeer;
 
   @BeforeEach
   public void setup() {
@@ -98,6 +102,7 @@ public class HistoricalBatchFetcherTest {
     chainDataClient = new CombinedChainDataClient(recentChainData, historicalChainData, spec);
 
     peer = RespondingEth2Peer.create(spec, chainBuilder);
+    segmentPeer = RespondingEth2Peer.create(spec, chainBuilder);
     fetcher =
         new HistoricalBatchFetcher(
             storageUpdateChannel,
@@ -143,6 +148,150 @@ public class HistoricalBatchFetcherTest {
     assertThat(blockCaptor.getValue()).containsExactlyElementsOf(blockBatch);
   }
 
+  @Test
+  public void run_importAdditionalSegmentsWhichLinkToBatch() {
+    final List<SignedBeaconBlock> linkedSegment = getBlocks(chainBuilder, 5, 9);
+    final List<SignedBeaconBlock> unlinkedSegment = getBlocks(forkBuilder, 0, 4);
+    fetcher =
+        new HistoricalBatchFetcher(
+            storageUpdateChannel,
+            signatureVerifier,
+            chainDataClient,
+            spec,
+            peer,
+            lastBlockInBatch.getSlot(),
+            lastBlockInBatch.getRoot(),
+            UInt64.valueOf(blockBatch.size()),
+            List.of(
+                new SegmentRequest(segmentPeer, SafeFuture.completedFuture(linkedSegment)),
+                new SegmentRequest(segmentPeer, SafeFuture.completedFuture(unlinkedSegment))),
+            maxRequests);
+
+    final SafeFuture<BeaconBlockSummary> future = fetcher.run();
+    peer.completePendingRequests();
+    assertThat(future).isCompletedWithValue(linkedSegment.get(0));
+
+    verify(storageUpdateChannel).onFinalizedBlocks(blockCaptor.capture());
+    assertThat(blockCaptor.getValue()).containsExactlyElementsOf(getBlocks(chainBuilder, 5, 20));
+  }
+
+  @Test
+  public void run_importBatchAndDisconnectSegmentPeerWhenSegmentSignatureInvalid() {
+    final List<SignedBeaconBlock> invalidSegment = getBlocks(chainBuilder, 5, 9);
+    final List<SignedBeaconBlock> olderSegment = getBlocks(chainBuilder, 0, 4);
+    final RespondingEth2Peer olderSegmentPeer = RespondingEth2Peer.create(spec, chainBuilder);
+    withInvalidSignature(invalidSegment.get(2));
+    fetcher =
+        new HistoricalBatchFetcher(
+            storageUpdateChannel,
+            signatureVerifier,
+            chainDataClient,
+            spec,
+            peer,
+            lastBlockInBatch.getSlot(),
+            lastBlockInBatch.getRoot(),
+            UInt64.valueOf(blockBatch.size()),
+            List.of(
+                new SegmentRequest(segmentPeer, SafeFuture.completedFuture(invalidSegment)),
+                new SegmentRequest(olderSegmentPeer, SafeFuture.completedFuture(olderSegment))),
+            maxRequests);
+
+    final SafeFuture<BeaconBlockSummary> future = fetcher.run();
+    peer.completePendingRequests();
+    assertThat(future).isCompletedWithValue(firstBlockInBatch);
+
+    verify(storageUpdateChannel).onFinalizedBlocks(blockCaptor.capture());
+    assertThat(blockCaptor.getValue()).containsExactlyElementsOf(blockBatch);
+    assertThat(peer.isConnected()).isTrue();
+    assertThat(segmentPeer.isConnected()).isFalse();
+    assertThat(olderSegmentPeer.isConnected()).isTrue();
+  }
+
+  @Test
+  public void run_importValidSegmentsBeforeSegmentWithInvalidSignature() {
+    final List<SignedBeaconBlock> validSegment = getBlocks(chainBuilder, 5, 9);
+    final List<SignedBeaconBlock> invalidSegment = getBlocks(chainBuilder, 0, 4);
+    final RespondingEth2Peer invalidSegmentPeer = RespondingEth2Peer.create(spec, chainBuilder);
+    withInvalidSignature(invalidSegment.get(3));
+    fetcher =
+        new HistoricalBatchFetcher(
+            storageUpdateChannel,
+            signatureVerifier,
+            chainDataClient,
+            spec,
+            peer,
+            lastBlockInBatch.getSlot(),
+            lastBlockInBatch.getRoot(),
+            UInt64.valueOf(blockBatch.size()),
+            List.of(
+                new SegmentRequest(segmentPeer, SafeFuture.completedFuture(validSegment)),
+                new SegmentRequest(
+                    invalidSegmentPeer, SafeFuture.completedFuture(invalidSegment))),
+            maxRequests);
+
+    final SafeFuture<BeaconBlockSummary> future = fetcher.run();
+    peer.completePendingRequests();
+    assertThat(future).isCompletedWithValue(validSegment.get(0));
+
+    verify(storageUpdateChannel).onFinalizedBlocks(blockCaptor.capture());
+    assertThat(blockCaptor.getValue()).containsExactlyElementsOf(getBlocks(chainBuilder, 5, 20));
+    assertThat(segmentPeer.isConnected()).isTrue();
+    assertThat(invalidSegmentPeer.isConnected()).isFalse();
+  }
+
+  @Test
+  public void run_failWithoutBlamingSegmentPeerWhenBatchSignatureInvalid() {
+    final List<SignedBeaconBlock> segment = getBlocks(chainBuilder, 5, 9);
+    withInvalidSignature(blockBatch.get(1));
+    fetcher =
+        new HistoricalBatchFetcher(
+            storageUpdateChannel,
+            signatureVerifier,
+            chainDataClient,
+            spec,
+            peer,
+            lastBlockInBatch.getSlot(),
+            lastBlockInBatch.getRoot(),
+            UInt64.valueOf(blockBatch.size()),
+            List.of(new SegmentRequest(segmentPeer, SafeFuture.completedFuture(segment))),
+            maxRequests);
+
+    final SafeFuture<BeaconBlockSummary> future = fetcher.run();
+    peer.completePendingRequests();
+    assertThat(future).isCompletedExceptionally();
+
+    verify(storageUpdateChannel, never()).onFinalizedBlocks(any());
+    assertThat(segmentPeer.isConnected()).isTrue();
+  }
+
+  @Test
+  public void run_waitForAdditionalSegmentsBeforeImporting() {
+    final SafeFuture<List<SignedBeaconBlock>> segment = new SafeFuture<>();
+    fetcher =
+        new HistoricalBatchFetcher(
+            storageUpdateChannel,
+            signatureVerifier,
+            chainDataClient,
+            spec,
+            peer,
+            lastBlockInBatch.getSlot(),
+            lastBlockInBatch.getRoot(),
+            UInt64.valueOf(blockBatch.size()),
+            List.of(new SegmentRequest(segmentPeer, segment)),
+            maxRequests);
+
+    final SafeFuture<BeaconBlockSummary> future = fetcher.run();
+    peer.completePendingRequests();
+    assertThat(future).isNotDone();
+    verify(storageUpdateChannel, never()).onFinalizedBlocks(any());
+
+    // An empty segment can't be linked so only the batch is imported
+    segment.complete(Collections.emptyList());
+    assertThat(future).isCompletedWithValue(firstBlockInBatch);
+    verify(storageUpdateChannel).onFinalizedBlocks(blockCaptor.capture());
+    assertThat(blockCaptor.getValue()).containsExactlyElementsOf(blockBatch);
+  }
+
   @Test
   public void run_returnAllBlocksAcrossMultipleRequests() {
     // Limit the number of blocks to return
@@ -393,4 +542,21 @@ public class HistoricalBatchFetcherTest {
         .hasMessageContaining("Expected first block to descend from last received block");
     verify(storageUpdateChannel, never()).onFinalizedBlocks(any());
   }
+
+  private void withInvalidSignature(final SignedBeaconBlock block) {
+    final BLSSignature invalidSignature = block.getSignature();
+    when(signatureVerifier.verify(
+            any(),
+            any(),
+            argThat((List<BLSSignature> signatures) -> signatures.contains(invalidSignature))))
+        .thenReturn(SafeFuture.completedFuture(false));
+  }
+
+  private List<SignedBeaconBlock> getBlocks(
+      final ChainBuilder chain, final long fromSlot, final long toSlot) {
+    return chain
+        .streamBlocksAndStates(fromSlot, toSlot)
+        .map(SignedBlockAndState::getBlock)
+        .collect(Collectors.toList());
+  }
 }
@@ -81,7 +81,8 @@ public class HistoricalBlockSyncServiceTest {
           storageSystem.combinedChainDataClient(),
           syncStateProvider,
           signatureVerificationService,
-          batchSize);
+          batchSize,
+          2);
   private final Subscribers<SyncStateProvider.SyncStateSubscriber> syncStateSubscribers =
       Subscribers.create(false);
 
@@ -160,6 +161,54 @@ public class HistoricalBlockSyncServiceTest {
     finishSyncing(peer, expectedBlocks);
   }
 
+  @Test
+  public void shouldFetchFromMultiplePeersConcurrently() {
+    currentSyncState.set(SyncState.IN_SYNC);
+
+    // Setup chain
+    final long epochHeight = 10;
+    storageSystem.chainBuilder().generateGenesis();
+    storageSystem.chainBuilder().generateBlocksUpToSlot(slotsPerEpoch * epochHeight + 3);
+    final AnchorPoint anchor =
+        initializeChainAtEpoch(storageSystem.chainBuilder().getLatestEpoch());
+    final List<SignedBeaconBlock> expectedBlocks =
+        storageSystem
+            .chainBuilder()
+            .streamBlocksAndStates(0, anchor.getBlockSlot().longValue())
+            .map(SignedBlockAndState::getBlock)
+            .collect(Collectors.toList());
+
+    // Set up peers to respond
+    final RespondingEth2Peer peer1 = RespondingEth2Peer.create(spec, storageSystem.chainBuilder());
+    final RespondingEth2Peer peer2 = RespondingEth2Peer.create(spec, storageSystem.chainBuilder());
+    for (RespondingEth2Peer peer : List.of(peer1, peer2)) {
+      peer.updateStatus(
+          new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO),
+          new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO));
+    }
+    when(network.streamPeers()).thenAnswer(i -> Stream.of(peer1, peer2));
+
+    startService();
+
+    // Both peers should be asked for blocks at the same time
+    assertThat(peer1.getOutstandingRequests()).isEqualTo(1);
+    assertThat(peer2.getOutstandingRequests()).isEqualTo(1);
+
+    final int maxRequests =
+        storageSystem.chainBuilder().getLatestSlot().dividedBy(batchSize).plus(1).intValue();
+    int requestCount = 0;
+    while (peer1.getOutstandingRequests() == 1 && requestCount <= maxRequests) {
+      peer2.completePendingRequests();
+      peer1.completePendingRequests();
+      requestCount++;
+    }
+
+    // Each round should import two batches of blocks
+    assertThat(requestCount).isLessThanOrEqualTo((maxRequests + 1) / 2 + 1);
+    assertServiceFinished();
+    assertBlocksSaved(expectedBlocks);
+  }
+
   @Test
   public void shouldRetryIfNoPeersAvailable() {
     currentSyncState.set(SyncState.IN_SYNC);
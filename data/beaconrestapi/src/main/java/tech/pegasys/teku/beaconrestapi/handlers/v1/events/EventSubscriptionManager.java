@@ -41,6 +41,7 @@ import tech.pegasys.teku.beacon.sync.events.SyncState;
 import tech.pegasys.teku.beaconrestapi.ListQueryParameterUtils;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.events.EventQueueStrategy;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
@@ -76,8 +77,9 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
     this.maxPendingEvents = maxPendingEvents;
     this.eventSubscribers = new ConcurrentLinkedQueue<>();
     this.configProvider = configProvider;
-    eventChannels.subscribe(ChainHeadChannel.class, this);
-    eventChannels.subscribe(FinalizedCheckpointChannel.class, this);
+    // Slow SSE clients must not hold up chain head or finalization updates
+    eventChannels.subscribe(ChainHeadChannel.class, this, EventQueueStrategy.DROP_OLDEST);
+    eventChannels.subscribe(FinalizedCheckpointChannel.class, this, EventQueueStrategy.DROP_OLDEST);
     syncDataProvider.subscribeToSyncStateChanges(this::onSyncStateChange);
     nodeDataProvider.subscribeToReceivedBlocks(this::onNewBlock);
     nodeDataProvider.subscribeToValidAttestations(this::onNewAttestation);
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.javalin.http.Context;
@@ -45,6 +46,7 @@ import tech.pegasys.teku.api.schema.SignedVoluntaryExit;
 import tech.pegasys.teku.beacon.sync.events.SyncState;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.events.EventQueueStrategy;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.Spec;
@@ -55,6 +57,8 @@ import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedCo
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.ReorgContext;
 
 public class EventSubscriptionManagerTest {
@@ -133,6 +137,13 @@ public class EventSubscriptionManagerTest {
     client1 = new SseClient(ctx);
   }
 
+  @Test
+  void shouldSubscribeWithoutBlockingPublishers() {
+    verify(channels).subscribe(ChainHeadChannel.class, manager, EventQueueStrategy.DROP_OLDEST);
+    verify(channels)
+        .subscribe(FinalizedCheckpointChannel.class, manager, EventQueueStrategy.DROP_OLDEST);
+  }
+
   @Test
   void shouldPropagateReorgMessages() throws IOException {
     when(req.getQueryString()).thenReturn("&topics=chain_reorg");
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.benchmarks.gen.BlockIO;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
+
+/**
+ * Compares the stored size of finalized blocks with and without compression, and the cost of
+ * reading them back as a BeaconBlocksByRange request does, i.e. deserializing the stored value and
+ * re-serializing the block as SSZ for the response.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BlockStorageCompressionBenchmark {
+  private static final int BLOCKS_COUNT = 32;
+
+  @Param({"false", "true"})
+  boolean compressed;
+
+  private KvStoreSerializer<SignedBeaconBlock> serializer;
+  private List<SignedBeaconBlock> blocks;
+  private List<byte[]> storedBlocks;
+
+  @Setup
+  public void init() {
+    final Spec spec = TestSpecFactory.createMainnetAltair();
+    final String blocksFile =
+        "/blocks/blocks_epoch_" + spec.getSlotsPerEpoch(UInt64.ZERO) + "_validators_32768.ssz.gz";
+    blocks = BlockIO.createResourceReader(spec, blocksFile).readAll(BLOCKS_COUNT);
+    serializer =
+        compressed
+            ? KvStoreSerializer.createCompressedSignedBlockSerializer(spec)
+            : KvStoreSerializer.createSignedBlockSerializer(spec);
+    storedBlocks = blocks.stream().map(serializer::serialize).collect(Collectors.toList());
+
+    final long sszSize = blocks.stream().mapToLong(block -> block.sszSerialize().size()).sum();
+    final long storedSize = storedBlocks.stream().mapToLong(value -> value.length).sum();
+    System.out.printf(
+        "%n%d blocks: SSZ size %,d bytes, stored size %,d bytes (%.1f%%)%n",
+        blocks.size(), sszSize, storedSize, storedSize * 100.0 / sszSize);
+  }
+
+  @Benchmark
+  public void storeBlocks(final Blackhole bh) {
+    for (SignedBeaconBlock block : blocks) {
+      bh.consume(serializer.serialize(block));
+    }
+  }
+
+  @Benchmark
+  public void serveBlocksByRange(final Blackhole bh) {
+    for (byte[] storedBlock : storedBlocks) {
+      bh.consume(serializer.deserialize(storedBlock).sszSerialize());
+    }
+  }
+}
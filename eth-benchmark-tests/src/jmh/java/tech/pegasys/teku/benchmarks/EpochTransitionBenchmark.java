@@ -36,7 +36,9 @@ import tech.pegasys.teku.benchmarks.util.CustomRunner;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.tree.ParallelTreeHashing;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64Math;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -85,9 +87,18 @@ public class EpochTransitionBenchmark {
   @Param({"32768"})
   int validatorsCount = 32768;
 
+  // 0 disables parallel hashing
+  @Param({"0", "4096"})
+  int parallelHashingThreshold = 0;
+
   @Setup(Level.Trial)
   public void init() throws Exception {
     AbstractBlockProcessor.BLS_VERIFY_DEPOSIT = false;
+    if (parallelHashingThreshold > 0) {
+      ParallelTreeHashing.enable(parallelHashingThreshold);
+    } else {
+      ParallelTreeHashing.disable();
+    }
 
     String blocksFile =
         "/blocks/blocks_epoch_"
@@ -158,6 +169,17 @@ public class EpochTransitionBenchmark {
     }
   }
 
+  @Benchmark
+  public void epochTransitionWithHashTreeRoot(Blackhole bh) {
+    try {
+      // the state after the epoch transition is fully dirty and has to be rehashed
+      final BeaconState state = epochProcessor.processEpoch(preEpochTransitionState);
+      bh.consume(state.hashTreeRoot());
+    } catch (EpochProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Benchmark
   public void processRewardsAndPenalties(Blackhole bh) {
     try {
@@ -171,13 +193,32 @@ public class EpochTransitionBenchmark {
   public void applyDeltas(Blackhole bh) {
     final SszMutableUInt64List balances = preEpochTransitionMutableState.getBalances();
     int validatorsSize = preEpochTransitionMutableState.getValidators().size();
+    final RewardAndPenalty delta = attestationDeltas.createCursor();
     for (int i = 0; i < validatorsSize; i++) {
-      final RewardAndPenalty delta = attestationDeltas.getDelta(i);
+      delta.at(i);
       balances.setElement(
           i, balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty()));
     }
   }
 
+  @Benchmark
+  public void applyDeltasUnboxed(Blackhole bh) {
+    final SszMutableUInt64List balances = preEpochTransitionMutableState.getBalances();
+    int validatorsSize = preEpochTransitionMutableState.getValidators().size();
+    for (int i = 0; i < validatorsSize; i++) {
+      final long reward = attestationDeltas.getReward(i);
+      final long penalty = attestationDeltas.getPenalty(i);
+      if (reward == 0 && penalty == 0) {
+        continue;
+      }
+      final long balance = balances.getElement(i).longValue();
+      balances.setElement(
+          i,
+          UInt64.fromLongBits(
+              UInt64Math.minusMinZero(UInt64Math.plus(balance, reward), penalty)));
+    }
+  }
+
   public static void main(String[] args) throws Exception {
     EpochTransitionBenchmark benchmark = new EpochTransitionBenchmark();
     benchmark.init();
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.ethereum.forkchoice.ProtoArray;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Measures fork choice over a large protoarray, as seen during a long period of non-finality where
+ * nothing can be pruned. The tree is a single canonical chain with a short fork branching off every
+ * {@code forkInterval} blocks.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ProtoArrayBenchmark {
+
+  private static final int FORK_LENGTH = 4;
+  private static final long MAX_DELTA = 32_000_000_000L;
+
+  @Param({"100000"})
+  int nodeCount;
+
+  @Param({"32"})
+  int forkInterval;
+
+  private ProtoArray protoArray;
+  private Bytes32 justifiedRoot;
+  private LongArrayList positiveDeltas;
+  private LongArrayList negativeDeltas;
+  private final LongArrayList deltas = new LongArrayList();
+  private boolean applyPositive = true;
+
+  @Setup
+  public void init() {
+    final Random random = new Random(1);
+    protoArray =
+        ProtoArray.builder()
+            .justifiedEpoch(UInt64.ZERO)
+            .finalizedEpoch(UInt64.ZERO)
+            .pruneThreshold(Integer.MAX_VALUE)
+            .build();
+
+    justifiedRoot = Bytes32.random(random);
+    addBlock(0, justifiedRoot, Bytes32.ZERO);
+
+    Bytes32 canonicalHead = justifiedRoot;
+    int slot = 1;
+    while (protoArray.getTotalTrackedNodeCount() < nodeCount) {
+      final Bytes32 blockRoot = Bytes32.random(random);
+      addBlock(slot, blockRoot, canonicalHead);
+      if (slot % forkInterval == 0) {
+        Bytes32 forkParent = canonicalHead;
+        for (int i = 0;
+            i < FORK_LENGTH && protoArray.getTotalTrackedNodeCount() < nodeCount;
+            i++) {
+          final Bytes32 forkRoot = Bytes32.random(random);
+          addBlock(slot + i, forkRoot, forkParent);
+          forkParent = forkRoot;
+        }
+      }
+      canonicalHead = blockRoot;
+      slot++;
+    }
+
+    positiveDeltas = new LongArrayList(nodeCount);
+    negativeDeltas = new LongArrayList(nodeCount);
+    for (int i = 0; i < nodeCount; i++) {
+      final long delta = random.nextInt(8) == 0 ? (long) (random.nextDouble() * MAX_DELTA) : 0;
+      positiveDeltas.add(delta);
+      negativeDeltas.add(-delta);
+    }
+  }
+
+  private void addBlock(final int slot, final Bytes32 blockRoot, final Bytes32 parentRoot) {
+    protoArray.onBlock(
+        UInt64.valueOf(slot),
+        blockRoot,
+        parentRoot,
+        Bytes32.ZERO,
+        UInt64.ZERO,
+        UInt64.ZERO,
+        Bytes32.ZERO,
+        false);
+  }
+
+  @Benchmark
+  public void applyScoreChanges(final Blackhole bh) {
+    // Alternate between adding and removing the same weights so they never accumulate.
+    // applyScoreChanges mutates the deltas so each run works on a fresh copy.
+    deltas.clear();
+    deltas.addAll(applyPositive ? positiveDeltas : negativeDeltas);
+    applyPositive = !applyPositive;
+    protoArray.applyScoreChanges(deltas, UInt64.ZERO, UInt64.ZERO);
+    bh.consume(deltas);
+  }
+
+  @Benchmark
+  public void findHead(final Blackhole bh) {
+    bh.consume(protoArray.findOptimisticHead(justifiedRoot, UInt64.ZERO, UInt64.ZERO));
+  }
+
+  @Benchmark
+  public void applyScoreChangesAndFindHead(final Blackhole bh) {
+    applyScoreChanges(bh);
+    findHead(bh);
+  }
+}
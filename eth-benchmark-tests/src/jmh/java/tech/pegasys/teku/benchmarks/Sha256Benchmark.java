@@ -13,25 +13,44 @@
 
 package tech.pegasys.teku.benchmarks;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.MutableBytes;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.crypto.Sha256BatchHasher;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 
 @State(Scope.Thread)
 public class Sha256Benchmark {
+  private static final int BATCH_SIZE = 1024;
+  private static final int TREE_LEAVES = 1 << 16;
 
   private MutableBytes data = Bytes.wrap(new byte[33]).mutableCopy();
   private byte[] dataArray = new byte[33];
   private int cnt = 0;
 
+  private final byte[] batchInput =
+      Bytes.random(BATCH_SIZE * Sha256BatchHasher.INPUT_SIZE).toArray();
+  private final byte[] batchOutput = new byte[BATCH_SIZE * Sha256BatchHasher.OUTPUT_SIZE];
+
+  private final List<LeafNode> treeLeaves =
+      IntStream.range(0, TREE_LEAVES)
+          .mapToObj(__ -> LeafNode.create(Bytes32.random()))
+          .collect(Collectors.toList());
+
   @Benchmark
   @Warmup(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
   @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
@@ -51,4 +70,37 @@ public class Sha256Benchmark {
     byte[] hash = Hash.sha256(dataArray).toArrayUnsafe();
     bh.consume(hash);
   }
+
+  @Benchmark
+  @Warmup(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void sha256of64bytesPairs(Blackhole bh) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      int offset = i * Sha256BatchHasher.INPUT_SIZE;
+      Bytes32 hash =
+          Hash.sha256(
+              Bytes.wrap(batchInput, offset, Bytes32.SIZE),
+              Bytes.wrap(batchInput, offset + Bytes32.SIZE, Bytes32.SIZE));
+      bh.consume(hash);
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void sha256of64bytesBatch(Blackhole bh) {
+    Hash.getBatchHasher().hash64(batchInput, 0, batchOutput, 0, BATCH_SIZE);
+    bh.consume(batchOutput);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+  public void hashTreeRootOfNewTree(Blackhole bh) {
+    // a freshly created tree has all its branch nodes dirty
+    TreeNode tree = TreeUtil.createTree(treeLeaves);
+    bh.consume(tree.hashTreeRoot());
+  }
 }
@@ -34,8 +34,8 @@ public class ExpectedDeltas extends Container2<ExpectedDeltas, SszUInt64List, Ss
     final SszUInt64List penalties = getField1();
     final RewardAndPenaltyDeltas deltas = new RewardAndPenaltyDeltas(rewards.size());
     for (int i = 0; i < rewards.size(); i++) {
-      deltas.getDelta(i).reward(rewards.get(i).get());
-      deltas.getDelta(i).penalize(penalties.get(i).get());
+      deltas.reward(i, rewards.get(i).longValue());
+      deltas.penalize(i, penalties.get(i).longValue());
     }
     return deltas;
   }
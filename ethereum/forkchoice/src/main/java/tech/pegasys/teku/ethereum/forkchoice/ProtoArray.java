@@ -131,13 +131,13 @@ public class ProtoArray {
             stateRoot,
             blockRoot,
             parentRoot,
-            indices.get(parentRoot),
+            indices.get(parentRoot).orElse(ProtoNode.NO_INDEX),
             justifiedEpoch,
             finalizedEpoch,
             executionBlockHash,
-            UInt64.ZERO,
-            Optional.empty(),
-            Optional.empty(),
+            0,
+            ProtoNode.NO_INDEX,
+            ProtoNode.NO_INDEX,
             optimisticallyProcessed && !executionBlockHash.isZero() ? OPTIMISTIC : VALID);
 
     indices.add(blockRoot, nodeIndex);
@@ -207,26 +207,28 @@ public class ProtoArray {
       return Optional.empty();
     }
 
-    int bestDescendantIndex = justifiedNode.getBestDescendantIndex().orElse(justifiedIndex);
-    ProtoNode bestNode = getNodeByIndex(bestDescendantIndex);
+    int bestDescendantIndex = justifiedNode.getRawBestDescendantIndex();
+    ProtoNode bestNode =
+        bestDescendantIndex == ProtoNode.NO_INDEX
+            ? justifiedNode
+            : getNodeByIndex(bestDescendantIndex);
 
     // Normally the best descendant index would point straight to chain head, but onBlock only
     // updates the parent, not all the ancestors. When applyScoreChanges runs it propagates the
     // change back up and everything works, but we run findHead to determine if the new block should
     // become the best head so need to follow down the chain.
-    while (bestNode.getBestDescendantIndex().isPresent() && !bestNode.isInvalid()) {
-      bestDescendantIndex = bestNode.getBestDescendantIndex().get();
+    while (bestNode.getRawBestDescendantIndex() != ProtoNode.NO_INDEX && !bestNode.isInvalid()) {
+      bestDescendantIndex = bestNode.getRawBestDescendantIndex();
       bestNode = getNodeByIndex(bestDescendantIndex);
     }
 
     // Walk backwards to find the last valid node in the chain
     while (bestNode.isInvalid()) {
-      final Optional<Integer> maybeParentIndex = bestNode.getParentIndex();
-      if (maybeParentIndex.isEmpty()) {
+      final int parentIndex = bestNode.getRawParentIndex();
+      if (parentIndex == ProtoNode.NO_INDEX) {
         // No node on this chain with sufficient validity.
         return Optional.empty();
       }
-      final int parentIndex = maybeParentIndex.get();
       bestNode = getNodeByIndex(parentIndex);
     }
 
@@ -404,35 +406,30 @@ public class ProtoArray {
     // Iterate through all the existing nodes and adjust their indices to match the
     // new layout of nodes.
     for (ProtoNode node : nodes) {
-      node.getParentIndex()
-          .ifPresent(
-              parentIndex -> {
-                // If node.parentIndex is less than finalizedIndex, set is to None.
-                if (parentIndex < finalizedIndex) {
-                  node.setParentIndex(Optional.empty());
-                } else {
-                  node.setParentIndex(Optional.of(parentIndex - finalizedIndex));
-                }
-              });
-
-      node.getBestChildIndex()
-          .ifPresent(
-              bestChildIndex -> {
-                int newBestChildIndex = bestChildIndex - finalizedIndex;
-                checkState(
-                    newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
-                node.setBestChildIndex(Optional.of(newBestChildIndex));
-              });
-
-      node.getBestDescendantIndex()
-          .ifPresent(
-              bestDescendantIndex -> {
-                int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
-                checkState(
-                    newBestDescendantIndex >= 0,
-                    "ProtoArray: New best descendant index is less than 0");
-                node.setBestDescendantIndex(Optional.of(newBestDescendantIndex));
-              });
+      final int parentIndex = node.getRawParentIndex();
+      if (parentIndex != ProtoNode.NO_INDEX) {
+        // If node.parentIndex is less than finalizedIndex, set is to None.
+        if (parentIndex < finalizedIndex) {
+          node.setParentIndex(ProtoNode.NO_INDEX);
+        } else {
+          node.setParentIndex(parentIndex - finalizedIndex);
+        }
+      }
+
+      final int bestChildIndex = node.getRawBestChildIndex();
+      if (bestChildIndex != ProtoNode.NO_INDEX) {
+        int newBestChildIndex = bestChildIndex - finalizedIndex;
+        checkState(newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
+        node.setBestChildIndex(newBestChildIndex);
+      }
+
+      final int bestDescendantIndex = node.getRawBestDescendantIndex();
+      if (bestDescendantIndex != ProtoNode.NO_INDEX) {
+        int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
+        checkState(
+            newBestDescendantIndex >= 0, "ProtoArray: New best descendant index is less than 0");
+        node.setBestDescendantIndex(newBestDescendantIndex);
+      }
     }
   }
 
@@ -463,59 +460,69 @@ public class ProtoArray {
 
     boolean childLeadsToViableHead = nodeLeadsToViableHead(child);
 
-    parent
-        .getBestChildIndex()
-        .ifPresentOrElse(
-            bestChildIndex -> {
-              if (bestChildIndex.equals(childIndex) && !childLeadsToViableHead) {
-                // If the child is already the best-child of the parent but it's not viable for
-                // the head, remove it.
-                changeToNone(parent);
-              } else if (bestChildIndex.equals(childIndex)) {
-                // If the child is the best-child already, set it again to ensure that the
-                // best-descendant of the parent is updated.
-                changeToChild(parent, childIndex);
-              } else {
-                ProtoNode bestChild = getNodeByIndex(bestChildIndex);
-
-                boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
-
-                if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
-                  // The child leads to a viable head, but the current best-child doesn't.
-                  changeToChild(parent, childIndex);
-                } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
-                  // The best child leads to a viable head, but the child doesn't.
-                  // No change.
-                } else if (child.getWeight().equals(bestChild.getWeight())) {
-                  // Tie-breaker of equal weights by root.
-                  if (child
-                          .getBlockRoot()
-                          .toHexString()
-                          .compareTo(bestChild.getBlockRoot().toHexString())
-                      >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                } else {
-                  // Choose the winner by weight.
-                  if (child.getWeight().compareTo(bestChild.getWeight()) >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                }
-              }
-            },
-            () -> {
-              if (childLeadsToViableHead) {
-                // There is no current best-child and the child is viable.
-                changeToChild(parent, childIndex);
-              } else {
-                // There is no current best-child but the child is not not viable.
-                // No change.
-              }
-            });
+    final int bestChildIndex = parent.getRawBestChildIndex();
+    if (bestChildIndex == ProtoNode.NO_INDEX) {
+      if (childLeadsToViableHead) {
+        // There is no current best-child and the child is viable.
+        changeToChild(parent, childIndex);
+      } else {
+        // There is no current best-child but the child is not not viable.
+        // No change.
+      }
+    } else if (bestChildIndex == childIndex && !childLeadsToViableHead) {
+      // If the child is already the best-child of the parent but it's not viable for
+      // the head, remove it.
+      changeToNone(parent);
+    } else if (bestChildIndex == childIndex) {
+      // If the child is the best-child already, set it again to ensure that the
+      // best-descendant of the parent is updated.
+      changeToChild(parent, childIndex);
+    } else {
+      ProtoNode bestChild = getNodeByIndex(bestChildIndex);
+
+      boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
+
+      if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
+        // The child leads to a viable head, but the current best-child doesn't.
+        changeToChild(parent, childIndex);
+      } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
+        // The best child leads to a viable head, but the child doesn't.
+        // No change.
+      } else if (child.getRawWeight() == bestChild.getRawWeight()) {
+        // Tie-breaker of equal weights by root.
+        if (compareRoots(child.getBlockRoot(), bestChild.getBlockRoot()) >= 0) {
+          changeToChild(parent, childIndex);
+        } else {
+          // No change.
+        }
+      } else {
+        // Choose the winner by weight.
+        if (Long.compareUnsigned(child.getRawWeight(), bestChild.getRawWeight()) >= 0) {
+          changeToChild(parent, childIndex);
+        } else {
+          // No change.
+        }
+      }
+    }
+  }
+
+  /**
+   * Compares two roots in the same order as comparing their hex strings, without allocating.
+   *
+   * @param a the first root
+   * @param b the second root
+   * @return a negative number, zero or a positive number as a is less than, equal to or greater
+   *     than b
+   */
+  static int compareRoots(final Bytes32 a, final Bytes32 b) {
+    for (int i = 0; i < Bytes32.SIZE; i++) {
+      final int result =
+          Integer.compare(Byte.toUnsignedInt(a.get(i)), Byte.toUnsignedInt(b.get(i)));
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
   }
 
   /**
@@ -526,8 +533,10 @@ public class ProtoArray {
    */
   private void changeToChild(ProtoNode parent, int childIndex) {
     ProtoNode child = getNodeByIndex(childIndex);
-    parent.setBestChildIndex(Optional.of(childIndex));
-    parent.setBestDescendantIndex(Optional.of(child.getBestDescendantIndex().orElse(childIndex)));
+    final int childBestDescendantIndex = child.getRawBestDescendantIndex();
+    parent.setBestChildIndex(childIndex);
+    parent.setBestDescendantIndex(
+        childBestDescendantIndex == ProtoNode.NO_INDEX ? childIndex : childBestDescendantIndex);
   }
 
   /**
@@ -536,8 +545,8 @@ public class ProtoArray {
    * @param parent
    */
   private void changeToNone(ProtoNode parent) {
-    parent.setBestChildIndex(Optional.empty());
-    parent.setBestDescendantIndex(Optional.empty());
+    parent.setBestChildIndex(ProtoNode.NO_INDEX);
+    parent.setBestDescendantIndex(ProtoNode.NO_INDEX);
   }
 
   /**
@@ -548,11 +557,10 @@ public class ProtoArray {
    * @return
    */
   private boolean nodeLeadsToViableHead(ProtoNode node) {
+    final int bestDescendantIndex = node.getRawBestDescendantIndex();
     boolean bestDescendantIsViableForHead =
-        node.getBestDescendantIndex()
-            .map(this::getNodeByIndex)
-            .map(this::nodeIsViableForHead)
-            .orElse(false);
+        bestDescendantIndex != ProtoNode.NO_INDEX
+            && nodeIsViableForHead(getNodeByIndex(bestDescendantIndex));
 
     return bestDescendantIsViableForHead || nodeIsViableForHead(node);
   }
@@ -603,17 +611,19 @@ public class ProtoArray {
   }
 
   private void updateBestDescendantOfParent(final ProtoNode node, final int nodeIndex) {
-    node.getParentIndex()
-        .ifPresent(parentIndex -> maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex));
+    final int parentIndex = node.getRawParentIndex();
+    if (parentIndex != ProtoNode.NO_INDEX) {
+      maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex);
+    }
   }
 
   private void applyDelta(final LongList deltas, final ProtoNode node, final int nodeIndex) {
     // If the node is invalid, remove any existing weight.
-    long nodeDelta = node.isInvalid() ? -node.getWeight().longValue() : deltas.getLong(nodeIndex);
+    long nodeDelta = node.isInvalid() ? -node.getRawWeight() : deltas.getLong(nodeIndex);
     node.adjustWeight(nodeDelta);
 
-    if (node.getParentIndex().isPresent()) {
-      int parentIndex = node.getParentIndex().get();
+    final int parentIndex = node.getRawParentIndex();
+    if (parentIndex != ProtoNode.NO_INDEX) {
       deltas.set(parentIndex, deltas.getLong(parentIndex) + nodeDelta);
     }
   }
@@ -16,10 +16,11 @@ package tech.pegasys.teku.ethereum.forkchoice;
 import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.addExact;
 import static java.lang.Math.subtractExact;
-import static java.lang.Math.toIntExact;
 
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -57,94 +58,125 @@ class ProtoArrayScoreCalculator {
       UInt64 previousBoostAmount,
       UInt64 newBoostAmount) {
     LongList deltas = new LongArrayList(Collections.nCopies(protoArraySize, 0L));
+    final RootIndexLookup rootIndexLookup = new RootIndexLookup(getIndexByRoot);
 
-    UInt64.rangeClosed(UInt64.ZERO, store.getHighestVotedValidatorIndex())
-        .forEach(
-            validatorIndex ->
-                computeDelta(
-                    store, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex));
+    final long highestVotedValidatorIndex = store.getHighestVotedValidatorIndex().longValue();
+    for (int validatorIndex = 0; validatorIndex <= highestVotedValidatorIndex; validatorIndex++) {
+      computeDelta(store, rootIndexLookup, oldBalances, newBalances, deltas, validatorIndex);
+    }
 
     previousProposerBoostRoot.ifPresent(
-        root -> subtractBalance(getIndexByRoot, deltas, root, previousBoostAmount));
+        root -> subtractBalance(rootIndexLookup, deltas, root, previousBoostAmount.longValue()));
     newProposerBoostRoot.ifPresent(
-        root -> addBalance(getIndexByRoot, deltas, root, newBoostAmount));
+        root -> addBalance(rootIndexLookup, deltas, root, newBoostAmount.longValue()));
     return deltas;
   }
 
   private static void computeDelta(
       final VoteUpdater store,
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final RootIndexLookup rootIndexLookup,
       final List<UInt64> oldBalances,
       final List<UInt64> newBalances,
       final LongList deltas,
-      final UInt64 validatorIndex) {
-    VoteTracker vote = store.getVote(validatorIndex);
+      final int validatorIndex) {
+    final UInt64 validatorIndexUInt64 = UInt64.valueOf(validatorIndex);
+    VoteTracker vote = store.getVote(validatorIndexUInt64);
+    final Bytes32 currentRoot = vote.getCurrentRoot();
+    final Bytes32 nextRoot = vote.getNextRoot();
 
     // There is no need to create a score change if the validator has never voted
     // or both their votes are for the zero hash (alias to the genesis block).
-    if (vote.getCurrentRoot().equals(Bytes32.ZERO) && vote.getNextRoot().equals(Bytes32.ZERO)) {
+    if (currentRoot.equals(Bytes32.ZERO) && nextRoot.equals(Bytes32.ZERO)) {
       return;
     }
 
-    int validatorIndexInt = toIntExact(validatorIndex.longValue());
     // If the validator was not included in the oldBalances (i.e. it did not exist yet)
     // then say its balance was zero.
-    UInt64 oldBalance =
-        oldBalances.size() > validatorIndexInt ? oldBalances.get(validatorIndexInt) : UInt64.ZERO;
+    final long oldBalance =
+        oldBalances.size() > validatorIndex ? oldBalances.get(validatorIndex).longValue() : 0;
 
     // If the validator vote is not known in the newBalances, then use a balance of zero.
     // It is possible that there is a vote for an unknown validator if we change our
     // justified state to a new state with a higher epoch that is on a different fork
     // because that may have on-boarded less validators than the prior fork.
-    UInt64 newBalance =
-        newBalances.size() > validatorIndexInt ? newBalances.get(validatorIndexInt) : UInt64.ZERO;
+    final long newBalance =
+        newBalances.size() > validatorIndex ? newBalances.get(validatorIndex).longValue() : 0;
 
-    if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || !oldBalance.equals(newBalance)) {
-      subtractBalance(getIndexByRoot, deltas, vote.getCurrentRoot(), oldBalance);
-      addBalance(getIndexByRoot, deltas, vote.getNextRoot(), newBalance);
+    // Only votes that have changed, or whose balance has changed, contribute a delta.
+    final boolean voteChanged = currentRoot != nextRoot && !currentRoot.equals(nextRoot);
+    if (voteChanged || oldBalance != newBalance) {
+      subtractBalance(rootIndexLookup, deltas, currentRoot, oldBalance);
+      addBalance(rootIndexLookup, deltas, nextRoot, newBalance);
 
-      VoteTracker newVote =
-          new VoteTracker(vote.getNextRoot(), vote.getNextRoot(), vote.getNextEpoch());
-      store.putVote(validatorIndex, newVote);
+      VoteTracker newVote = new VoteTracker(nextRoot, nextRoot, vote.getNextEpoch());
+      store.putVote(validatorIndexUInt64, newVote);
     }
   }
 
   private static void addBalance(
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final RootIndexLookup rootIndexLookup,
       final LongList deltas,
       final Bytes32 targetRoot,
-      final UInt64 balanceToAdd) {
+      final long balanceToAdd) {
     // We ignore the vote if it is not known in `indices`. We assume that it is outside
     // of our tree (i.e. pre-finalization) and therefore not interesting.
-    getIndexByRoot
-        .apply(targetRoot)
-        .ifPresent(
-            nextDeltaIndex -> {
-              checkState(
-                  nextDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
-              long delta = addExact(deltas.getLong(nextDeltaIndex), balanceToAdd.longValue());
-              deltas.set(nextDeltaIndex.intValue(), delta);
-            });
+    final int nextDeltaIndex = rootIndexLookup.getIndex(targetRoot);
+    if (nextDeltaIndex != RootIndexLookup.UNKNOWN) {
+      checkState(nextDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
+      deltas.set(nextDeltaIndex, addExact(deltas.getLong(nextDeltaIndex), balanceToAdd));
+    }
   }
 
   private static void subtractBalance(
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final RootIndexLookup rootIndexLookup,
       final LongList deltas,
       final Bytes32 targetRoot,
-      final UInt64 balanceToRemove) {
+      final long balanceToRemove) {
 
     // We ignore the change if it is not known in `indices`. We assume that it is outside
     // of our tree (i.e. pre-finalization) and therefore not interesting.
-    getIndexByRoot
-        .apply(targetRoot)
-        .ifPresent(
-            currentDeltaIndex -> {
-              checkState(
-                  currentDeltaIndex < deltas.size(),
-                  "ProtoArrayForkChoice: Invalid node delta index");
-              long delta =
-                  subtractExact(deltas.getLong(currentDeltaIndex), balanceToRemove.longValue());
-              deltas.set(currentDeltaIndex.intValue(), delta);
-            });
+    final int currentDeltaIndex = rootIndexLookup.getIndex(targetRoot);
+    if (currentDeltaIndex != RootIndexLookup.UNKNOWN) {
+      checkState(
+          currentDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
+      deltas.set(
+          currentDeltaIndex, subtractExact(deltas.getLong(currentDeltaIndex), balanceToRemove));
+    }
+  }
+
+  /**
+   * Resolves block roots to protoarray indices for a single call to computeDeltas.
+   *
+   * <p>Almost all validators vote for one of a handful of recent blocks, so each distinct root is
+   * only looked up once and the result is held as a primitive int, avoiding an Optional and a
+   * boxed Integer per vote.
+   */
+  private static class RootIndexLookup {
+    static final int UNKNOWN = -1;
+
+    private final Function<Bytes32, Optional<Integer>> getIndexByRoot;
+    private final Object2IntMap<Bytes32> resolvedIndices = new Object2IntOpenHashMap<>();
+    private Bytes32 lastRoot;
+    private int lastIndex;
+
+    RootIndexLookup(final Function<Bytes32, Optional<Integer>> getIndexByRoot) {
+      this.getIndexByRoot = getIndexByRoot;
+      resolvedIndices.defaultReturnValue(Integer.MIN_VALUE);
+    }
+
+    int getIndex(final Bytes32 root) {
+      // Consecutive validators very often share a vote so check the previous root first.
+      if (root == lastRoot) {
+        return lastIndex;
+      }
+      int index = resolvedIndices.getInt(root);
+      if (index == Integer.MIN_VALUE) {
+        index = getIndexByRoot.apply(root).orElse(UNKNOWN);
+        resolvedIndices.put(root, index);
+      }
+      lastRoot = root;
+      lastIndex = index;
+      return index;
+    }
   }
 }
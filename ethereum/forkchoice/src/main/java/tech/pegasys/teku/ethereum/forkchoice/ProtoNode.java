@@ -26,6 +26,9 @@ import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
 
 public class ProtoNode {
 
+  /** Sentinel index value used when a node has no parent, best child or best descendant. */
+  static final int NO_INDEX = -1;
+
   // The `slot` and `stateRoot` is not necessary for `ProtoArray`, it just exists so external
   // components can
   // easily query the block slot. This is useful for upstream fork choice logic.
@@ -45,10 +48,12 @@ public class ProtoNode {
    */
   private final Bytes32 executionBlockHash;
 
-  private UInt64 weight;
-  private Optional<Integer> parentIndex;
-  private Optional<Integer> bestChildIndex;
-  private Optional<Integer> bestDescendantIndex;
+  // Mutable fields are held as primitives so that applying score changes and finding the head
+  // doesn't box or allocate. Indices use NO_INDEX when absent.
+  private long weight;
+  private int parentIndex;
+  private int bestChildIndex;
+  private int bestDescendantIndex;
 
   private ProtoNodeValidationStatus validationStatus;
 
@@ -57,13 +62,13 @@ public class ProtoNode {
       final Bytes32 stateRoot,
       final Bytes32 blockRoot,
       final Bytes32 parentRoot,
-      final Optional<Integer> parentIndex,
+      final int parentIndex,
       final UInt64 justifiedEpoch,
       final UInt64 finalizedEpoch,
       final Bytes32 executionBlockHash,
-      final UInt64 weight,
-      final Optional<Integer> bestChildIndex,
-      final Optional<Integer> bestDescendantIndex,
+      final long weight,
+      final int bestChildIndex,
+      final int bestDescendantIndex,
       final ProtoNodeValidationStatus validationStatus) {
     this.blockSlot = blockSlot;
     this.stateRoot = stateRoot;
@@ -81,8 +86,8 @@ public class ProtoNode {
 
   public void adjustWeight(long delta) {
     if (delta < 0) {
-      UInt64 deltaAbsoluteValue = UInt64.valueOf(Math.abs(delta));
-      if (deltaAbsoluteValue.isGreaterThan(weight)) {
+      final long deltaAbsoluteValue = -delta;
+      if (deltaAbsoluteValue > weight) {
         throw new RuntimeException(
             "ProtoNode: Delta to be subtracted is greater than node weight for block "
                 + blockRoot
@@ -93,9 +98,9 @@ public class ProtoNode {
                 + " from "
                 + weight);
       }
-      weight = weight.minus(deltaAbsoluteValue);
+      weight -= deltaAbsoluteValue;
     } else {
-      weight = weight.plus(delta);
+      weight = Math.addExact(weight, delta);
     }
   }
 
@@ -104,6 +109,10 @@ public class ProtoNode {
   }
 
   public UInt64 getWeight() {
+    return UInt64.valueOf(weight);
+  }
+
+  long getRawWeight() {
     return weight;
   }
 
@@ -120,6 +129,11 @@ public class ProtoNode {
   }
 
   public Optional<Integer> getParentIndex() {
+    return toOptional(parentIndex);
+  }
+
+  /** @return the parent index or {@link #NO_INDEX} */
+  int getRawParentIndex() {
     return parentIndex;
   }
 
@@ -135,26 +149,40 @@ public class ProtoNode {
     return executionBlockHash;
   }
 
-  public void setParentIndex(Optional<Integer> parentIndex) {
+  void setParentIndex(final int parentIndex) {
     this.parentIndex = parentIndex;
   }
 
   public Optional<Integer> getBestChildIndex() {
+    return toOptional(bestChildIndex);
+  }
+
+  /** @return the best child index or {@link #NO_INDEX} */
+  int getRawBestChildIndex() {
     return bestChildIndex;
   }
 
-  public void setBestChildIndex(Optional<Integer> bestChildIndex) {
+  void setBestChildIndex(final int bestChildIndex) {
     this.bestChildIndex = bestChildIndex;
   }
 
   public Optional<Integer> getBestDescendantIndex() {
+    return toOptional(bestDescendantIndex);
+  }
+
+  /** @return the best descendant index or {@link #NO_INDEX} */
+  int getRawBestDescendantIndex() {
     return bestDescendantIndex;
   }
 
-  public void setBestDescendantIndex(Optional<Integer> bestDescendantIndex) {
+  void setBestDescendantIndex(final int bestDescendantIndex) {
     this.bestDescendantIndex = bestDescendantIndex;
   }
 
+  private static Optional<Integer> toOptional(final int index) {
+    return index == NO_INDEX ? Optional.empty() : Optional.of(index);
+  }
+
   public boolean isFullyValidated() {
     return validationStatus == ProtoNodeValidationStatus.VALID;
   }
@@ -197,7 +225,7 @@ public class ProtoNode {
         .put("finalizedEpoch", finalizedEpoch)
         .put("executionBlockHash", executionBlockHash)
         .put("validationStatus", validationStatus.name())
-        .put("weight", weight)
+        .put("weight", getWeight())
         .build();
   }
 
@@ -217,10 +245,10 @@ public class ProtoNode {
         && Objects.equals(justifiedEpoch, protoNode.justifiedEpoch)
         && Objects.equals(finalizedEpoch, protoNode.finalizedEpoch)
         && Objects.equals(executionBlockHash, protoNode.executionBlockHash)
-        && Objects.equals(weight, protoNode.weight)
-        && Objects.equals(parentIndex, protoNode.parentIndex)
-        && Objects.equals(bestChildIndex, protoNode.bestChildIndex)
-        && Objects.equals(bestDescendantIndex, protoNode.bestDescendantIndex)
+        && weight == protoNode.weight
+        && parentIndex == protoNode.parentIndex
+        && bestChildIndex == protoNode.bestChildIndex
+        && bestDescendantIndex == protoNode.bestDescendantIndex
         && validationStatus == protoNode.validationStatus;
   }
 
@@ -252,9 +280,9 @@ public class ProtoNode {
         .add("finalizedEpoch", finalizedEpoch)
         .add("executionBlockHash", executionBlockHash)
         .add("weight", weight)
-        .add("parentIndex", parentIndex)
-        .add("bestChildIndex", bestChildIndex)
-        .add("bestDescendantIndex", bestDescendantIndex)
+        .add("parentIndex", getParentIndex())
+        .add("bestChildIndex", getBestChildIndex())
+        .add("bestDescendantIndex", getBestDescendantIndex())
         .add("validationStatus", validationStatus)
         .toString();
   }
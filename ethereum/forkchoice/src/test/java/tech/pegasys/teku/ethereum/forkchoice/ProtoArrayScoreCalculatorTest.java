@@ -115,6 +115,44 @@ public class ProtoArrayScoreCalculatorTest {
     votesShouldBeUpdated(store);
   }
 
+  @Test
+  void computeDeltas_shouldLookUpEachVotedRootOnce() {
+    final UInt64 BALANCE = UInt64.valueOf(42);
+    int validatorCount = 16;
+
+    for (int i = 0; i < validatorCount; i++) {
+      indices.put(getHash(i), i);
+      VoteTracker vote = store.getVote(UInt64.valueOf(i));
+      // Alternate votes between two roots so consecutive validators don't share a vote.
+      VoteTracker newVote =
+          new VoteTracker(vote.getCurrentRoot(), getHash(i % 2), vote.getNextEpoch());
+      store.putVote(UInt64.valueOf(i), newVote);
+      oldBalances.add(BALANCE);
+      newBalances.add(BALANCE);
+    }
+
+    final List<Bytes32> lookedUpRoots = new ArrayList<>();
+    List<Long> deltas =
+        computeDeltas(
+            store,
+            indices.size(),
+            root -> {
+              lookedUpRoots.add(root);
+              return getIndex(root);
+            },
+            oldBalances,
+            newBalances,
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+
+    assertThat(lookedUpRoots).containsExactlyInAnyOrder(Bytes32.ZERO, getHash(0), getHash(1));
+    assertThat(deltas.get(0)).isEqualTo(BALANCE.longValue() * validatorCount / 2);
+    assertThat(deltas.get(1)).isEqualTo(BALANCE.longValue() * validatorCount / 2);
+    votesShouldBeUpdated(store);
+  }
+
   @Test
   void computeDeltas_differentVotes() {
     final UInt64 BALANCE = UInt64.valueOf(42);
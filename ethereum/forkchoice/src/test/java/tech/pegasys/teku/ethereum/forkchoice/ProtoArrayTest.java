@@ -367,6 +367,20 @@ class ProtoArrayTest {
     assertThat(protoArray.contains(block1a)).isFalse();
   }
 
+  @Test
+  void compareRoots_shouldMatchHexStringOrdering() {
+    for (int i = 0; i < 100; i++) {
+      final Bytes32 a = dataStructureUtil.randomBytes32();
+      final Bytes32 b = dataStructureUtil.randomBytes32();
+      assertThat(Integer.signum(ProtoArray.compareRoots(a, b)))
+          .isEqualTo(Integer.signum(a.toHexString().compareTo(b.toHexString())));
+      assertThat(ProtoArray.compareRoots(a, a)).isZero();
+    }
+    final Bytes32 high = Bytes32.fromHexString("0x80" + "00".repeat(31));
+    final Bytes32 low = Bytes32.fromHexString("0x7f" + "ff".repeat(31));
+    assertThat(ProtoArray.compareRoots(high, low)).isPositive();
+  }
+
   @Test
   void contains_shouldNotContainDescendantsOfInvalidBlock() {
     addOptimisticBlock(1, block1a, GENESIS_CHECKPOINT.getRoot());
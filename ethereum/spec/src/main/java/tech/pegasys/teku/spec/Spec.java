@@ -57,11 +57,13 @@ import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateInvariants;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyIndex;
 import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.spec.datastructures.util.ForkAndSpecMilestone;
 import tech.pegasys.teku.spec.genesis.GenesisGenerator;
 import tech.pegasys.teku.spec.logic.StateTransition;
 import tech.pegasys.teku.spec.logic.common.block.BlockProcessor;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingCache;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationInvalidReason;
 import tech.pegasys.teku.spec.logic.common.statetransition.attestation.AttestationWorthinessChecker;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.BlockProcessingException;
@@ -71,6 +73,7 @@ import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTrans
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.block.OptimisticExecutionPayloadExecutor;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 
@@ -78,12 +81,20 @@ public class Spec {
   private final Map<SpecMilestone, SpecVersion> specVersions;
   private final ForkSchedule forkSchedule;
   private final StateTransition stateTransition;
-
-  private Spec(Map<SpecMilestone, SpecVersion> specVersions, final ForkSchedule forkSchedule) {
+  private final ShufflingCache shufflingCache;
+  private final VerifiedSignatureCache verifiedSignatureCache;
+
+  private Spec(
+      Map<SpecMilestone, SpecVersion> specVersions,
+      final ForkSchedule forkSchedule,
+      final ShufflingCache shufflingCache,
+      final VerifiedSignatureCache verifiedSignatureCache) {
     Preconditions.checkArgument(specVersions != null && specVersions.size() > 0);
     Preconditions.checkArgument(forkSchedule != null);
     this.specVersions = specVersions;
     this.forkSchedule = forkSchedule;
+    this.shufflingCache = shufflingCache;
+    this.verifiedSignatureCache = verifiedSignatureCache;
 
     // Setup state transition
     this.stateTransition = new StateTransition(this::atSlot);
@@ -92,9 +103,13 @@ public class Spec {
   static Spec create(final SpecConfig config, final SpecMilestone highestMilestoneSupported) {
     final Map<SpecMilestone, SpecVersion> specVersions = new HashMap<>();
     final ForkSchedule.Builder forkScheduleBuilder = ForkSchedule.builder();
+    final ShufflingCache shufflingCache = new ShufflingCache();
+    final VerifiedSignatureCache verifiedSignatureCache = new VerifiedSignatureCache();
+    final ValidatorPublicKeyIndex validatorPublicKeyIndex = new ValidatorPublicKeyIndex();
 
     for (SpecMilestone milestone : SpecMilestone.getMilestonesUpTo(highestMilestoneSupported)) {
-      SpecVersion.create(milestone, config)
+      SpecVersion.create(
+              milestone, config, shufflingCache, verifiedSignatureCache, validatorPublicKeyIndex)
           .ifPresent(
               milestoneSpec -> {
                 forkScheduleBuilder.addNextMilestone(milestoneSpec);
@@ -104,7 +119,7 @@ public class Spec {
 
     final ForkSchedule forkSchedule = forkScheduleBuilder.build();
 
-    return new Spec(specVersions, forkSchedule);
+    return new Spec(specVersions, forkSchedule, shufflingCache, verifiedSignatureCache);
   }
 
   public SpecVersion forMilestone(final SpecMilestone milestone) {
@@ -123,6 +138,19 @@ public class Spec {
     return specVersions.get(forkSchedule.getSpecMilestoneAtTime(genesisTime, currentTime));
   }
 
+  /** Returns the committee shuffling cache shared by all milestones of this spec. */
+  public ShufflingCache getShufflingCache() {
+    return shufflingCache;
+  }
+
+  /**
+   * Returns the cache of verified signatures shared by block import and gossip validation for this
+   * spec.
+   */
+  public VerifiedSignatureCache getVerifiedSignatureCache() {
+    return verifiedSignatureCache;
+  }
+
   public SpecConfig getSpecConfig(final UInt64 epoch) {
     return atEpoch(epoch).getConfig();
   }
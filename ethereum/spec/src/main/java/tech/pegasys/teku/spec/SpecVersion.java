@@ -17,8 +17,11 @@ import java.util.Optional;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.config.SpecConfigBellatrix;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyIndex;
 import tech.pegasys.teku.spec.logic.DelegatingSpecLogic;
 import tech.pegasys.teku.spec.logic.SpecLogic;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingCache;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.spec.logic.versions.altair.SpecLogicAltair;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.SpecLogicBellatrix;
 import tech.pegasys.teku.spec.logic.versions.phase0.SpecLogicPhase0;
@@ -45,33 +48,113 @@ public class SpecVersion extends DelegatingSpecLogic {
 
   public static Optional<SpecVersion> create(
       final SpecMilestone milestone, final SpecConfig specConfig) {
+    return create(
+        milestone,
+        specConfig,
+        new ShufflingCache(),
+        new VerifiedSignatureCache(),
+        new ValidatorPublicKeyIndex());
+  }
+
+  static Optional<SpecVersion> create(
+      final SpecMilestone milestone,
+      final SpecConfig specConfig,
+      final ShufflingCache shufflingCache,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     switch (milestone) {
       case PHASE0:
-        return Optional.of(createPhase0(specConfig));
+        return Optional.of(
+            createPhase0(
+                specConfig, shufflingCache, verifiedSignatureCache, validatorPublicKeyIndex));
       case ALTAIR:
-        return specConfig.toVersionAltair().map(SpecVersion::createAltair);
+        return specConfig
+            .toVersionAltair()
+            .map(
+                config ->
+                    createAltair(
+                        config, shufflingCache, verifiedSignatureCache, validatorPublicKeyIndex));
       case BELLATRIX:
-        return specConfig.toVersionBellatrix().map(SpecVersion::createBellatrix);
+        return specConfig
+            .toVersionBellatrix()
+            .map(
+                config ->
+                    createBellatrix(
+                        config, shufflingCache, verifiedSignatureCache, validatorPublicKeyIndex));
       default:
         throw new UnsupportedOperationException("Unknown milestone requested: " + milestone);
     }
   }
 
   static SpecVersion createPhase0(final SpecConfig specConfig) {
+    return createPhase0(
+        specConfig,
+        new ShufflingCache(),
+        new VerifiedSignatureCache(),
+        new ValidatorPublicKeyIndex());
+  }
+
+  static SpecVersion createPhase0(
+      final SpecConfig specConfig,
+      final ShufflingCache shufflingCache,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     final SchemaDefinitions schemaDefinitions = new SchemaDefinitionsPhase0(specConfig);
-    final SpecLogic specLogic = SpecLogicPhase0.create(specConfig, schemaDefinitions);
+    final SpecLogic specLogic =
+        SpecLogicPhase0.create(
+            specConfig,
+            schemaDefinitions,
+            shufflingCache,
+            verifiedSignatureCache,
+            validatorPublicKeyIndex);
     return new SpecVersion(SpecMilestone.PHASE0, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createAltair(final SpecConfigAltair specConfig) {
+    return createAltair(
+        specConfig,
+        new ShufflingCache(),
+        new VerifiedSignatureCache(),
+        new ValidatorPublicKeyIndex());
+  }
+
+  static SpecVersion createAltair(
+      final SpecConfigAltair specConfig,
+      final ShufflingCache shufflingCache,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     final SchemaDefinitionsAltair schemaDefinitions = new SchemaDefinitionsAltair(specConfig);
-    final SpecLogic specLogic = SpecLogicAltair.create(specConfig, schemaDefinitions);
+    final SpecLogic specLogic =
+        SpecLogicAltair.create(
+            specConfig,
+            schemaDefinitions,
+            shufflingCache,
+            verifiedSignatureCache,
+            validatorPublicKeyIndex);
     return new SpecVersion(SpecMilestone.ALTAIR, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createBellatrix(final SpecConfigBellatrix specConfig) {
+    return createBellatrix(
+        specConfig,
+        new ShufflingCache(),
+        new VerifiedSignatureCache(),
+        new ValidatorPublicKeyIndex());
+  }
+
+  static SpecVersion createBellatrix(
+      final SpecConfigBellatrix specConfig,
+      final ShufflingCache shufflingCache,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     final SchemaDefinitionsBellatrix schemaDefinitions = new SchemaDefinitionsBellatrix(specConfig);
-    final SpecLogic specLogic = SpecLogicBellatrix.create(specConfig, schemaDefinitions);
+    final SpecLogic specLogic =
+        SpecLogicBellatrix.create(
+            specConfig,
+            schemaDefinitions,
+            shufflingCache,
+            verifiedSignatureCache,
+            validatorPublicKeyIndex);
     return new SpecVersion(SpecMilestone.BELLATRIX, specConfig, schemaDefinitions, specLogic);
   }
 
@@ -26,6 +26,7 @@ import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusesSnapshot;
 
 /** The container class for all transition caches. */
 public class TransitionCaches {
@@ -53,6 +54,9 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache()) {
 
+        @Override
+        public void setLatestValidatorStatuses(final ValidatorStatusesSnapshot snapshot) {}
+
         @Override
         public TransitionCaches copy() {
           return this;
@@ -83,6 +87,7 @@ public class TransitionCaches {
   private final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache;
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
+  private volatile Optional<ValidatorStatusesSnapshot> latestValidatorStatuses = Optional.empty();
 
   private TransitionCaches() {
     activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
@@ -131,6 +136,19 @@ public class TransitionCaches {
     return latestTotalBalances;
   }
 
+  public void setLatestValidatorStatuses(final ValidatorStatusesSnapshot snapshot) {
+    this.latestValidatorStatuses = Optional.of(snapshot);
+  }
+
+  /**
+   * The validator statuses most recently calculated for this state or one of its ancestors. Unlike
+   * the other caches this is carried over by {@link #copy()} so that statuses can be updated
+   * incrementally as blocks are applied, rather than rebuilt from the full validator registry.
+   */
+  public Optional<ValidatorStatusesSnapshot> getLatestValidatorStatuses() {
+    return latestValidatorStatuses;
+  }
+
   /** (epoch) -> (active validators) cache */
   public Cache<UInt64, IntList> getActiveValidators() {
     return activeValidators;
@@ -201,17 +219,20 @@ public class TransitionCaches {
    * returned caches shouldn't affect caches from this instance
    */
   public TransitionCaches copy() {
-    return new TransitionCaches(
-        activeValidators.copy(),
-        beaconProposerIndex.copy(),
-        beaconCommittee.copy(),
-        attestersTotalBalance.copy(),
-        totalActiveBalance.copy(),
-        validatorsPubKeys,
-        validatorIndexCache,
-        committeeShuffle.copy(),
-        effectiveBalances.copy(),
-        syncCommitteeCache.copy(),
-        baseRewardPerIncrement.copy());
+    final TransitionCaches copy =
+        new TransitionCaches(
+            activeValidators.copy(),
+            beaconProposerIndex.copy(),
+            beaconCommittee.copy(),
+            attestersTotalBalance.copy(),
+            totalActiveBalance.copy(),
+            validatorsPubKeys,
+            validatorIndexCache,
+            committeeShuffle.copy(),
+            effectiveBalances.copy(),
+            syncCommitteeCache.copy(),
+            baseRewardPerIncrement.copy());
+    copy.latestValidatorStatuses = latestValidatorStatuses;
+    return copy;
   }
 }
@@ -45,6 +45,24 @@ public class ValidatorIndexCache {
 
   public Optional<Integer> getValidatorIndex(
       final BeaconState state, final BLSPublicKey publicKey) {
+    return getValidatorIndex(state, publicKey, Optional.empty());
+  }
+
+  /**
+   * Looks up the validator index, falling back to the shared index before scanning the state's
+   * validators. Keys read while scanning are recorded in the shared index.
+   */
+  public Optional<Integer> getValidatorIndex(
+      final BeaconState state,
+      final BLSPublicKey publicKey,
+      final ValidatorPublicKeyIndex sharedIndex) {
+    return getValidatorIndex(state, publicKey, Optional.of(sharedIndex));
+  }
+
+  private Optional<Integer> getValidatorIndex(
+      final BeaconState state,
+      final BLSPublicKey publicKey,
+      final Optional<ValidatorPublicKeyIndex> sharedIndex) {
     // Store lastIndex here in case we need to scan keys from the state.
     // This ensures we're adding from a point that we're confident the cache is at
     // when we scan for more keys through the state later.
@@ -55,16 +73,26 @@ public class ValidatorIndexCache {
       return validatorIndex.filter(index -> index < state.getValidators().size());
     }
 
-    return findIndexFromState(state.getValidators(), publicKey, lastIndexSnapshot);
+    final Optional<Integer> sharedValidatorIndex =
+        sharedIndex.flatMap(index -> index.getValidatorIndex(state, publicKey));
+    if (sharedValidatorIndex.isPresent()) {
+      validatorIndices.invalidateWithNewValue(publicKey, sharedValidatorIndex.get());
+      return sharedValidatorIndex;
+    }
+
+    return findIndexFromState(state.getValidators(), publicKey, lastIndexSnapshot, sharedIndex);
   }
 
   private Optional<Integer> findIndexFromState(
       final SszList<Validator> validatorList,
       final BLSPublicKey publicKey,
-      final int lastIndexSnapshot) {
+      final int lastIndexSnapshot,
+      final Optional<ValidatorPublicKeyIndex> sharedIndex) {
     for (int i = Math.max(lastIndexSnapshot, 0); i < validatorList.size(); i++) {
       BLSPublicKey pubKey = validatorList.get(i).getPublicKey();
       validatorIndices.invalidateWithNewValue(pubKey, i);
+      final int validatorIndex = i;
+      sharedIndex.ifPresent(index -> index.recordPublicKey(pubKey, validatorIndex));
       if (pubKey.equals(publicKey)) {
         updateLastIndex(i);
         return Optional.of(i);
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Index of validator public keys by validator index, shared by all states using the same {@link
+ * tech.pegasys.teku.spec.Spec}.
+ *
+ * <p>The validator registry only ever grows by appending deposits in deposit contract order, so a
+ * public key maps to the same validator index in every state that contains it. This allows states
+ * which don't share {@link TransitionCaches} (e.g. regenerated or checkpoint states) to avoid
+ * rescanning the registry and decompressing the same keys again.
+ *
+ * <p>Keys are held in an array indexed by validator index, mirroring the registry, so the index
+ * never holds more entries than the largest registry it has seen. If a different key is recorded
+ * for an index, for example from a state with a different deposit history, it replaces the old
+ * entry. Index lookups are always verified against the supplied state so a replaced or unrelated
+ * entry is never returned.
+ *
+ * <p>The array holds {@link BLSPublicKey} instances rather than primitive arrays of decompressed
+ * points. The BLS implementation doesn't expose point coordinates, and rebuilding a key from them
+ * on each access would repeat the work this index exists to avoid.
+ */
+public class ValidatorPublicKeyIndex {
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private volatile AtomicReferenceArray<BLSPublicKey> publicKeysByIndex =
+      new AtomicReferenceArray<>(INITIAL_CAPACITY);
+  private final Map<Bytes48, Integer> indicesByPublicKey = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the public key of the validator at {@code validatorIndex} in the state, reusing a
+   * previously created instance for the same key if available.
+   */
+  public BLSPublicKey getPublicKey(final BeaconState state, final int validatorIndex) {
+    final Bytes48 pubkeyBytes = state.getValidators().get(validatorIndex).getPubkeyBytes();
+    final BLSPublicKey recordedKey = getRecordedPublicKey(validatorIndex);
+    if (recordedKey != null && recordedKey.toBytesCompressed().equals(pubkeyBytes)) {
+      return recordedKey;
+    }
+    final BLSPublicKey publicKey = BLSPublicKey.fromBytesCompressed(pubkeyBytes);
+    recordPublicKey(publicKey, validatorIndex);
+    return publicKey;
+  }
+
+  /**
+   * Returns the index of the validator with the given public key if it is known and the validator
+   * at that index in the supplied state has the same key.
+   *
+   * <p>An empty result doesn't mean the key is absent from the state, only that it isn't indexed.
+   */
+  public Optional<Integer> getValidatorIndex(
+      final BeaconState state, final BLSPublicKey publicKey) {
+    final Bytes48 pubkeyBytes = publicKey.toBytesCompressed();
+    final Integer index = indicesByPublicKey.get(pubkeyBytes);
+    if (index == null) {
+      return Optional.empty();
+    }
+    final SszList<Validator> validators = state.getValidators();
+    if (index >= validators.size() || !validators.get(index).getPubkeyBytes().equals(pubkeyBytes)) {
+      return Optional.empty();
+    }
+    return Optional.of(index);
+  }
+
+  /** Records the public key read from a state's validator registry at {@code validatorIndex}. */
+  public synchronized void recordPublicKey(final BLSPublicKey publicKey, final int validatorIndex) {
+    final AtomicReferenceArray<BLSPublicKey> publicKeys = ensureCapacity(validatorIndex + 1);
+    final Bytes48 pubkeyBytes = publicKey.toBytesCompressed();
+    final BLSPublicKey previousKey = publicKeys.get(validatorIndex);
+    if (previousKey != null) {
+      if (previousKey.toBytesCompressed().equals(pubkeyBytes)) {
+        return;
+      }
+      indicesByPublicKey.remove(previousKey.toBytesCompressed(), validatorIndex);
+    }
+    publicKeys.set(validatorIndex, publicKey);
+    indicesByPublicKey.put(pubkeyBytes, validatorIndex);
+  }
+
+  public int size() {
+    return indicesByPublicKey.size();
+  }
+
+  private BLSPublicKey getRecordedPublicKey(final int validatorIndex) {
+    final AtomicReferenceArray<BLSPublicKey> publicKeys = publicKeysByIndex;
+    return validatorIndex < publicKeys.length() ? publicKeys.get(validatorIndex) : null;
+  }
+
+  private AtomicReferenceArray<BLSPublicKey> ensureCapacity(final int minCapacity) {
+    final AtomicReferenceArray<BLSPublicKey> publicKeys = publicKeysByIndex;
+    if (minCapacity <= publicKeys.length()) {
+      return publicKeys;
+    }
+    final AtomicReferenceArray<BLSPublicKey> expanded =
+        new AtomicReferenceArray<>(Math.max(minCapacity, publicKeys.length() * 2));
+    for (int i = 0; i < publicKeys.length(); i++) {
+      expanded.set(i, publicKeys.get(i));
+    }
+    publicKeysByIndex = expanded;
+    return expanded;
+  }
+}
@@ -74,6 +74,7 @@ import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTrans
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.block.OptimisticExecutionPayloadExecutor;
 
 public abstract class AbstractBlockProcessor implements BlockProcessor {
@@ -96,6 +97,7 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
   protected final AttestationUtil attestationUtil;
   protected final ValidatorsUtil validatorsUtil;
   private final OperationValidator operationValidator;
+  private final VerifiedSignatureCache verifiedSignatureCache;
 
   protected AbstractBlockProcessor(
       final SpecConfig specConfig,
@@ -107,7 +109,8 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final BeaconStateUtil beaconStateUtil,
       final AttestationUtil attestationUtil,
       final ValidatorsUtil validatorsUtil,
-      final OperationValidator operationValidator) {
+      final OperationValidator operationValidator,
+      final VerifiedSignatureCache verifiedSignatureCache) {
     this.specConfig = specConfig;
     this.predicates = predicates;
     this.beaconStateMutators = beaconStateMutators;
@@ -118,6 +121,7 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
     this.miscHelpers = miscHelpers;
     this.beaconStateAccessors = beaconStateAccessors;
     this.operationValidator = operationValidator;
+    this.verifiedSignatureCache = verifiedSignatureCache;
   }
 
   @Override
@@ -127,7 +131,8 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final IndexedAttestationCache indexedAttestationCache,
       final OptimisticExecutionPayloadExecutor payloadExecutor)
       throws StateTransitionException {
-    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    final BatchSignatureVerifier signatureVerifier =
+        new BatchSignatureVerifier(verifiedSignatureCache);
     final BeaconState result =
         processAndValidateBlock(
             signedBlock,
@@ -36,17 +36,23 @@ import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyIndex;
 
 public abstract class BeaconStateAccessors {
   protected final SpecConfig config;
   protected final Predicates predicates;
   protected final MiscHelpers miscHelpers;
+  private final ValidatorPublicKeyIndex validatorPublicKeyIndex;
 
   protected BeaconStateAccessors(
-      final SpecConfig config, final Predicates predicates, final MiscHelpers miscHelpers) {
+      final SpecConfig config,
+      final Predicates predicates,
+      final MiscHelpers miscHelpers,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     this.config = config;
     this.predicates = predicates;
     this.miscHelpers = miscHelpers;
+    this.validatorPublicKeyIndex = validatorPublicKeyIndex;
   }
 
   public UInt64 getCurrentEpoch(BeaconState state) {
@@ -80,7 +86,7 @@ public abstract class BeaconStateAccessors {
             .get(
                 validatorIndex,
                 i -> {
-                  BLSPublicKey pubKey = state.getValidators().get(i.intValue()).getPublicKey();
+                  BLSPublicKey pubKey = validatorPublicKeyIndex.getPublicKey(state, i.intValue());
 
                   // eagerly pre-cache pubKey => validatorIndex mapping
                   BeaconStateCache.getTransitionCaches(state)
@@ -289,6 +295,7 @@ public abstract class BeaconStateAccessors {
                   state,
                   getActiveValidatorIndices(state, epoch),
                   getSeed(state, epoch, Domain.BEACON_ATTESTER),
+                  epoch,
                   committeeIndex,
                   count);
             });
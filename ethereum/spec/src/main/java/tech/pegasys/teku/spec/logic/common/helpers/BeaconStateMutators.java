@@ -18,7 +18,9 @@ import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
 import java.util.Collections;
 import java.util.List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64Math;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
@@ -47,7 +49,24 @@ public class BeaconStateMutators {
    *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#increase_balance</a>
    */
   public void increaseBalance(MutableBeaconState state, int index, UInt64 delta) {
-    state.getBalances().setElement(index, state.getBalances().getElement(index).plus(delta));
+    increaseBalance(state, index, delta.longValue());
+  }
+
+  /**
+   * Increase validator balance by ``delta`` given as unsigned long bits.
+   *
+   * @param state
+   * @param index
+   * @param delta
+   */
+  public void increaseBalance(MutableBeaconState state, int index, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    final SszMutableUInt64List balances = state.getBalances();
+    balances.setElement(
+        index,
+        UInt64.fromLongBits(UInt64Math.plus(balances.getElement(index).longValue(), delta)));
   }
 
   /**
@@ -60,9 +79,25 @@ public class BeaconStateMutators {
    *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#decrease_balance</a>
    */
   public void decreaseBalance(MutableBeaconState state, int index, UInt64 delta) {
-    state
-        .getBalances()
-        .setElement(index, state.getBalances().getElement(index).minusMinZero(delta));
+    decreaseBalance(state, index, delta.longValue());
+  }
+
+  /**
+   * Decrease validator balance by ``delta`` given as unsigned long bits with underflow protection.
+   *
+   * @param state
+   * @param index
+   * @param delta
+   */
+  public void decreaseBalance(MutableBeaconState state, int index, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    final SszMutableUInt64List balances = state.getBalances();
+    balances.setElement(
+        index,
+        UInt64.fromLongBits(
+            UInt64Math.minusMinZero(balances.getElement(index).longValue(), delta)));
   }
 
   public void initiateValidatorExit(MutableBeaconState state, int index) {
@@ -36,9 +36,15 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 
 public class MiscHelpers {
   protected final SpecConfig specConfig;
+  private final ShufflingCache shufflingCache;
 
   public MiscHelpers(final SpecConfig specConfig) {
+    this(specConfig, new ShufflingCache());
+  }
+
+  public MiscHelpers(final SpecConfig specConfig, final ShufflingCache shufflingCache) {
     this.specConfig = specConfig;
+    this.shufflingCache = shufflingCache;
   }
 
   public int computeShuffledIndex(int index, int index_count, Bytes32 seed) {
@@ -131,14 +137,14 @@ public class MiscHelpers {
   }
 
   public IntList computeCommittee(
-      BeaconState state, IntList indices, Bytes32 seed, int index, int count) {
+      BeaconState state, IntList indices, Bytes32 seed, UInt64 epoch, int index, int count) {
     int start = Math.floorDiv(indices.size() * index, count);
     int end = Math.floorDiv(indices.size() * (index + 1), count);
-    return computeCommitteeShuffle(state, indices, seed, start, end);
+    return computeCommitteeShuffle(state, indices, seed, epoch, start, end);
   }
 
   private IntList computeCommitteeShuffle(
-      BeaconState state, IntList indices, Bytes32 seed, int fromIndex, int toIndex) {
+      BeaconState state, IntList indices, Bytes32 seed, UInt64 epoch, int fromIndex, int toIndex) {
     if (fromIndex < toIndex) {
       int indexCount = indices.size();
       checkArgument(fromIndex < indexCount, "CommitteeUtil.getShuffledIndex1");
@@ -146,7 +152,7 @@ public class MiscHelpers {
     }
     return BeaconStateCache.getTransitionCaches(state)
         .getCommitteeShuffle()
-        .get(seed, s -> shuffleList(indices, s))
+        .get(seed, s -> shufflingCache.getShuffling(epoch, s, () -> shuffleList(indices, s)))
         .subList(fromIndex, toIndex);
   }
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.helpers;
+
+import com.google.common.base.MoreObjects;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Cache of shuffled active validator indices shared by all states using the same {@link
+ * tech.pegasys.teku.spec.Spec}.
+ *
+ * <p>Unlike the per-state {@link
+ * tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches}, entries are
+ * shared between all states so a shuffling is only calculated once regardless of how many forks or
+ * regenerated states request it.
+ *
+ * <p>Entries are keyed by epoch and seed. The seed is derived from the RANDAO mix at the end of
+ * epoch {@code epoch - MIN_SEED_LOOKAHEAD - 1}, which commits to the chain up to that point, while
+ * the active validator set for the epoch is fixed by the activation and exit epochs set no later
+ * than epoch {@code epoch - MAX_SEED_LOOKAHEAD - 1}. States with the same seed therefore always
+ * have the same active validators and the index list doesn't need to be compared on lookup.
+ */
+public class ShufflingCache {
+  public static final int DEFAULT_MAX_SIZE = 8;
+
+  private final Map<ShufflingKey, IntList> shufflings;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public ShufflingCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  ShufflingCache(final int maxSize) {
+    this.shufflings = LimitedMap.create(maxSize);
+  }
+
+  /**
+   * Returns the cached shuffling for the given epoch and seed, calculating it with {@code shuffle}
+   * if it isn't yet available.
+   *
+   * <p>The calculation is performed outside any lock so concurrent requests for the same shuffling
+   * may both calculate it, but only one result is retained.
+   */
+  public IntList getShuffling(
+      final UInt64 epoch, final Bytes32 seed, final Supplier<IntList> shuffle) {
+    final ShufflingKey key = new ShufflingKey(epoch, seed);
+    final IntList cached = shufflings.get(key);
+    if (cached != null) {
+      hitCount.incrementAndGet();
+      return cached;
+    }
+    missCount.incrementAndGet();
+    final IntList shuffled = shuffle.get();
+    final IntList existing = shufflings.putIfAbsent(key, shuffled);
+    return existing != null ? existing : shuffled;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public int size() {
+    return shufflings.size();
+  }
+
+  public void clear() {
+    shufflings.clear();
+  }
+
+  private static class ShufflingKey {
+    private final UInt64 epoch;
+    private final Bytes32 seed;
+
+    private ShufflingKey(final UInt64 epoch, final Bytes32 seed) {
+      this.epoch = epoch;
+      this.seed = seed;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final ShufflingKey that = (ShufflingKey) o;
+      return epoch.equals(that.epoch) && seed.equals(that.seed);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(epoch, seed);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this).add("epoch", epoch).add("seed", seed).toString();
+    }
+  }
+}
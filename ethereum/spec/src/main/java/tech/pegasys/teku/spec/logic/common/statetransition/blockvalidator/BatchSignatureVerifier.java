@@ -14,17 +14,20 @@
 package tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.stream.Collectors.toList;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.OptionalInt;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.bls.BatchSemiAggregate;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 
 /**
  * Implementation which doesn't perform any actual validations on {@link #verify(List, Bytes,
@@ -34,6 +37,9 @@ import tech.pegasys.teku.bls.BatchSemiAggregate;
  * <p>Every instance of this class is disposable, i.e. it is intended for just a single batch and a
  * single {@link #batchVerify()} call.
  *
+ * <p>Signatures already recorded in the {@link VerifiedSignatureCache} are not verified again, and
+ * signatures which pass verification are added to it.
+ *
  * <p>This is thread-safe class.
  */
 public class BatchSignatureVerifier implements BLSSignatureVerifier {
@@ -43,18 +49,30 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
     final List<BLSPublicKey> publicKeys;
     final Bytes message;
     final BLSSignature signature;
+    final Bytes32 cacheKey;
 
-    public Job(int idx, List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
+    public Job(
+        int idx,
+        List<BLSPublicKey> publicKeys,
+        Bytes message,
+        BLSSignature signature,
+        Bytes32 cacheKey) {
       this.idx = idx;
       this.publicKeys = publicKeys;
       this.message = message;
       this.signature = signature;
+      this.cacheKey = cacheKey;
     }
   }
 
   @VisibleForTesting final List<Job> toVerify = new ArrayList<>();
+  private final VerifiedSignatureCache verifiedSignatureCache;
   private boolean complete = false;
 
+  public BatchSignatureVerifier(final VerifiedSignatureCache verifiedSignatureCache) {
+    this.verifiedSignatureCache = verifiedSignatureCache;
+  }
+
   @Override
   public synchronized boolean verify(
       List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
@@ -63,7 +81,11 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
     }
 
     checkArgument(!publicKeys.isEmpty(), "No public keys supplied for verify");
-    toVerify.add(new Job(toVerify.size(), publicKeys, message, signature));
+    final Bytes32 cacheKey = VerifiedSignatureCache.computeKey(publicKeys, message, signature);
+    if (verifiedSignatureCache.isVerified(cacheKey)) {
+      return true;
+    }
+    toVerify.add(new Job(toVerify.size(), publicKeys, message, signature, cacheKey));
     return true;
   }
 
@@ -88,18 +110,85 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
    * instance methods would fail with exception
    */
   public synchronized boolean batchVerify() {
-    if (complete) {
-      throw new IllegalStateException("Reuse of disposable instance");
+    markComplete();
+    if (!verifyJobs(toVerify)) {
+      return false;
+    }
+    markVerified(toVerify);
+    return true;
+  }
+
+  /**
+   * Performs verification of all the signatures collected by each of the supplied verifiers in a
+   * single batch. If the batch fails, it is bisected to find the first verifier with an invalid
+   * signature.
+   *
+   * <p>As with {@link #batchVerify()}, all supplied verifiers are disposed by this call.
+   *
+   * @param verifiers the verifiers to check, in order
+   * @return the index of the first verifier with an invalid signature or empty if all are valid
+   */
+  public static OptionalInt batchVerify(final List<BatchSignatureVerifier> verifiers) {
+    final List<List<Job>> jobsByVerifier =
+        verifiers.stream().map(BatchSignatureVerifier::completeAndGetJobs).collect(toList());
+    final int invalidIndex =
+        verifyJobs(jobsByVerifier, 0, jobsByVerifier.size())
+            ? jobsByVerifier.size()
+            : findFirstInvalid(jobsByVerifier, 0, jobsByVerifier.size());
+    for (int i = 0; i < invalidIndex; i++) {
+      verifiers.get(i).markVerified(jobsByVerifier.get(i));
+    }
+    return invalidIndex < jobsByVerifier.size()
+        ? OptionalInt.of(invalidIndex)
+        : OptionalInt.empty();
+  }
+
+  private static int findFirstInvalid(
+      final List<List<Job>> jobsByVerifier, final int fromIndex, final int toIndex) {
+    if (toIndex - fromIndex == 1) {
+      return fromIndex;
+    }
+    final int midIndex = (fromIndex + toIndex) >>> 1;
+    if (!verifyJobs(jobsByVerifier, fromIndex, midIndex)) {
+      return findFirstInvalid(jobsByVerifier, fromIndex, midIndex);
     }
+    return findFirstInvalid(jobsByVerifier, midIndex, toIndex);
+  }
+
+  private static boolean verifyJobs(
+      final List<List<Job>> jobsByVerifier, final int fromIndex, final int toIndex) {
+    return verifyJobs(
+        jobsByVerifier.subList(fromIndex, toIndex).stream()
+            .flatMap(List::stream)
+            .collect(toList()));
+  }
+
+  private static boolean verifyJobs(final List<Job> jobs) {
+    // Semi-aggregates are released once verification completes so must be prepared each time
     List<BatchSemiAggregate> batchSemiAggregates =
-        toVerify.stream()
+        jobs.stream()
             .parallel()
             .map(job -> BLS.prepareBatchVerify(job.idx, job.publicKeys, job.message, job.signature))
-            .collect(Collectors.toList());
-    complete = true;
+            .collect(toList());
     if (batchSemiAggregates.isEmpty()) {
       return true;
     }
     return BLS.completeBatchVerify(batchSemiAggregates);
   }
+
+  private void markVerified(final List<Job> jobs) {
+    jobs.forEach(job -> verifiedSignatureCache.markVerified(job.cacheKey));
+  }
+
+  private synchronized List<Job> completeAndGetJobs() {
+    markComplete();
+    return toVerify;
+  }
+
+  private void markComplete() {
+    if (complete) {
+      throw new IllegalStateException("Reuse of disposable instance");
+    }
+    complete = true;
+  }
 }
@@ -14,77 +14,127 @@
 package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
 
 import com.google.common.base.MoreObjects;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64Math;
 
+/**
+ * Accumulates the reward and penalty for every validator during epoch processing.
+ *
+ * <p>Values are held as unsigned {@code long} bits in two flat arrays so that accumulating deltas
+ * for the whole registry doesn't allocate a {@link UInt64} per update. Callers iterating over the
+ * registry either use the primitive accessors or move a single {@link RewardAndPenalty} cursor
+ * between validators.
+ */
 public class RewardAndPenaltyDeltas {
-  private final List<RewardAndPenalty> deltas;
+  private final long[] rewards;
+  private final long[] penalties;
 
   public RewardAndPenaltyDeltas(final int validatorCount) {
-    this.deltas = new ArrayList<>(validatorCount);
-    for (int i = 0; i < validatorCount; i++) {
-      deltas.add(new RewardAndPenalty());
+    this.rewards = new long[validatorCount];
+    this.penalties = new long[validatorCount];
+  }
+
+  /** Creates a cursor positioned at the first validator, moved with {@link RewardAndPenalty#at}. */
+  public RewardAndPenalty createCursor() {
+    return new RewardAndPenalty(this);
+  }
+
+  public int getValidatorCount() {
+    return rewards.length;
+  }
+
+  /** @return the accumulated reward for the validator as unsigned long bits */
+  public long getReward(final int validatorIndex) {
+    return rewards[validatorIndex];
+  }
+
+  /** @return the accumulated penalty for the validator as unsigned long bits */
+  public long getPenalty(final int validatorIndex) {
+    return penalties[validatorIndex];
+  }
+
+  public void reward(final int validatorIndex, final long amount) {
+    rewards[validatorIndex] = UInt64Math.plus(rewards[validatorIndex], amount);
+  }
+
+  public void penalize(final int validatorIndex, final long amount) {
+    penalties[validatorIndex] = UInt64Math.plus(penalties[validatorIndex], amount);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
     }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final RewardAndPenaltyDeltas that = (RewardAndPenaltyDeltas) o;
+    return Arrays.equals(rewards, that.rewards) && Arrays.equals(penalties, that.penalties);
   }
 
-  public RewardAndPenalty getDelta(final int validatorIndex) {
-    return deltas.get(validatorIndex);
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(rewards) + Arrays.hashCode(penalties);
   }
 
   @Override
   public String toString() {
-    return MoreObjects.toStringHelper(this).add("deltas", deltas).toString();
+    return MoreObjects.toStringHelper(this)
+        .add("rewards", toUnsignedString(rewards))
+        .add("penalties", toUnsignedString(penalties))
+        .toString();
   }
 
-  public static class RewardAndPenalty {
-    private UInt64 reward = UInt64.ZERO;
-    private UInt64 penalty = UInt64.ZERO;
+  private static String toUnsignedString(final long[] values) {
+    return Arrays.stream(values)
+        .mapToObj(Long::toUnsignedString)
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
 
-    public void reward(final UInt64 amount) {
-      reward = reward.plus(amount);
-    }
+  /**
+   * A movable cursor over the reward and penalty of one validator at a time.
+   *
+   * <p>Reusing a cursor across the registry avoids allocating an object per validator.
+   */
+  public static class RewardAndPenalty {
+    private final RewardAndPenaltyDeltas deltas;
+    private int validatorIndex;
 
-    public void penalize(final UInt64 amount) {
-      penalty = penalty.plus(amount);
+    private RewardAndPenalty(final RewardAndPenaltyDeltas deltas) {
+      this.deltas = deltas;
     }
 
-    public void add(final RewardAndPenalty other) {
-      reward(other.reward);
-      penalize(other.penalty);
+    /** Moves the cursor to {@code validatorIndex} and returns it. */
+    public RewardAndPenalty at(final int validatorIndex) {
+      this.validatorIndex = validatorIndex;
+      return this;
     }
 
-    public UInt64 getReward() {
-      return reward;
+    public void reward(final UInt64 amount) {
+      deltas.reward(validatorIndex, amount.longValue());
     }
 
-    public UInt64 getPenalty() {
-      return penalty;
+    public void penalize(final UInt64 amount) {
+      deltas.penalize(validatorIndex, amount.longValue());
     }
 
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final RewardAndPenalty delta = (RewardAndPenalty) o;
-      return Objects.equals(reward, delta.reward) && Objects.equals(penalty, delta.penalty);
+    public UInt64 getReward() {
+      return UInt64.fromLongBits(deltas.getReward(validatorIndex));
     }
 
-    @Override
-    public int hashCode() {
-      return Objects.hash(reward, penalty);
+    public UInt64 getPenalty() {
+      return UInt64.fromLongBits(deltas.getPenalty(validatorIndex));
     }
 
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
-          .add("reward", reward)
-          .add("penalty", penalty)
+          .add("validatorIndex", validatorIndex)
+          .add("reward", getReward())
+          .add("penalty", getPenalty())
           .toString();
     }
   }
@@ -15,14 +15,17 @@ package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64Math;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
@@ -56,25 +59,66 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
 
   @Override
   public ValidatorStatuses createValidatorStatuses(final BeaconState state) {
-    final SszList<Validator> validators = state.getValidators();
-
+    final TransitionCaches transitionCaches = BeaconStateCache.getTransitionCaches(state);
     final UInt64 currentEpoch = beaconStateAccessors.getCurrentEpoch(state);
     final UInt64 previousEpoch = beaconStateAccessors.getPreviousEpoch(state);
 
+    final List<ValidatorStatus> statuses =
+        transitionCaches
+            .getLatestValidatorStatuses()
+            .flatMap(
+                snapshot -> updateValidatorStatuses(snapshot, state, previousEpoch, currentEpoch))
+            .orElseGet(() -> createStatuses(state, previousEpoch, currentEpoch));
+
+    final TotalBalances totalBalances = createTotalBalances(statuses);
+    transitionCaches.setLatestTotalBalances(totalBalances);
+    transitionCaches
+        .getTotalActiveBalance()
+        .get(currentEpoch, __ -> totalBalances.getCurrentEpochActiveValidators());
+    createSnapshot(state, currentEpoch, statuses)
+        .ifPresent(transitionCaches::setLatestValidatorStatuses);
+
+    return new ValidatorStatuses(statuses, totalBalances);
+  }
+
+  private List<ValidatorStatus> createStatuses(
+      final BeaconState state, final UInt64 previousEpoch, final UInt64 currentEpoch) {
+    final SszList<Validator> validators = state.getValidators();
     final List<ValidatorStatus> statuses =
         validators.stream()
             .map(validator -> createValidatorStatus(validator, previousEpoch, currentEpoch))
             .collect(Collectors.toCollection(() -> new ArrayList<>(validators.size())));
 
     processParticipation(statuses, state, previousEpoch, currentEpoch);
+    return statuses;
+  }
 
-    final TotalBalances totalBalances = createTotalBalances(statuses);
-    BeaconStateCache.getTransitionCaches(state).setLatestTotalBalances(totalBalances);
-    BeaconStateCache.getTransitionCaches(state)
-        .getTotalActiveBalance()
-        .get(currentEpoch, __ -> totalBalances.getCurrentEpochActiveValidators());
+  /**
+   * Attempts to derive the statuses for {@code state} from statuses previously calculated for an
+   * ancestor state, avoiding a full scan of the validator registry.
+   *
+   * <p>This runs when statuses are requested rather than as each block is applied, so the work
+   * for all blocks since the snapshot is done in one pass.
+   *
+   * @return the updated statuses or empty if the snapshot can't be reused and the statuses must be
+   *     recalculated from scratch
+   */
+  protected Optional<List<ValidatorStatus>> updateValidatorStatuses(
+      final ValidatorStatusesSnapshot snapshot,
+      final BeaconState state,
+      final UInt64 previousEpoch,
+      final UInt64 currentEpoch) {
+    return Optional.empty();
+  }
 
-    return new ValidatorStatuses(statuses, totalBalances);
+  /**
+   * Creates the snapshot that descendant states may use to update the statuses incrementally.
+   *
+   * @return the snapshot or empty if incremental updates aren't supported
+   */
+  protected Optional<ValidatorStatusesSnapshot> createSnapshot(
+      final BeaconState state, final UInt64 currentEpoch, final List<ValidatorStatus> statuses) {
+    return Optional.empty();
   }
 
   @Override
@@ -90,52 +134,53 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
   }
 
   protected TotalBalances createTotalBalances(final List<ValidatorStatus> statuses) {
-    UInt64 currentEpochActiveValidators = UInt64.ZERO;
-    UInt64 previousEpochActiveValidators = UInt64.ZERO;
-    UInt64 currentEpochSourceAttesters = UInt64.ZERO;
-    UInt64 currentEpochTargetAttesters = UInt64.ZERO;
-    UInt64 previousEpochSourceAttesters = UInt64.ZERO;
-    UInt64 previousEpochTargetAttesters = UInt64.ZERO;
-    UInt64 previousEpochHeadAttesters = UInt64.ZERO;
-
+    long currentEpochActiveValidators = 0;
+    long previousEpochActiveValidators = 0;
+    long currentEpochSourceAttesters = 0;
+    long currentEpochTargetAttesters = 0;
+    long previousEpochSourceAttesters = 0;
+    long previousEpochTargetAttesters = 0;
+    long previousEpochHeadAttesters = 0;
+
+    // Accumulate as raw unsigned longs to avoid allocating a UInt64 per validator
     for (ValidatorStatus status : statuses) {
-      final UInt64 balance = status.getCurrentEpochEffectiveBalance();
+      final long balance = status.getCurrentEpochEffectiveBalance().longValue();
       if (status.isActiveInCurrentEpoch()) {
-        currentEpochActiveValidators = currentEpochActiveValidators.plus(balance);
+        currentEpochActiveValidators = UInt64Math.plus(currentEpochActiveValidators, balance);
       }
       if (status.isActiveInPreviousEpoch()) {
-        previousEpochActiveValidators = previousEpochActiveValidators.plus(balance);
+        previousEpochActiveValidators = UInt64Math.plus(previousEpochActiveValidators, balance);
       }
 
       if (status.isSlashed()) {
         continue;
       }
       if (status.isCurrentEpochSourceAttester()) {
-        currentEpochSourceAttesters = currentEpochSourceAttesters.plus(balance);
+        currentEpochSourceAttesters = UInt64Math.plus(currentEpochSourceAttesters, balance);
       }
       if (status.isCurrentEpochTargetAttester()) {
-        currentEpochTargetAttesters = currentEpochTargetAttesters.plus(balance);
+        currentEpochTargetAttesters = UInt64Math.plus(currentEpochTargetAttesters, balance);
       }
 
       if (status.isPreviousEpochSourceAttester()) {
-        previousEpochSourceAttesters = previousEpochSourceAttesters.plus(balance);
+        previousEpochSourceAttesters = UInt64Math.plus(previousEpochSourceAttesters, balance);
       }
       if (status.isPreviousEpochTargetAttester()) {
-        previousEpochTargetAttesters = previousEpochTargetAttesters.plus(balance);
+        previousEpochTargetAttesters = UInt64Math.plus(previousEpochTargetAttesters, balance);
       }
       if (status.isPreviousEpochHeadAttester()) {
-        previousEpochHeadAttesters = previousEpochHeadAttesters.plus(balance);
+        previousEpochHeadAttesters = UInt64Math.plus(previousEpochHeadAttesters, balance);
       }
     }
     return new TotalBalances(
         specConfig,
-        currentEpochActiveValidators,
-        previousEpochActiveValidators,
-        currentEpochSourceAttesters,
-        currentEpochTargetAttesters,
-        previousEpochSourceAttesters,
-        previousEpochTargetAttesters,
-        previousEpochHeadAttesters);
+        UInt64.fromLongBits(currentEpochActiveValidators),
+        UInt64.fromLongBits(previousEpochActiveValidators),
+        UInt64.fromLongBits(currentEpochSourceAttesters),
+        UInt64.fromLongBits(currentEpochTargetAttesters),
+        UInt64.fromLongBits(previousEpochSourceAttesters),
+        UInt64.fromLongBits(previousEpochTargetAttesters),
+        UInt64.fromLongBits(previousEpochHeadAttesters));
   }
 
   protected boolean matchesEpochStartBlock(
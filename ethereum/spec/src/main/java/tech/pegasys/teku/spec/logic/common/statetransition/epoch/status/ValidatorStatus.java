@@ -132,6 +132,19 @@ public class ValidatorStatus {
     return inclusionInfo;
   }
 
+  /**
+   * @return a new status with the same validator details as this one but without any of the
+   *     attestation participation applied
+   */
+  public ValidatorStatus copyWithoutParticipation() {
+    return new ValidatorStatus(
+        slashed,
+        withdrawableInCurrentEpoch,
+        currentEpochEffectiveBalance,
+        activeInCurrentEpoch,
+        activeInPreviousEpoch);
+  }
+
   public ValidatorStatus updateCurrentEpochSourceAttester(final boolean currentEpochAttester) {
     this.currentEpochSourceAttester |= currentEpochAttester;
     return this;
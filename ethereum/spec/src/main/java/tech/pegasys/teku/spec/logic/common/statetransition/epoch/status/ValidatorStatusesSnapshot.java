@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * The validator statuses last calculated for a state, along with the inputs required to check
+ * whether they can be reused for a descendant state.
+ *
+ * <p>Only immutable SSZ views are held so that the snapshot doesn't keep the state it was created
+ * from (and that state's caches) alive.
+ *
+ * <p>The snapshot isn't updated as blocks are applied. It is replaced only when statuses are next
+ * requested for a descendant state, which then applies the participation flags changed since the
+ * snapshot was taken. Any change to the validator registry, including deposits, exits and
+ * slashings, or a new epoch discards the snapshot and the statuses are recalculated in full.
+ */
+public class ValidatorStatusesSnapshot {
+  private final UInt64 currentEpoch;
+  private final Bytes32 validatorsRoot;
+  private final SszList<SszByte> previousEpochParticipation;
+  private final SszList<SszByte> currentEpochParticipation;
+  private final List<ValidatorStatus> statuses;
+
+  public ValidatorStatusesSnapshot(
+      final UInt64 currentEpoch,
+      final Bytes32 validatorsRoot,
+      final SszList<SszByte> previousEpochParticipation,
+      final SszList<SszByte> currentEpochParticipation,
+      final List<ValidatorStatus> statuses) {
+    this.currentEpoch = currentEpoch;
+    this.validatorsRoot = validatorsRoot;
+    this.previousEpochParticipation = previousEpochParticipation;
+    this.currentEpochParticipation = currentEpochParticipation;
+    this.statuses = statuses;
+  }
+
+  public UInt64 getCurrentEpoch() {
+    return currentEpoch;
+  }
+
+  public Bytes32 getValidatorsRoot() {
+    return validatorsRoot;
+  }
+
+  public SszList<SszByte> getPreviousEpochParticipation() {
+    return previousEpochParticipation;
+  }
+
+  public SszList<SszByte> getCurrentEpochParticipation() {
+    return currentEpochParticipation;
+  }
+
+  /**
+   * The statuses must not be modified as they may be shared with {@link ValidatorStatuses}
+   * calculated for other states.
+   */
+  public List<ValidatorStatus> getStatuses() {
+    return statuses;
+  }
+}
@@ -15,7 +15,9 @@ package tech.pegasys.teku.spec.logic.common.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
@@ -27,16 +29,42 @@ public class AsyncBatchBLSSignatureVerifier implements BLSSignatureVerifier {
   private final List<List<BLSPublicKey>> publicKeys = new ArrayList<>();
   private final List<Bytes> messages = new ArrayList<>();
   private final List<BLSSignature> signatures = new ArrayList<>();
+  private final List<Bytes32> cacheKeys = new ArrayList<>();
 
   private final AsyncBLSSignatureVerifier delegate;
+  private final Optional<VerifiedSignatureCache> verifiedSignatureCache;
 
   public AsyncBatchBLSSignatureVerifier(final AsyncBLSSignatureVerifier delegate) {
+    this(delegate, Optional.empty());
+  }
+
+  /**
+   * Creates a verifier which skips signatures already recorded in the {@link
+   * VerifiedSignatureCache} and records the signatures if the batch is valid.
+   */
+  public AsyncBatchBLSSignatureVerifier(
+      final AsyncBLSSignatureVerifier delegate,
+      final VerifiedSignatureCache verifiedSignatureCache) {
+    this(delegate, Optional.of(verifiedSignatureCache));
+  }
+
+  private AsyncBatchBLSSignatureVerifier(
+      final AsyncBLSSignatureVerifier delegate,
+      final Optional<VerifiedSignatureCache> verifiedSignatureCache) {
     this.delegate = delegate;
+    this.verifiedSignatureCache = verifiedSignatureCache;
   }
 
   @Override
   public boolean verify(
       final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+    if (verifiedSignatureCache.isPresent()) {
+      final Bytes32 cacheKey = VerifiedSignatureCache.computeKey(publicKeys, message, signature);
+      if (verifiedSignatureCache.get().isVerified(cacheKey)) {
+        return true;
+      }
+      cacheKeys.add(cacheKey);
+    }
     this.publicKeys.add(publicKeys);
     this.messages.add(message);
     this.signatures.add(signature);
@@ -48,6 +76,12 @@ public class AsyncBatchBLSSignatureVerifier implements BLSSignatureVerifier {
       final List<List<BLSPublicKey>> publicKeys,
       final List<Bytes> messages,
       final List<BLSSignature> signatures) {
+    if (verifiedSignatureCache.isPresent()) {
+      for (int i = 0; i < publicKeys.size(); i++) {
+        verify(publicKeys.get(i), messages.get(i), signatures.get(i));
+      }
+      return true;
+    }
     this.publicKeys.addAll(publicKeys);
     this.messages.addAll(messages);
     this.signatures.addAll(signatures);
@@ -55,7 +89,22 @@ public class AsyncBatchBLSSignatureVerifier implements BLSSignatureVerifier {
   }
 
   public SafeFuture<Boolean> batchVerify() {
-    return delegate.verify(publicKeys, messages, signatures);
+    if (verifiedSignatureCache.isEmpty()) {
+      return delegate.verify(publicKeys, messages, signatures);
+    }
+    if (signatures.isEmpty()) {
+      // All signatures were already verified
+      return TRUE;
+    }
+    final VerifiedSignatureCache cache = verifiedSignatureCache.get();
+    return delegate
+        .verify(publicKeys, messages, signatures)
+        .thenPeek(
+            valid -> {
+              if (valid) {
+                cacheKeys.forEach(cache::markVerified);
+              }
+            });
   }
 
   public AsyncBLSSignatureVerifier asAsyncBSLSSignatureVerifier() {
@@ -28,6 +28,7 @@ import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyIndex;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 
@@ -36,14 +37,17 @@ public class ValidatorsUtil {
   private final SpecConfig specConfig;
   private final MiscHelpers miscHelpers;
   private final BeaconStateAccessors beaconStateAccessors;
+  private final ValidatorPublicKeyIndex validatorPublicKeyIndex;
 
   public ValidatorsUtil(
       final SpecConfig specConfig,
       final MiscHelpers miscHelpers,
-      final BeaconStateAccessors beaconStateAccessors) {
+      final BeaconStateAccessors beaconStateAccessors,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     this.specConfig = specConfig;
     this.miscHelpers = miscHelpers;
     this.beaconStateAccessors = beaconStateAccessors;
+    this.validatorPublicKeyIndex = validatorPublicKeyIndex;
   }
 
   /**
@@ -64,7 +68,7 @@ public class ValidatorsUtil {
   public Optional<Integer> getValidatorIndex(BeaconState state, BLSPublicKey publicKey) {
     return BeaconStateCache.getTransitionCaches(state)
         .getValidatorIndexCache()
-        .getValidatorIndex(state, publicKey);
+        .getValidatorIndex(state, publicKey, validatorPublicKeyIndex);
   }
 
   /**
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.util;
+
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.crypto.MessageDigestFactory;
+
+/**
+ * Cache of signatures which have already been successfully verified, owned by the {@link
+ * tech.pegasys.teku.spec.Spec} so it is shared between block import and gossip validation.
+ *
+ * <p>The same signature is commonly checked several times, for example when a block is validated
+ * for gossip and then imported, or when an aggregate attestation is received from multiple
+ * aggregators and later included in a block. Checking the cache avoids repeating the pairing for
+ * these signatures. Only valid signatures are recorded, so a cache miss always falls back to full
+ * verification.
+ *
+ * <p>Entries are keyed by a SHA-256 digest of the signing root, signature and public keys so the
+ * size of each entry doesn't depend on the number of public keys in an aggregate.
+ */
+public class VerifiedSignatureCache {
+  public static final int DEFAULT_MAX_SIZE = 16384;
+
+  private final Set<Bytes32> verifiedSignatures;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public VerifiedSignatureCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  public VerifiedSignatureCache(final int maxSize) {
+    this.verifiedSignatures = LimitedSet.create(maxSize);
+  }
+
+  /** Returns true if the signature has previously been verified for the message and public keys. */
+  public boolean isVerified(
+      final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+    return isVerified(computeKey(publicKeys, message, signature));
+  }
+
+  /** Returns true if the signature identified by a key from {@link #computeKey} was verified. */
+  public boolean isVerified(final Bytes32 key) {
+    if (verifiedSignatures.contains(key)) {
+      hitCount.incrementAndGet();
+      return true;
+    }
+    missCount.incrementAndGet();
+    return false;
+  }
+
+  /** Records that the signature has been successfully verified for the message and public keys. */
+  public void markVerified(
+      final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+    markVerified(computeKey(publicKeys, message, signature));
+  }
+
+  /** Records that the signature identified by a key from {@link #computeKey} was verified. */
+  public void markVerified(final Bytes32 key) {
+    verifiedSignatures.add(key);
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public int size() {
+    return verifiedSignatures.size();
+  }
+
+  public void clear() {
+    verifiedSignatures.clear();
+  }
+
+  /**
+   * Computes the cache key for a signature, allowing callers which check and then mark a signature
+   * to only hash the public keys once.
+   */
+  public static Bytes32 computeKey(
+      final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+    final MessageDigest digest = MessageDigestFactory.createSha256();
+    // Prefix the message length so the key can't be reproduced by shifting bytes between fields
+    Bytes.ofUnsignedInt(message.size()).update(digest);
+    message.update(digest);
+    signature.toBytesCompressed().update(digest);
+    publicKeys.forEach(publicKey -> publicKey.toBytesCompressed().update(digest));
+    return Bytes32.wrap(digest.digest());
+  }
+}
@@ -18,9 +18,11 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyIndex;
 import tech.pegasys.teku.spec.logic.common.AbstractSpecLogic;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingCache;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
 import tech.pegasys.teku.spec.logic.common.statetransition.attestation.AttestationWorthinessChecker;
@@ -30,6 +32,7 @@ import tech.pegasys.teku.spec.logic.common.util.BlockProposalUtil;
 import tech.pegasys.teku.spec.logic.common.util.ForkChoiceUtil;
 import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
 import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.spec.logic.versions.altair.block.BlockProcessorAltair;
 import tech.pegasys.teku.spec.logic.versions.altair.forktransition.AltairStateUpgrade;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
@@ -85,12 +88,16 @@ public class SpecLogicAltair extends AbstractSpecLogic {
   }
 
   public static SpecLogicAltair create(
-      final SpecConfigAltair config, final SchemaDefinitionsAltair schemaDefinitions) {
+      final SpecConfigAltair config,
+      final SchemaDefinitionsAltair schemaDefinitions,
+      final ShufflingCache shufflingCache,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     // Helpers
     final Predicates predicates = new Predicates();
-    final MiscHelpersAltair miscHelpers = new MiscHelpersAltair(config);
+    final MiscHelpersAltair miscHelpers = new MiscHelpersAltair(config, shufflingCache);
     final BeaconStateAccessorsAltair beaconStateAccessors =
-        new BeaconStateAccessorsAltair(config, predicates, miscHelpers);
+        new BeaconStateAccessorsAltair(config, predicates, miscHelpers, validatorPublicKeyIndex);
     final BeaconStateMutatorsAltair beaconStateMutators =
         new BeaconStateMutatorsAltair(config, miscHelpers, beaconStateAccessors);
 
@@ -100,7 +107,7 @@ public class SpecLogicAltair extends AbstractSpecLogic {
 
     // Util
     final ValidatorsUtil validatorsUtil =
-        new ValidatorsUtil(config, miscHelpers, beaconStateAccessors);
+        new ValidatorsUtil(config, miscHelpers, beaconStateAccessors, validatorPublicKeyIndex);
     final BeaconStateUtil beaconStateUtil =
         new BeaconStateUtil(
             config, schemaDefinitions, predicates, miscHelpers, beaconStateAccessors);
@@ -142,7 +149,8 @@ public class SpecLogicAltair extends AbstractSpecLogic {
             beaconStateUtil,
             attestationUtil,
             validatorsUtil,
-            operationValidator);
+            operationValidator,
+            verifiedSignatureCache);
     final ForkChoiceUtil forkChoiceUtil =
         new ForkChoiceUtil(config, beaconStateAccessors, attestationUtil, miscHelpers);
     final BlockProposalUtil blockProposalUtil =
@@ -36,6 +36,7 @@ import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyIndex;
 import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
@@ -48,8 +49,9 @@ public class BeaconStateAccessorsAltair extends BeaconStateAccessors {
   public BeaconStateAccessorsAltair(
       final SpecConfigAltair config,
       final Predicates predicates,
-      final MiscHelpersAltair miscHelpers) {
-    super(config, predicates, miscHelpers);
+      final MiscHelpersAltair miscHelpers,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
+    super(config, predicates, miscHelpers, validatorPublicKeyIndex);
     this.altairConfig = config;
   }
 
@@ -20,6 +20,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.IncentivizationWeights;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingCache;
 
 public class MiscHelpersAltair extends MiscHelpers {
 
@@ -29,8 +30,8 @@ public class MiscHelpersAltair extends MiscHelpers {
           IncentivizationWeights.TIMELY_TARGET_WEIGHT,
           IncentivizationWeights.TIMELY_HEAD_WEIGHT);
 
-  public MiscHelpersAltair(final SpecConfig specConfig) {
-    super(specConfig);
+  public MiscHelpersAltair(final SpecConfig specConfig, final ShufflingCache shufflingCache) {
+    super(specConfig, shufflingCache);
   }
 
   /**
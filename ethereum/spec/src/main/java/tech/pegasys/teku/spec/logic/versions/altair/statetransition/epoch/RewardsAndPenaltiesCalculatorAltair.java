@@ -17,15 +17,13 @@ import static tech.pegasys.teku.spec.constants.IncentivizationWeights.WEIGHT_DEN
 import static tech.pegasys.teku.spec.constants.ParticipationFlags.TIMELY_HEAD_FLAG_INDEX;
 import static tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64Math;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.constants.ParticipationFlags;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
-import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas.RewardAndPenalty;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
@@ -39,7 +37,6 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
   private final BeaconStateAccessorsAltair beaconStateAccessorsAltair;
 
   private final BeaconStateAltair stateAltair;
-  private final Int2ObjectMap<UInt64> baseRewardCache = new Int2ObjectOpenHashMap<>();
 
   public RewardsAndPenaltiesCalculatorAltair(
       final SpecConfigAltair specConfig,
@@ -85,30 +82,44 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
     final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
 
-    final UInt64 effectiveBalanceIncrement = specConfigAltair.getEffectiveBalanceIncrement();
-    final UInt64 unslashedParticipatingIncrements =
-        getPrevEpochTotalParticipatingBalance(flagIndex).dividedBy(effectiveBalanceIncrement);
-    final UInt64 weight = PARTICIPATION_FLAG_WEIGHTS.get(flagIndex);
-    final UInt64 activeIncrements =
-        totalBalances.getCurrentEpochActiveValidators().dividedBy(effectiveBalanceIncrement);
+    // Work with raw unsigned long values to avoid allocating per validator
+    final long effectiveBalanceIncrement =
+        specConfigAltair.getEffectiveBalanceIncrement().longValue();
+    final long unslashedParticipatingIncrements =
+        UInt64Math.dividedBy(
+            getPrevEpochTotalParticipatingBalance(flagIndex).longValue(),
+            effectiveBalanceIncrement);
+    final long weight = PARTICIPATION_FLAG_WEIGHTS.get(flagIndex).longValue();
+    final long activeIncrements =
+        UInt64Math.dividedBy(
+            totalBalances.getCurrentEpochActiveValidators().longValue(),
+            effectiveBalanceIncrement);
+    final long rewardDenominator =
+        UInt64Math.times(activeIncrements, WEIGHT_DENOMINATOR.longValue());
+    final long baseRewardPerIncrement =
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(state).longValue();
+    final boolean isInactivityLeak = isInactivityLeak();
 
     for (int i = 0; i < statusList.size(); i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
         continue;
       }
-      final RewardAndPenalty validatorDeltas = deltas.getDelta(i);
 
-      final UInt64 baseReward = getBaseReward(i);
+      final long baseReward =
+          getBaseReward(validator, effectiveBalanceIncrement, baseRewardPerIncrement);
       if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
-        if (!isInactivityLeak()) {
-          final UInt64 rewardNumerator =
-              baseReward.times(weight).times(unslashedParticipatingIncrements);
-          validatorDeltas.reward(
-              rewardNumerator.dividedBy(activeIncrements.times(WEIGHT_DENOMINATOR)));
+        if (!isInactivityLeak) {
+          final long rewardNumerator =
+              UInt64Math.times(
+                  UInt64Math.times(baseReward, weight), unslashedParticipatingIncrements);
+          deltas.reward(i, UInt64Math.dividedBy(rewardNumerator, rewardDenominator));
         }
       } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
-        validatorDeltas.penalize(baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
+        deltas.penalize(
+            i,
+            UInt64Math.dividedBy(
+                UInt64Math.times(baseReward, weight), WEIGHT_DENOMINATOR.longValue()));
       }
     }
   }
@@ -123,6 +134,8 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
    */
   public void processInactivityPenaltyDeltas(final RewardAndPenaltyDeltas deltas) {
     final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
+    final long penaltyDenominator =
+        specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient()).longValue();
     for (int i = 0; i < statusList.size(); i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
@@ -132,14 +145,11 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
         continue;
       }
 
-      final UInt64 penaltyNumerator =
-          validator
-              .getCurrentEpochEffectiveBalance()
-              .times(stateAltair.getInactivityScores().get(i).get());
-      final UInt64 penaltyDenominator =
-          specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient());
-      final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
-      deltas.getDelta(i).penalize(penalty);
+      final long penaltyNumerator =
+          UInt64Math.times(
+              validator.getCurrentEpochEffectiveBalance().longValue(),
+              stateAltair.getInactivityScores().get(i).get().longValue());
+      deltas.penalize(i, UInt64Math.dividedBy(penaltyNumerator, penaltyDenominator));
     }
   }
 
@@ -181,8 +191,17 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
         && validatorHasPrevEpochParticipationFlag(validatorStatus, flagIndex);
   }
 
-  private UInt64 getBaseReward(final int validatorIndex) {
-    return baseRewardCache.computeIfAbsent(
-        validatorIndex, index -> beaconStateAccessorsAltair.getBaseReward(state, validatorIndex));
+  /**
+   * Equivalent to {@link BeaconStateAccessorsAltair#getBaseReward} but uses the effective balance
+   * already captured in the validator status.
+   */
+  private long getBaseReward(
+      final ValidatorStatus validator,
+      final long effectiveBalanceIncrement,
+      final long baseRewardPerIncrement) {
+    final long increments =
+        UInt64Math.dividedBy(
+            validator.getCurrentEpochEffectiveBalance().longValue(), effectiveBalanceIncrement);
+    return UInt64Math.times(increments, baseRewardPerIncrement);
   }
 }
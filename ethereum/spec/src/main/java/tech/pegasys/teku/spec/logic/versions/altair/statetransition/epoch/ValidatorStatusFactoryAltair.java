@@ -13,9 +13,14 @@
 
 package tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.IntConsumer;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.ParticipationFlags;
@@ -24,6 +29,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.B
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.AbstractValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusesSnapshot;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
@@ -54,33 +60,124 @@ public class ValidatorStatusFactoryAltair extends AbstractValidatorStatusFactory
     final SszList<SszByte> previousParticipation = state.getPreviousEpochParticipation();
     final SszList<SszByte> currentParticipation = state.getCurrentEpochParticipation();
     for (int i = 0; i < statuses.size(); i++) {
-      final ValidatorStatus status = statuses.get(i);
+      applyParticipation(statuses.get(i), previousParticipation, currentParticipation, i);
+    }
+  }
 
-      if (status.isActiveInPreviousEpoch()) {
-        final byte previousParticipationFlags = previousParticipation.get(i).get();
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
-          status.updatePreviousEpochSourceAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
-          status.updatePreviousEpochTargetAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
-          status.updatePreviousEpochHeadAttester(true);
-        }
+  @Override
+  protected Optional<List<ValidatorStatus>> updateValidatorStatuses(
+      final ValidatorStatusesSnapshot snapshot,
+      final BeaconState genericState,
+      final UInt64 previousEpoch,
+      final UInt64 currentEpoch) {
+    final BeaconStateAltair state = BeaconStateAltair.required(genericState);
+    // Validator details only depend on the epoch and the validator registry so if neither has
+    // changed only validators with different participation flags need to be updated
+    if (!snapshot.getCurrentEpoch().equals(currentEpoch)
+        || !snapshot.getValidatorsRoot().equals(state.getValidators().hashTreeRoot())) {
+      return Optional.empty();
+    }
+    final SszList<SszByte> previousParticipation = state.getPreviousEpochParticipation();
+    final SszList<SszByte> currentParticipation = state.getCurrentEpochParticipation();
+    if (previousParticipation.size() != snapshot.getStatuses().size()
+        || currentParticipation.size() != snapshot.getStatuses().size()) {
+      return Optional.empty();
+    }
+    final List<ValidatorStatus> statuses = new ArrayList<>(snapshot.getStatuses());
+    final IntConsumer updateStatus =
+        index ->
+            statuses.set(
+                index,
+                applyParticipation(
+                    statuses.get(index).copyWithoutParticipation(),
+                    previousParticipation,
+                    currentParticipation,
+                    index));
+    forEachChangedIndex(
+        snapshot.getPreviousEpochParticipation(), previousParticipation, updateStatus);
+    forEachChangedIndex(
+        snapshot.getCurrentEpochParticipation(), currentParticipation, updateStatus);
+    return Optional.of(statuses);
+  }
+
+  @Override
+  protected Optional<ValidatorStatusesSnapshot> createSnapshot(
+      final BeaconState genericState,
+      final UInt64 currentEpoch,
+      final List<ValidatorStatus> statuses) {
+    final BeaconStateAltair state = BeaconStateAltair.required(genericState);
+    return Optional.of(
+        new ValidatorStatusesSnapshot(
+            currentEpoch,
+            state.getValidators().hashTreeRoot(),
+            state.getPreviousEpochParticipation(),
+            state.getCurrentEpochParticipation(),
+            statuses));
+  }
+
+  private ValidatorStatus applyParticipation(
+      final ValidatorStatus status,
+      final SszList<SszByte> previousParticipation,
+      final SszList<SszByte> currentParticipation,
+      final int index) {
+    if (status.isActiveInPreviousEpoch()) {
+      final byte previousParticipationFlags = previousParticipation.get(index).get();
+      if (miscHelpersAltair.hasFlag(
+          previousParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
+        status.updatePreviousEpochSourceAttester(true);
       }
+      if (miscHelpersAltair.hasFlag(
+          previousParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
+        status.updatePreviousEpochTargetAttester(true);
+      }
+      if (miscHelpersAltair.hasFlag(
+          previousParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
+        status.updatePreviousEpochHeadAttester(true);
+      }
+    }
 
-      if (status.isActiveInCurrentEpoch()) {
-        final byte currentParticipationFlags = currentParticipation.get(i).get();
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
-          status.updateCurrentEpochSourceAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
-          status.updateCurrentEpochTargetAttester(true);
+    if (status.isActiveInCurrentEpoch()) {
+      final byte currentParticipationFlags = currentParticipation.get(index).get();
+      if (miscHelpersAltair.hasFlag(
+          currentParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
+        status.updateCurrentEpochSourceAttester(true);
+      }
+      if (miscHelpersAltair.hasFlag(
+          currentParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
+        status.updateCurrentEpochTargetAttester(true);
+      }
+    }
+    return status;
+  }
+
+  /**
+   * Calls {@code consumer} with the index of each element that differs between the two lists,
+   * which must be the same size. Chunks backed by the same tree node are skipped without reading
+   * the individual elements, which is the common case as a block only updates the participation
+   * of a small number of validators.
+   */
+  private static void forEachChangedIndex(
+      final SszList<SszByte> before, final SszList<SszByte> after, final IntConsumer consumer) {
+    if (before == after) {
+      return;
+    }
+    final SszListSchema<SszByte, ?> schema = after.getSchema();
+    final TreeNode beforeNode = before.getBackingNode();
+    final TreeNode afterNode = after.getBackingNode();
+    if (beforeNode == afterNode) {
+      return;
+    }
+    final int elementsPerChunk = schema.getElementsPerChunk();
+    final int size = after.size();
+    for (int chunk = 0; chunk * elementsPerChunk < size; chunk++) {
+      final long chunkGIndex = schema.getChildGeneralizedIndex(chunk);
+      if (beforeNode.get(chunkGIndex) == afterNode.get(chunkGIndex)) {
+        continue;
+      }
+      final int end = Math.min(size, (chunk + 1) * elementsPerChunk);
+      for (int i = chunk * elementsPerChunk; i < end; i++) {
+        if (!before.get(i).equals(after.get(i))) {
+          consumer.accept(i);
         }
       }
     }
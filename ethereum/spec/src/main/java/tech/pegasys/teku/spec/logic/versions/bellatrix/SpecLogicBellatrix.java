@@ -18,8 +18,10 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigBellatrix;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyIndex;
 import tech.pegasys.teku.spec.logic.common.AbstractSpecLogic;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingCache;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
 import tech.pegasys.teku.spec.logic.common.statetransition.attestation.AttestationWorthinessChecker;
@@ -29,6 +31,7 @@ import tech.pegasys.teku.spec.logic.common.util.BlockProposalUtil;
 import tech.pegasys.teku.spec.logic.common.util.ForkChoiceUtil;
 import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
 import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.spec.logic.versions.altair.statetransition.attestation.AttestationWorthinessCheckerAltair;
 import tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch.ValidatorStatusFactoryAltair;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.block.BlockProcessorBellatrix;
@@ -88,12 +91,16 @@ public class SpecLogicBellatrix extends AbstractSpecLogic {
   }
 
   public static SpecLogicBellatrix create(
-      final SpecConfigBellatrix config, final SchemaDefinitionsBellatrix schemaDefinitions) {
+      final SpecConfigBellatrix config,
+      final SchemaDefinitionsBellatrix schemaDefinitions,
+      final ShufflingCache shufflingCache,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     // Helpers
     final Predicates predicates = new Predicates();
-    final MiscHelpersBellatrix miscHelpers = new MiscHelpersBellatrix(config);
+    final MiscHelpersBellatrix miscHelpers = new MiscHelpersBellatrix(config, shufflingCache);
     final BeaconStateAccessorsBellatrix beaconStateAccessors =
-        new BeaconStateAccessorsBellatrix(config, predicates, miscHelpers);
+        new BeaconStateAccessorsBellatrix(config, predicates, miscHelpers, validatorPublicKeyIndex);
     final BeaconStateMutatorsBellatrix beaconStateMutators =
         new BeaconStateMutatorsBellatrix(config, miscHelpers, beaconStateAccessors);
 
@@ -103,7 +110,7 @@ public class SpecLogicBellatrix extends AbstractSpecLogic {
 
     // Util
     final ValidatorsUtil validatorsUtil =
-        new ValidatorsUtil(config, miscHelpers, beaconStateAccessors);
+        new ValidatorsUtil(config, miscHelpers, beaconStateAccessors, validatorPublicKeyIndex);
     final BeaconStateUtil beaconStateUtil =
         new BeaconStateUtil(
             config, schemaDefinitions, predicates, miscHelpers, beaconStateAccessors);
@@ -146,7 +153,8 @@ public class SpecLogicBellatrix extends AbstractSpecLogic {
             attestationUtil,
             validatorsUtil,
             operationValidator,
-            schemaDefinitions);
+            schemaDefinitions,
+            verifiedSignatureCache);
     final ForkChoiceUtil forkChoiceUtil =
         new ForkChoiceUtil(config, beaconStateAccessors, attestationUtil, miscHelpers);
     final BlockProposalUtil blockProposalUtil =
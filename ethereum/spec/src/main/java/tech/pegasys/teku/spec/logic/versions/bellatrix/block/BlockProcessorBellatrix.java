@@ -31,6 +31,7 @@ import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
 import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.spec.logic.versions.altair.block.BlockProcessorAltair;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.helpers.BeaconStateAccessorsBellatrix;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.helpers.MiscHelpersBellatrix;
@@ -53,7 +54,8 @@ public class BlockProcessorBellatrix extends BlockProcessorAltair {
       final AttestationUtil attestationUtil,
       final ValidatorsUtil validatorsUtil,
       final OperationValidator operationValidator,
-      final SchemaDefinitionsBellatrix schemaDefinitions) {
+      final SchemaDefinitionsBellatrix schemaDefinitions,
+      final VerifiedSignatureCache verifiedSignatureCache) {
     super(
         specConfig,
         predicates,
@@ -65,7 +67,8 @@ public class BlockProcessorBellatrix extends BlockProcessorAltair {
         beaconStateUtil,
         attestationUtil,
         validatorsUtil,
-        operationValidator);
+        operationValidator,
+        verifiedSignatureCache);
     this.miscHelpersBellatrix = miscHelpers;
     this.schemaDefinitions = schemaDefinitions;
   }
@@ -18,12 +18,13 @@ import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.bellatrix.BeaconBlockBodyBellatrix;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.bellatrix.BeaconStateBellatrix;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingCache;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
 
 public class MiscHelpersBellatrix extends MiscHelpersAltair {
 
-  public MiscHelpersBellatrix(final SpecConfig specConfig) {
-    super(specConfig);
+  public MiscHelpersBellatrix(final SpecConfig specConfig, final ShufflingCache shufflingCache) {
+    super(specConfig, shufflingCache);
   }
 
   @Override
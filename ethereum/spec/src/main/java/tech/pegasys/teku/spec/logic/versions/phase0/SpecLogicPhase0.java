@@ -16,11 +16,13 @@ package tech.pegasys.teku.spec.logic.versions.phase0;
 import java.util.Optional;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyIndex;
 import tech.pegasys.teku.spec.logic.common.AbstractSpecLogic;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingCache;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
 import tech.pegasys.teku.spec.logic.common.statetransition.attestation.AttestationWorthinessChecker;
@@ -30,6 +32,7 @@ import tech.pegasys.teku.spec.logic.common.util.BlockProposalUtil;
 import tech.pegasys.teku.spec.logic.common.util.ForkChoiceUtil;
 import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
 import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.helpers.BellatrixTransitionHelpers;
 import tech.pegasys.teku.spec.logic.versions.phase0.block.BlockProcessorPhase0;
 import tech.pegasys.teku.spec.logic.versions.phase0.helpers.BeaconStateAccessorsPhase0;
@@ -73,12 +76,16 @@ public class SpecLogicPhase0 extends AbstractSpecLogic {
   }
 
   public static SpecLogicPhase0 create(
-      final SpecConfig config, final SchemaDefinitions schemaDefinitions) {
+      final SpecConfig config,
+      final SchemaDefinitions schemaDefinitions,
+      final ShufflingCache shufflingCache,
+      final VerifiedSignatureCache verifiedSignatureCache,
+      final ValidatorPublicKeyIndex validatorPublicKeyIndex) {
     // Helpers
     final Predicates predicates = new Predicates();
-    final MiscHelpers miscHelpers = new MiscHelpers(config);
+    final MiscHelpers miscHelpers = new MiscHelpers(config, shufflingCache);
     final BeaconStateAccessors beaconStateAccessors =
-        new BeaconStateAccessorsPhase0(config, predicates, miscHelpers);
+        new BeaconStateAccessorsPhase0(config, predicates, miscHelpers, validatorPublicKeyIndex);
     final BeaconStateMutators beaconStateMutators =
         new BeaconStateMutators(config, miscHelpers, beaconStateAccessors);
 
@@ -88,7 +95,7 @@ public class SpecLogicPhase0 extends AbstractSpecLogic {
 
     // Util
     final ValidatorsUtil validatorsUtil =
-        new ValidatorsUtil(config, miscHelpers, beaconStateAccessors);
+        new ValidatorsUtil(config, miscHelpers, beaconStateAccessors, validatorPublicKeyIndex);
     final BeaconStateUtil beaconStateUtil =
         new BeaconStateUtil(
             config, schemaDefinitions, predicates, miscHelpers, beaconStateAccessors);
@@ -121,7 +128,8 @@ public class SpecLogicPhase0 extends AbstractSpecLogic {
             beaconStateUtil,
             attestationUtil,
             validatorsUtil,
-            operationValidator);
+            operationValidator,
+            verifiedSignatureCache);
     final ForkChoiceUtil forkChoiceUtil =
         new ForkChoiceUtil(config, beaconStateAccessors, attestationUtil, miscHelpers);
     final BlockProposalUtil blockProposalUtil =
@@ -59,6 +59,7 @@ public class RewardsAndPenaltiesCalculatorPhase0 extends RewardsAndPenaltiesCalc
 
     final UInt64 totalActiveBalanceSquareRoot =
         squareRootOrZero(totalBalances.getCurrentEpochActiveValidators());
+    final RewardAndPenalty delta = deltas.createCursor();
 
     for (int index = 0; index < statuses.size(); index++) {
       final ValidatorStatus validator = statuses.get(index);
@@ -67,8 +68,7 @@ public class RewardsAndPenaltiesCalculatorPhase0 extends RewardsAndPenaltiesCalc
       }
 
       final UInt64 baseReward = getBaseReward(validator, totalActiveBalanceSquareRoot);
-      final RewardAndPenalty delta = deltas.getDelta(index);
-      step.apply(deltas, totalBalances, finalityDelay, validator, baseReward, delta);
+      step.apply(deltas, totalBalances, finalityDelay, validator, baseReward, delta.at(index));
     }
     return deltas;
   }
@@ -149,7 +149,7 @@ public class RewardsAndPenaltiesCalculatorPhase0 extends RewardsAndPenaltiesCalc
       final UInt64 maxAttesterReward = baseReward.minus(proposerReward);
       delta.reward(maxAttesterReward.dividedBy(inclusionInfo.getDelay()));
 
-      deltas.getDelta(inclusionInfo.getProposerIndex()).reward(getProposerReward(baseReward));
+      deltas.reward(inclusionInfo.getProposerIndex(), proposerReward.longValue());
     }
   }
 
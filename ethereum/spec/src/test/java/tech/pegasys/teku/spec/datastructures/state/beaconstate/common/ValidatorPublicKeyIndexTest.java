@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorPublicKeyIndexTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final BeaconState state = dataStructureUtil.randomBeaconState();
+
+  private final ValidatorPublicKeyIndex index = new ValidatorPublicKeyIndex();
+
+  @Test
+  void getPublicKey_shouldReuseInstanceForSameKey() {
+    final BLSPublicKey first = index.getPublicKey(state, 3);
+    final BLSPublicKey second = index.getPublicKey(state, 3);
+
+    assertThat(first.toBytesCompressed()).isEqualTo(state.getValidators().get(3).getPubkeyBytes());
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void getValidatorIndex_shouldReturnIndexOfRecordedKey() {
+    final BLSPublicKey publicKey = index.getPublicKey(state, 5);
+
+    assertThat(index.getValidatorIndex(state, publicKey)).contains(5);
+  }
+
+  @Test
+  void getValidatorIndex_shouldBeEmptyForUnknownKey() {
+    assertThat(index.getValidatorIndex(state, dataStructureUtil.randomPublicKey())).isEmpty();
+  }
+
+  @Test
+  void getValidatorIndex_shouldBeEmptyWhenStateHasDifferentKeyAtIndex() {
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    index.recordPublicKey(publicKey, 2);
+
+    assertThat(index.getValidatorIndex(state, publicKey)).isEmpty();
+  }
+
+  @Test
+  void getValidatorIndex_shouldBeEmptyWhenIndexBeyondStateValidators() {
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    index.recordPublicKey(publicKey, state.getValidators().size());
+
+    assertThat(index.getValidatorIndex(state, publicKey)).isEmpty();
+  }
+
+  @Test
+  void recordPublicKey_shouldReplaceKeyPreviouslyRecordedAtIndex() {
+    final BLSPublicKey originalKey = dataStructureUtil.randomPublicKey();
+    index.recordPublicKey(originalKey, 2);
+    final BLSPublicKey stateKey = index.getPublicKey(state, 2);
+
+    assertThat(stateKey).isNotEqualTo(originalKey);
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.getValidatorIndex(state, stateKey)).contains(2);
+  }
+
+  @Test
+  void recordPublicKey_shouldNotGrowBeyondLargestValidatorIndex() {
+    for (int i = 0; i < 3; i++) {
+      index.recordPublicKey(dataStructureUtil.randomPublicKey(), 0);
+      index.recordPublicKey(dataStructureUtil.randomPublicKey(), 1);
+    }
+
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  void validatorIndexCache_shouldUseSharedIndexWithoutScanningState() {
+    final BLSPublicKey publicKey = index.getPublicKey(state, 7);
+    final ValidatorIndexCache validatorIndexCache = new ValidatorIndexCache();
+
+    assertThat(validatorIndexCache.getValidatorIndex(state, publicKey, index)).contains(7);
+    assertThat(validatorIndexCache.getLastIndex()).isEqualTo(-1);
+  }
+
+  @Test
+  void validatorIndexCache_shouldPopulateSharedIndexWhenScanning() {
+    final ValidatorIndexCache validatorIndexCache = new ValidatorIndexCache();
+    validatorIndexCache.getValidatorIndex(state, dataStructureUtil.randomPublicKey(), index);
+
+    assertThat(index.size()).isEqualTo(state.getValidators().size());
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class ShufflingCacheTest {
+  private static final UInt64 EPOCH = UInt64.valueOf(10);
+
+  private final ShufflingCache cache = new ShufflingCache(2);
+  private final AtomicInteger shuffleCount = new AtomicInteger();
+
+  private final Bytes32 seed = Bytes32.fromHexStringLenient("0x1234");
+
+  @Test
+  void shouldOnlyCalculateShufflingOnce() {
+    final IntList first = cache.getShuffling(EPOCH, seed, shuffle());
+    final IntList second = cache.getShuffling(EPOCH, seed.copy(), shuffle());
+
+    assertThat(second).isSameAs(first);
+    assertThat(shuffleCount).hasValue(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCalculateShufflingForDifferentSeedInSameEpoch() {
+    cache.getShuffling(EPOCH, seed, shuffle());
+    cache.getShuffling(EPOCH, Bytes32.ZERO, shuffle());
+
+    assertThat(shuffleCount).hasValue(2);
+  }
+
+  @Test
+  void shouldCalculateShufflingForDifferentEpochWithSameSeed() {
+    cache.getShuffling(EPOCH, seed, shuffle());
+    cache.getShuffling(EPOCH.increment(), seed, shuffle());
+
+    assertThat(shuffleCount).hasValue(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    cache.getShuffling(EPOCH, seed, shuffle());
+    cache.getShuffling(EPOCH, Bytes32.ZERO, shuffle());
+    cache.getShuffling(EPOCH, Bytes32.fromHexStringLenient("0x01"), shuffle());
+    assertThat(cache.size()).isEqualTo(2);
+
+    cache.getShuffling(EPOCH, seed, shuffle());
+    assertThat(shuffleCount).hasValue(4);
+  }
+
+  private Supplier<IntList> shuffle() {
+    return () -> {
+      shuffleCount.incrementAndGet();
+      return IntList.of(4, 3, 2, 1, 0);
+    };
+  }
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -27,15 +28,18 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 
 public class BatchSignatureVerifierTest {
 
   @Test
   public void shouldRaiseExceptionIfNoValidPublicKeys() {
-    BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    BatchSignatureVerifier verifier = new BatchSignatureVerifier(new VerifiedSignatureCache(10));
 
     verifier.verify(
         List.of(BLSPublicKey.empty()),
@@ -47,7 +51,7 @@ public class BatchSignatureVerifierTest {
 
   @Test
   public void shouldRaiseExceptionIfNoSuppliedPublicKeys() {
-    BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    BatchSignatureVerifier verifier = new BatchSignatureVerifier(new VerifiedSignatureCache(10));
 
     assertThatThrownBy(
             () ->
@@ -60,7 +64,7 @@ public class BatchSignatureVerifierTest {
 
   @Test
   public void testParallel() throws Exception {
-    BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    BatchSignatureVerifier verifier = new BatchSignatureVerifier(new VerifiedSignatureCache(10));
 
     BLSPublicKey publicKey = BLSTestUtil.randomPublicKey(42);
     Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
@@ -97,7 +101,95 @@ public class BatchSignatureVerifierTest {
 
   @Test
   void shouldBeValidWhenNothingVerified() {
-    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    final BatchSignatureVerifier verifier =
+        new BatchSignatureVerifier(new VerifiedSignatureCache(10));
     assertThat(verifier.batchVerify()).isTrue();
   }
+
+  @Test
+  void batchVerify_shouldBeValidWhenAllVerifiersValid() {
+    final List<BatchSignatureVerifier> verifiers =
+        List.of(createVerifier(true), createVerifier(true), createVerifier(true));
+    assertThat(BatchSignatureVerifier.batchVerify(verifiers)).isEmpty();
+  }
+
+  @Test
+  void batchVerify_shouldFindFirstInvalidVerifier() {
+    final List<BatchSignatureVerifier> verifiers =
+        List.of(
+            createVerifier(true),
+            createVerifier(true),
+            createVerifier(false),
+            createVerifier(true),
+            createVerifier(false));
+    assertThat(BatchSignatureVerifier.batchVerify(verifiers)).isEqualTo(OptionalInt.of(2));
+  }
+
+  @Test
+  void batchVerify_shouldNotAllowReuseOfVerifiers() {
+    final BatchSignatureVerifier verifier = createVerifier(true);
+    BatchSignatureVerifier.batchVerify(List.of(verifier));
+    assertThatThrownBy(verifier::batchVerify).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldNotVerifySignaturesAgainOnceVerified() {
+    final VerifiedSignatureCache cache = new VerifiedSignatureCache(10);
+    final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(1);
+    final Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    final BLSSignature signature = BLS.sign(keyPair.getSecretKey(), message);
+
+    final BatchSignatureVerifier verifier1 = new BatchSignatureVerifier(cache);
+    verifier1.verify(keyPair.getPublicKey(), message, signature);
+    assertThat(verifier1.toVerify).hasSize(1);
+    assertThat(verifier1.batchVerify()).isTrue();
+
+    final BatchSignatureVerifier verifier2 = new BatchSignatureVerifier(cache);
+    verifier2.verify(keyPair.getPublicKey(), message, signature);
+    assertThat(verifier2.toVerify).isEmpty();
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCacheInvalidSignatures() {
+    final VerifiedSignatureCache cache = new VerifiedSignatureCache(10);
+    final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(1);
+    final Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier(cache);
+    verifier.verify(keyPair.getPublicKey(), message, BLSTestUtil.randomSignature(7));
+    assertThat(verifier.batchVerify()).isFalse();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void batchVerify_shouldCacheSignaturesFromValidVerifiers() {
+    final VerifiedSignatureCache cache = new VerifiedSignatureCache(10);
+    final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(1);
+    final Bytes message1 = Bytes.wrap("Hello".getBytes(UTF_8));
+    final Bytes message2 = Bytes.wrap("world".getBytes(UTF_8));
+    final BatchSignatureVerifier validVerifier = new BatchSignatureVerifier(cache);
+    validVerifier.verify(
+        keyPair.getPublicKey(), message1, BLS.sign(keyPair.getSecretKey(), message1));
+    final BatchSignatureVerifier invalidVerifier = new BatchSignatureVerifier(cache);
+    invalidVerifier.verify(keyPair.getPublicKey(), message2, BLSTestUtil.randomSignature(7));
+
+    assertThat(BatchSignatureVerifier.batchVerify(List.of(validVerifier, invalidVerifier)))
+        .isEqualTo(OptionalInt.of(1));
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  private BatchSignatureVerifier createVerifier(final boolean valid) {
+    final BatchSignatureVerifier verifier =
+        new BatchSignatureVerifier(new VerifiedSignatureCache(10));
+    final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(1);
+    final Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    verifier.verify(keyPair.getPublicKey(), message, BLS.sign(keyPair.getSecretKey(), message));
+    verifier.verify(
+        keyPair.getPublicKey(),
+        message,
+        valid ? BLS.sign(keyPair.getSecretKey(), message) : BLSTestUtil.randomSignature(7));
+    return verifier;
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
+
+class VerifiedSignatureCacheTest {
+  private final VerifiedSignatureCache cache = new VerifiedSignatureCache(2);
+
+  private final List<BLSPublicKey> publicKeys = List.of(BLSTestUtil.randomPublicKey(1));
+  private final Bytes message = Bytes.fromHexString("0x1234");
+  private final BLSSignature signature = BLSTestUtil.randomSignature(1);
+
+  @Test
+  void shouldReportVerifiedSignatures() {
+    assertThat(cache.isVerified(publicKeys, message, signature)).isFalse();
+    cache.markVerified(publicKeys, message, signature);
+    assertThat(cache.isVerified(publicKeys, message, signature)).isTrue();
+
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotReportSignatureVerifiedForDifferentPublicKeys() {
+    cache.markVerified(publicKeys, message, signature);
+
+    assertThat(cache.isVerified(List.of(BLSTestUtil.randomPublicKey(2)), message, signature))
+        .isFalse();
+    assertThat(
+            cache.isVerified(
+                List.of(publicKeys.get(0), BLSTestUtil.randomPublicKey(2)), message, signature))
+        .isFalse();
+  }
+
+  @Test
+  void shouldNotReportSignatureVerifiedForDifferentMessage() {
+    cache.markVerified(publicKeys, message, signature);
+
+    assertThat(cache.isVerified(publicKeys, Bytes.fromHexString("0x5678"), signature)).isFalse();
+  }
+
+  @Test
+  void shouldNotReportSignatureVerifiedForDifferentSignature() {
+    cache.markVerified(publicKeys, message, signature);
+
+    assertThat(cache.isVerified(publicKeys, message, BLSTestUtil.randomSignature(2))).isFalse();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    cache.markVerified(publicKeys, message, signature);
+    cache.markVerified(publicKeys, Bytes.fromHexString("0x01"), signature);
+    cache.markVerified(publicKeys, Bytes.fromHexString("0x02"), signature);
+    assertThat(cache.size()).isEqualTo(2);
+
+    assertThat(cache.isVerified(publicKeys, message, signature)).isFalse();
+  }
+}
@@ -20,7 +20,11 @@ import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 public class EpochProcessorAltairTest {
@@ -50,6 +54,37 @@ public class EpochProcessorAltairTest {
     }
   }
 
+  @Test
+  public void getRewardAndPenaltyDeltas_shouldUseCurrentEffectiveBalancesWhenStatusesAreReused() {
+    final ValidatorStatusFactory statusFactory = spec.getGenesisSpec().getValidatorStatusFactory();
+    final BeaconStateAltair state = generateRandomState();
+    // Caches a snapshot which later states in the same epoch may update incrementally
+    statusFactory.createValidatorStatuses(state);
+
+    final BeaconStateAltair updatedState =
+        state.updatedAltair(
+            mutableState -> {
+              final Validator validator = mutableState.getValidators().get(1);
+              mutableState
+                  .getValidators()
+                  .set(
+                      1,
+                      validator.withEffective_balance(
+                          validator
+                              .getEffective_balance()
+                              .plus(spec.getGenesisSpecConfig().getEffectiveBalanceIncrement())));
+            });
+    final BeaconState uncachedState = spec.deserializeBeaconState(updatedState.sszSerialize());
+
+    final ValidatorStatuses statuses = statusFactory.createValidatorStatuses(updatedState);
+    assertThat(statuses.getStatuses().get(1).getCurrentEpochEffectiveBalance())
+        .isEqualTo(updatedState.getValidators().get(1).getEffective_balance());
+    assertThat(epochProcessor.getRewardAndPenaltyDeltas(updatedState, statuses))
+        .isEqualTo(
+            epochProcessor.getRewardAndPenaltyDeltas(
+                uncachedState, statusFactory.createValidatorStatuses(uncachedState)));
+  }
+
   private BeaconStateAltair generateRandomState() {
     return dataStructureUtil.stateBuilderAltair().build();
   }
@@ -13,14 +13,29 @@
 
 package tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.AbstractValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.AbstractValidatorStatusFactoryTest;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 class ValidatorStatusFactoryAltairTest extends AbstractValidatorStatusFactoryTest {
 
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
   @Override
   protected AbstractValidatorStatusFactory createFactory() {
     final SpecVersion genesisSpec = spec.getGenesisSpec();
@@ -31,4 +46,66 @@ class ValidatorStatusFactoryAltairTest extends AbstractValidatorStatusFactoryTes
   protected Spec createSpec() {
     return TestSpecFactory.createMinimalAltair();
   }
+
+  @Test
+  void createValidatorStatuses_shouldUpdateStatusesIncrementallyWhenParticipationChanges() {
+    final ValidatorStatusFactoryAltair factory = (ValidatorStatusFactoryAltair) createFactory();
+    final BeaconStateAltair state =
+        BeaconStateAltair.required(dataStructureUtil.randomBeaconState(64));
+    final ValidatorStatuses originalStatuses = factory.createValidatorStatuses(state);
+    assertThat(BeaconStateCache.getTransitionCaches(state).getLatestValidatorStatuses())
+        .isPresent();
+
+    final BeaconStateAltair updatedState =
+        state.updatedAltair(
+            mutableState -> {
+              mutableState.getPreviousEpochParticipation().set(3, SszByte.of(0b111));
+              mutableState.getCurrentEpochParticipation().set(3, SszByte.of(0));
+              mutableState.getCurrentEpochParticipation().set(40, SszByte.of(0b011));
+            });
+    assertThat(BeaconStateCache.getTransitionCaches(updatedState).getLatestValidatorStatuses())
+        .isPresent();
+
+    final ValidatorStatuses updatedStatuses = factory.createValidatorStatuses(updatedState);
+    final List<ValidatorStatus> expectedStatuses = createStatusesFromScratch(factory, updatedState);
+    assertThat(updatedStatuses.getStatuses())
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyElementsOf(expectedStatuses);
+
+    // Validators with unchanged participation should reuse the existing status
+    assertThat(updatedStatuses.getStatuses().get(0))
+        .isSameAs(originalStatuses.getStatuses().get(0));
+  }
+
+  @Test
+  void createValidatorStatuses_shouldNotReuseStatusesFromDifferentEpoch() {
+    final ValidatorStatusFactoryAltair factory = (ValidatorStatusFactoryAltair) createFactory();
+    final BeaconStateAltair state =
+        BeaconStateAltair.required(dataStructureUtil.randomBeaconState(64));
+    final ValidatorStatuses originalStatuses = factory.createValidatorStatuses(state);
+
+    final UInt64 nextEpochSlot =
+        spec.computeStartSlotAtEpoch(spec.computeEpochAtSlot(state.getSlot()).plus(1));
+    final BeaconState updatedState =
+        state.updated(mutableState -> mutableState.setSlot(nextEpochSlot));
+
+    final ValidatorStatuses updatedStatuses = factory.createValidatorStatuses(updatedState);
+    assertThat(updatedStatuses.getStatuses().get(0))
+        .isNotSameAs(originalStatuses.getStatuses().get(0));
+    assertThat(updatedStatuses.getStatuses())
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyElementsOf(createStatusesFromScratch(factory, updatedState));
+  }
+
+  private List<ValidatorStatus> createStatusesFromScratch(
+      final ValidatorStatusFactoryAltair factory, final BeaconState state) {
+    final UInt64 currentEpoch = spec.getCurrentEpoch(state);
+    final UInt64 previousEpoch = spec.getPreviousEpoch(state);
+    final List<ValidatorStatus> statuses =
+        state.getValidators().stream()
+            .map(validator -> factory.createValidatorStatus(validator, previousEpoch, currentEpoch))
+            .collect(Collectors.toList());
+    factory.processParticipation(statuses, state, previousEpoch, currentEpoch);
+    return statuses;
+  }
 }
@@ -93,7 +93,11 @@ class AttestationManagerIntegrationTest {
           attestationPool,
           attestationValidator,
           new AggregateAttestationValidator(
-              spec, recentChainData, attestationValidator, signatureVerificationService),
+              spec,
+              recentChainData,
+              attestationValidator,
+              signatureVerificationService,
+              spec.getVerifiedSignatureCache()),
           signatureVerificationService,
           activeValidatorChannel);
 
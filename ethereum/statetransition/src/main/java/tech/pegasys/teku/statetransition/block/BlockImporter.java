@@ -13,10 +13,15 @@
 
 package tech.pegasys.teku.statetransition.block;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.annotation.CheckReturnValue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,6 +42,8 @@ import tech.pegasys.teku.spec.datastructures.state.CheckpointState;
 import tech.pegasys.teku.spec.executionengine.ExecutionEngineChannel;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
+import tech.pegasys.teku.statetransition.forkchoice.PreparedBlock;
+import tech.pegasys.teku.statetransition.forkchoice.PreparedBlocks;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.weaksubjectivity.WeakSubjectivityValidator;
 
@@ -78,6 +85,99 @@ public class BlockImporter {
 
   @CheckReturnValue
   public SafeFuture<BlockImportResult> importBlock(SignedBeaconBlock block) {
+    return importBlock(block, () -> forkChoice.onBlock(block, executionEngine));
+  }
+
+  /**
+   * Import a chain of blocks, where each block is the child of the previous one. The signatures
+   * from all blocks are verified in a single batch before any block is imported.
+   *
+   * <p>Blocks are imported in order until the first failure.
+   *
+   * @param blocks the blocks to import
+   * @return the result of importing the last block, or of the first block that failed to import
+   */
+  @CheckReturnValue
+  public SafeFuture<BlockImportResult> importBlocks(final List<SignedBeaconBlock> blocks) {
+    checkArgument(!blocks.isEmpty(), "No blocks to import");
+    final List<SignedBeaconBlock> unknownBlocks =
+        blocks.stream()
+            .dropWhile(block -> recentChainData.containsBlock(block.getRoot()))
+            .collect(Collectors.toList());
+    if (unknownBlocks.isEmpty()) {
+      return importBlock(blocks.get(blocks.size() - 1));
+    }
+    return forkChoice
+        .prepareBlocks(unknownBlocks)
+        .thenCompose(this::importPreparedBlocks)
+        .exceptionally(
+            (e) -> {
+              LOG.error(
+                  "Internal error while importing blocks from {}",
+                  formatBlock(unknownBlocks.get(0)),
+                  e);
+              return BlockImportResult.internalError(e);
+            });
+  }
+
+  /**
+   * Applies the state transition for a chain of blocks without verifying signatures or importing
+   * them.
+   *
+   * @see ForkChoice#applyStateTransitions(List, Optional)
+   */
+  public SafeFuture<PreparedBlocks> applyStateTransitions(
+      final List<SignedBeaconBlock> blocks, final Optional<PreparedBlock> parent) {
+    return forkChoice.applyStateTransitions(blocks, parent);
+  }
+
+  /**
+   * Verifies the signatures from a chain of prepared blocks in a single batch.
+   *
+   * @see ForkChoice#verifySignatures(PreparedBlocks)
+   */
+  public PreparedBlocks verifySignatures(final PreparedBlocks preparedBlocks) {
+    return forkChoice.verifySignatures(preparedBlocks);
+  }
+
+  /**
+   * Import blocks that have had their state transition applied and signatures verified, in order,
+   * until the first failure.
+   *
+   * @param preparedBlocks the blocks to import
+   * @return the result of importing the last block, or of the first failure
+   */
+  @CheckReturnValue
+  public SafeFuture<BlockImportResult> importPreparedBlocks(final PreparedBlocks preparedBlocks) {
+    checkArgument(
+        !preparedBlocks.getBlocks().isEmpty() || preparedBlocks.getFailureResult().isPresent(),
+        "No blocks to import");
+    SafeFuture<Optional<BlockImportResult>> result = SafeFuture.completedFuture(Optional.empty());
+    for (PreparedBlock preparedBlock : preparedBlocks.getBlocks()) {
+      result =
+          result.thenCompose(
+              previousResult -> {
+                if (previousResult.filter(r -> !r.isSuccessful()).isPresent()) {
+                  return SafeFuture.completedFuture(previousResult);
+                }
+                final SignedBeaconBlock block = preparedBlock.getBlock();
+                return importBlock(
+                        block, () -> forkChoice.onPreparedBlock(preparedBlock, executionEngine))
+                    .thenApply(Optional::of);
+              });
+    }
+    return result.thenApply(
+        lastResult ->
+            lastResult
+                .filter(r -> !r.isSuccessful())
+                .or(preparedBlocks::getFailureResult)
+                .or(() -> lastResult)
+                .orElseThrow());
+  }
+
+  private SafeFuture<BlockImportResult> importBlock(
+      final SignedBeaconBlock block,
+      final Supplier<SafeFuture<BlockImportResult>> forkChoiceImport) {
     final Optional<Boolean> knownOptimistic = recentChainData.isBlockOptimistic(block.getRoot());
     if (knownOptimistic.isPresent()) {
       LOG.trace(
@@ -92,7 +192,7 @@ public class BlockImporter {
     }
 
     return validateWeakSubjectivityPeriod()
-        .thenCompose(__ -> forkChoice.onBlock(block, executionEngine))
+        .thenCompose(__ -> forkChoiceImport.get())
         .thenApply(
             result -> {
               if (!result.isSuccessful()) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import java.util.Optional;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadHeader;
+import tech.pegasys.teku.spec.logic.versions.bellatrix.block.OptimisticExecutionPayloadExecutor;
+
+/**
+ * Records the execution payload from a block so it can be executed once the block's parent has
+ * been imported.
+ */
+class DeferredPayloadExecutor implements OptimisticExecutionPayloadExecutor {
+  private Optional<ExecutionPayloadHeader> latestExecutionPayloadHeader = Optional.empty();
+  private Optional<ExecutionPayload> executionPayload = Optional.empty();
+
+  @Override
+  public boolean optimisticallyExecute(
+      final ExecutionPayloadHeader latestExecutionPayloadHeader,
+      final ExecutionPayload executionPayload) {
+    this.latestExecutionPayloadHeader = Optional.of(latestExecutionPayloadHeader);
+    this.executionPayload = Optional.of(executionPayload);
+    return true;
+  }
+
+  void executeWith(final OptimisticExecutionPayloadExecutor payloadExecutor) {
+    executionPayload.ifPresent(
+        payload ->
+            payloadExecutor.optimisticallyExecute(
+                latestExecutionPayloadHeader.orElseThrow(), payload));
+  }
+}
@@ -19,11 +19,18 @@ import static tech.pegasys.teku.spec.constants.NetworkConstants.INTERVALS_PER_SL
 import static tech.pegasys.teku.statetransition.forkchoice.StateRootCollector.addParentStateRoots;
 
 import com.google.common.base.Throwables;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.forkchoice.ForkChoiceStrategy;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingRunnable;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
@@ -31,6 +38,9 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.exceptions.FatalServiceFailureException;
+import tech.pegasys.teku.infrastructure.logging.LogFormatter;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -50,6 +60,9 @@ import tech.pegasys.teku.spec.executionengine.ExecutionEngineChannel;
 import tech.pegasys.teku.spec.executionengine.ExecutionPayloadStatus;
 import tech.pegasys.teku.spec.executionengine.ForkChoiceState;
 import tech.pegasys.teku.spec.executionengine.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
@@ -67,6 +80,7 @@ public class ForkChoice {
   private final ForkChoiceNotifier forkChoiceNotifier;
   private final MergeTransitionBlockValidator transitionBlockValidator;
   private final boolean proposerBoostEnabled;
+  private final MetricsHistogram processHeadTimeHistogram;
 
   private final Subscribers<OptimisticHeadSubscriber> optimisticSyncSubscribers =
       Subscribers.create(true);
@@ -78,16 +92,41 @@ public class ForkChoice {
       final RecentChainData recentChainData,
       final ForkChoiceNotifier forkChoiceNotifier,
       final MergeTransitionBlockValidator transitionBlockValidator,
-      final boolean proposerBoostEnabled) {
+      final boolean proposerBoostEnabled,
+      final MetricsSystem metricsSystem) {
     this.spec = spec;
     this.forkChoiceExecutor = forkChoiceExecutor;
     this.recentChainData = recentChainData;
     this.forkChoiceNotifier = forkChoiceNotifier;
     this.transitionBlockValidator = transitionBlockValidator;
     this.proposerBoostEnabled = proposerBoostEnabled;
+    this.processHeadTimeHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.BEACON,
+            metricsSystem,
+            "fork_choice_process_head_time_ms",
+            "Histogram of the time taken to apply pending votes and update the chain head",
+            3);
     recentChainData.subscribeStoreInitialized(this::initializeProtoArrayForkChoice);
   }
 
+  public ForkChoice(
+      final Spec spec,
+      final EventThread forkChoiceExecutor,
+      final RecentChainData recentChainData,
+      final ForkChoiceNotifier forkChoiceNotifier,
+      final MergeTransitionBlockValidator transitionBlockValidator,
+      final boolean proposerBoostEnabled) {
+    this(
+        spec,
+        forkChoiceExecutor,
+        recentChainData,
+        forkChoiceNotifier,
+        transitionBlockValidator,
+        proposerBoostEnabled,
+        new NoOpMetricsSystem());
+  }
+
   /**
    * @deprecated Provided only to avoid having to hard code proposerBoostEnabled in lots of tests.
    *     Will be removed when the feature toggle is removed.
@@ -142,33 +181,40 @@ public class ForkChoice {
                             justifiedCheckpoint.getRoot());
                         return false;
                       }
-                      final VoteUpdater transaction = recentChainData.startVoteUpdate();
-                      final ReadOnlyForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
                       final BeaconState justifiedState = justifiedCheckpointState.orElseThrow();
                       final List<UInt64> justifiedEffectiveBalances =
                           spec.getBeaconStateUtil(justifiedState.getSlot())
                               .getEffectiveBalances(justifiedState);
 
-                      Bytes32 headBlockRoot =
-                          transaction.applyForkChoiceScoreChanges(
-                              finalizedCheckpoint,
-                              justifiedCheckpoint,
-                              justifiedEffectiveBalances,
-                              recentChainData.getStore().getProposerBoostRoot(),
-                              spec.getProposerBoostAmount(justifiedState));
-
-                      recentChainData.updateHead(
-                          headBlockRoot,
-                          nodeSlot.orElse(
-                              forkChoiceStrategy
-                                  .blockSlot(headBlockRoot)
-                                  .orElseThrow(
-                                      () ->
-                                          new IllegalStateException(
-                                              "Unable to retrieve the slot of fork choice head: "
-                                                  + headBlockRoot))));
-
-                      transaction.commit();
+                      final long startTimeNanos = System.nanoTime();
+                      try {
+                        final VoteUpdater transaction = recentChainData.startVoteUpdate();
+                        final ReadOnlyForkChoiceStrategy forkChoiceStrategy =
+                            getForkChoiceStrategy();
+                        Bytes32 headBlockRoot =
+                            transaction.applyForkChoiceScoreChanges(
+                                finalizedCheckpoint,
+                                justifiedCheckpoint,
+                                justifiedEffectiveBalances,
+                                recentChainData.getStore().getProposerBoostRoot(),
+                                spec.getProposerBoostAmount(justifiedState));
+
+                        recentChainData.updateHead(
+                            headBlockRoot,
+                            nodeSlot.orElse(
+                                forkChoiceStrategy
+                                    .blockSlot(headBlockRoot)
+                                    .orElseThrow(
+                                        () ->
+                                            new IllegalStateException(
+                                                "Unable to retrieve the slot of fork choice head: "
+                                                    + headBlockRoot))));
+
+                        transaction.commit();
+                      } finally {
+                        processHeadTimeHistogram.recordValue(
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos));
+                      }
                       notifyForkChoiceUpdatedAndOptimisticSyncingChanged();
                       return true;
                     }));
@@ -239,6 +285,162 @@ public class ForkChoice {
             forkChoiceExecutor);
   }
 
+  /**
+   * Applies the state transition for a chain of blocks, where each block is the child of the
+   * previous one, without importing them. Signature verification is deferred so that the
+   * signatures from every block are verified in a single batch.
+   *
+   * <p>The prepared blocks must then be imported in order with {@link
+   * #onPreparedBlock(PreparedBlock, ExecutionEngineChannel)}.
+   */
+  public SafeFuture<PreparedBlocks> prepareBlocks(final List<SignedBeaconBlock> blocks) {
+    return applyStateTransitions(blocks, Optional.empty()).thenApply(this::verifySignatures);
+  }
+
+  /**
+   * Applies the state transition for a chain of blocks, where each block is the child of the
+   * previous one, without verifying their signatures or importing them. The signatures must be
+   * verified with {@link #verifySignatures(PreparedBlocks)} before the blocks can be imported.
+   *
+   * @param blocks the blocks to apply
+   * @param parent the prepared parent of the first block or empty to load its state from the store
+   * @return the blocks with state transitions applied up to the first invalid block
+   */
+  public SafeFuture<PreparedBlocks> applyStateTransitions(
+      final List<SignedBeaconBlock> blocks, final Optional<PreparedBlock> parent) {
+    checkArgument(!blocks.isEmpty(), "No blocks to prepare");
+    if (parent.isPresent()) {
+      return SafeFuture.of(() -> applyStateTransitions(blocks, parent, Optional.empty()));
+    }
+    final SignedBeaconBlock firstBlock = blocks.get(0);
+    return recentChainData
+        .retrieveStateAtSlot(new SlotAndBlockRoot(firstBlock.getSlot(), firstBlock.getParentRoot()))
+        .thenApply(
+            firstBlockSlotState -> {
+              if (firstBlockSlotState.isEmpty()) {
+                return new PreparedBlocks(
+                    Collections.emptyList(), Optional.of(BlockImportResult.FAILED_UNKNOWN_PARENT));
+              }
+              return applyStateTransitions(blocks, Optional.empty(), firstBlockSlotState);
+            });
+  }
+
+  private PreparedBlocks applyStateTransitions(
+      final List<SignedBeaconBlock> blocks,
+      final Optional<PreparedBlock> parent,
+      final Optional<BeaconState> firstBlockSlotState) {
+    final List<PreparedBlock> preparedBlocks = new ArrayList<>();
+    Optional<PreparedBlock> previousBlock = parent;
+    for (SignedBeaconBlock block : blocks) {
+      final BatchSignatureVerifier signatureVerifier =
+          new BatchSignatureVerifier(spec.getVerifiedSignatureCache());
+      final CapturingIndexedAttestationCache indexedAttestationCache =
+          IndexedAttestationCache.capturing();
+      final DeferredPayloadExecutor payloadExecutor = new DeferredPayloadExecutor();
+      try {
+        final BeaconState blockSlotState;
+        if (previousBlock.isEmpty()) {
+          blockSlotState = firstBlockSlotState.orElseThrow();
+        } else {
+          final SignedBeaconBlock parentBlock = previousBlock.get().getBlock();
+          if (!parentBlock.getRoot().equals(block.getParentRoot())
+              || !block.getSlot().isGreaterThan(parentBlock.getSlot())) {
+            return new PreparedBlocks(
+                preparedBlocks, Optional.of(BlockImportResult.FAILED_UNKNOWN_PARENT));
+          }
+          blockSlotState = spec.processSlots(previousBlock.get().getPostState(), block.getSlot());
+        }
+        final BeaconState postState =
+            spec.getBlockProcessor(block.getSlot())
+                .processAndValidateBlock(
+                    block,
+                    blockSlotState,
+                    indexedAttestationCache,
+                    signatureVerifier,
+                    payloadExecutor);
+        final PreparedBlock preparedBlock =
+            new PreparedBlock(
+                block,
+                blockSlotState,
+                postState,
+                indexedAttestationCache,
+                payloadExecutor,
+                signatureVerifier);
+        preparedBlocks.add(preparedBlock);
+        previousBlock = Optional.of(preparedBlock);
+      } catch (final StateTransitionException
+          | SlotProcessingException
+          | EpochProcessingException e) {
+        final BlockImportResult result = BlockImportResult.failedStateTransition(e);
+        reportInvalidBlock(block, result);
+        return new PreparedBlocks(preparedBlocks, Optional.of(result));
+      }
+    }
+    return new PreparedBlocks(preparedBlocks, Optional.empty());
+  }
+
+  /**
+   * Verifies the signatures collected while applying the state transition for each block in a
+   * single batch. If verification fails, only the blocks before the first block with an invalid
+   * signature are returned.
+   */
+  public PreparedBlocks verifySignatures(final PreparedBlocks preparedBlocks) {
+    final List<PreparedBlock> blocks = preparedBlocks.getBlocks();
+    final OptionalInt invalidBlockIndex =
+        BatchSignatureVerifier.batchVerify(
+            blocks.stream().map(PreparedBlock::getSignatureVerifier).collect(Collectors.toList()));
+    if (invalidBlockIndex.isEmpty()) {
+      blocks.forEach(PreparedBlock::markSignaturesVerified);
+      return preparedBlocks;
+    }
+    final List<PreparedBlock> validBlocks = blocks.subList(0, invalidBlockIndex.getAsInt());
+    validBlocks.forEach(PreparedBlock::markSignaturesVerified);
+    final SignedBeaconBlock invalidBlock = blocks.get(invalidBlockIndex.getAsInt()).getBlock();
+    final BlockImportResult result =
+        BlockImportResult.failedStateTransition(
+            new StateTransitionException(
+                "Batch signature verification failed for block "
+                    + LogFormatter.formatBlock(invalidBlock.getSlot(), invalidBlock.getRoot())));
+    reportInvalidBlock(invalidBlock, result);
+    return new PreparedBlocks(validBlocks, Optional.of(result));
+  }
+
+  /**
+   * Import a block previously prepared by {@link #prepareBlocks(List)}, or by {@link
+   * #applyStateTransitions(List, Optional)} and {@link #verifySignatures(PreparedBlocks)}. The
+   * parent of the block must already have been imported.
+   */
+  public SafeFuture<BlockImportResult> onPreparedBlock(
+      final PreparedBlock preparedBlock, final ExecutionEngineChannel executionEngine) {
+    checkArgument(
+        preparedBlock.isSignaturesVerified(), "Prepared block signatures have not been verified");
+    final SignedBeaconBlock block = preparedBlock.getBlock();
+    final ForkChoiceUtil forkChoiceUtil = spec.atSlot(block.getSlot()).getForkChoiceUtil();
+    final BlockImportResult preconditionCheckResult =
+        forkChoiceUtil.checkOnBlockConditions(
+            block, preparedBlock.getBlockSlotState(), recentChainData.getStore());
+    if (!preconditionCheckResult.isSuccessful()) {
+      reportInvalidBlock(block, preconditionCheckResult);
+      return SafeFuture.completedFuture(preconditionCheckResult);
+    }
+
+    final ForkChoicePayloadExecutor payloadExecutor =
+        ForkChoicePayloadExecutor.create(spec, recentChainData, block, executionEngine);
+    preparedBlock.getPayloadExecutor().executeWith(payloadExecutor);
+    return payloadExecutor
+        .getExecutionResult()
+        .thenApplyAsync(
+            payloadResult ->
+                importBlockAndState(
+                    block,
+                    preparedBlock.getBlockSlotState(),
+                    forkChoiceUtil,
+                    preparedBlock.getIndexedAttestationCache(),
+                    preparedBlock.getPostState(),
+                    payloadResult),
+            forkChoiceExecutor);
+  }
+
   private BlockImportResult importBlockAndState(
       final SignedBeaconBlock block,
       final BeaconState blockSlotState,
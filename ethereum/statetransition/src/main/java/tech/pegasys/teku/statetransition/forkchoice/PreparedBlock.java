@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import tech.pegasys.teku.spec.cache.CapturingIndexedAttestationCache;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+
+/**
+ * A block which has had its state transition applied but has not yet been imported. It can only be
+ * imported once its signatures have been verified.
+ */
+public class PreparedBlock {
+  private final SignedBeaconBlock block;
+  private final BeaconState blockSlotState;
+  private final BeaconState postState;
+  private final CapturingIndexedAttestationCache indexedAttestationCache;
+  private final DeferredPayloadExecutor payloadExecutor;
+  private final BatchSignatureVerifier signatureVerifier;
+  private volatile boolean signaturesVerified = false;
+
+  PreparedBlock(
+      final SignedBeaconBlock block,
+      final BeaconState blockSlotState,
+      final BeaconState postState,
+      final CapturingIndexedAttestationCache indexedAttestationCache,
+      final DeferredPayloadExecutor payloadExecutor,
+      final BatchSignatureVerifier signatureVerifier) {
+    this.block = block;
+    this.blockSlotState = blockSlotState;
+    this.postState = postState;
+    this.indexedAttestationCache = indexedAttestationCache;
+    this.payloadExecutor = payloadExecutor;
+    this.signatureVerifier = signatureVerifier;
+  }
+
+  public SignedBeaconBlock getBlock() {
+    return block;
+  }
+
+  BeaconState getBlockSlotState() {
+    return blockSlotState;
+  }
+
+  BeaconState getPostState() {
+    return postState;
+  }
+
+  CapturingIndexedAttestationCache getIndexedAttestationCache() {
+    return indexedAttestationCache;
+  }
+
+  DeferredPayloadExecutor getPayloadExecutor() {
+    return payloadExecutor;
+  }
+
+  BatchSignatureVerifier getSignatureVerifier() {
+    return signatureVerifier;
+  }
+
+  boolean isSignaturesVerified() {
+    return signaturesVerified;
+  }
+
+  void markSignaturesVerified() {
+    signaturesVerified = true;
+  }
+}
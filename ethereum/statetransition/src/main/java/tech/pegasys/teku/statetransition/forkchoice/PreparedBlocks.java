@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import java.util.List;
+import java.util.Optional;
+import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+
+/**
+ * The result of preparing a chain of blocks for import. Contains the valid blocks, in order, up to
+ * the first invalid block, if any, and the reason that block failed.
+ */
+public class PreparedBlocks {
+  private final List<PreparedBlock> blocks;
+  private final Optional<BlockImportResult> failureResult;
+
+  PreparedBlocks(
+      final List<PreparedBlock> blocks, final Optional<BlockImportResult> failureResult) {
+    this.blocks = blocks;
+    this.failureResult = failureResult;
+  }
+
+  public List<PreparedBlock> getBlocks() {
+    return blocks;
+  }
+
+  public Optional<BlockImportResult> getFailureResult() {
+    return failureResult;
+  }
+}
@@ -44,6 +44,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBatchBLSSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class AggregateAttestationValidator {
@@ -56,16 +57,37 @@ public class AggregateAttestationValidator {
   private final RecentChainData recentChainData;
   private final Spec spec;
   private final AsyncBLSSignatureVerifier signatureVerifier;
+  private final AsyncBLSSignatureVerifier localSignatureVerifier;
+  private final VerifiedSignatureCache verifiedSignatureCache;
 
   public AggregateAttestationValidator(
       final Spec spec,
       final RecentChainData recentChainData,
       final AttestationValidator attestationValidator,
-      final AsyncBLSSignatureVerifier signatureVerifier) {
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final VerifiedSignatureCache verifiedSignatureCache) {
+    this(
+        spec,
+        recentChainData,
+        attestationValidator,
+        signatureVerifier,
+        signatureVerifier,
+        verifiedSignatureCache);
+  }
+
+  public AggregateAttestationValidator(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AttestationValidator attestationValidator,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final AsyncBLSSignatureVerifier localSignatureVerifier,
+      final VerifiedSignatureCache verifiedSignatureCache) {
     this.recentChainData = recentChainData;
     this.attestationValidator = attestationValidator;
     this.spec = spec;
     this.signatureVerifier = signatureVerifier;
+    this.localSignatureVerifier = localSignatureVerifier;
+    this.verifiedSignatureCache = verifiedSignatureCache;
   }
 
   public void addSeenAggregate(final ValidateableAttestation attestation) {
@@ -90,7 +112,9 @@ public class AggregateAttestationValidator {
     }
 
     final AsyncBatchBLSSignatureVerifier signatureVerifier =
-        new AsyncBatchBLSSignatureVerifier(this.signatureVerifier);
+        new AsyncBatchBLSSignatureVerifier(
+            attestation.isProducedLocally() ? localSignatureVerifier : this.signatureVerifier,
+            verifiedSignatureCache);
     return singleOrAggregateAttestationChecks(signatureVerifier, attestation, OptionalInt.empty())
         .thenCompose(
             aggregateInternalValidationResult -> {
@@ -44,14 +44,24 @@ public class AttestationValidator {
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncBLSSignatureVerifier signatureVerifier;
+  private final AsyncBLSSignatureVerifier localSignatureVerifier;
 
   public AttestationValidator(
       final Spec spec,
       RecentChainData recentChainData,
       AsyncBLSSignatureVerifier signatureVerifier) {
+    this(spec, recentChainData, signatureVerifier, signatureVerifier);
+  }
+
+  public AttestationValidator(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final AsyncBLSSignatureVerifier localSignatureVerifier) {
     this.recentChainData = recentChainData;
     this.spec = spec;
     this.signatureVerifier = signatureVerifier;
+    this.localSignatureVerifier = localSignatureVerifier;
   }
 
   public SafeFuture<InternalValidationResult> validate(
@@ -63,7 +73,9 @@ public class AttestationValidator {
     }
 
     return singleOrAggregateAttestationChecks(
-        signatureVerifier, validateableAttestation, validateableAttestation.getReceivedSubnetId());
+        validateableAttestation.isProducedLocally() ? localSignatureVerifier : signatureVerifier,
+        validateableAttestation,
+        validateableAttestation.getReceivedSubnetId());
   }
 
   private InternalValidationResult singleAttestationChecks(final Attestation attestation) {
@@ -19,13 +19,14 @@ import static tech.pegasys.teku.spec.config.Constants.VALID_BLOCK_SET_SIZE;
 import static tech.pegasys.teku.statetransition.validation.InternalValidationResult.reject;
 
 import com.google.common.base.Objects;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
@@ -37,6 +38,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyStore;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class BlockValidator {
@@ -44,12 +47,20 @@ public class BlockValidator {
 
   private final Spec spec;
   private final RecentChainData recentChainData;
+  private final AsyncBLSSignatureVerifier signatureVerifier;
+  private final VerifiedSignatureCache verifiedSignatureCache;
   private final Set<SlotAndProposer> receivedValidBlockInfoSet =
       LimitedSet.create(VALID_BLOCK_SET_SIZE);
 
-  public BlockValidator(final Spec spec, RecentChainData recentChainData) {
+  public BlockValidator(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final VerifiedSignatureCache verifiedSignatureCache) {
     this.spec = spec;
     this.recentChainData = recentChainData;
+    this.signatureVerifier = signatureVerifier;
+    this.verifiedSignatureCache = verifiedSignatureCache;
   }
 
   public SafeFuture<InternalValidationResult> validate(SignedBeaconBlock block) {
@@ -102,19 +113,20 @@ public class BlockValidator {
                       new SlotAndBlockRoot(
                           parentBlock.get().getSlot().max(firstSlotInBlockEpoch),
                           block.getParentRoot()))
-                  .thenApply(
+                  .thenCompose(
                       maybePostState -> {
                         if (maybePostState.isEmpty()) {
                           LOG.trace(
                               "Block was available but state wasn't. Must have been pruned by finalized.");
-                          return InternalValidationResult.IGNORE;
+                          return completedFuture(InternalValidationResult.IGNORE);
                         }
                         final BeaconState postState = maybePostState.get();
 
                         if (!blockIsProposedByTheExpectedProposer(block, postState)) {
-                          return reject(
-                              "Block proposed by incorrect proposer (%s)",
-                              block.getProposerIndex());
+                          return completedFuture(
+                              reject(
+                                  "Block proposed by incorrect proposer (%s)",
+                                  block.getProposerIndex()));
                         }
                         if (spec.atSlot(block.getSlot())
                             .miscHelpers()
@@ -123,7 +135,7 @@ public class BlockValidator {
                               block.getMessage().getBody().getOptionalExecutionPayload();
 
                           if (executionPayload.isEmpty()) {
-                            return reject("Missing execution payload");
+                            return completedFuture(reject("Missing execution payload"));
                           }
 
                           if (executionPayload
@@ -131,14 +143,19 @@ public class BlockValidator {
                                   .getTimestamp()
                                   .compareTo(spec.computeTimeAtSlot(postState, block.getSlot()))
                               != 0) {
-                            return reject(
-                                "Execution Payload timestamp is not consistence with and block slot time");
+                            return completedFuture(
+                                reject(
+                                    "Execution Payload timestamp is not consistence with and block slot time"));
                           }
                         }
-                        if (!blockSignatureIsValidWithRespectToProposerIndex(block, postState)) {
-                          return reject("Block signature is invalid");
-                        }
-                        return InternalValidationResult.ACCEPT;
+                        return blockSignatureIsValidWithRespectToProposerIndex(block, postState)
+                            .thenApply(
+                                signatureValid -> {
+                                  if (!signatureValid) {
+                                    return reject("Block signature is invalid");
+                                  }
+                                  return InternalValidationResult.ACCEPT;
+                                });
                       });
             });
   }
@@ -162,7 +179,7 @@ public class BlockValidator {
     return !receivedValidBlockInfoSet.contains(new SlotAndProposer(block));
   }
 
-  private boolean blockSignatureIsValidWithRespectToProposerIndex(
+  private SafeFuture<Boolean> blockSignatureIsValidWithRespectToProposerIndex(
       SignedBeaconBlock block, BeaconState postState) {
     final Bytes32 domain =
         spec.getDomain(
@@ -173,12 +190,30 @@ public class BlockValidator {
     final Bytes signing_root = spec.computeSigningRoot(block.getMessage(), domain);
     final BLSSignature signature = block.getSignature();
 
-    boolean signatureValid =
-        spec.getValidatorPubKey(postState, block.getMessage().getProposerIndex())
-            .map(publicKey -> BLS.verify(publicKey, signing_root, signature))
-            .orElse(false);
+    return spec.getValidatorPubKey(postState, block.getMessage().getProposerIndex())
+        .map(publicKey -> isSignatureValid(publicKey, signing_root, signature))
+        .orElse(completedFuture(false))
+        .thenApply(
+            signatureValid ->
+                signatureValid && receivedValidBlockInfoSet.add(new SlotAndProposer(block)));
+  }
 
-    return signatureValid && receivedValidBlockInfoSet.add(new SlotAndProposer(block));
+  private SafeFuture<Boolean> isSignatureValid(
+      final BLSPublicKey publicKey, final Bytes signingRoot, final BLSSignature signature) {
+    final Bytes32 cacheKey =
+        VerifiedSignatureCache.computeKey(List.of(publicKey), signingRoot, signature);
+    if (verifiedSignatureCache.isVerified(cacheKey)) {
+      return completedFuture(true);
+    }
+    return signatureVerifier
+        .verify(publicKey, signingRoot, signature)
+        .thenPeek(
+            signatureValid -> {
+              if (signatureValid) {
+                // The same signature is checked again when the block is imported
+                verifiedSignatureCache.markVerified(cacheKey);
+              }
+            });
   }
 
   private boolean blockIsProposedByTheExpectedProposer(
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+
+/**
+ * Limits the number of signatures in each verification batch so that verifying a batch takes
+ * around the target duration.
+ *
+ * <p>A batch is verified as a unit, so any task queued while it runs, including higher priority
+ * work, waits for the whole batch to complete. The cost per signature is tracked as an exponential
+ * moving average of the observed batch durations and the batch size is set to the number of
+ * signatures expected to fit within the target duration, up to the configured maximum. Tracking the
+ * cost per signature rather than per task keeps the estimate stable when a single task carries
+ * many signatures.
+ */
+class AdaptiveBatchSizer {
+  static final double SMOOTHING_FACTOR = 0.2;
+
+  private final int maxBatchSize;
+  private final long targetBatchDurationNanos;
+
+  private volatile int batchSize;
+  private double averageNanosPerSignature = -1;
+
+  AdaptiveBatchSizer(final int maxBatchSize, final Duration targetBatchDuration) {
+    checkArgument(maxBatchSize > 0, "Max batch size must be positive");
+    this.maxBatchSize = maxBatchSize;
+    this.targetBatchDurationNanos = targetBatchDuration.toNanos();
+    this.batchSize = maxBatchSize;
+  }
+
+  /** Returns the maximum number of signatures to include in the next batch. */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Records the time taken to verify a batch. Only batches which verified successfully as a whole
+   * should be recorded, as failed batches fall back to slower individual verification.
+   */
+  public synchronized void onBatchVerified(final int signatureCount, final long durationNanos) {
+    if (signatureCount == 0) {
+      return;
+    }
+    final double nanosPerSignature = Math.max(1, (double) durationNanos / signatureCount);
+    averageNanosPerSignature =
+        averageNanosPerSignature < 0
+            ? nanosPerSignature
+            : SMOOTHING_FACTOR * nanosPerSignature
+                + (1 - SMOOTHING_FACTOR) * averageNanosPerSignature;
+    final long targetBatchSize = (long) (targetBatchDurationNanos / averageNanosPerSignature);
+    batchSize = (int) Math.max(1, Math.min(maxBatchSize, targetBatchSize));
+  }
+}
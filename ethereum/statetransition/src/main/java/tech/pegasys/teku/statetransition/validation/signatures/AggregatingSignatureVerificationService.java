@@ -17,16 +17,17 @@ import static java.util.Collections.singletonList;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -37,11 +38,13 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
 public class AggregatingSignatureVerificationService extends SignatureVerificationService {
   private static final Logger LOG = LogManager.getLogger();
 
   static final int DEFAULT_MIN_BATCH_SIZE_TO_SPLIT = 25;
+  static final Duration DEFAULT_TARGET_BATCH_DURATION = Duration.ofMillis(100);
 
   private final AsyncRunner completionRunner;
   private final int numThreads;
@@ -49,10 +52,12 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   private final int minBatchSizeToSplit;
   private final boolean strictThreadLimitEnabled;
 
-  @VisibleForTesting final BlockingQueue<SignatureTask> batchSignatureTasks;
+  @VisibleForTesting final PrioritizedTaskQueue<SignatureTask> batchSignatureTasks;
+  private final AdaptiveBatchSizer batchSizer;
   private final AsyncRunner asyncRunner;
   private final Counter batchCounter;
   private final Counter taskCounter;
+  private final LabelledMetric<Counter> droppedTaskCounter;
   private final MetricsHistogram batchSizeHistogram;
 
   @VisibleForTesting
@@ -70,7 +75,8 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     this.completionRunner = completionRunner;
     this.maxBatchSize = maxBatchSize;
 
-    this.batchSignatureTasks = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSignatureTasks = new PrioritizedTaskQueue<>(queueCapacity, task -> task.priority);
+    this.batchSizer = new AdaptiveBatchSizer(maxBatchSize, DEFAULT_TARGET_BATCH_DURATION);
     this.minBatchSizeToSplit = minBatchSizeToSplit;
     this.strictThreadLimitEnabled = strictThreadLimitEnabled;
     metricsSystem.createGauge(
@@ -78,6 +84,26 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
         "signature_verifications_queue_size",
         "Tracks number of signatures waiting to be batch verified",
         this::getQueueSize);
+    final LabelledGauge laneQueueSize =
+        metricsSystem.createLabelledGauge(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_priority_queue_size",
+            "Tracks number of signatures waiting to be batch verified by priority",
+            "priority");
+    for (SignatureVerificationPriority priority : SignatureVerificationPriority.values()) {
+      laneQueueSize.labels(() -> batchSignatureTasks.size(priority), priority.name());
+    }
+    droppedTaskCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_dropped_task_count",
+            "Reports the number of verification tasks dropped because the queue was full",
+            "priority");
+    metricsSystem.createGauge(
+        TekuMetricCategory.EXECUTOR,
+        "signature_verifications_target_batch_size",
+        "The current maximum number of signatures per batch, based on observed verification time",
+        batchSizer::getBatchSize);
     batchCounter =
         metricsSystem.createCounter(
             TekuMetricCategory.EXECUTOR,
@@ -135,10 +161,19 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     return SafeFuture.COMPLETE;
   }
 
+  @Override
+  public AsyncBLSSignatureVerifier forPriority(final SignatureVerificationPriority priority) {
+    return new PrioritizedSignatureVerifier(priority);
+  }
+
   @Override
   public SafeFuture<Boolean> verify(
       final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
-    return verify(singletonList(publicKeys), singletonList(message), singletonList(signature));
+    return verify(
+        SignatureVerificationPriority.ATTESTATION,
+        singletonList(publicKeys),
+        singletonList(message),
+        singletonList(signature));
   }
 
   @Override
@@ -146,15 +181,33 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final List<List<BLSPublicKey>> publicKeys,
       final List<Bytes> messages,
       final List<BLSSignature> signatures) {
+    return verify(SignatureVerificationPriority.ATTESTATION, publicKeys, messages, signatures);
+  }
+
+  private SafeFuture<Boolean> verify(
+      final SignatureVerificationPriority priority,
+      final List<List<BLSPublicKey>> publicKeys,
+      final List<Bytes> messages,
+      final List<BLSSignature> signatures) {
     assertIsRunning("verify");
     final SignatureTask task =
-        new SignatureTask(completionRunner, publicKeys, messages, signatures);
-    if (!batchSignatureTasks.offer(task)) {
-      // Queue is full
-      final Throwable error =
-          new ServiceCapacityExceededException("Failed to process signature, queue is full.");
-      task.result.completeExceptionally(error);
-    }
+        new SignatureTask(completionRunner, priority, publicKeys, messages, signatures);
+    batchSignatureTasks
+        .offer(task)
+        .ifPresent(
+            droppedTask -> {
+              // Queue is full
+              droppedTaskCounter.labels(droppedTask.priority.name()).inc();
+              final Throwable error =
+                  new ServiceCapacityExceededException(
+                      "Failed to process signature, queue is full.");
+              if (droppedTask == task) {
+                task.result.completeExceptionally(error);
+              } else {
+                // Dropped to make room for higher priority work
+                droppedTask.completeExceptionallyAsync(error);
+              }
+            });
     return task.result;
   }
 
@@ -162,7 +215,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     while (isRunning()) {
       final List<SignatureTask> tasks = waitForBatch();
       if (!tasks.isEmpty()) {
-        batchVerifySignatures(tasks);
+        final long startTime = System.nanoTime();
+        if (batchVerifySignatures(tasks)) {
+          // Batches with invalid signatures fall back to slower verification so aren't recorded
+          batchSizer.onBatchVerified(countSignatures(tasks), System.nanoTime() - startTime);
+        }
       }
     }
   }
@@ -170,21 +227,33 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   private List<SignatureTask> waitForBatch() {
     final List<SignatureTask> tasks = new ArrayList<>();
     try {
-      int batchSize = maxBatchSize;
       final SignatureTask firstTask = batchSignatureTasks.poll(30, TimeUnit.SECONDS);
       if (firstTask != null) {
         tasks.add(firstTask);
-        batchSize -= 1;
+        // The first task is always included, even if it alone exceeds the signature limit
+        batchSignatureTasks.drainTo(
+            tasks,
+            maxBatchSize - 1,
+            SignatureTask::getSignatureCount,
+            batchSizer.getBatchSize() - firstTask.getSignatureCount());
       }
-      batchSignatureTasks.drainTo(tasks, batchSize);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
     return tasks;
   }
 
+  private static int countSignatures(final List<SignatureTask> tasks) {
+    return tasks.stream().mapToInt(SignatureTask::getSignatureCount).sum();
+  }
+
+  /**
+   * Verifies the signatures and completes each task with its result.
+   *
+   * @return true if the whole batch was valid and verified in a single pass
+   */
   @VisibleForTesting
-  void batchVerifySignatures(final List<SignatureTask> tasks) {
+  boolean batchVerifySignatures(final List<SignatureTask> tasks) {
     batchCounter.inc();
     taskCounter.inc(tasks.size());
     batchSizeHistogram.recordValue(tasks.size());
@@ -223,6 +292,7 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
         task.completeAsync(taskIsValid);
       }
     }
+    return batchIsValid;
   }
 
   @VisibleForTesting
@@ -235,20 +305,47 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     return batchSignatureTasks.size();
   }
 
+  private class PrioritizedSignatureVerifier implements AsyncBLSSignatureVerifier {
+    private final SignatureVerificationPriority priority;
+
+    private PrioritizedSignatureVerifier(final SignatureVerificationPriority priority) {
+      this.priority = priority;
+    }
+
+    @Override
+    public SafeFuture<Boolean> verify(
+        final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+      return AggregatingSignatureVerificationService.this.verify(
+          priority, singletonList(publicKeys), singletonList(message), singletonList(signature));
+    }
+
+    @Override
+    public SafeFuture<Boolean> verify(
+        final List<List<BLSPublicKey>> publicKeys,
+        final List<Bytes> messages,
+        final List<BLSSignature> signatures) {
+      return AggregatingSignatureVerificationService.this.verify(
+          priority, publicKeys, messages, signatures);
+    }
+  }
+
   @VisibleForTesting
   static class SignatureTask {
     final SafeFuture<Boolean> result = new SafeFuture<>();
     private final AsyncRunner asyncRunner;
+    final SignatureVerificationPriority priority;
     final List<List<BLSPublicKey>> publicKeys;
     final List<Bytes> messages;
     final List<BLSSignature> signatures;
 
     private SignatureTask(
         final AsyncRunner asyncRunner,
+        final SignatureVerificationPriority priority,
         final List<List<BLSPublicKey>> publicKeys,
         final List<Bytes> messages,
         final List<BLSSignature> signatures) {
       this.asyncRunner = asyncRunner;
+      this.priority = priority;
       this.publicKeys = publicKeys;
       this.messages = messages;
       this.signatures = signatures;
@@ -257,5 +354,15 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     public void completeAsync(final boolean isValid) {
       asyncRunner.runAsync(() -> result.complete(isValid)).finish(result::completeExceptionally);
     }
+
+    public int getSignatureCount() {
+      return signatures.size();
+    }
+
+    public void completeExceptionallyAsync(final Throwable error) {
+      asyncRunner
+          .runAsync(() -> result.completeExceptionally(error))
+          .finish(result::completeExceptionally);
+    }
   }
 }
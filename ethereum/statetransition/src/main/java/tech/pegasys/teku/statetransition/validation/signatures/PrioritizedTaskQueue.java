@@ -0,0 +1,195 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A bounded blocking queue with a FIFO lane for each {@link SignatureVerificationPriority}.
+ *
+ * <p>Tasks are always taken from the highest priority lane which has work available. When the
+ * queue is full, the oldest task in the lowest priority lane is dropped to make room for a higher
+ * priority task. A task is rejected if no lower priority work can be dropped to make room for it.
+ */
+class PrioritizedTaskQueue<T> {
+  private static final SignatureVerificationPriority[] PRIORITIES =
+      SignatureVerificationPriority.values();
+
+  private final int capacity;
+  private final Function<T, SignatureVerificationPriority> priorityFunction;
+  private final Map<SignatureVerificationPriority, Deque<T>> lanes =
+      new EnumMap<>(SignatureVerificationPriority.class);
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private int size = 0;
+
+  PrioritizedTaskQueue(
+      final int capacity, final Function<T, SignatureVerificationPriority> priorityFunction) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    this.capacity = capacity;
+    this.priorityFunction = priorityFunction;
+    for (SignatureVerificationPriority priority : PRIORITIES) {
+      lanes.put(priority, new ArrayDeque<>());
+    }
+  }
+
+  /**
+   * Adds a task to the queue, dropping lower priority work if the queue is full.
+   *
+   * @return the task which was dropped to keep the queue within capacity, which is the offered
+   *     task itself if it was rejected, or empty if no task was dropped
+   */
+  public Optional<T> offer(final T task) {
+    final SignatureVerificationPriority priority = priorityFunction.apply(task);
+    lock.lock();
+    try {
+      if (size < capacity) {
+        lanes.get(priority).addLast(task);
+        size++;
+        notEmpty.signal();
+        return Optional.empty();
+      }
+      for (int i = PRIORITIES.length - 1; priority.isHigherThan(PRIORITIES[i]); i--) {
+        final T droppedTask = lanes.get(PRIORITIES[i]).pollFirst();
+        if (droppedTask != null) {
+          lanes.get(priority).addLast(task);
+          return Optional.of(droppedTask);
+        }
+      }
+      return Optional.of(task);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves the highest priority task, waiting up to the specified time for one to become
+   * available.
+   *
+   * @return the task or null if the specified waiting time elapses before a task is available
+   */
+  public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    long remainingNanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (size == 0) {
+        if (remainingNanos <= 0) {
+          return null;
+        }
+        remainingNanos = notEmpty.awaitNanos(remainingNanos);
+      }
+      return takeNext();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Removes up to maxTasks tasks, highest priority first, and adds them to the target. */
+  public int drainTo(final Collection<? super T> target, final int maxTasks) {
+    lock.lock();
+    try {
+      int drained = 0;
+      while (drained < maxTasks && size > 0) {
+        target.add(takeNext());
+        drained++;
+      }
+      return drained;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int drainTo(final Collection<? super T> target) {
+    return drainTo(target, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Removes up to maxTasks tasks, highest priority first, and adds them to the target, stopping
+   * before the next task would take the total weight of the removed tasks above maxWeight.
+   */
+  public int drainTo(
+      final Collection<? super T> target,
+      final int maxTasks,
+      final ToIntFunction<T> weigher,
+      final int maxWeight) {
+    lock.lock();
+    try {
+      int drained = 0;
+      int totalWeight = 0;
+      while (drained < maxTasks && size > 0) {
+        final int weight = weigher.applyAsInt(peekNext());
+        if (totalWeight + weight > maxWeight) {
+          break;
+        }
+        target.add(takeNext());
+        totalWeight += weight;
+        drained++;
+      }
+      return drained;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return size;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int size(final SignatureVerificationPriority priority) {
+    lock.lock();
+    try {
+      return lanes.get(priority).size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private T peekNext() {
+    for (SignatureVerificationPriority priority : PRIORITIES) {
+      final T task = lanes.get(priority).peekFirst();
+      if (task != null) {
+        return task;
+      }
+    }
+    throw new IllegalStateException("Queue size is " + size + " but all lanes are empty");
+  }
+
+  private T takeNext() {
+    for (SignatureVerificationPriority priority : PRIORITIES) {
+      final T task = lanes.get(priority).pollFirst();
+      if (task != null) {
+        size--;
+        return task;
+      }
+    }
+    throw new IllegalStateException("Queue size is " + size + " but all lanes are empty");
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+/**
+ * Lanes used to schedule signature verification, declared from highest to lowest priority.
+ *
+ * <p>{@link #BLOCK} is reserved for validating blocks received via gossip or RPC, while historical
+ * block backfill, the least urgent work, uses {@link #BACKFILL}.
+ *
+ * <p>Higher priority work is always batched first, and when the queue is full, work is shed from
+ * the lowest priority lane first.
+ */
+public enum SignatureVerificationPriority {
+  BLOCK,
+  AGGREGATE,
+  SYNC_CONTRIBUTION,
+  API,
+  ATTESTATION,
+  BACKFILL;
+
+  public boolean isHigherThan(final SignatureVerificationPriority other) {
+    return ordinal() < other.ordinal();
+  }
+}
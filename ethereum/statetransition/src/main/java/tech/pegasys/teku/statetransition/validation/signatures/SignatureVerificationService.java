@@ -22,4 +22,12 @@ public abstract class SignatureVerificationService extends Service
   public static SignatureVerificationService createSimple() {
     return new SimpleSignatureVerificationService();
   }
+
+  /**
+   * Returns a verifier which schedules its work in the given priority lane. Services which don't
+   * prioritize work return themselves.
+   */
+  public AsyncBLSSignatureVerifier forPriority(final SignatureVerificationPriority priority) {
+    return this;
+  }
 }
@@ -359,6 +359,43 @@ public class BlockImporterTest {
     assertImportFailed(result, FailureReason.FAILED_STATE_TRANSITION);
   }
 
+  @Test
+  public void importBlocks_success() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(1);
+    final SignedBeaconBlock block2 = otherChain.createAndImportBlockAtSlot(3);
+    localChain.setSlot(block2.getSlot());
+
+    final BlockImportResult result = blockImporter.importBlocks(List.of(block1, block2)).get();
+    assertSuccessfulResult(result);
+    assertThat(recentChainData.containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(block2.getRoot())).isTrue();
+  }
+
+  @Test
+  public void importBlocks_shouldSkipKnownBlocks() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(1);
+    final SignedBeaconBlock block2 = otherChain.createAndImportBlockAtSlot(2);
+    localChain.setSlot(block2.getSlot());
+    assertSuccessfulResult(blockImporter.importBlock(block1).get());
+
+    final BlockImportResult result = blockImporter.importBlocks(List.of(block1, block2)).get();
+    assertSuccessfulResult(result);
+    assertThat(recentChainData.containsBlock(block2.getRoot())).isTrue();
+  }
+
+  @Test
+  public void importBlocks_shouldImportBlocksBeforeInvalidSignature() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(1);
+    final SignedBeaconBlock block2 =
+        otherChain.createBlockAtSlotFromInvalidProposer(UInt64.valueOf(2));
+    localChain.setSlot(block2.getSlot());
+
+    final BlockImportResult result = blockImporter.importBlocks(List.of(block1, block2)).get();
+    assertImportFailed(result, FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(recentChainData.containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(block2.getRoot())).isFalse();
+  }
+
   @Test
   public void importBlock_weakSubjectivityFailure_wrongAncestor() throws Exception {
     final UInt64 wsEpoch = UInt64.valueOf(10);
@@ -47,6 +47,7 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
@@ -154,6 +155,48 @@ class ForkChoiceTest {
     assertThat(recentChainData.getHeadSlot()).isEqualTo(blockAndState.getSlot());
   }
 
+  @Test
+  void prepareBlocks_shouldPrepareChainOfBlocksForImport() {
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(1);
+    final SignedBlockAndState block2 = chainBuilder.generateBlockAtSlot(3);
+
+    final SafeFuture<PreparedBlocks> result =
+        forkChoice.prepareBlocks(List.of(block1.getBlock(), block2.getBlock()));
+    assertThat(result).isCompleted();
+    final PreparedBlocks preparedBlocks = result.join();
+    assertThat(preparedBlocks.getFailureResult()).isEmpty();
+    assertThat(preparedBlocks.getBlocks())
+        .extracting(PreparedBlock::getBlock)
+        .containsExactly(block1.getBlock(), block2.getBlock());
+
+    for (PreparedBlock preparedBlock : preparedBlocks.getBlocks()) {
+      assertBlockImportedSuccessfully(
+          forkChoice.onPreparedBlock(preparedBlock, executionEngine), false);
+    }
+    assertThat(recentChainData.getHeadBlock().map(MinimalBeaconBlockSummary::getRoot))
+        .contains(block2.getRoot());
+  }
+
+  @Test
+  void prepareBlocks_shouldStopAtFirstBlockWithInvalidSignature() {
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(1);
+    final SignedBlockAndState block2 = chainBuilder.generateBlockAtSlot(2);
+    final SignedBlockAndState block3 = chainBuilder.generateBlockAtSlot(3);
+    final SignedBeaconBlock invalidBlock2 =
+        SignedBeaconBlock.create(
+            spec, block2.getBlock().getMessage(), dataStructureUtil.randomSignature());
+
+    final SafeFuture<PreparedBlocks> result =
+        forkChoice.prepareBlocks(List.of(block1.getBlock(), invalidBlock2, block3.getBlock()));
+    assertThat(result).isCompleted();
+    final PreparedBlocks preparedBlocks = result.join();
+    assertThat(preparedBlocks.getBlocks())
+        .extracting(PreparedBlock::getBlock)
+        .containsExactly(block1.getBlock());
+    assertThat(preparedBlocks.getFailureResult().map(BlockImportResult::getFailureReason))
+        .contains(FailureReason.FAILED_STATE_TRANSITION);
+  }
+
   @Test
   void onBlock_shouldNotTriggerReorgWhenSelectingChildOfChainHeadWhenForkChoiceSlotHasAdvanced() {
     // Advance the current head
@@ -53,6 +53,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof.
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.client.ChainUpdater;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -117,9 +118,15 @@ class AggregateAttestationValidatorTest {
 
   private final AsyncBLSSignatureVerifier signatureVerifier =
       AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.SIMPLE);
+  private final VerifiedSignatureCache verifiedSignatureCache = new VerifiedSignatureCache(100);
   private final AggregateAttestationValidator validator =
       new AggregateAttestationValidator(
-          spec, recentChainData, attestationValidator, signatureVerifier);
+          spec,
+          recentChainData,
+          attestationValidator,
+          signatureVerifier,
+          signatureVerifier,
+          verifiedSignatureCache);
   private SignedBlockAndState bestBlock;
   private SignedBlockAndState genesis;
 
@@ -156,6 +163,32 @@ class AggregateAttestationValidatorTest {
         .isCompletedWithValue(InternalValidationResult.ACCEPT);
   }
 
+  @Test
+  public void shouldNotVerifySignaturesAgainWhenAlreadyVerified() {
+    final StateAndBlockSummary chainHead = storageSystem.getChainHead();
+    final SignedAggregateAndProof aggregate = generator.validAggregateAndProof(chainHead);
+    whenAttestationIsValid(aggregate);
+    assertThat(validator.validate(ValidateableAttestation.aggregateFromValidator(spec, aggregate)))
+        .isCompletedWithValue(InternalValidationResult.ACCEPT);
+    // Selection proof and aggregate signature
+    assertThat(verifiedSignatureCache.size()).isEqualTo(2);
+    assertThat(verifiedSignatureCache.getHitCount()).isZero();
+
+    final AggregateAttestationValidator otherValidator =
+        new AggregateAttestationValidator(
+            spec,
+            recentChainData,
+            attestationValidator,
+            signatureVerifier,
+            signatureVerifier,
+            verifiedSignatureCache);
+    final ValidateableAttestation attestation =
+        ValidateableAttestation.aggregateFromValidator(spec, aggregate);
+    assertThat(otherValidator.validate(attestation))
+        .isCompletedWithValue(InternalValidationResult.ACCEPT);
+    assertThat(verifiedSignatureCache.getHitCount()).isEqualTo(2);
+  }
+
   @Test
   public void shouldReturnValidForValidAggregate_whenManyBlocksHaveBeenSkipped() {
     final StateAndBlockSummary chainHead = storageSystem.getChainHead();
@@ -15,6 +15,10 @@ package tech.pegasys.teku.statetransition.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
 import java.util.List;
@@ -25,7 +29,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import tech.pegasys.teku.bls.BLSKeyGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.core.ChainBuilder;
 import tech.pegasys.teku.core.ChainBuilder.BlockOptions;
@@ -39,6 +45,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.storage.client.ChainUpdater;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
@@ -49,6 +57,9 @@ public class BlockValidatorTest {
   private Spec spec;
   private RecentChainData recentChainData;
   private StorageSystem storageSystem;
+  private final AsyncBLSSignatureVerifier signatureVerifier =
+      AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.SIMPLE);
+  private final VerifiedSignatureCache verifiedSignatureCache = new VerifiedSignatureCache(10);
 
   private BlockValidator blockValidator;
 
@@ -68,7 +79,8 @@ public class BlockValidatorTest {
     storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
     storageSystem.chainUpdater().initializeGenesis(false);
     recentChainData = storageSystem.recentChainData();
-    blockValidator = new BlockValidator(spec, recentChainData);
+    blockValidator =
+        new BlockValidator(spec, recentChainData, signatureVerifier, verifiedSignatureCache);
   }
 
   @TestTemplate
@@ -83,6 +95,41 @@ public class BlockValidatorTest {
     assertTrue(result.isAccept());
   }
 
+  @TestTemplate
+  void shouldCacheProposerSignatureOfValidBlock() {
+    final UInt64 nextSlot = recentChainData.getHeadSlot().plus(ONE);
+    final SignedBeaconBlock block =
+        storageSystem.chainBuilder().generateBlockAtSlot(nextSlot).getBlock();
+    storageSystem.chainUpdater().setCurrentSlot(nextSlot);
+
+    assertTrue(blockValidator.validate(block).join().isAccept());
+    assertThat(verifiedSignatureCache.size()).isEqualTo(1);
+
+    final AsyncBLSSignatureVerifier otherVerifier = mock(AsyncBLSSignatureVerifier.class);
+    final BlockValidator otherValidator =
+        new BlockValidator(spec, recentChainData, otherVerifier, verifiedSignatureCache);
+    assertTrue(otherValidator.validate(block).join().isAccept());
+    assertThat(verifiedSignatureCache.getHitCount()).isEqualTo(1);
+    verifyNoInteractions(otherVerifier);
+  }
+
+  @TestTemplate
+  void shouldRejectBlockWhenSignatureVerifierReportsInvalid() {
+    final UInt64 nextSlot = recentChainData.getHeadSlot().plus(ONE);
+    final SignedBeaconBlock block =
+        storageSystem.chainBuilder().generateBlockAtSlot(nextSlot).getBlock();
+    storageSystem.chainUpdater().setCurrentSlot(nextSlot);
+
+    final AsyncBLSSignatureVerifier failingVerifier = mock(AsyncBLSSignatureVerifier.class);
+    when(failingVerifier.verify(any(BLSPublicKey.class), any(), any()))
+        .thenReturn(SafeFuture.completedFuture(false));
+    blockValidator =
+        new BlockValidator(spec, recentChainData, failingVerifier, verifiedSignatureCache);
+
+    assertTrue(blockValidator.validate(block).join().isReject());
+    assertThat(verifiedSignatureCache.size()).isZero();
+  }
+
   @TestTemplate
   void shouldIgnoreAlreadyImportedBlock() {
     final SignedBeaconBlock block = storageSystem.chainUpdater().advanceChain().getBlock();
@@ -221,7 +268,9 @@ public class BlockValidatorTest {
     ChainBuilder chainBuilder = ChainBuilder.create(VALIDATOR_KEYS);
     ChainUpdater chainUpdater = new ChainUpdater(storageSystem.recentChainData(), chainBuilder);
 
-    BlockValidator blockValidator = new BlockValidator(spec, storageSystem.recentChainData());
+    BlockValidator blockValidator =
+        new BlockValidator(
+            spec, storageSystem.recentChainData(), signatureVerifier, verifiedSignatureCache);
     chainUpdater.initializeGenesis();
 
     chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(1));
@@ -251,7 +300,8 @@ public class BlockValidatorTest {
     storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
     storageSystem.chainUpdater().initializeGenesisWithPayload(false);
     recentChainData = storageSystem.recentChainData();
-    blockValidator = new BlockValidator(spec, recentChainData);
+    blockValidator =
+        new BlockValidator(spec, recentChainData, signatureVerifier, verifiedSignatureCache);
 
     final UInt64 nextSlot = recentChainData.getHeadSlot().plus(ONE);
     storageSystem.chainUpdater().setCurrentSlot(nextSlot);
@@ -269,7 +319,8 @@ public class BlockValidatorTest {
     storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
     storageSystem.chainUpdater().initializeGenesisWithPayload(false);
     recentChainData = storageSystem.recentChainData();
-    blockValidator = new BlockValidator(spec, recentChainData);
+    blockValidator =
+        new BlockValidator(spec, recentChainData, signatureVerifier, verifiedSignatureCache);
 
     final UInt64 nextSlot = recentChainData.getHeadSlot().plus(ONE);
     storageSystem.chainUpdater().setCurrentSlot(nextSlot);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchSizerTest {
+  private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+  private final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(100, Duration.ofMillis(50));
+
+  @Test
+  void shouldStartAtMaxBatchSize() {
+    assertThat(sizer.getBatchSize()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldReduceBatchSizeWhenBatchesAreSlow() {
+    // 2ms per signature so 25 signatures fit in the target duration
+    sizer.onBatchVerified(100, 200 * MILLIS);
+    assertThat(sizer.getBatchSize()).isEqualTo(25);
+  }
+
+  @Test
+  void shouldIncreaseBatchSizeWhenBatchesBecomeFaster() {
+    sizer.onBatchVerified(100, 200 * MILLIS);
+    sizer.onBatchVerified(25, 5 * MILLIS);
+
+    // Average cost is 0.2 * 0.2ms + 0.8 * 2ms = 1.64ms per signature
+    assertThat(sizer.getBatchSize()).isEqualTo(30);
+  }
+
+  @Test
+  void shouldNotExceedMaxBatchSize() {
+    sizer.onBatchVerified(10, MILLIS);
+    assertThat(sizer.getBatchSize()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldAlwaysAllowAtLeastOneTask() {
+    sizer.onBatchVerified(1, 500 * MILLIS);
+    assertThat(sizer.getBatchSize()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldIgnoreEmptyBatches() {
+    sizer.onBatchVerified(0, 500 * MILLIS);
+    assertThat(sizer.getBatchSize()).isEqualTo(100);
+  }
+}
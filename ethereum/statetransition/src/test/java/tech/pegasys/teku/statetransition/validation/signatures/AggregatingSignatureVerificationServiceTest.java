@@ -99,6 +99,46 @@ public class AggregatingSignatureVerificationServiceTest {
     assertThatThrownBy(future::get).hasCauseInstanceOf(ServiceCapacityExceededException.class);
   }
 
+  @SuppressWarnings("FutureReturnValueIgnored")
+  @Test
+  public void verify_withFullQueue_shouldDropLowerPriorityTask() {
+    startService();
+
+    final SafeFuture<Boolean> attestationFuture = executeValidVerify(0, 0);
+    for (int i = 1; i < queueCapacity; i++) {
+      executeValidVerify(SignatureVerificationPriority.AGGREGATE, 0, i);
+    }
+    final SafeFuture<Boolean> blockFuture =
+        executeValidVerify(SignatureVerificationPriority.BLOCK, 1, 1);
+    completionRunner.executeQueuedActions();
+
+    assertThat(attestationFuture).isCompletedExceptionally();
+    assertThatThrownBy(attestationFuture::get)
+        .hasCauseInstanceOf(ServiceCapacityExceededException.class);
+    assertThat(blockFuture).isNotDone();
+    assertThat(service.batchSignatureTasks.size()).isEqualTo(queueCapacity);
+
+    runPendingTasks();
+    assertThat(blockFuture).isCompletedWithValue(true);
+  }
+
+  @Test
+  public void verify_shouldBatchHigherPriorityTasksFirst() {
+    startService();
+
+    final SafeFuture<Boolean> attestationFuture = executeValidVerify(0, 0);
+    final SafeFuture<Boolean> aggregateFuture =
+        executeValidVerify(SignatureVerificationPriority.AGGREGATE, 1, 1);
+
+    final List<SignatureTask> tasks = getPendingTasks();
+    assertThat(tasks)
+        .extracting(task -> task.priority)
+        .containsExactly(
+            SignatureVerificationPriority.AGGREGATE, SignatureVerificationPriority.ATTESTATION);
+    assertThat(tasks.get(0).result).isSameAs(aggregateFuture);
+    assertThat(tasks.get(1).result).isSameAs(attestationFuture);
+  }
+
   @Test
   public void verify_singleValidSignature() {
     startService();
@@ -121,6 +161,19 @@ public class AggregatingSignatureVerificationServiceTest {
     assertThat(future).isCompletedWithValue(false);
   }
 
+  @SuppressWarnings("FutureReturnValueIgnored")
+  @Test
+  public void batchVerifySignatures_shouldReportWhetherBatchWasValid() {
+    startService();
+    executeValidVerify(0, 0);
+    executeValidVerify(1, 1);
+    assertThat(service.batchVerifySignatures(getPendingTasks())).isTrue();
+
+    executeValidVerify(0, 0);
+    executeInvalidVerify(1, 1);
+    assertThat(service.batchVerifySignatures(getPendingTasks())).isFalse();
+  }
+
   @Test
   public void verify_validSignatures_fullBatch() {
     verifyValidSignatures(queueCapacity);
@@ -364,6 +417,15 @@ public class AggregatingSignatureVerificationServiceTest {
     return executeVerify(keypairIndex, data, false);
   }
 
+  private SafeFuture<Boolean> executeValidVerify(
+      final SignatureVerificationPriority priority, final int keypairIndex, final int data) {
+    final BLSKeyPair keypair = KEYS.get(keypairIndex);
+    final Bytes message = Bytes.of(data);
+    return service
+        .forPriority(priority)
+        .verify(keypair.getPublicKey(), message, BLS.sign(keypair.getSecretKey(), message));
+  }
+
   private SafeFuture<Boolean> executeVerify(
       final int keypairIndex, final int data, final boolean useValidSignature) {
     final BLSKeyPair keypair = KEYS.get(keypairIndex);
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority.AGGREGATE;
+import static tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority.API;
+import static tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority.ATTESTATION;
+import static tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority.BACKFILL;
+import static tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority.BLOCK;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class PrioritizedTaskQueueTest {
+  private final PrioritizedTaskQueue<Task> queue = new PrioritizedTaskQueue<>(3, Task::getPriority);
+
+  @Test
+  void shouldDrainHighestPriorityTasksFirst() {
+    final Task attestation = new Task(ATTESTATION);
+    final Task aggregate = new Task(AGGREGATE);
+    final Task block = new Task(BLOCK);
+    assertThat(queue.offer(attestation)).isEmpty();
+    assertThat(queue.offer(aggregate)).isEmpty();
+    assertThat(queue.offer(block)).isEmpty();
+
+    final List<Task> tasks = new ArrayList<>();
+    assertThat(queue.drainTo(tasks, 2)).isEqualTo(2);
+    assertThat(tasks).containsExactly(block, aggregate);
+    assertThat(queue.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldStopDrainingBeforeExceedingMaxWeight() {
+    final Task block = new Task(BLOCK, 3);
+    final Task aggregate = new Task(AGGREGATE, 2);
+    final Task attestation = new Task(ATTESTATION, 1);
+    queue.offer(attestation);
+    queue.offer(aggregate);
+    queue.offer(block);
+
+    final List<Task> tasks = new ArrayList<>();
+    assertThat(queue.drainTo(tasks, 3, Task::getWeight, 4)).isEqualTo(1);
+    assertThat(tasks).containsExactly(block);
+
+    assertThat(queue.drainTo(tasks, 3, Task::getWeight, 4)).isEqualTo(2);
+    assertThat(tasks).containsExactly(block, aggregate, attestation);
+  }
+
+  @Test
+  void shouldProcessTasksWithSamePriorityInOrder() throws Exception {
+    final Task first = new Task(API);
+    final Task second = new Task(API);
+    queue.offer(first);
+    queue.offer(second);
+
+    assertThat(queue.poll(1, TimeUnit.MILLISECONDS)).isSameAs(first);
+    assertThat(queue.poll(1, TimeUnit.MILLISECONDS)).isSameAs(second);
+    assertThat(queue.poll(1, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  void shouldDropOldestTaskFromLowestPriorityLaneWhenFull() {
+    final Task oldestAttestation = new Task(ATTESTATION);
+    final Task attestation = new Task(ATTESTATION);
+    final Task api = new Task(API);
+    queue.offer(oldestAttestation);
+    queue.offer(api);
+    queue.offer(attestation);
+
+    final Task block = new Task(BLOCK);
+    assertThat(queue.offer(block)).contains(oldestAttestation);
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.size(ATTESTATION)).isEqualTo(1);
+    assertThat(queue.size(BLOCK)).isEqualTo(1);
+
+    final List<Task> tasks = new ArrayList<>();
+    queue.drainTo(tasks);
+    assertThat(tasks).containsExactly(block, api, attestation);
+  }
+
+  @Test
+  void shouldRejectTaskWhenFullAndNoLowerPriorityTasksAreQueued() {
+    queue.offer(new Task(AGGREGATE));
+    queue.offer(new Task(BLOCK));
+    queue.offer(new Task(AGGREGATE));
+
+    final Task aggregate = new Task(AGGREGATE);
+    assertThat(queue.offer(aggregate)).contains(aggregate);
+    assertThat(queue.size(AGGREGATE)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotDropGossipWorkToMakeRoomForBackfill() {
+    queue.offer(new Task(ATTESTATION));
+    queue.offer(new Task(ATTESTATION));
+    queue.offer(new Task(ATTESTATION));
+
+    final Task backfill = new Task(BACKFILL);
+    assertThat(queue.offer(backfill)).contains(backfill);
+    assertThat(queue.size(ATTESTATION)).isEqualTo(3);
+  }
+
+  private static class Task {
+    private final SignatureVerificationPriority priority;
+    private final int weight;
+
+    private Task(final SignatureVerificationPriority priority) {
+      this(priority, 1);
+    }
+
+    private Task(final SignatureVerificationPriority priority, final int weight) {
+      this.priority = priority;
+      this.weight = weight;
+    }
+
+    public int getWeight() {
+      return weight;
+    }
+
+    public SignatureVerificationPriority getPriority() {
+      return priority;
+    }
+  }
+}
@@ -13,20 +13,31 @@
 
 package tech.pegasys.teku.infrastructure.crypto;
 
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 @State(Scope.Benchmark)
 public class HashBenchmark {
+  private static final int BATCH_SIZE = 1024;
 
   private final Bytes data1 = Bytes32.random();
   private final Bytes data2 = Bytes32.random();
 
+  private final byte[] batchInput =
+      Bytes.random(BATCH_SIZE * Sha256BatchHasher.INPUT_SIZE).toArray();
+  private final byte[] batchOutput = new byte[BATCH_SIZE * Sha256BatchHasher.OUTPUT_SIZE];
+  private final Bytes32[] pairs =
+      IntStream.range(0, BATCH_SIZE * 2)
+          .mapToObj(i -> Bytes32.wrap(batchInput, i * Bytes32.SIZE))
+          .toArray(Bytes32[]::new);
+
   @Benchmark
   @Fork(2)
   public void measureSha256_concatenate(Blackhole blackhole) {
@@ -38,4 +49,21 @@ public class HashBenchmark {
   public void measureSha256_multiarg(Blackhole blackhole) {
     blackhole.consume(Hash.sha256(data1, data2));
   }
+
+  @Benchmark
+  @Fork(2)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void measureSha256_pairs(Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      blackhole.consume(Hash.sha256(pairs[2 * i], pairs[2 * i + 1]));
+    }
+  }
+
+  @Benchmark
+  @Fork(2)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void measureSha256_batch(Blackhole blackhole) {
+    Hash.getBatchHasher().hash64(batchInput, 0, batchOutput, 0, BATCH_SIZE);
+    blackhole.consume(batchOutput);
+  }
 }
@@ -13,11 +13,21 @@
 
 package tech.pegasys.teku.infrastructure.crypto;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import java.security.MessageDigest;
+import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
 public class Hash {
+
+  private static volatile Supplier<Sha256BatchHasher> batchHasherFactory =
+      MessageDigestSha256BatchHasher::new;
+
+  private static final ThreadLocal<BatchHasherHolder> BATCH_HASHER =
+      ThreadLocal.withInitial(BatchHasherHolder::new);
+
   public static Bytes32 sha256(final byte[] input) {
     return Bytes32.wrap(MessageDigestFactory.createSha256().digest(input));
   }
@@ -44,4 +54,32 @@ public class Hash {
     c.update(digest);
     return Bytes32.wrap(digest.digest());
   }
+
+  /**
+   * Returns the {@link Sha256BatchHasher} bound to the current thread. The returned instance must
+   * not be shared with other threads.
+   */
+  public static Sha256BatchHasher getBatchHasher() {
+    final BatchHasherHolder holder = BATCH_HASHER.get();
+    final Supplier<Sha256BatchHasher> factory = batchHasherFactory;
+    if (holder.factory != factory) {
+      holder.factory = factory;
+      holder.hasher = factory.get();
+    }
+    return holder.hasher;
+  }
+
+  /**
+   * Replaces the factory used to create per-thread {@link Sha256BatchHasher} instances. Threads
+   * pick up the new implementation on their next call to {@link #getBatchHasher()}.
+   */
+  public static void setBatchHasherFactory(final Supplier<Sha256BatchHasher> factory) {
+    checkNotNull(factory);
+    batchHasherFactory = factory;
+  }
+
+  private static class BatchHasherHolder {
+    private Supplier<Sha256BatchHasher> factory;
+    private Sha256BatchHasher hasher;
+  }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+
+/**
+ * {@link Sha256BatchHasher} backed by a single reused {@link MessageDigest}. Hashes are computed
+ * one after another, but no intermediate objects are allocated per hash.
+ */
+public class MessageDigestSha256BatchHasher implements Sha256BatchHasher {
+
+  private final MessageDigest digest = MessageDigestFactory.createSha256();
+
+  @Override
+  public void hash64(
+      final byte[] input,
+      final int inputOffset,
+      final byte[] output,
+      final int outputOffset,
+      final int count) {
+    checkArgument(count >= 0, "Invalid count: %s", count);
+    checkArgument(
+        inputOffset >= 0 && inputOffset + count * INPUT_SIZE <= input.length,
+        "Input buffer too small");
+    checkArgument(
+        outputOffset >= 0 && outputOffset + count * OUTPUT_SIZE <= output.length,
+        "Output buffer too small");
+    try {
+      for (int i = 0; i < count; i++) {
+        digest.update(input, inputOffset + i * INPUT_SIZE, INPUT_SIZE);
+        digest.digest(output, outputOffset + i * OUTPUT_SIZE, OUTPUT_SIZE);
+      }
+    } catch (final DigestException e) {
+      digest.reset();
+      throw new IllegalStateException("Failed to compute SHA-256 hash", e);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+/**
+ * Hashes many independent 64 byte inputs (typically a pair of 32 byte child roots) in a single
+ * call. Inputs and outputs are laid out contiguously so that implementations are free to process
+ * several lanes at once and callers can reuse their buffers between batches.
+ *
+ * <p>Instances are not required to be thread safe. Use {@link Hash#getBatchHasher()} to obtain a
+ * per-thread instance.
+ */
+public interface Sha256BatchHasher {
+
+  int INPUT_SIZE = 64;
+  int OUTPUT_SIZE = 32;
+
+  /**
+   * Computes {@code count} SHA-256 hashes.
+   *
+   * @param input buffer holding {@code count} consecutive 64 byte inputs starting at {@code
+   *     inputOffset}
+   * @param inputOffset offset of the first input in {@code input}
+   * @param output buffer receiving {@code count} consecutive 32 byte hashes starting at {@code
+   *     outputOffset}
+   * @param outputOffset offset of the first hash in {@code output}
+   * @param count number of 64 byte inputs to hash
+   */
+  void hash64(byte[] input, int inputOffset, byte[] output, int outputOffset, int count);
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Measures the per-event overhead of delivering events to a subscriber.
+ *
+ * <p>{@link #reflectiveDelivery} is how events were delivered before subscribers were bound with
+ * {@link EventMethodInvoker}, {@link #boundDelivery} is how they are delivered now and {@link
+ * #publishViaChannel} includes the publisher proxy and metrics of a synchronous channel.
+ */
+@Fork(2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class EventChannelBenchmark {
+
+  @Param({"noop", "prometheus"})
+  String metrics;
+
+  private final Subscriber subscriber = new Subscriber();
+  private final Object[] args = {1L, "event"};
+  private Method method;
+  private EventMethodInvoker invoker;
+  private BenchmarkChannel publisher;
+
+  @Setup
+  public void setup() throws Exception {
+    method = BenchmarkChannel.class.getMethod("onEvent", long.class, String.class);
+    invoker = EventMethodInvoker.create(method);
+
+    final MetricsSystem metricsSystem =
+        metrics.equals("noop")
+            ? new NoOpMetricsSystem()
+            : new PrometheusMetricsSystem(Set.of(TekuMetricCategory.EVENTBUS), true);
+    final EventChannel<BenchmarkChannel> channel =
+        EventChannel.create(BenchmarkChannel.class, metricsSystem);
+    channel.subscribe(subscriber);
+    publisher = channel.getPublisher(Optional.empty());
+  }
+
+  @Benchmark
+  public void directCall(final Blackhole blackhole) {
+    subscriber.onEvent(1L, "event");
+    blackhole.consume(subscriber.total);
+  }
+
+  @Benchmark
+  public void reflectiveDelivery(final Blackhole blackhole) throws Exception {
+    method.invoke(subscriber, args);
+    blackhole.consume(subscriber.total);
+  }
+
+  @Benchmark
+  public void boundDelivery(final Blackhole blackhole) throws Throwable {
+    invoker.invoke(subscriber, args);
+    blackhole.consume(subscriber.total);
+  }
+
+  @Benchmark
+  public void publishViaChannel(final Blackhole blackhole) {
+    publisher.onEvent(1L, "event");
+    blackhole.consume(subscriber.total);
+  }
+
+  public interface BenchmarkChannel extends VoidReturningChannelInterface {
+    void onEvent(long value, String name);
+  }
+
+  public static class Subscriber implements BenchmarkChannel {
+    private long total;
+
+    @Override
+    public void onEvent(final long value, final String name) {
+      total += value + name.length();
+    }
+  }
+}
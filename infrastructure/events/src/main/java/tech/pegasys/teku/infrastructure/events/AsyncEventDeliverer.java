@@ -19,8 +19,6 @@ import static java.util.Collections.synchronizedMap;
 import java.lang.reflect.Method;
 import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
@@ -28,29 +26,40 @@ import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.events.EventQueue.QueuedEvent;
+import tech.pegasys.teku.infrastructure.events.EventQueueMetrics.SubscriberQueueMetrics;
 
 public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   private static final Logger LOG = LogManager.getLogger();
   private static final int QUEUE_CAPACITY = 500;
 
-  private final Map<T, BlockingQueue<Runnable>> eventQueuesBySubscriber =
+  private final Map<T, SubscriberQueue> eventQueuesBySubscriber =
       synchronizedMap(new IdentityHashMap<>());
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final ExecutorService executor;
+  private final String channelName;
+  private final EventQueueMetrics queueMetrics;
 
-  public AsyncEventDeliverer(
+  AsyncEventDeliverer(
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
+      final String channelName,
+      final EventQueueMetrics queueMetrics,
       final MetricsSystem metricsSystem) {
     super(exceptionHandler, metricsSystem);
     this.executor = executor;
+    this.channelName = channelName;
+    this.queueMetrics = queueMetrics;
   }
 
   @Override
-  void subscribe(final T subscriber, final int numberOfThreads) {
-    final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
-    eventQueuesBySubscriber.put(subscriber, queue);
-    super.subscribe(subscriber, numberOfThreads);
+  void subscribe(
+      final T subscriber, final int numberOfThreads, final EventQueueStrategy queueStrategy) {
+    final EventQueue queue = queueStrategy.createQueue(QUEUE_CAPACITY);
+    final SubscriberQueueMetrics metrics =
+        queueMetrics.register(channelName, subscriber.getClass().getSimpleName(), queue);
+    eventQueuesBySubscriber.put(subscriber, new SubscriberQueue(queue, metrics));
+    super.subscribe(subscriber, numberOfThreads, queueStrategy);
     for (int i = 0; i < numberOfThreads; i++) {
       executor.execute(new QueueReader(queue));
     }
@@ -58,7 +67,7 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
 
   @Override
   protected void deliverTo(final T subscriber, final Method method, final Object[] args) {
-    enqueueDelivery(subscriber, method, () -> super.deliverTo(subscriber, method, args));
+    enqueueDelivery(subscriber, method, args, () -> super.deliverTo(subscriber, method, args));
   }
 
   @Override
@@ -71,17 +80,21 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     enqueueDelivery(
         subscriber,
         method,
+        args,
         () ->
             super.<X>deliverToWithResponse(subscriber, method, args, responseRunner)
                 .propagateToAsync(result, responseRunner));
     return result;
   }
 
-  private void enqueueDelivery(final T subscriber, final Method method, final Runnable action) {
-    final BlockingQueue<Runnable> queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
+  private void enqueueDelivery(
+      final T subscriber, final Method method, final Object[] args, final Runnable action) {
+    final SubscriberQueue subscriberQueue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
+    final QueuedEvent event =
+        new QueuedEvent(method, args, action, subscriberQueue.metrics.startQueueTimer());
     while (!stopped.get()) {
       try {
-        queue.put(action);
+        subscriberQueue.metrics.recordDropped(subscriberQueue.queue.add(event));
         return;
       } catch (final InterruptedException e) {
         LOG.debug("Interrupted while trying to publish event {}", method::getName);
@@ -95,10 +108,20 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     executor.shutdownNow();
   }
 
+  private static class SubscriberQueue {
+    private final EventQueue queue;
+    private final SubscriberQueueMetrics metrics;
+
+    private SubscriberQueue(final EventQueue queue, final SubscriberQueueMetrics metrics) {
+      this.queue = queue;
+      this.metrics = metrics;
+    }
+  }
+
   class QueueReader implements Runnable {
-    private final BlockingQueue<Runnable> queue;
+    private final EventQueue queue;
 
-    public QueueReader(final BlockingQueue<Runnable> queue) {
+    public QueueReader(final EventQueue queue) {
       this.queue = queue;
     }
 
@@ -114,7 +137,7 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     }
 
     void deliverNextEvent() throws InterruptedException {
-      queue.take().run();
+      queue.take().deliver();
     }
   }
 }
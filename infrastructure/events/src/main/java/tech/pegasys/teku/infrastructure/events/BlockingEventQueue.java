@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+class BlockingEventQueue implements EventQueue {
+  private final BlockingQueue<QueuedEvent> queue;
+
+  BlockingEventQueue(final int capacity) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  @Override
+  public int add(final QueuedEvent event) throws InterruptedException {
+    queue.put(event);
+    return 0;
+  }
+
+  @Override
+  public QueuedEvent take() throws InterruptedException {
+    return queue.take();
+  }
+
+  @Override
+  public int size() {
+    return queue.size();
+  }
+}
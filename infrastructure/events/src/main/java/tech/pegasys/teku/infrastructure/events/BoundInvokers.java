@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Fixed arity functional interfaces implemented through {@link LambdaMetafactory}, and adapters
+ * from them to {@link EventMethodInvoker}.
+ */
+final class BoundInvokers {
+  static final Class<?>[] INVOKER_TYPES = {
+    Invoker0.class, Invoker1.class, Invoker2.class, Invoker3.class
+  };
+  static final Class<?>[] VOID_INVOKER_TYPES = {
+    VoidInvoker0.class, VoidInvoker1.class, VoidInvoker2.class, VoidInvoker3.class
+  };
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private BoundInvokers() {}
+
+  /**
+   * Binds an invoker for the method, or returns empty if it has more than {@link
+   * EventMethodInvoker#MAX_BOUND_PARAMETERS} parameters or can't be bound.
+   */
+  static Optional<EventMethodInvoker> bind(final Method method) {
+    if (method.getParameterCount() > EventMethodInvoker.MAX_BOUND_PARAMETERS) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(createBound(method));
+    } catch (final Throwable e) {
+      LOG.debug("Unable to bind invoker for {}, falling back to reflection", method, e);
+      return Optional.empty();
+    }
+  }
+
+  private static EventMethodInvoker createBound(final Method method) throws Throwable {
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    final MethodHandle implementation = lookup.unreflect(method);
+    final int parameterCount = method.getParameterCount();
+    final boolean isVoid = method.getReturnType().equals(Void.TYPE);
+    final Class<?> invokerType =
+        isVoid ? VOID_INVOKER_TYPES[parameterCount] : INVOKER_TYPES[parameterCount];
+    final MethodType erasedType =
+        MethodType.genericMethodType(parameterCount + 1)
+            .changeReturnType(isVoid ? Void.TYPE : Object.class);
+    // Primitive parameters arrive boxed so are unboxed by the generated invoker
+    final MethodType instantiatedType =
+        implementation.type().wrap().changeReturnType(method.getReturnType());
+    final CallSite callSite =
+        LambdaMetafactory.metafactory(
+            lookup,
+            "invoke",
+            MethodType.methodType(invokerType),
+            erasedType,
+            implementation,
+            instantiatedType);
+    final Object invoker = callSite.getTarget().invoke();
+    switch (parameterCount) {
+      case 0:
+        return isVoid ? adapt((VoidInvoker0) invoker) : adapt((Invoker0) invoker);
+      case 1:
+        return isVoid ? adapt((VoidInvoker1) invoker) : adapt((Invoker1) invoker);
+      case 2:
+        return isVoid ? adapt((VoidInvoker2) invoker) : adapt((Invoker2) invoker);
+      default:
+        return isVoid ? adapt((VoidInvoker3) invoker) : adapt((Invoker3) invoker);
+    }
+  }
+
+  interface Invoker0 {
+    Object invoke(Object subscriber);
+  }
+
+  interface Invoker1 {
+    Object invoke(Object subscriber, Object arg0);
+  }
+
+  interface Invoker2 {
+    Object invoke(Object subscriber, Object arg0, Object arg1);
+  }
+
+  interface Invoker3 {
+    Object invoke(Object subscriber, Object arg0, Object arg1, Object arg2);
+  }
+
+  interface VoidInvoker0 {
+    void invoke(Object subscriber);
+  }
+
+  interface VoidInvoker1 {
+    void invoke(Object subscriber, Object arg0);
+  }
+
+  interface VoidInvoker2 {
+    void invoke(Object subscriber, Object arg0, Object arg1);
+  }
+
+  interface VoidInvoker3 {
+    void invoke(Object subscriber, Object arg0, Object arg1, Object arg2);
+  }
+
+  static EventMethodInvoker adapt(final Invoker0 invoker) {
+    return (subscriber, args) -> invoker.invoke(subscriber);
+  }
+
+  static EventMethodInvoker adapt(final Invoker1 invoker) {
+    return (subscriber, args) -> invoker.invoke(subscriber, args[0]);
+  }
+
+  static EventMethodInvoker adapt(final Invoker2 invoker) {
+    return (subscriber, args) -> invoker.invoke(subscriber, args[0], args[1]);
+  }
+
+  static EventMethodInvoker adapt(final Invoker3 invoker) {
+    return (subscriber, args) -> invoker.invoke(subscriber, args[0], args[1], args[2]);
+  }
+
+  static EventMethodInvoker adapt(final VoidInvoker0 invoker) {
+    return (subscriber, args) -> {
+      invoker.invoke(subscriber);
+      return null;
+    };
+  }
+
+  static EventMethodInvoker adapt(final VoidInvoker1 invoker) {
+    return (subscriber, args) -> {
+      invoker.invoke(subscriber, args[0]);
+      return null;
+    };
+  }
+
+  static EventMethodInvoker adapt(final VoidInvoker2 invoker) {
+    return (subscriber, args) -> {
+      invoker.invoke(subscriber, args[0], args[1]);
+      return null;
+    };
+  }
+
+  static EventMethodInvoker adapt(final VoidInvoker3 invoker) {
+    return (subscriber, args) -> {
+      invoker.invoke(subscriber, args[0], args[1], args[2]);
+      return null;
+    };
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import tech.pegasys.teku.infrastructure.events.EventQueueStrategy.CoalescingKeyFunction;
+
+/**
+ * Holds at most one pending event per key. Adding an event for a key which already has a pending
+ * event replaces it while keeping its position in the queue.
+ *
+ * <p>The queue is bounded by the number of distinct keys, which is the number of methods on the
+ * channel when coalescing by method.
+ */
+class CoalescingEventQueue implements EventQueue {
+  private final Map<Object, QueuedEvent> pendingEvents = new ConcurrentHashMap<>();
+  private final BlockingQueue<Object> pendingKeys = new LinkedBlockingQueue<>();
+  private final CoalescingKeyFunction keyFunction;
+
+  CoalescingEventQueue(final CoalescingKeyFunction keyFunction) {
+    this.keyFunction = keyFunction;
+  }
+
+  @Override
+  public int add(final QueuedEvent event) throws InterruptedException {
+    final Object key = keyFunction.getKey(event.getMethod(), event.getArgs());
+    if (pendingEvents.put(key, event) != null) {
+      // Replaced an event that hadn't been delivered yet
+      return 1;
+    }
+    pendingKeys.put(key);
+    return 0;
+  }
+
+  @Override
+  public QueuedEvent take() throws InterruptedException {
+    while (true) {
+      final QueuedEvent event = pendingEvents.remove(pendingKeys.take());
+      if (event != null) {
+        return event;
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return pendingEvents.size();
+  }
+}
@@ -15,8 +15,9 @@ package tech.pegasys.teku.infrastructure.events;
 
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTBUS;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
@@ -27,6 +28,11 @@ class DirectEventDeliverer<T> extends EventDeliverer<T> {
   private final ChannelExceptionHandler exceptionHandler;
   private final LabelledMetric<Counter> consumedEventCounter;
   private final LabelledMetric<Counter> failedEventCounter;
+  private final Map<Method, EventMethodInvoker> invokers = new ConcurrentHashMap<>();
+  private final Map<Method, Map<Class<?>, Counter>> consumedEventCounters =
+      new ConcurrentHashMap<>();
+  private final Map<Method, Map<Class<?>, Counter>> failedEventCounters =
+      new ConcurrentHashMap<>();
 
   DirectEventDeliverer(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
@@ -71,22 +77,40 @@ class DirectEventDeliverer<T> extends EventDeliverer<T> {
   private <X> SafeFuture<X> executeMethod(
       final T subscriber, final Method method, final Object[] args) {
     try {
-      return (SafeFuture<X>) method.invoke(subscriber, args);
-    } catch (IllegalAccessException e) {
-      incrementCounter(failedEventCounter, subscriber, method);
-      return SafeFuture.failedFuture(e);
-    } catch (InvocationTargetException e) {
-      incrementCounter(failedEventCounter, subscriber, method);
-      return SafeFuture.failedFuture(e.getTargetException());
+      return (SafeFuture<X>) getInvoker(method).invoke(subscriber, args);
+    } catch (Throwable t) {
+      incrementCounter(failedEventCounters, failedEventCounter, subscriber, method);
+      return SafeFuture.failedFuture(t);
     } finally {
-      incrementCounter(consumedEventCounter, subscriber, method);
+      incrementCounter(consumedEventCounters, consumedEventCounter, subscriber, method);
     }
   }
 
+  private EventMethodInvoker getInvoker(final Method method) {
+    final EventMethodInvoker invoker = invokers.get(method);
+    if (invoker != null) {
+      return invoker;
+    }
+    return invokers.computeIfAbsent(method, EventMethodInvoker::create);
+  }
+
+  /** Increments the counter for the subscriber and method, caching it to avoid label lookups. */
   private void incrementCounter(
-      final LabelledMetric<Counter> counter, final T subscriber, final Method method) {
-    counter
-        .labels(method.getDeclaringClass().getSimpleName(), subscriber.getClass().getSimpleName())
-        .inc();
+      final Map<Method, Map<Class<?>, Counter>> cache,
+      final LabelledMetric<Counter> counter,
+      final T subscriber,
+      final Method method) {
+    final Map<Class<?>, Counter> countersBySubscriber =
+        cache.computeIfAbsent(method, __ -> new ConcurrentHashMap<>());
+    Counter subscriberCounter = countersBySubscriber.get(subscriber.getClass());
+    if (subscriberCounter == null) {
+      subscriberCounter =
+          countersBySubscriber.computeIfAbsent(
+              subscriber.getClass(),
+              subscriberClass ->
+                  counter.labels(
+                      method.getDeclaringClass().getSimpleName(), subscriberClass.getSimpleName()));
+    }
+    subscriberCounter.inc();
   }
 }
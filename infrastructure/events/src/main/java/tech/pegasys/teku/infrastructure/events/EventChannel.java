@@ -61,6 +61,7 @@ class EventChannel<T> {
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ChannelExceptionHandler exceptionHandler,
+      final EventQueueMetrics queueMetrics,
       final MetricsSystem metricsSystem) {
     return createAsync(
         channelInterface,
@@ -70,6 +71,7 @@ class EventChannel<T> {
                 .setNameFormat(channelInterface.getSimpleName() + "-%d")
                 .build()),
         exceptionHandler,
+        queueMetrics,
         metricsSystem);
   }
 
@@ -81,6 +83,7 @@ class EventChannel<T> {
         channelInterface,
         executor,
         LoggingChannelExceptionHandler.LOGGING_EXCEPTION_HANDLER,
+        new EventQueueMetrics(metricsSystem),
         metricsSystem);
   }
 
@@ -88,9 +91,16 @@ class EventChannel<T> {
       final Class<T> channelInterface,
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
+      final EventQueueMetrics queueMetrics,
       final MetricsSystem metricsSystem) {
     return create(
-        channelInterface, new AsyncEventDeliverer<>(executor, exceptionHandler, metricsSystem));
+        channelInterface,
+        new AsyncEventDeliverer<>(
+            executor,
+            exceptionHandler,
+            channelInterface.getSimpleName(),
+            queueMetrics,
+            metricsSystem));
   }
 
   private static <T> EventChannel<T> create(
@@ -147,6 +157,18 @@ class EventChannel<T> {
     subscribeMultithreaded(listener, 1);
   }
 
+  /**
+   * Adds a subscriber to this channel using the specified strategy to queue events for it.
+   *
+   * <p>Synchronous channels deliver events on the publisher thread so the strategy has no effect.
+   *
+   * @param listener the listener to notify of events
+   * @param queueStrategy the strategy to use when queuing events for the listener
+   */
+  void subscribe(final T listener, final EventQueueStrategy queueStrategy) {
+    subscribe(listener, 1, queueStrategy);
+  }
+
   /**
    * Adds a subscriber to this channel where events are handled by multiple threads concurrently.
    *
@@ -160,11 +182,21 @@ class EventChannel<T> {
    * @param requestedParallelism the number of threads to use to process events
    */
   void subscribeMultithreaded(final T listener, final int requestedParallelism) {
+    subscribe(listener, requestedParallelism, EventQueueStrategy.BLOCK);
+  }
+
+  private void subscribe(
+      final T listener, final int requestedParallelism, final EventQueueStrategy queueStrategy) {
     checkArgument(requestedParallelism > 0, "Number of threads must be at least 1");
+    // Channels which return values must be able to deliver every event or responses are lost
+    checkArgument(
+        queueStrategy == EventQueueStrategy.BLOCK || allowMultipleSubscribers,
+        "Queue strategy %s can only be used with channels that do not return values",
+        queueStrategy);
     if (!hasSubscriber.compareAndSet(false, true) && !allowMultipleSubscribers) {
       throw new IllegalStateException("Only one subscriber is supported by this event channel");
     }
-    invoker.subscribe(listener, requestedParallelism);
+    invoker.subscribe(listener, requestedParallelism, queueStrategy);
   }
 
   public void stop() {
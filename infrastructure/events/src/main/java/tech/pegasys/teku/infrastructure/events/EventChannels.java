@@ -28,8 +28,16 @@ public class EventChannels {
   public EventChannels(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
     this(
-        channelInterface ->
-            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem));
+        createAsyncChannelFactory(
+            exceptionHandler, new EventQueueMetrics(metricsSystem), metricsSystem));
+  }
+
+  private static Function<Class<?>, EventChannel<?>> createAsyncChannelFactory(
+      final ChannelExceptionHandler exceptionHandler,
+      final EventQueueMetrics queueMetrics,
+      final MetricsSystem metricsSystem) {
+    return channelInterface ->
+        EventChannel.createAsync(channelInterface, exceptionHandler, queueMetrics, metricsSystem);
   }
 
   public static EventChannels createSyncChannels(
@@ -83,6 +91,26 @@ public class EventChannels {
     return subscribeMultithreaded(channelInterface, subscriber, 1);
   }
 
+  /**
+   * Adds a subscriber to this channel using the specified strategy to queue events for it. Use a
+   * strategy other than {@link EventQueueStrategy#BLOCK} for subscribers that shouldn't be able to
+   * slow down publishers when they fall behind.
+   *
+   * <p>Note that only async event channels queue events. Synchronous channels will always use the
+   * publisher thread to process events.
+   *
+   * @param channelInterface the channel to subscribe to
+   * @param subscriber the subscriber to notify of events
+   * @param queueStrategy the strategy to use when queuing events for the subscriber
+   */
+  public <T extends VoidReturningChannelInterface> EventChannels subscribe(
+      final Class<T> channelInterface,
+      final T subscriber,
+      final EventQueueStrategy queueStrategy) {
+    getChannel(channelInterface).subscribe(subscriber, queueStrategy);
+    return this;
+  }
+
   /**
    * Adds a subscriber to this channel where events are handled by multiple threads concurrently.
    *
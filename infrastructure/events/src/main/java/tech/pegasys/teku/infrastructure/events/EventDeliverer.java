@@ -15,7 +15,9 @@ package tech.pegasys.teku.infrastructure.events;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
@@ -27,6 +29,7 @@ import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 abstract class EventDeliverer<T> {
   private final Subscribers<T> subscribers = Subscribers.create(true);
   private final LabelledMetric<Counter> publishedEventCounter;
+  private final Map<Method, Counter> publishedEventCounterByMethod = new ConcurrentHashMap<>();
 
   protected EventDeliverer(final MetricsSystem metricsSystem) {
     publishedEventCounter =
@@ -37,7 +40,8 @@ abstract class EventDeliverer<T> {
             "channel");
   }
 
-  void subscribe(final T subscriber, final int numberOfThreads) {
+  void subscribe(
+      final T subscriber, final int numberOfThreads, final EventQueueStrategy queueStrategy) {
     subscribers.subscribe(subscriber);
   }
 
@@ -54,7 +58,7 @@ abstract class EventDeliverer<T> {
         throw new RuntimeException(e);
       }
     }
-    publishedEventCounter.labels(method.getDeclaringClass().getSimpleName()).inc();
+    getPublishedEventCounter(method).inc();
     if (method.getReturnType().equals(Void.TYPE)) {
       subscribers.forEach(subscriber -> deliverTo(subscriber, method, args));
       return null;
@@ -70,6 +74,15 @@ abstract class EventDeliverer<T> {
     }
   }
 
+  private Counter getPublishedEventCounter(final Method method) {
+    final Counter counter = publishedEventCounterByMethod.get(method);
+    if (counter != null) {
+      return counter;
+    }
+    return publishedEventCounterByMethod.computeIfAbsent(
+        method, __ -> publishedEventCounter.labels(method.getDeclaringClass().getSimpleName()));
+  }
+
   protected abstract void deliverTo(T subscriber, Method method, Object[] args);
 
   protected abstract <X> SafeFuture<X> deliverToWithResponse(
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a channel method on a subscriber.
+ *
+ * <p>Invokers are bound once per method with {@link LambdaMetafactory}, so delivering an event is
+ * a plain interface call on the subscriber rather than a reflective {@link Method#invoke}. Methods
+ * with more than {@link #MAX_BOUND_PARAMETERS} parameters, or which can't be accessed from this
+ * package, fall back to reflection.
+ */
+@FunctionalInterface
+interface EventMethodInvoker {
+  int MAX_BOUND_PARAMETERS = 3;
+
+  /**
+   * Invokes the method.
+   *
+   * @param subscriber the subscriber to invoke the method on
+   * @param args the method arguments, which may be null if the method has no parameters
+   * @return the value returned by the method, or null if it is void
+   * @throws Throwable if the method throws or can't be accessed
+   */
+  Object invoke(Object subscriber, Object[] args) throws Throwable;
+
+  static EventMethodInvoker create(final Method method) {
+    return BoundInvokers.bind(method).orElseGet(() -> reflective(method));
+  }
+
+  private static EventMethodInvoker reflective(final Method method) {
+    return (subscriber, args) -> {
+      try {
+        return method.invoke(subscriber, args);
+      } catch (final InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    };
+  }
+}
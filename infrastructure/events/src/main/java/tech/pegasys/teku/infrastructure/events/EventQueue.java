@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.lang.reflect.Method;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+
+/** A queue of events waiting to be delivered to a single async subscriber. */
+interface EventQueue {
+
+  /**
+   * Adds an event to the queue, waiting for space if required by the queue strategy.
+   *
+   * @param event the event to add
+   * @return the number of events dropped as a result of adding this one, including the event
+   *     itself if it was rejected
+   * @throws InterruptedException if interrupted while waiting for space
+   */
+  int add(QueuedEvent event) throws InterruptedException;
+
+  /**
+   * Removes the next event from the queue, waiting until one is available.
+   *
+   * @return the next event
+   * @throws InterruptedException if interrupted while waiting
+   */
+  QueuedEvent take() throws InterruptedException;
+
+  int size();
+
+  class QueuedEvent {
+    private final Method method;
+    private final Object[] args;
+    private final Runnable action;
+    private final TimingContext queueTimer;
+
+    QueuedEvent(
+        final Method method,
+        final Object[] args,
+        final Runnable action,
+        final TimingContext queueTimer) {
+      this.method = method;
+      this.args = args;
+      this.action = action;
+      this.queueTimer = queueTimer;
+    }
+
+    Method getMethod() {
+      return method;
+    }
+
+    Object[] getArgs() {
+      return args;
+    }
+
+    void deliver() {
+      queueTimer.stopTimer();
+      action.run();
+    }
+  }
+}
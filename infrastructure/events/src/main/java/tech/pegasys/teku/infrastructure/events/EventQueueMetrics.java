@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTBUS;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+/**
+ * Tracks queue depth, queueing latency and dropped events for async subscribers.
+ *
+ * <p>Gauges can only be registered once per metrics system so a single instance must be shared by
+ * all channels created from the same metrics system.
+ */
+class EventQueueMetrics {
+  private final LabelledGauge queueSizeGauge;
+  private final LabelledMetric<OperationTimer> queueLatencyTimer;
+  private final LabelledMetric<Counter> droppedEventCounter;
+  private final Map<List<String>, List<EventQueue>> queuesByLabels = new ConcurrentHashMap<>();
+
+  EventQueueMetrics(final MetricsSystem metricsSystem) {
+    queueSizeGauge =
+        metricsSystem.createLabelledGauge(
+            EVENTBUS,
+            "event_queue_size",
+            "Current number of events waiting to be delivered to a subscriber",
+            "channel",
+            "subscriber");
+    queueLatencyTimer =
+        metricsSystem.createLabelledTimer(
+            EVENTBUS,
+            "event_queue_latency",
+            "Time events spend queued before being delivered to a subscriber",
+            "channel",
+            "subscriber");
+    droppedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_dropped_count",
+            "Number of events dropped or coalesced because a subscriber's queue was full",
+            "channel",
+            "subscriber");
+  }
+
+  SubscriberQueueMetrics register(
+      final String channelName, final String subscriberName, final EventQueue queue) {
+    final List<String> labels = List.of(channelName, subscriberName);
+    // Subscribers of the same type share labels so report the total size of their queues
+    queuesByLabels
+        .computeIfAbsent(
+            labels,
+            __ -> {
+              final List<EventQueue> queues = new CopyOnWriteArrayList<>();
+              queueSizeGauge.labels(
+                  () -> queues.stream().mapToInt(EventQueue::size).sum(),
+                  channelName,
+                  subscriberName);
+              return queues;
+            })
+        .add(queue);
+    return new SubscriberQueueMetrics(
+        queueLatencyTimer.labels(channelName, subscriberName),
+        droppedEventCounter.labels(channelName, subscriberName));
+  }
+
+  static class SubscriberQueueMetrics {
+    private final OperationTimer latencyTimer;
+    private final Counter droppedEventCounter;
+
+    private SubscriberQueueMetrics(
+        final OperationTimer latencyTimer, final Counter droppedEventCounter) {
+      this.latencyTimer = latencyTimer;
+      this.droppedEventCounter = droppedEventCounter;
+    }
+
+    OperationTimer.TimingContext startQueueTimer() {
+      return latencyTimer.startTimer();
+    }
+
+    void recordDropped(final int count) {
+      if (count > 0) {
+        droppedEventCounter.inc(count);
+      }
+    }
+  }
+}
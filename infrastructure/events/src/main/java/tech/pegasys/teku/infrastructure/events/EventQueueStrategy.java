@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.lang.reflect.Method;
+import java.util.function.IntFunction;
+
+/**
+ * Determines how events are queued for an async subscriber and what happens when the subscriber
+ * falls behind and its queue fills up.
+ *
+ * <p>Only {@link #BLOCK} can be used with channels that return values, as the other strategies may
+ * discard events and the publisher would then never receive a response.
+ */
+public final class EventQueueStrategy {
+  /** Publishers wait until there is space in the bounded queue. Events are never dropped. */
+  public static final EventQueueStrategy BLOCK = new EventQueueStrategy(BlockingEventQueue::new);
+
+  /**
+   * Publishers never wait or take a lock. New events are dropped when the bounded queue is full.
+   */
+  public static final EventQueueStrategy LOCK_FREE =
+      new EventQueueStrategy(LockFreeEventQueue::new);
+
+  /** Publishers never wait. The oldest queued events are dropped to make room for new ones. */
+  public static final EventQueueStrategy DROP_OLDEST =
+      new EventQueueStrategy(DropOldestEventQueue::new);
+
+  /**
+   * At most one event per channel method is queued. A new event replaces any pending event for the
+   * same method, keeping its place in the queue, so subscribers only see the latest value.
+   */
+  public static final EventQueueStrategy COALESCE = coalesce((method, args) -> method);
+
+  private final IntFunction<EventQueue> queueFactory;
+
+  private EventQueueStrategy(final IntFunction<EventQueue> queueFactory) {
+    this.queueFactory = queueFactory;
+  }
+
+  /**
+   * At most one event per key is queued. A new event replaces any pending event with the same key,
+   * keeping its place in the queue, so subscribers only see the latest value for each key.
+   *
+   * @param keyFunction calculates the key of an event from the channel method and its arguments
+   * @return the strategy
+   */
+  public static EventQueueStrategy coalesce(final CoalescingKeyFunction keyFunction) {
+    return new EventQueueStrategy(capacity -> new CoalescingEventQueue(keyFunction));
+  }
+
+  EventQueue createQueue(final int capacity) {
+    return queueFactory.apply(capacity);
+  }
+
+  @FunctionalInterface
+  public interface CoalescingKeyFunction {
+    /**
+     * Returns the key to coalesce an event by. Events with equal keys replace each other.
+     *
+     * @param method the channel method called
+     * @param args the method arguments, which may be null if the method has no parameters
+     * @return the key for the event
+     */
+    Object getKey(Method method, Object[] args);
+  }
+}
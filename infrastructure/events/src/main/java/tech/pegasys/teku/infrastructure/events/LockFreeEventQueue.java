@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded multi-producer queue where adding an event never blocks or takes a lock. Events are
+ * rejected when the queue is full.
+ *
+ * <p>Each successfully added event releases one permit so readers only block when the queue is
+ * empty and are guaranteed to find an event after acquiring a permit.
+ */
+class LockFreeEventQueue implements EventQueue {
+  private final Queue<QueuedEvent> queue = new ConcurrentLinkedQueue<>();
+  private final Semaphore available = new Semaphore(0);
+  private final AtomicInteger size = new AtomicInteger();
+  private final int capacity;
+
+  LockFreeEventQueue(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  @Override
+  public int add(final QueuedEvent event) {
+    if (size.incrementAndGet() > capacity) {
+      size.decrementAndGet();
+      return 1;
+    }
+    queue.offer(event);
+    available.release();
+    return 0;
+  }
+
+  @Override
+  public QueuedEvent take() throws InterruptedException {
+    available.acquire();
+    size.decrementAndGet();
+    return queue.poll();
+  }
+
+  @Override
+  public int size() {
+    return size.get();
+  }
+}
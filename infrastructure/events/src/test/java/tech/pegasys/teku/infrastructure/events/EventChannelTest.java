@@ -134,6 +134,13 @@ class EventChannelTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  public void shouldRejectLossyQueueStrategyWhenMethodsHaveReturnValues() {
+    final EventChannel<WithFuture> channel = EventChannel.create(WithFuture.class, metricsSystem);
+    assertThatThrownBy(() -> channel.subscribe(SafeFuture::new, EventQueueStrategy.COALESCE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void shouldReportExceptionsToExceptionHandler() throws Exception {
     final EventChannel<Runnable> channel =
@@ -203,6 +210,31 @@ class EventChannelTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  public void shouldCoalesceAsyncEventsForTheSameMethod() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsync(EventWithArgument.class, executor, metricsSystem);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber, EventQueueStrategy.COALESCE);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+    channel.getPublisher(Optional.empty()).method1("Event3");
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    consumerCaptor.getValue().deliverNextEvent();
+
+    // Latest event for method1 is delivered in the position of the first one
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verifyNoMoreInteractions();
+  }
+
   @Test
   public void shouldDeliverAsyncEventsOnMultipleThreads() throws Exception {
     executor =
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.events.EventMethodInvoker.MAX_BOUND_PARAMETERS;
+
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+class EventMethodInvokerTest {
+  private final Events events = mock(Events.class);
+
+  @Test
+  void shouldInvokeMethodWithoutArguments() throws Throwable {
+    final EventMethodInvoker invoker = createInvoker("noArgs");
+
+    assertThat(invoker.invoke(events, null)).isNull();
+    verify(events).noArgs();
+  }
+
+  @Test
+  void shouldInvokeMethodWithPrimitiveAndObjectArguments() throws Throwable {
+    final EventMethodInvoker invoker = createInvoker("withArgs", long.class, String.class);
+
+    assertThat(invoker.invoke(events, new Object[] {5L, "a"})).isNull();
+    verify(events).withArgs(5L, "a");
+  }
+
+  @Test
+  void shouldReturnValueFromMethod() throws Throwable {
+    final SafeFuture<String> result = SafeFuture.completedFuture("result");
+    when(events.withResponse(1)).thenReturn(result);
+    final EventMethodInvoker invoker = createInvoker("withResponse", int.class);
+
+    assertThat(invoker.invoke(events, new Object[] {1})).isSameAs(result);
+  }
+
+  @Test
+  void shouldInvokeMethodWithTooManyArgumentsToBind() throws Throwable {
+    final EventMethodInvoker invoker =
+        createInvoker("manyArgs", int.class, int.class, int.class, int.class);
+
+    assertThat(invoker.invoke(events, new Object[] {1, 2, 3, 4})).isNull();
+    verify(events).manyArgs(1, 2, 3, 4);
+  }
+
+  @Test
+  void shouldThrowExceptionFromMethodWithoutWrapping() throws Exception {
+    final RuntimeException error = new RuntimeException("Nope");
+    doThrow(error).when(events).noArgs();
+    final EventMethodInvoker invoker = createInvoker("noArgs");
+
+    assertThatThrownBy(() -> invoker.invoke(events, null)).isSameAs(error);
+  }
+
+  @Test
+  void shouldBindMethodsWithUpToMaxBoundParameters() {
+    assertThat(Events.class.getMethods())
+        .filteredOn(method -> method.getParameterCount() <= MAX_BOUND_PARAMETERS)
+        .extracting(Method::getName)
+        .containsExactlyInAnyOrder(
+            "noArgs",
+            "noArgsWithResponse",
+            "oneArg",
+            "withResponse",
+            "withArgs",
+            "twoArgsWithResponse",
+            "threeArgs",
+            "threeArgsWithResponse");
+    assertThat(Events.class.getMethods())
+        .filteredOn(method -> method.getParameterCount() <= MAX_BOUND_PARAMETERS)
+        .allSatisfy(method -> assertThat(BoundInvokers.bind(method)).isPresent());
+  }
+
+  @Test
+  void shouldNotBindMethodWithTooManyArguments() throws Exception {
+    final Method method =
+        Events.class.getMethod("manyArgs", int.class, int.class, int.class, int.class);
+
+    assertThat(BoundInvokers.bind(method)).isEmpty();
+  }
+
+  private EventMethodInvoker createInvoker(final String name, final Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    return EventMethodInvoker.create(Events.class.getMethod(name, parameterTypes));
+  }
+
+  interface Events {
+    void noArgs();
+
+    String noArgsWithResponse();
+
+    void oneArg(String value);
+
+    void withArgs(long slot, String value);
+
+    SafeFuture<String> withResponse(int value);
+
+    Object twoArgsWithResponse(int a, Object b);
+
+    void threeArgs(int a, long b, String c);
+
+    String threeArgsWithResponse(int a, long b, String c);
+
+    void manyArgs(int a, int b, int c, int d);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Method;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.events.EventQueue.QueuedEvent;
+
+class EventQueueTest {
+  private static final int CAPACITY = 2;
+
+  private final Method method1 = getMethod("method1");
+  private final Method method2 = getMethod("method2");
+
+  @Test
+  void lockFree_shouldRejectNewEventsWhenFull() throws Exception {
+    final EventQueue queue = EventQueueStrategy.LOCK_FREE.createQueue(CAPACITY);
+    final QueuedEvent event1 = event(method1);
+    final QueuedEvent event2 = event(method1);
+
+    assertThat(queue.add(event1)).isZero();
+    assertThat(queue.add(event2)).isZero();
+    assertThat(queue.add(event(method1))).isEqualTo(1);
+    assertThat(queue.size()).isEqualTo(CAPACITY);
+
+    assertThat(queue.take()).isSameAs(event1);
+    assertThat(queue.take()).isSameAs(event2);
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void dropOldest_shouldDropOldestEventsWhenFull() throws Exception {
+    final EventQueue queue = EventQueueStrategy.DROP_OLDEST.createQueue(CAPACITY);
+    final QueuedEvent event2 = event(method1);
+    final QueuedEvent event3 = event(method1);
+
+    assertThat(queue.add(event(method1))).isZero();
+    assertThat(queue.add(event2)).isZero();
+    assertThat(queue.add(event3)).isEqualTo(1);
+    assertThat(queue.size()).isEqualTo(CAPACITY);
+
+    assertThat(queue.take()).isSameAs(event2);
+    assertThat(queue.take()).isSameAs(event3);
+  }
+
+  @Test
+  void coalesce_shouldReplacePendingEventForSameMethod() throws Exception {
+    final EventQueue queue = EventQueueStrategy.COALESCE.createQueue(CAPACITY);
+    final QueuedEvent method2Event = event(method2);
+    final QueuedEvent latestMethod1Event = event(method1);
+
+    assertThat(queue.add(event(method1))).isZero();
+    assertThat(queue.add(method2Event)).isZero();
+    assertThat(queue.add(latestMethod1Event)).isEqualTo(1);
+    assertThat(queue.size()).isEqualTo(2);
+
+    assertThat(queue.take()).isSameAs(latestMethod1Event);
+    assertThat(queue.take()).isSameAs(method2Event);
+
+    // Once delivered, new events for the method are queued again
+    final QueuedEvent nextEvent = event(method1);
+    assertThat(queue.add(nextEvent)).isZero();
+    assertThat(queue.take()).isSameAs(nextEvent);
+  }
+
+  @Test
+  void coalesce_shouldReplacePendingEventWithSameKey() throws Exception {
+    final EventQueue queue =
+        EventQueueStrategy.coalesce((method, args) -> args[0]).createQueue(CAPACITY);
+    final QueuedEvent keyBEvent = event(method1, "b");
+    final QueuedEvent latestKeyAEvent = event(method2, "a");
+
+    assertThat(queue.add(event(method1, "a"))).isZero();
+    assertThat(queue.add(keyBEvent)).isZero();
+    assertThat(queue.add(latestKeyAEvent)).isEqualTo(1);
+    assertThat(queue.size()).isEqualTo(2);
+
+    assertThat(queue.take()).isSameAs(latestKeyAEvent);
+    assertThat(queue.take()).isSameAs(keyBEvent);
+  }
+
+  @Test
+  void block_shouldNeverDropEvents() throws Exception {
+    final EventQueue queue = EventQueueStrategy.BLOCK.createQueue(CAPACITY);
+    final QueuedEvent event1 = event(method1);
+
+    assertThat(queue.add(event1)).isZero();
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.take()).isSameAs(event1);
+  }
+
+  private QueuedEvent event(final Method method, final Object... args) {
+    return new QueuedEvent(method, args, () -> {}, mock(TimingContext.class));
+  }
+
+  private static Method getMethod(final String name) {
+    try {
+      return TwoMethods.class.getMethod(name);
+    } catch (final NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private interface TwoMethods {
+    void method1();
+
+    void method2();
+  }
+}
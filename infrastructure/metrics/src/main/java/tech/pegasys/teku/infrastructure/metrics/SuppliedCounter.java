@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.infrastructure.metrics;
+
+import io.prometheus.client.Collector;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+
+/**
+ * A counter metric whose value is read from a supplier each time metrics are collected. Allows
+ * components that maintain their own monotonic totals, but are created before the metrics system
+ * is available, to export those totals as counters. Only registered when the metrics system is a
+ * {@link PrometheusMetricsSystem}.
+ */
+public class SuppliedCounter {
+
+  private SuppliedCounter() {}
+
+  /**
+   * Register a counter which reports the value returned by {@code valueSupplier}.
+   *
+   * @param category the metrics category
+   * @param metricsSystem the metrics system to register with
+   * @param name the name of the metric, which should end in {@code _total}
+   * @param help the help text describing the metric
+   * @param valueSupplier supplies the current, monotonically increasing, value of the counter
+   */
+  public static void create(
+      final MetricCategory category,
+      final MetricsSystem metricsSystem,
+      final String name,
+      final String help,
+      final LongSupplier valueSupplier) {
+    if (metricsSystem instanceof PrometheusMetricsSystem) {
+      ((PrometheusMetricsSystem) metricsSystem)
+          .addCollector(category, () -> toCollector(category, name, help, valueSupplier));
+    }
+  }
+
+  private static Collector toCollector(
+      final MetricCategory metricCategory,
+      final String name,
+      final String help,
+      final LongSupplier valueSupplier) {
+    return new Collector() {
+      final String metricName =
+          metricCategory.getApplicationPrefix().orElse("") + metricCategory.getName() + "_" + name;
+
+      @Override
+      public List<MetricFamilySamples> collect() {
+        final MetricFamilySamples.Sample sample =
+            new MetricFamilySamples.Sample(
+                metricName,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                valueSupplier.getAsLong());
+        return Collections.singletonList(
+            new MetricFamilySamples(
+                metricName, Type.COUNTER, help, Collections.singletonList(sample)));
+      }
+    };
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RecursiveAction;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.crypto.Sha256BatchHasher;
+
+/**
+ * Calculates hashes of all not yet hashed {@link SimpleBranchNode}s of a subtree.
+ *
+ * <p>Dirty nodes are collected level by level starting from the root and then hashed bottom-up so
+ * that a whole tree level is submitted to the {@link Sha256BatchHasher} in a few large batches
+ * instead of one {@link java.security.MessageDigest} per node.
+ *
+ * <p>Collected nodes are marked with {@link SimpleBranchNode#markPendingHash()} so a node
+ * referenced many times is hashed once. Batch input and output use buffers kept per thread and
+ * each resulting root is copied out so nodes don't hold on to the whole batch output.
+ *
+ * <p>Large levels may be hashed concurrently if {@link ParallelTreeHashing} is enabled.
+ */
+final class BatchTreeHasher {
+
+  static final int MAX_BATCH_SIZE = 1024;
+
+  // Taken out while in use, as hashing a batch may hash a shared subtree on the same thread
+  private static final ThreadLocal<HashBuffers> BUFFERS = new ThreadLocal<>();
+
+  private BatchTreeHasher() {}
+
+  /** Hashes all dirty descendants of the {@code root} and finally the {@code root} itself */
+  static Bytes32 hashTreeRoot(final SimpleBranchNode root) {
+    final List<List<SimpleBranchNode>> levels = collectDirtyLevels(root);
+    final Optional<ParallelTreeHashing> parallelConfig = ParallelTreeHashing.getConfig();
+    for (int levelIdx = levels.size() - 1; levelIdx >= 0; levelIdx--) {
+      final List<SimpleBranchNode> level = levels.get(levelIdx);
+      if (parallelConfig.isPresent() && level.size() >= parallelConfig.get().getMinLevelSize()) {
+        parallelConfig.get().getPool().invoke(new HashLevelTask(level, 0, level.size()));
+      } else {
+        hashBatches(level, 0, level.size());
+      }
+    }
+    return root.getCachedHash();
+  }
+
+  private static List<List<SimpleBranchNode>> collectDirtyLevels(final SimpleBranchNode root) {
+    final List<List<SimpleBranchNode>> levels = new ArrayList<>();
+    List<SimpleBranchNode> level = List.of(root);
+    while (!level.isEmpty()) {
+      levels.add(level);
+      final List<SimpleBranchNode> nextLevel = new ArrayList<>(level.size() * 2);
+      for (SimpleBranchNode node : level) {
+        addIfDirty(node.left(), nextLevel);
+        addIfDirty(node.right(), nextLevel);
+      }
+      level = nextLevel;
+    }
+    return levels;
+  }
+
+  private static void addIfDirty(final TreeNode node, final List<SimpleBranchNode> nextLevel) {
+    // the same node instance may be referenced many times (e.g. default subtrees) so is only
+    // collected by whichever reference marks it first
+    if (node instanceof SimpleBranchNode && ((SimpleBranchNode) node).markPendingHash()) {
+      nextLevel.add((SimpleBranchNode) node);
+    }
+  }
+
+  private static void hashBatches(
+      final List<SimpleBranchNode> level, final int fromIndex, final int toIndex) {
+    final HashBuffers buffers = acquireBuffers();
+    try {
+      hashBatches(level, fromIndex, toIndex, buffers);
+    } finally {
+      BUFFERS.set(buffers);
+    }
+  }
+
+  private static HashBuffers acquireBuffers() {
+    final HashBuffers buffers = BUFFERS.get();
+    if (buffers == null) {
+      return new HashBuffers();
+    }
+    BUFFERS.set(null);
+    return buffers;
+  }
+
+  private static void hashBatches(
+      final List<SimpleBranchNode> level,
+      final int fromIndex,
+      final int toIndex,
+      final HashBuffers buffers) {
+    final Sha256BatchHasher hasher = Hash.getBatchHasher();
+    final MutableBytes input = buffers.input;
+    final byte[] output = buffers.output;
+    for (int batchStart = fromIndex; batchStart < toIndex; batchStart += MAX_BATCH_SIZE) {
+      final int batchSize = Math.min(MAX_BATCH_SIZE, toIndex - batchStart);
+      for (int i = 0; i < batchSize; i++) {
+        final SimpleBranchNode node = level.get(batchStart + i);
+        final int offset = i * Sha256BatchHasher.INPUT_SIZE;
+        // A node shared between levels may not be hashed yet, hashTreeRoot() handles it then
+        node.left().hashTreeRoot().copyTo(input, offset);
+        node.right().hashTreeRoot().copyTo(input, offset + Bytes32.SIZE);
+      }
+      hasher.hash64(input.toArrayUnsafe(), 0, output, 0, batchSize);
+      for (int i = 0; i < batchSize; i++) {
+        final int offset = i * Sha256BatchHasher.OUTPUT_SIZE;
+        level
+            .get(batchStart + i)
+            .setCachedHash(Bytes32.wrap(Arrays.copyOfRange(output, offset, offset + Bytes32.SIZE)));
+      }
+    }
+  }
+
+  private static final class HashBuffers {
+    private final MutableBytes input =
+        MutableBytes.create(MAX_BATCH_SIZE * Sha256BatchHasher.INPUT_SIZE);
+    private final byte[] output = new byte[MAX_BATCH_SIZE * Sha256BatchHasher.OUTPUT_SIZE];
+  }
+
+  /** Splits a level range in halves until it fits a few batches which are hashed directly */
+  private static class HashLevelTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_TASK_SIZE = 2 * MAX_BATCH_SIZE;
+
+    private final transient List<SimpleBranchNode> level;
+    private final int fromIndex;
+    private final int toIndex;
+
+    private HashLevelTask(
+        final List<SimpleBranchNode> level, final int fromIndex, final int toIndex) {
+      this.level = level;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    protected void compute() {
+      if (toIndex - fromIndex <= MAX_TASK_SIZE) {
+        hashBatches(level, fromIndex, toIndex);
+      } else {
+        // split on a batch boundary to keep batches full
+        final int middle =
+            fromIndex + ((toIndex - fromIndex) / 2 / MAX_BATCH_SIZE) * MAX_BATCH_SIZE;
+        invokeAll(
+            new HashLevelTask(level, fromIndex, middle), new HashLevelTask(level, middle, toIndex));
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Opt-in configuration for hashing large dirty subtrees on several threads.
+ *
+ * <p>When enabled, every tree level with at least {@link #getMinLevelSize()} dirty branch nodes is
+ * split into batches which are hashed concurrently in the configured {@link ForkJoinPool}. Smaller
+ * levels are still hashed on the calling thread since the fork/join overhead would dominate.
+ */
+public class ParallelTreeHashing {
+
+  public static final int DEFAULT_MIN_LEVEL_SIZE = 4 * BatchTreeHasher.MAX_BATCH_SIZE;
+
+  private static volatile Optional<ParallelTreeHashing> config = Optional.empty();
+
+  private final ForkJoinPool pool;
+  private final int minLevelSize;
+
+  private ParallelTreeHashing(final ForkJoinPool pool, final int minLevelSize) {
+    this.pool = pool;
+    this.minLevelSize = minLevelSize;
+  }
+
+  /**
+   * Enables parallel hashing
+   *
+   * @param pool the pool to run hashing tasks in
+   * @param minLevelSize minimal number of dirty nodes in a tree level to hash it in parallel
+   */
+  public static void enable(final ForkJoinPool pool, final int minLevelSize) {
+    checkNotNull(pool);
+    checkArgument(minLevelSize > 0, "Invalid min level size: %s", minLevelSize);
+    config = Optional.of(new ParallelTreeHashing(pool, minLevelSize));
+  }
+
+  /** Enables parallel hashing in the common {@link ForkJoinPool} */
+  public static void enable(final int minLevelSize) {
+    enable(ForkJoinPool.commonPool(), minLevelSize);
+  }
+
+  /** Disables parallel hashing, all trees are hashed on the calling thread afterwards */
+  public static void disable() {
+    config = Optional.empty();
+  }
+
+  public static boolean isEnabled() {
+    return config.isPresent();
+  }
+
+  static Optional<ParallelTreeHashing> getConfig() {
+    return config;
+  }
+
+  ForkJoinPool getPool() {
+    return pool;
+  }
+
+  int getMinLevelSize() {
+    return minLevelSize;
+  }
+}
@@ -13,11 +13,21 @@
 
 package tech.pegasys.teku.infrastructure.ssz.tree;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tuweni.bytes.Bytes32;
 
 class SimpleBranchNode implements BranchNode, TreeNode {
 
+  /**
+   * Placeholder for the hash of a node which has been collected for batch hashing but not hashed
+   * yet. It is compared by identity and never returned as a hash.
+   */
+  private static final Bytes32 PENDING_HASH = Bytes32.wrap(new byte[Bytes32.SIZE]);
+
+  private static final AtomicReferenceFieldUpdater<SimpleBranchNode, Bytes32> CACHED_HASH_UPDATER =
+      AtomicReferenceFieldUpdater.newUpdater(SimpleBranchNode.class, Bytes32.class, "cachedHash");
+
   private final TreeNode left;
   private final TreeNode right;
   private volatile Bytes32 cachedHash = null;
@@ -57,12 +67,43 @@ class SimpleBranchNode implements BranchNode, TreeNode {
 
   @Override
   public Bytes32 hashTreeRoot() {
-    if (cachedHash == null) {
-      cachedHash = BranchNode.super.hashTreeRoot();
+    if (isDirty()) {
+      if (isDirtyBranch(left) || isDirtyBranch(right)) {
+        // hash the whole dirty subtree level by level in batches
+        cachedHash = BatchTreeHasher.hashTreeRoot(this);
+      } else {
+        cachedHash = BranchNode.super.hashTreeRoot();
+      }
     }
     return cachedHash;
   }
 
+  Bytes32 getCachedHash() {
+    return cachedHash;
+  }
+
+  /**
+   * Marks this node as collected for batch hashing.
+   *
+   * @return true if the node was not hashed nor collected before
+   */
+  boolean markPendingHash() {
+    return CACHED_HASH_UPDATER.compareAndSet(this, null, PENDING_HASH);
+  }
+
+  void setCachedHash(Bytes32 hash) {
+    cachedHash = hash;
+  }
+
+  private boolean isDirty() {
+    final Bytes32 hash = cachedHash;
+    return hash == null || hash == PENDING_HASH;
+  }
+
+  private static boolean isDirtyBranch(TreeNode node) {
+    return node instanceof SimpleBranchNode && ((SimpleBranchNode) node).isDirty();
+  }
+
   @Override
   public String toString() {
     return left == right ? ("(2x " + left + ")") : ("(" + left + ", " + right + ')');
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+
+public class BatchTreeHasherTest {
+
+  @Test
+  void hashTreeRoot_shouldMatchRecursiveHashing() {
+    // more leaves than a single batch to cover batch splitting
+    final TreeNode tree = createTree(BatchTreeHasher.MAX_BATCH_SIZE * 3 + 5);
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHash(tree));
+  }
+
+  @Test
+  void hashTreeRoot_shouldRehashUpdatedTree() {
+    final TreeNode tree = createTree(100);
+    tree.hashTreeRoot();
+
+    final long leafGIndex = (1L << TreeUtil.treeDepth(100)) + 5;
+    final TreeNode updated = tree.updated(leafGIndex, TreeTest.newTestLeaf(777));
+
+    assertThat(updated.hashTreeRoot()).isEqualTo(recursiveHash(updated));
+    assertThat(updated.hashTreeRoot()).isNotEqualTo(tree.hashTreeRoot());
+  }
+
+  @Test
+  void hashTreeRoot_shouldHandleSharedSubtrees() {
+    final TreeNode subtree = createTree(16);
+    final TreeNode tree =
+        BranchNode.create(BranchNode.create(subtree, subtree), BranchNode.create(subtree, subtree));
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHash(tree));
+  }
+
+  @Test
+  void hashTreeRoot_shouldHashSubtreeLeftPendingByAnotherHashing() {
+    final SimpleBranchNode subtree = (SimpleBranchNode) createTree(16);
+    final TreeNode tree = BranchNode.create(subtree, createTree(8));
+    assertThat(subtree.markPendingHash()).isTrue();
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHash(tree));
+    assertThat(subtree.markPendingHash()).isFalse();
+  }
+
+  @Test
+  void hashTreeRoot_shouldHandleDefaultTrees() {
+    final TreeNode tree = TreeUtil.createDefaultTree(1 << 12, TreeTest.newTestLeaf(1));
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHash(tree));
+  }
+
+  @Test
+  void hashTreeRoot_shouldMatchRecursiveHashingWhenParallel() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    ParallelTreeHashing.enable(pool, BatchTreeHasher.MAX_BATCH_SIZE);
+    try {
+      final TreeNode tree = createTree(BatchTreeHasher.MAX_BATCH_SIZE * 16 + 3);
+
+      assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHash(tree));
+    } finally {
+      ParallelTreeHashing.disable();
+      pool.shutdown();
+    }
+  }
+
+  private static TreeNode createTree(final int leafCount) {
+    final List<LeafNode> leaves =
+        IntStream.range(0, leafCount).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList());
+    return TreeUtil.createTree(leaves);
+  }
+
+  private static Bytes32 recursiveHash(final TreeNode node) {
+    if (node instanceof BranchNode) {
+      final BranchNode branchNode = (BranchNode) node;
+      return Hash.sha256(recursiveHash(branchNode.left()), recursiveHash(branchNode.right()));
+    } else {
+      return node.hashTreeRoot();
+    }
+  }
+}
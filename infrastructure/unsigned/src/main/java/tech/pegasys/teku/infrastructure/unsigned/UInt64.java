@@ -23,8 +23,6 @@ import java.util.stream.Stream;
 public final class UInt64 implements Comparable<UInt64> {
 
   private static final long UNSIGNED_MASK = 0x7fffffffffffffffL;
-  private static final long HIGH_MASK = 0xffffffff00000000L;
-  private static final long LOW_MASK = 0x00000000ffffffffL;
 
   public static final int BYTES = 8;
 
@@ -130,10 +128,7 @@ public final class UInt64 implements Comparable<UInt64> {
   }
 
   private UInt64 plus(final long longBits1, final long longBits2) {
-    if (longBits1 != 0 && Long.compareUnsigned(longBits2, MAX_VALUE.longValue() - longBits1) > 0) {
-      throw new ArithmeticException("uint64 overflow");
-    }
-    return fromLongBits(longBits1 + longBits2);
+    return fromLongBits(UInt64Math.plus(longBits1, longBits2));
   }
 
   /**
@@ -191,10 +186,7 @@ public final class UInt64 implements Comparable<UInt64> {
   }
 
   private UInt64 minus(final long longBits1, final long longBits2) {
-    if (Long.compareUnsigned(longBits1, longBits2) < 0) {
-      throw new ArithmeticException("uint64 underflow");
-    }
-    return fromLongBits(longBits1 - longBits2);
+    return fromLongBits(UInt64Math.minus(longBits1, longBits2));
   }
 
   public UInt64 minusMinZero(final long other) {
@@ -229,25 +221,8 @@ public final class UInt64 implements Comparable<UInt64> {
     return times(value, other.value);
   }
 
-  /** Naive long-multiplication is quite efficient */
   private UInt64 times(final long longBits1, final long longBits2) {
-    if (Long.numberOfLeadingZeros(longBits1) + Long.numberOfLeadingZeros(longBits2) >= 64) {
-      return UInt64.fromLongBits(longBits1 * longBits2);
-    }
-    final long longBits1Hi = longBits1 >>> 32;
-    final long longBits1Lo = longBits1 & LOW_MASK;
-    final long longBits2Hi = longBits2 >>> 32;
-    final long longBits2Lo = longBits2 & LOW_MASK;
-    if (longBits1Hi * longBits2Hi != 0) {
-      throw new ArithmeticException("uint64 overflow");
-    }
-    // One or the other of longBits1Hi and longBits2Hi is zero
-    final long crossProduct =
-        (longBits1Hi == 0) ? longBits1Lo * longBits2Hi : longBits1Hi * longBits2Lo;
-    if ((crossProduct & HIGH_MASK) != 0) {
-      throw new ArithmeticException("uint64 overflow");
-    }
-    return plus(crossProduct << 32, longBits1Lo * longBits2Lo);
+    return fromLongBits(UInt64Math.times(longBits1, longBits2));
   }
 
   /**
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.unsigned;
+
+/**
+ * Arithmetic on unsigned 64-bit values held as raw {@code long} bits.
+ *
+ * <p>The operations have exactly the same semantics (including overflow and underflow checks) as
+ * the corresponding {@link UInt64} methods but don't allocate, which makes them suitable for hot
+ * loops over the whole validator registry. Values should be converted to {@link UInt64} at API
+ * boundaries.
+ */
+public class UInt64Math {
+  private static final long HIGH_MASK = 0xffffffff00000000L;
+  private static final long LOW_MASK = 0x00000000ffffffffL;
+
+  private UInt64Math() {}
+
+  /**
+   * @return {@code a + b}
+   * @throws ArithmeticException if the result exceeds {@link UInt64#MAX_VALUE}
+   */
+  public static long plus(final long a, final long b) {
+    if (a != 0 && Long.compareUnsigned(b, -1L - a) > 0) {
+      throw new ArithmeticException("uint64 overflow");
+    }
+    return a + b;
+  }
+
+  /**
+   * @return {@code a - b}
+   * @throws ArithmeticException if the result is less than zero
+   */
+  public static long minus(final long a, final long b) {
+    if (Long.compareUnsigned(a, b) < 0) {
+      throw new ArithmeticException("uint64 underflow");
+    }
+    return a - b;
+  }
+
+  /** @return {@code a - b} or zero if {@code b} is greater than {@code a} */
+  public static long minusMinZero(final long a, final long b) {
+    return Long.compareUnsigned(a, b) > 0 ? a - b : 0;
+  }
+
+  /**
+   * @return {@code a * b}
+   * @throws ArithmeticException if the result exceeds {@link UInt64#MAX_VALUE}
+   */
+  public static long times(final long a, final long b) {
+    // Naive long-multiplication is quite efficient
+    if (Long.numberOfLeadingZeros(a) + Long.numberOfLeadingZeros(b) >= 64) {
+      return a * b;
+    }
+    final long aHi = a >>> 32;
+    final long aLo = a & LOW_MASK;
+    final long bHi = b >>> 32;
+    final long bLo = b & LOW_MASK;
+    if (aHi * bHi != 0) {
+      throw new ArithmeticException("uint64 overflow");
+    }
+    // One or the other of aHi and bHi is zero
+    final long crossProduct = (aHi == 0) ? aLo * bHi : aHi * bLo;
+    if ((crossProduct & HIGH_MASK) != 0) {
+      throw new ArithmeticException("uint64 overflow");
+    }
+    return plus(crossProduct << 32, aLo * bLo);
+  }
+
+  /**
+   * @return {@code a / b}
+   * @throws ArithmeticException if {@code b} is 0
+   */
+  public static long dividedBy(final long a, final long b) {
+    return Long.divideUnsigned(a, b);
+  }
+
+  /** @return the greater of the two unsigned values */
+  public static long max(final long a, final long b) {
+    return Long.compareUnsigned(a, b) >= 0 ? a : b;
+  }
+
+  /** @return the smaller of the two unsigned values */
+  public static long min(final long a, final long b) {
+    return Long.compareUnsigned(a, b) <= 0 ? a : b;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.unsigned;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class UInt64MathTest {
+
+  static Stream<Arguments> operands() {
+    return Stream.of(
+        Arguments.of(0L, 0L),
+        Arguments.of(1L, 0L),
+        Arguments.of(0L, 1L),
+        Arguments.of(32_000_000_000L, 31L),
+        Arguments.of(4294967295L, 4294967295L),
+        Arguments.of(4294967296L, 4294967295L),
+        Arguments.of(Long.MAX_VALUE, 1L),
+        Arguments.of(Long.MAX_VALUE, 2L),
+        Arguments.of(-1L, 1L),
+        Arguments.of(-2L, 1L),
+        Arguments.of(Long.MIN_VALUE, Long.MIN_VALUE),
+        Arguments.of(123456789L, -1L));
+  }
+
+  @ParameterizedTest
+  @MethodSource("operands")
+  void shouldMatchUInt64Operations(final long a, final long b) {
+    final UInt64 uA = UInt64.fromLongBits(a);
+    final UInt64 uB = UInt64.fromLongBits(b);
+
+    assertSameResult(() -> UInt64Math.plus(a, b), () -> uA.plus(uB));
+    assertSameResult(() -> UInt64Math.minus(a, b), () -> uA.minus(uB));
+    assertSameResult(() -> UInt64Math.minusMinZero(a, b), () -> uA.minusMinZero(uB));
+    assertSameResult(() -> UInt64Math.times(a, b), () -> uA.times(uB));
+    assertSameResult(() -> UInt64Math.dividedBy(a, b), () -> uA.dividedBy(uB));
+    assertSameResult(() -> UInt64Math.max(a, b), () -> uA.max(uB));
+    assertSameResult(() -> UInt64Math.min(a, b), () -> uA.min(uB));
+  }
+
+  @Test
+  void plus_shouldThrowOnOverflow() {
+    assertThatThrownBy(() -> UInt64Math.plus(-1L, 1L)).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void minus_shouldThrowOnUnderflow() {
+    assertThatThrownBy(() -> UInt64Math.minus(1L, 2L)).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void times_shouldThrowOnOverflow() {
+    assertThatThrownBy(() -> UInt64Math.times(1L << 32, 1L << 32))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  private void assertSameResult(final LongOperation actual, final UInt64Operation expected) {
+    Long expectedResult;
+    try {
+      expectedResult = expected.apply().longValue();
+    } catch (final ArithmeticException e) {
+      expectedResult = null;
+    }
+    if (expectedResult == null) {
+      assertThatThrownBy(actual::apply).isInstanceOf(ArithmeticException.class);
+    } else {
+      assertThat(actual.apply()).isEqualTo(expectedResult);
+    }
+  }
+
+  private interface LongOperation {
+    long apply();
+  }
+
+  private interface UInt64Operation {
+    UInt64 apply();
+  }
+}
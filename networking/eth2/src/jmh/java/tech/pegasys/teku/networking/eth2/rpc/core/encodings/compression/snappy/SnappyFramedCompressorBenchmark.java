@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor.Decompressor;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+@Fork(2)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class SnappyFramedCompressorBenchmark {
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SnappyFramedCompressor compressor = new SnappyFramedCompressor();
+
+  @Param({"attestation", "block"})
+  String payloadType;
+
+  private Bytes payload;
+  private ByteBuf compressedPayload;
+
+  @Setup
+  public void setup() {
+    payload =
+        payloadType.equals("attestation")
+            ? dataStructureUtil.randomAttestation().sszSerialize()
+            : dataStructureUtil
+                .randomSignedBeaconBlock(1, dataStructureUtil.randomBytes32(), true)
+                .sszSerialize();
+    // Incoming network data arrives in direct buffers
+    final Bytes compressed = compressor.compress(payload);
+    compressedPayload = Unpooled.directBuffer(compressed.size());
+    compressedPayload.writeBytes(compressed.toArrayUnsafe());
+  }
+
+  @TearDown
+  public void tearDown() {
+    compressedPayload.release();
+  }
+
+  @Benchmark
+  public void decode(final Blackhole blackhole) throws Exception {
+    final Decompressor decompressor = compressor.createDecompressor(payload.size());
+    final ByteBuf input = compressedPayload.retainedDuplicate();
+    try {
+      final ByteBuf uncompressed = decompressor.decodeOneMessage(input).orElseThrow();
+      blackhole.consume(uncompressed.getByte(0));
+      uncompressed.release();
+      decompressor.complete();
+    } finally {
+      input.release();
+    }
+  }
+
+  @Benchmark
+  public void encode(final Blackhole blackhole) {
+    blackhole.consume(compressor.compress(payload));
+  }
+}
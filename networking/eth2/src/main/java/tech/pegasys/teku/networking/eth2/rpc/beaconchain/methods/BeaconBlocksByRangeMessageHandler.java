@@ -25,6 +25,7 @@ import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
 import org.apache.logging.log4j.LogManager;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -191,19 +192,11 @@ public class BeaconBlocksByRangeMessageHandler
         complete -> complete ? completedFuture(requestState) : sendNextBlock(requestState));
   }
 
+  /** Sends the next block, if any, and returns true if the request is now complete. */
   private SafeFuture<Boolean> processNextBlock(final RequestState requestState) {
     // Ensure blocks are loaded off of the event thread
     return requestState
-        .loadNextBlock()
-        .thenCompose(block -> handleLoadedBlock(requestState, block));
-  }
-
-  /** Sends the block and returns true if the request is now complete. */
-  private SafeFuture<Boolean> handleLoadedBlock(
-      final RequestState requestState, final Optional<SignedBeaconBlock> block) {
-    return block
-        .map(requestState::sendBlock)
-        .orElse(SafeFuture.COMPLETE)
+        .loadAndSendNextBlock()
         .thenApply(
             __ -> {
               if (requestState.isComplete()) {
@@ -252,8 +245,13 @@ public class BeaconBlocksByRangeMessageHandler
       return !needsMoreBlocks() || hasReachedHeadSlot();
     }
 
-    SafeFuture<Void> sendBlock(final SignedBeaconBlock block) {
-      return callback.respond(block);
+    private SafeFuture<Void> sendBlock(final Optional<SignedBeaconBlock> block) {
+      return block.map(callback::respond).orElse(SafeFuture.COMPLETE);
+    }
+
+    private SafeFuture<Void> sendSerializedBlock(final UInt64 slot, final Optional<Bytes> ssz) {
+      return ssz.map(blockSsz -> callback.respondSerialized(slot, blockSsz))
+          .orElse(SafeFuture.COMPLETE);
     }
 
     void incrementCurrentSlot() {
@@ -261,22 +259,28 @@ public class BeaconBlocksByRangeMessageHandler
       currentSlot = currentSlot.plus(step);
     }
 
-    SafeFuture<Optional<SignedBeaconBlock>> loadNextBlock() {
+    SafeFuture<Void> loadAndSendNextBlock() {
       final UInt64 slot = this.currentSlot;
       final Bytes32 knownBlockRoot = knownBlockRoots.get(slot);
       if (knownBlockRoot != null) {
         // Known root so lookup by root
         return combinedChainDataClient
             .getBlockByBlockRoot(knownBlockRoot)
-            .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
+            .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)))
+            .thenCompose(this::sendBlock);
       } else if ((!knownBlockRoots.isEmpty() && slot.compareTo(knownBlockRoots.firstKey()) >= 0)
           || slot.compareTo(headSlot) > 0) {
         // Unknown root but not finalized means this is an empty slot
         // Could also be because the first block requested is above our head slot
-        return SafeFuture.completedFuture(Optional.empty());
+        return SafeFuture.COMPLETE;
+      } else if (combinedChainDataClient.isFinalized(slot)) {
+        // Finalized blocks are sent as stored, without deserializing and serializing them again
+        return combinedChainDataClient
+            .getFinalizedBlockSszAtSlot(slot)
+            .thenCompose(ssz -> sendSerializedBlock(slot, ssz));
       } else {
-        // Must be a finalized block so lookup by slot
-        return combinedChainDataClient.getBlockAtSlotExact(slot);
+        // Not in protoarray but not yet finalized either so lookup by slot
+        return combinedChainDataClient.getBlockAtSlotExact(slot).thenCompose(this::sendBlock);
       }
     }
   }
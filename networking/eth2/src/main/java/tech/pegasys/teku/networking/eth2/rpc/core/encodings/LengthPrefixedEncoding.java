@@ -76,6 +76,14 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     return encodeMessageWithLength(payload);
   }
 
+  @Override
+  public Bytes encodeSerializedPayload(final Bytes serializedPayload) {
+    if (serializedPayload.isEmpty()) {
+      return serializedPayload;
+    }
+    return encodeMessageWithLength(serializedPayload);
+  }
+
   @Override
   public <T extends SszData> RpcByteBufDecoder<T> createDecoder(SszSchema<T> payloadType) {
     if (payloadType.equals(EmptyMessage.SSZ_SCHEMA)) {
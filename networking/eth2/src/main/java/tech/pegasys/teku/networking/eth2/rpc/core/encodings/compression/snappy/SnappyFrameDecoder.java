@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
+import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.readUncompressedLength;
 import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.validateChecksum;
 
 import io.netty.buffer.ByteBuf;
@@ -184,7 +185,14 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
 
           in.skipBytes(4);
           int checksum = in.readIntLE();
-          ByteBuf uncompressed = Unpooled.buffer(chunkLength, MAX_DECOMPRESSED_DATA_SIZE);
+          final int uncompressedLength =
+              readUncompressedLength(in, in.readerIndex(), chunkLength - 4);
+          if (uncompressedLength < 0 || uncompressedLength > MAX_DECOMPRESSED_DATA_SIZE) {
+            throw new CompressionException(
+                "Invalid uncompressed length of COMPRESSED_DATA chunk: " + uncompressedLength);
+          }
+          // The exact size is known up front so the buffer never has to grow
+          ByteBuf uncompressed = Unpooled.buffer(uncompressedLength, uncompressedLength);
           try {
             if (validateChecksums) {
               int oldWriterIndex = in.writerIndex();
@@ -49,7 +49,7 @@ public class SnappyFrameEncoder {
 
   public Bytes encode(Bytes in) {
     ByteBuf inBuf = Unpooled.wrappedBuffer(in.toArrayUnsafe());
-    ByteBuf outBuf = Unpooled.buffer(in.size() / 2);
+    ByteBuf outBuf = Unpooled.buffer(getMaxEncodedLength(in.size()));
     try {
       encode(inBuf, outBuf);
       byte[] bytes = new byte[outBuf.readableBytes()];
@@ -101,6 +101,18 @@ public class SnappyFrameEncoder {
     }
   }
 
+  /**
+   * Returns the worst case size of the framed output so the output buffer never needs to grow.
+   *
+   * @param dataLength The length of the data to encode
+   * @return The maximum encoded length, including stream identifier and chunk headers
+   */
+  static int getMaxEncodedLength(final int dataLength) {
+    final int chunkCount = Math.max(1, (dataLength + Short.MAX_VALUE - 1) / Short.MAX_VALUE);
+    // Each chunk has a 4 byte header, a 4 byte checksum and up to 32 bytes of snappy overhead
+    return STREAM_START.length + chunkCount * 40 + dataLength + dataLength / 6;
+  }
+
   private static void writeUnencodedChunk(ByteBuf in, ByteBuf out, int dataLength) {
     out.writeByte(1);
     writeChunkLength(out, dataLength + 4);
@@ -34,6 +34,7 @@ public class SnappyFramedCompressor implements Compressor {
     private final int uncompressedPayloadSize;
     private int consumedCompressedSize = 0;
     private final List<ByteBuf> decodedSnappyFrames = new ArrayList<>();
+    private int decodedFramesLength = 0;
     private boolean broken = false;
     private boolean disposed = false;
 
@@ -60,7 +61,11 @@ public class SnappyFramedCompressor implements Compressor {
           } catch (Exception e) {
             throw new CompressionException("Error in Snappy decompressor", e);
           }
-          byteBuf.ifPresent(decodedSnappyFrames::add);
+          byteBuf.ifPresent(
+              frame -> {
+                decodedSnappyFrames.add(frame);
+                decodedFramesLength += frame.readableBytes();
+              });
 
           if (consumedCompressedSize > getMaxCompressedLength(uncompressedPayloadSize)) {
             throw new CompressionException(
@@ -72,12 +77,11 @@ public class SnappyFramedCompressor implements Compressor {
           if (byteBuf.isEmpty()) {
             break;
           }
-          int decodedFramesLength =
-              decodedSnappyFrames.stream().mapToInt(ByteBuf::readableBytes).sum();
           if (decodedFramesLength == uncompressedPayloadSize) {
             // wrapped ByteBuf takes ownership of the underlying buffers
             ByteBuf ret = Unpooled.wrappedBuffer(decodedSnappyFrames.toArray(new ByteBuf[0]));
             decodedSnappyFrames.clear();
+            decodedFramesLength = 0;
             snappyFrameDecoder.complete();
             return Optional.of(ret);
           } else if (decodedFramesLength > uncompressedPayloadSize) {
@@ -119,6 +123,7 @@ public class SnappyFramedCompressor implements Compressor {
     public void close() {
       decodedSnappyFrames.forEach(ReferenceCounted::release);
       decodedSnappyFrames.clear();
+      decodedFramesLength = 0;
       snappyFrameDecoder.close();
     }
   }
@@ -15,19 +15,22 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.compression.DecompressionException;
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32C;
 
 class SnappyUtil {
+  private static final ThreadLocal<CRC32C> CRC32C_INSTANCE = ThreadLocal.withInitial(CRC32C::new);
 
   static int calculateChecksum(ByteBuf data) {
     return calculateChecksum(data, data.readerIndex(), data.readableBytes());
   }
 
   static int calculateChecksum(ByteBuf data, int offset, int length) {
-    CRC32C crc32 = new CRC32C();
+    final CRC32C crc32 = CRC32C_INSTANCE.get();
     try {
-      for (int i = offset; i < offset + length; i++) {
-        crc32.update(data.getByte(i));
+      // Checksum the underlying memory of each component directly rather than byte by byte
+      for (ByteBuffer buffer : data.nioBuffers(offset, length)) {
+        crc32.update(buffer);
       }
       return maskChecksum((int) crc32.getValue());
     } finally {
@@ -35,6 +38,23 @@ class SnappyUtil {
     }
   }
 
+  /**
+   * Reads the uncompressed length from the varint preamble of a snappy block without consuming it.
+   *
+   * @return the uncompressed length or -1 if the preamble is invalid
+   */
+  static int readUncompressedLength(ByteBuf data, int offset, int length) {
+    int uncompressedLength = 0;
+    for (int i = 0; i < Math.min(length, 5); i++) {
+      final int b = data.getUnsignedByte(offset + i);
+      uncompressedLength |= (b & 0x7f) << (7 * i);
+      if ((b & 0x80) == 0) {
+        return uncompressedLength < 0 ? -1 : uncompressedLength;
+      }
+    }
+    return -1;
+  }
+
   static int maskChecksum(int checksum) {
     return (checksum >>> 15 | checksum << 17) + 0xa282ead8;
   }
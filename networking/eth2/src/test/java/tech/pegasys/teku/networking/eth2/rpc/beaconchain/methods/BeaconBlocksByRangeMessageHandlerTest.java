@@ -28,9 +28,11 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVAL
 import static tech.pegasys.teku.spec.config.Constants.MAX_CHUNK_SIZE;
 import static tech.pegasys.teku.spec.config.Constants.MAX_REQUEST_BLOCKS;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -78,6 +80,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
           .flatMap(Optional::stream)
           .collect(Collectors.toList());
 
+  private final Set<Integer> finalizedSlots = new HashSet<>();
+
   private final Eth2Peer peer = mock(Eth2Peer.class);
 
   @SuppressWarnings("unchecked")
@@ -399,6 +403,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
 
     verifyBlocksReturned(1, 2, 3, 4, 5);
     verify(combinedChainDataClient, never()).getAncestorRoots(any(), any(), any());
+    // Finalized blocks are sent as stored rather than being loaded and deserialized
+    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any());
   }
 
   @Test
@@ -432,7 +438,12 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private void verifyBlocksReturned(final int... slots) {
     final InOrder inOrder = Mockito.inOrder(listener);
     for (int slot : slots) {
-      inOrder.verify(listener).respond(blocks.get(slot));
+      final SignedBeaconBlock block = blocks.get(slot);
+      if (finalizedSlots.contains(slot)) {
+        inOrder.verify(listener).respondSerialized(block.getSlot(), block.sszSerialize());
+      } else {
+        inOrder.verify(listener).respond(block);
+      }
     }
     inOrder.verify(listener).completeSuccessfully();
     verifyNoMoreInteractions(listener);
@@ -475,6 +486,9 @@ class BeaconBlocksByRangeMessageHandlerTest {
               when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot())).thenReturn(result);
               when(combinedChainDataClient.getBlockAtSlotExact(block.getSlot())).thenReturn(result);
               when(combinedChainDataClient.isFinalized(block.getSlot())).thenReturn(true);
+              when(combinedChainDataClient.getFinalizedBlockSszAtSlot(block.getSlot()))
+                  .thenReturn(completedFuture(Optional.of(block.sszSerialize())));
+              finalizedSlots.add(slot);
             });
   }
 
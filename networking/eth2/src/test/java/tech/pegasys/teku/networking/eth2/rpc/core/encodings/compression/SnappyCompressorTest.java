@@ -154,6 +154,18 @@ public class SnappyCompressorTest {
         .isInstanceOf(PayloadSmallerThanExpectedException.class);
   }
 
+  @Test
+  public void uncompress_chunkExceedingMaxUncompressedLength() {
+    // A COMPRESSED_DATA chunk with a checksum and a preamble claiming 131072 uncompressed bytes
+    final Bytes chunkData = Bytes.fromHexString("0x0000000080800800");
+    final Bytes chunkHeader = Bytes.of(0x00, chunkData.size(), 0x00, 0x00);
+    final Bytes payload = Bytes.concatenate(SNAPPY_HEADER, chunkHeader, chunkData);
+
+    final Decompressor decompressor = compressor.createDecompressor(131072);
+    assertThatThrownBy(() -> decompressor.decodeOneMessage(Utils.toByteBuf(payload)))
+        .isInstanceOf(CompressionException.class);
+  }
+
   // netty compressor doesn't check that assumption
   @Test
   public void uncompress_maliciousBytes() {
@@ -44,6 +44,7 @@ import tech.pegasys.teku.infrastructure.bytes.Bytes20;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.io.PortAvailability;
+import tech.pegasys.teku.infrastructure.ssz.tree.ParallelTreeHashing;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.infrastructure.version.VersionProvider;
@@ -75,6 +76,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.executionengine.ExecutionEngineChannel;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
 import tech.pegasys.teku.statetransition.LocalOperationAcceptedFilter;
 import tech.pegasys.teku.statetransition.OperationPool;
@@ -108,6 +110,7 @@ import tech.pegasys.teku.statetransition.validation.BlockValidator;
 import tech.pegasys.teku.statetransition.validation.ProposerSlashingValidator;
 import tech.pegasys.teku.statetransition.validation.VoluntaryExitValidator;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService;
+import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority;
 import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationService;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorCache;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorChannel;
@@ -282,6 +285,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
 
   protected SafeFuture<?> initialize() {
     final StoreConfig storeConfig = beaconConfig.storeConfig();
+    if (storeConfig.isParallelHashingEnabled()) {
+      ParallelTreeHashing.enable(storeConfig.getParallelHashingThreshold());
+    }
     coalescingChainHeadChannel =
         new CoalescingChainHeadChannel(
             eventChannels.getPublisher(ChainHeadChannel.class), EVENT_LOG);
@@ -469,7 +475,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
             recentChainData,
             forkChoiceNotifier,
             new MergeTransitionBlockValidator(spec, recentChainData, executionEngine),
-            proposerBoostEnabled);
+            proposerBoostEnabled,
+            metricsSystem);
     forkChoiceTrigger = new ForkChoiceTrigger(forkChoice);
   }
 
@@ -614,11 +621,22 @@ public class BeaconChainController extends Service implements BeaconChainControl
     final FutureItems<ValidateableAttestation> futureAttestations =
         FutureItems.create(
             ValidateableAttestation::getEarliestSlotForForkChoiceProcessing, UInt64.valueOf(3));
+    final AsyncBLSSignatureVerifier localSignatureVerifier =
+        signatureVerificationService.forPriority(SignatureVerificationPriority.API);
     AttestationValidator attestationValidator =
-        new AttestationValidator(spec, recentChainData, signatureVerificationService);
+        new AttestationValidator(
+            spec,
+            recentChainData,
+            signatureVerificationService.forPriority(SignatureVerificationPriority.ATTESTATION),
+            localSignatureVerifier);
     AggregateAttestationValidator aggregateValidator =
         new AggregateAttestationValidator(
-            spec, recentChainData, attestationValidator, signatureVerificationService);
+            spec,
+            recentChainData,
+            attestationValidator,
+            signatureVerificationService.forPriority(SignatureVerificationPriority.AGGREGATE),
+            localSignatureVerifier,
+            spec.getVerifiedSignatureCache());
     blockImporter.subscribeToVerifiedBlockAttestations(
         (slot, attestations) ->
             attestations.forEach(
@@ -653,7 +671,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 recentChainData,
                 syncCommitteeStateUtils,
                 timeProvider,
-                signatureVerificationService));
+                signatureVerificationService.forPriority(
+                    SignatureVerificationPriority.SYNC_CONTRIBUTION)));
 
     syncCommitteeMessagePool =
         new SyncCommitteeMessagePool(
@@ -662,7 +681,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 spec,
                 recentChainData,
                 syncCommitteeStateUtils,
-                signatureVerificationService,
+                signatureVerificationService.forPriority(SignatureVerificationPriority.ATTESTATION),
                 timeProvider));
     eventChannels
         .subscribe(SlotEventsChannel.class, syncCommitteeContributionPool)
@@ -813,7 +832,12 @@ public class BeaconChainController extends Service implements BeaconChainControl
     LOG.debug("BeaconChainController.initBlockManager()");
     final FutureItems<SignedBeaconBlock> futureBlocks =
         FutureItems.create(SignedBeaconBlock::getSlot);
-    BlockValidator blockValidator = new BlockValidator(spec, recentChainData);
+    BlockValidator blockValidator =
+        new BlockValidator(
+            spec,
+            recentChainData,
+            signatureVerificationService.forPriority(SignatureVerificationPriority.BLOCK),
+            spec.getVerifiedSignatureCache());
     if (spec.isMilestoneSupported(SpecMilestone.BELLATRIX)) {
       blockManager =
           new ReexecutingExecutionPayloadBlockManager(
@@ -25,6 +25,7 @@ import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
+import tech.pegasys.teku.infrastructure.metrics.SuppliedCounter;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.infrastructure.version.VersionProvider;
@@ -36,6 +37,8 @@ import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.analysis.ValidatorStats.CorrectAndLiveValidators;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingCache;
+import tech.pegasys.teku.spec.logic.common.util.VerifiedSignatureCache;
 import tech.pegasys.teku.storage.client.ChainHead;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.validator.coordinator.Eth1DataCache;
@@ -109,6 +112,44 @@ public class BeaconChainMetrics implements SlotEventsChannel {
         "Tracks number of connected peers, verified to be on the same chain",
         p2pNetwork::getPeerCount);
 
+    final ShufflingCache shufflingCache = spec.getShufflingCache();
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "shuffling_cache_size",
+        "Number of committee shufflings held in the shuffling cache",
+        shufflingCache::size);
+    SuppliedCounter.create(
+        TekuMetricCategory.BEACON,
+        metricsSystem,
+        "shuffling_cache_hits_total",
+        "Number of committee shufflings served from the shuffling cache",
+        shufflingCache::getHitCount);
+    SuppliedCounter.create(
+        TekuMetricCategory.BEACON,
+        metricsSystem,
+        "shuffling_cache_misses_total",
+        "Number of committee shufflings that had to be calculated",
+        shufflingCache::getMissCount);
+
+    final VerifiedSignatureCache verifiedSignatureCache = spec.getVerifiedSignatureCache();
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "verified_signature_cache_size",
+        "Number of signatures held in the verified signature cache",
+        verifiedSignatureCache::size);
+    SuppliedCounter.create(
+        TekuMetricCategory.BEACON,
+        metricsSystem,
+        "verified_signature_cache_hits_total",
+        "Number of signature checks skipped because the signature was already verified",
+        verifiedSignatureCache::getHitCount);
+    SuppliedCounter.create(
+        TekuMetricCategory.BEACON,
+        metricsSystem,
+        "verified_signature_cache_misses_total",
+        "Number of signatures that were not found in the verified signature cache",
+        verifiedSignatureCache::getMissCount);
+
     finalizedEpoch =
         SettableGauge.create(
             metricsSystem, TekuMetricCategory.BEACON, "finalized_epoch", "Current finalized epoch");
@@ -24,6 +24,9 @@ public class StorageConfiguration {
 
   public static final boolean DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED = false;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
+  public static final int DEFAULT_MAX_QUEUED_STATE_TREE_WRITES = 0;
+  public static final int DEFAULT_MAX_STATE_DELTAS_PER_SNAPSHOT = 0;
+  public static final boolean DEFAULT_COMPRESS_FINALIZED_BLOCKS_ENABLED = false;
 
   private final Eth1Address eth1DepositContract;
 
@@ -33,6 +36,9 @@ public class StorageConfiguration {
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
   private final int maxKnownNodeCacheSize;
+  private final int maxQueuedStateTreeWrites;
+  private final int maxStateDeltasPerSnapshot;
+  private final boolean compressFinalizedBlocks;
 
   private StorageConfiguration(
       final Eth1Address eth1DepositContract,
@@ -41,6 +47,9 @@ public class StorageConfiguration {
       final DatabaseVersion dataStorageCreateDbVersion,
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
+      final int maxQueuedStateTreeWrites,
+      final int maxStateDeltasPerSnapshot,
+      final boolean compressFinalizedBlocks,
       final Spec spec) {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
@@ -48,6 +57,9 @@ public class StorageConfiguration {
     this.dataStorageCreateDbVersion = dataStorageCreateDbVersion;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
     this.maxKnownNodeCacheSize = maxKnownNodeCacheSize;
+    this.maxQueuedStateTreeWrites = maxQueuedStateTreeWrites;
+    this.maxStateDeltasPerSnapshot = maxStateDeltasPerSnapshot;
+    this.compressFinalizedBlocks = compressFinalizedBlocks;
     this.spec = spec;
   }
 
@@ -79,6 +91,18 @@ public class StorageConfiguration {
     return maxKnownNodeCacheSize;
   }
 
+  public int getMaxQueuedStateTreeWrites() {
+    return maxQueuedStateTreeWrites;
+  }
+
+  public int getMaxStateDeltasPerSnapshot() {
+    return maxStateDeltasPerSnapshot;
+  }
+
+  public boolean isCompressFinalizedBlocksEnabled() {
+    return compressFinalizedBlocks;
+  }
+
   public Spec getSpec() {
     return spec;
   }
@@ -92,6 +116,9 @@ public class StorageConfiguration {
     private Spec spec;
     private boolean storeNonCanonicalBlocks = DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
     private int maxKnownNodeCacheSize = DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
+    private int maxQueuedStateTreeWrites = DEFAULT_MAX_QUEUED_STATE_TREE_WRITES;
+    private int maxStateDeltasPerSnapshot = DEFAULT_MAX_STATE_DELTAS_PER_SNAPSHOT;
+    private boolean compressFinalizedBlocks = DEFAULT_COMPRESS_FINALIZED_BLOCKS_ENABLED;
 
     private Builder() {}
 
@@ -145,6 +172,29 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder maxQueuedStateTreeWrites(final int maxQueuedStateTreeWrites) {
+      if (maxQueuedStateTreeWrites < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid maxQueuedStateTreeWrites: %d", maxQueuedStateTreeWrites));
+      }
+      this.maxQueuedStateTreeWrites = maxQueuedStateTreeWrites;
+      return this;
+    }
+
+    public Builder maxStateDeltasPerSnapshot(final int maxStateDeltasPerSnapshot) {
+      if (maxStateDeltasPerSnapshot < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid maxStateDeltasPerSnapshot: %d", maxStateDeltasPerSnapshot));
+      }
+      this.maxStateDeltasPerSnapshot = maxStateDeltasPerSnapshot;
+      return this;
+    }
+
+    public Builder compressFinalizedBlocks(final boolean compressFinalizedBlocks) {
+      this.compressFinalizedBlocks = compressFinalizedBlocks;
+      return this;
+    }
+
     public StorageConfiguration build() {
       return new StorageConfiguration(
           eth1DepositContract,
@@ -153,6 +203,9 @@ public class StorageConfiguration {
           dataStorageCreateDbVersion,
           storeNonCanonicalBlocks,
           maxKnownNodeCacheSize,
+          maxQueuedStateTreeWrites,
+          maxStateDeltasPerSnapshot,
+          compressFinalizedBlocks,
           spec);
     }
   }
@@ -54,6 +54,9 @@ public class StorageService extends Service implements StorageServiceFacade {
                   config.getEth1DepositContract(),
                   config.isStoreNonCanonicalBlocksEnabled(),
                   config.getMaxKnownNodeCacheSize(),
+                  config.getMaxQueuedStateTreeWrites(),
+                  config.getMaxStateDeltasPerSnapshot(),
+                  config.isCompressFinalizedBlocksEnabled(),
                   config.getSpec());
           database = dbFactory.createDatabase();
 
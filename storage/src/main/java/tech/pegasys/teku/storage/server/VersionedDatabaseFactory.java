@@ -47,6 +47,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final MetricsSystem metricsSystem;
   private final File dataDirectory;
   private final int maxKnownNodeCacheSize;
+  private final int maxQueuedStateTreeWrites;
+  private final int maxStateDeltasPerSnapshot;
   private final File dbDirectory;
   private final File v5ArchiveDirectory;
   private final File dbVersionFile;
@@ -56,6 +58,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final Eth1Address eth1Address;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final boolean compressFinalizedBlocks;
 
   public VersionedDatabaseFactory(
       final MetricsSystem metricsSystem,
@@ -86,9 +89,89 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
       final Spec spec) {
+    this(
+        metricsSystem,
+        dataPath,
+        dataStorageMode,
+        createDatabaseVersion,
+        stateStorageFrequency,
+        eth1Address,
+        storeNonCanonicalBlocks,
+        maxKnownNodeCacheSize,
+        0,
+        spec);
+  }
+
+  public VersionedDatabaseFactory(
+      final MetricsSystem metricsSystem,
+      final Path dataPath,
+      final StateStorageMode dataStorageMode,
+      final DatabaseVersion createDatabaseVersion,
+      final long stateStorageFrequency,
+      final Eth1Address eth1Address,
+      final boolean storeNonCanonicalBlocks,
+      final int maxKnownNodeCacheSize,
+      final int maxQueuedStateTreeWrites,
+      final Spec spec) {
+    this(
+        metricsSystem,
+        dataPath,
+        dataStorageMode,
+        createDatabaseVersion,
+        stateStorageFrequency,
+        eth1Address,
+        storeNonCanonicalBlocks,
+        maxKnownNodeCacheSize,
+        maxQueuedStateTreeWrites,
+        0,
+        spec);
+  }
+
+  public VersionedDatabaseFactory(
+      final MetricsSystem metricsSystem,
+      final Path dataPath,
+      final StateStorageMode dataStorageMode,
+      final DatabaseVersion createDatabaseVersion,
+      final long stateStorageFrequency,
+      final Eth1Address eth1Address,
+      final boolean storeNonCanonicalBlocks,
+      final int maxKnownNodeCacheSize,
+      final int maxQueuedStateTreeWrites,
+      final int maxStateDeltasPerSnapshot,
+      final Spec spec) {
+    this(
+        metricsSystem,
+        dataPath,
+        dataStorageMode,
+        createDatabaseVersion,
+        stateStorageFrequency,
+        eth1Address,
+        storeNonCanonicalBlocks,
+        maxKnownNodeCacheSize,
+        maxQueuedStateTreeWrites,
+        maxStateDeltasPerSnapshot,
+        false,
+        spec);
+  }
+
+  public VersionedDatabaseFactory(
+      final MetricsSystem metricsSystem,
+      final Path dataPath,
+      final StateStorageMode dataStorageMode,
+      final DatabaseVersion createDatabaseVersion,
+      final long stateStorageFrequency,
+      final Eth1Address eth1Address,
+      final boolean storeNonCanonicalBlocks,
+      final int maxKnownNodeCacheSize,
+      final int maxQueuedStateTreeWrites,
+      final int maxStateDeltasPerSnapshot,
+      final boolean compressFinalizedBlocks,
+      final Spec spec) {
     this.metricsSystem = metricsSystem;
     this.dataDirectory = dataPath.toFile();
     this.maxKnownNodeCacheSize = maxKnownNodeCacheSize;
+    this.maxQueuedStateTreeWrites = maxQueuedStateTreeWrites;
+    this.maxStateDeltasPerSnapshot = maxStateDeltasPerSnapshot;
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
     this.v5ArchiveDirectory = this.dataDirectory.toPath().resolve(ARCHIVE_PATH).toFile();
     this.dbVersionFile = this.dataDirectory.toPath().resolve(DB_VERSION_PATH).toFile();
@@ -96,6 +179,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.stateStorageFrequency = stateStorageFrequency;
     this.eth1Address = eth1Address;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
+    this.compressFinalizedBlocks = compressFinalizedBlocks;
     this.spec = spec;
 
     this.createDatabaseVersion = createDatabaseVersion;
@@ -185,6 +269,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           KvStoreConfiguration.v4Settings(v5ArchiveDirectory.toPath()),
           stateStorageMode,
           stateStorageFrequency,
+          maxStateDeltasPerSnapshot,
           storeNonCanonicalBlocks,
           spec);
     } catch (final IOException e) {
@@ -209,6 +294,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           metaData.getArchiveDbConfiguration().withDatabaseDir(v5ArchiveDirectory.toPath()),
           stateStorageMode,
           stateStorageFrequency,
+          maxStateDeltasPerSnapshot,
           storeNonCanonicalBlocks,
           spec);
     } catch (final IOException e) {
@@ -225,9 +311,10 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           metricsSystem,
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           new V4SchemaHot(spec),
-          new V6SnapshotSchemaFinalized(spec),
+          new V6SnapshotSchemaFinalized(spec, compressFinalizedBlocks),
           stateStorageMode,
           stateStorageFrequency,
+          maxStateDeltasPerSnapshot,
           storeNonCanonicalBlocks,
           spec);
     } catch (final IOException e) {
@@ -252,6 +339,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           metaData.getArchiveDbConfiguration().withDatabaseDir(v5ArchiveDirectory.toPath()),
           stateStorageMode,
           stateStorageFrequency,
+          maxStateDeltasPerSnapshot,
           storeNonCanonicalBlocks,
           spec);
     } catch (final IOException e) {
@@ -268,7 +356,9 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           stateStorageMode,
           stateStorageFrequency,
+          maxStateDeltasPerSnapshot,
           storeNonCanonicalBlocks,
+          compressFinalizedBlocks,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -284,7 +374,9 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           stateStorageMode,
           storeNonCanonicalBlocks,
+          compressFinalizedBlocks,
           maxKnownNodeCacheSize,
+          maxQueuedStateTreeWrites,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.storage.server.kvstore;
 
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -29,8 +30,29 @@ public interface KvStoreAccessor extends AutoCloseable {
 
   <K, V> Optional<V> get(KvStoreColumn<K, V> column, K key);
 
+  /**
+   * Returns the value for the given key as it is stored, without deserializing it.
+   *
+   * @param column The column we want to query
+   * @param key The requested key
+   * @param <K> The key type of the column
+   * @return The stored value bytes if present
+   */
+  <K> Optional<Bytes> getRaw(KvStoreColumn<K, ?> column, K key);
+
   <K, V> Map<K, V> getAll(KvStoreColumn<K, V> column);
 
+  /**
+   * Returns the values for the given keys in a single batched read where supported.
+   *
+   * @param column The column we want to query
+   * @param keys The requested keys
+   * @param <K> The key type of the column
+   * @param <V> The value type of the column
+   * @return A map containing an entry for each requested key which is present in the column
+   */
+  <K, V> Map<K, V> getAll(KvStoreColumn<K, V> column, Collection<K> keys);
+
   /**
    * Returns the last entry with a key less than or equal to the given key.
    *
@@ -17,6 +17,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import com.google.errorprone.annotations.MustBeClosed;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -30,12 +31,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
@@ -107,6 +108,7 @@ public class KvStoreDatabase implements Database {
       final KvStoreAccessor finalizedDb,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int maxStateDeltasPerSnapshot,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
     return createWithStateSnapshots(
@@ -117,6 +119,7 @@ public class KvStoreDatabase implements Database {
         new V4SchemaFinalized(spec),
         stateStorageMode,
         stateStorageFrequency,
+        maxStateDeltasPerSnapshot,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -129,10 +132,11 @@ public class KvStoreDatabase implements Database {
       final SchemaFinalizedSnapshotState schemaFinalized,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int maxStateDeltasPerSnapshot,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
     final V4FinalizedStateSnapshotStorageLogic finalizedStateStorageLogic =
-        new V4FinalizedStateSnapshotStorageLogic(stateStorageFrequency);
+        new V4FinalizedStateSnapshotStorageLogic(stateStorageFrequency, maxStateDeltasPerSnapshot);
     return create(
         metricsSystem,
         hotDb,
@@ -153,9 +157,12 @@ public class KvStoreDatabase implements Database {
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
+      final int maxQueuedStateTreeWrites,
       final Spec spec) {
-    final V4FinalizedStateStorageLogic<SchemaFinalizedTreeState> finalizedStateStorageLogic =
-        new V4FinalizedStateTreeStorageLogic(metricsSystem, spec, maxKnownNodeCacheSize);
+    final V4FinalizedStateTreeStorageLogic finalizedStateStorageLogic =
+        new V4FinalizedStateTreeStorageLogic(
+            metricsSystem, spec, maxKnownNodeCacheSize, maxQueuedStateTreeWrites);
+    finalizedStateStorageLogic.recoverPendingStates(db, schemaFinalized);
     return create(
         metricsSystem,
         db,
@@ -282,9 +289,13 @@ public class KvStoreDatabase implements Database {
       expectedRoot = block.getParentRoot();
     }
 
-    try (final FinalizedUpdater updater = finalizedDao.finalizedUpdater()) {
-      blocks.forEach(updater::addFinalizedBlock);
-      updater.commit();
+    // Commit newest blocks first so the stored blocks remain contiguous if a later batch fails,
+    // while keeping the size of each transaction bounded
+    for (List<SignedBeaconBlock> batch : Lists.partition(sorted, TX_BATCH_SIZE)) {
+      try (final FinalizedUpdater updater = finalizedDao.finalizedUpdater()) {
+        batch.forEach(updater::addFinalizedBlock);
+        updater.commit();
+      }
     }
   }
 
@@ -412,6 +423,11 @@ public class KvStoreDatabase implements Database {
     return finalizedDao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockSszAtSlot(final UInt64 slot) {
+    return finalizedDao.getFinalizedBlockSszAtSlot(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return finalizedDao.getEarliestFinalizedBlockSlot();
@@ -447,9 +463,7 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Set<Bytes32> blockRoots) {
-    return blockRoots.stream()
-        .flatMap(root -> hotDao.getHotBlock(root).stream())
-        .collect(Collectors.toMap(SignedBeaconBlock::getRoot, Function.identity()));
+    return hotDao.getHotBlocks(blockRoots);
   }
 
   @Override
@@ -538,9 +552,11 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public void close() throws Exception {
+    // Close the finalized dao first so any queued finalized state writes complete before a shared
+    // database is closed
+    finalizedDao.close();
     hotDao.close();
     eth1Dao.close();
-    finalizedDao.close();
   }
 
   private UpdateResult doUpdate(final StorageUpdate update) {
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedTreeState;
+
+/**
+ * Persists finalized state trees on a dedicated thread so that storing a large number of finalized
+ * states doesn't hold up the storage thread.
+ *
+ * <p>States are handed over once the finalized update that added them commits and are written in
+ * slot order in transactions of roughly {@code maxNodesPerTransaction} tree nodes, sharing one node
+ * store per transaction so nodes common to consecutive states are only written once. The state
+ * root is recorded in the same transaction as the state's nodes so a state only becomes visible in
+ * the database once it can be fully loaded. Until then it is served from memory.
+ *
+ * <p>The finalized update records each state in the pending roots column and the write transaction
+ * removes it again. At most {@code maxPendingStates} states are held in memory, states beyond that
+ * are only kept in the pending roots column and regenerated by the writer via {@code
+ * pendingRootsRecovery} once it has caught up, so queueing states never waits for writes. The same
+ * recovery runs on startup for states that were not written before shutdown. Failed writes are
+ * retried and their states remain pending until they succeed.
+ */
+class AsyncStateTreeWriter implements AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+  private final KvStoreAccessor db;
+  private final SchemaFinalizedTreeState schema;
+  private final Set<Bytes32> knownStoredBranchesCache;
+  private final CommitListener commitListener;
+  private final Runnable pendingRootsRecovery;
+  private final int maxPendingStates;
+  private final int maxNodesPerTransaction;
+  private final int maxBranchLevelsSkipped;
+  private final ConcurrentSkipListMap<UInt64, BeaconState> pendingStatesBySlot =
+      new ConcurrentSkipListMap<>();
+  private final AtomicBoolean statesDropped = new AtomicBoolean(false);
+  private final Semaphore workAvailable = new Semaphore(0);
+  private final Counter queueFullCounter;
+  private final Counter transactionsCommittedCounter;
+  private final Counter transactionsFailedCounter;
+  private final Thread writerThread;
+  private volatile boolean closed = false;
+
+  AsyncStateTreeWriter(
+      final MetricsSystem metricsSystem,
+      final KvStoreAccessor db,
+      final SchemaFinalizedTreeState schema,
+      final Set<Bytes32> knownStoredBranchesCache,
+      final CommitListener commitListener,
+      final Runnable pendingRootsRecovery,
+      final int maxPendingStates,
+      final int maxNodesPerTransaction,
+      final int maxBranchLevelsSkipped) {
+    this.db = db;
+    this.schema = schema;
+    this.knownStoredBranchesCache = knownStoredBranchesCache;
+    this.commitListener = commitListener;
+    this.pendingRootsRecovery = pendingRootsRecovery;
+    this.maxPendingStates = maxPendingStates;
+    this.maxNodesPerTransaction = maxNodesPerTransaction;
+    this.maxBranchLevelsSkipped = maxBranchLevelsSkipped;
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.STORAGE_FINALIZED_DB,
+        "state_tree_write_queue_size",
+        "Number of finalized states held in memory waiting to have their state tree written",
+        pendingStatesBySlot::size);
+    queueFullCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE_FINALIZED_DB,
+            "state_tree_write_queue_full_total",
+            "Number of finalized states left to be regenerated as the state tree queue was full");
+    transactionsCommittedCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE_FINALIZED_DB,
+            "state_tree_write_transactions_total",
+            "Number of transactions committed while writing finalized state trees");
+    transactionsFailedCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE_FINALIZED_DB,
+            "state_tree_write_failures_total",
+            "Number of failed transactions while writing finalized state trees");
+    writerThread = new Thread(this::run, "finalized-state-tree-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  /**
+   * Hands states to the writer thread without waiting. The states must already be recorded in the
+   * pending roots column.
+   */
+  public void enqueue(final List<BeaconState> states) {
+    checkState(!closed, "Finalized state tree writer is closed");
+    for (BeaconState state : states) {
+      if (pendingStatesBySlot.size() < maxPendingStates) {
+        pendingStatesBySlot.put(state.getSlot(), state);
+      } else {
+        queueFullCounter.inc();
+        statesDropped.set(true);
+      }
+    }
+    workAvailable.release();
+  }
+
+  /**
+   * Returns the latest state at or before {@code maxSlot} that is held in memory but may not have
+   * been written yet.
+   */
+  public Optional<Map.Entry<UInt64, BeaconState>> getLatestPendingState(final UInt64 maxSlot) {
+    return Optional.ofNullable(pendingStatesBySlot.floorEntry(maxSlot));
+  }
+
+  public boolean isPendingInMemory(final UInt64 slot) {
+    return pendingStatesBySlot.containsKey(slot);
+  }
+
+  private void run() {
+    try {
+      while (!closed) {
+        workAvailable.acquire();
+        workAvailable.drainPermits();
+        while (!closed && !pendingStatesBySlot.isEmpty()) {
+          retryUntilSuccessful(() -> writeStates(pendingStatesBySlot.values().iterator()));
+        }
+        if (!closed && statesDropped.getAndSet(false)) {
+          retryUntilSuccessful(pendingRootsRecovery);
+        }
+      }
+    } catch (InterruptedException e) {
+      LOG.debug("Finalized state tree writer interrupted");
+    }
+  }
+
+  private void retryUntilSuccessful(final Runnable write) throws InterruptedException {
+    while (true) {
+      try {
+        write.run();
+        return;
+      } catch (final RuntimeException e) {
+        transactionsFailedCounter.inc();
+        LOG.error("Failed to store finalized state trees, will retry", e);
+        Thread.sleep(RETRY_DELAY.toMillis());
+      }
+    }
+  }
+
+  /**
+   * Writes states from {@code states} in slot order in a single transaction until it reaches
+   * {@code maxNodesPerTransaction} nodes. Written states are removed from the pending states once
+   * the transaction commits.
+   */
+  private void writeStates(final Iterator<BeaconState> states) {
+    final List<BeaconState> written = new ArrayList<>();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final KvStoreTreeNodeStore nodeStore =
+          new KvStoreTreeNodeStore(knownStoredBranchesCache, transaction, schema);
+      while (states.hasNext()
+          && nodeStore.getStoredBranchNodeCount() + nodeStore.getStoredLeafNodeCount()
+              < maxNodesPerTransaction) {
+        final BeaconState state = states.next();
+        transaction.put(
+            schema.getColumnFinalizedStateRootsBySlot(), state.getSlot(), state.hashTreeRoot());
+        transaction.delete(schema.getColumnFinalizedStateTreePendingRootsBySlot(), state.getSlot());
+        state
+            .getSchema()
+            .storeBackingNodes(
+                nodeStore, maxBranchLevelsSkipped, GIndexUtil.SELF_G_INDEX, state.getBackingNode());
+        written.add(state);
+      }
+      transaction.commit();
+      transactionsCommittedCounter.inc();
+      commitListener.onCommitted(nodeStore, written.size());
+    }
+    written.forEach(state -> pendingStatesBySlot.remove(state.getSlot(), state));
+  }
+
+  /**
+   * Stops the writer thread and writes the states still held in memory on the calling thread.
+   * Anything left unwritten stays in the pending roots column and is regenerated on the next start.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    writerThread.interrupt();
+    writerThread.join();
+    try {
+      while (!pendingStatesBySlot.isEmpty()) {
+        writeStates(pendingStatesBySlot.values().iterator());
+      }
+    } catch (final RuntimeException e) {
+      LOG.error("Failed to store finalized state trees, they will be regenerated on restart", e);
+    }
+  }
+
+  interface CommitListener {
+    void onCommitted(TreeNodeStore nodeStore, int statesStored);
+  }
+}
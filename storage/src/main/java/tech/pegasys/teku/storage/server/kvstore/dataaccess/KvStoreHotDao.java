@@ -14,6 +14,7 @@
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -52,6 +53,8 @@ public interface KvStoreHotDao extends AutoCloseable {
 
   Optional<SignedBeaconBlock> getHotBlock(Bytes32 root);
 
+  Map<Bytes32, SignedBeaconBlock> getHotBlocks(Collection<Bytes32> roots);
+
   Optional<CheckpointEpochs> getHotBlockCheckpointEpochs(Bytes32 root);
 
   Optional<BeaconState> getHotState(Bytes32 root);
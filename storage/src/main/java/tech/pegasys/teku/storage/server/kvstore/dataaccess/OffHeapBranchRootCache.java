@@ -0,0 +1,235 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+/**
+ * A fixed size set of branch roots which are known to be stored, held in direct (off-heap) memory.
+ *
+ * <p>Roots are stored as their raw 32 bytes in buckets of {@link #SLOTS_PER_BUCKET} slots. Each
+ * root has two candidate buckets, selected by different bits of the root, and is placed in
+ * whichever has a free slot. When both are full an existing root in one of them is overwritten.
+ * Full roots are compared so there are no false positives, a root is only ever reported as stored
+ * if it was added. Evicted roots result in false negatives which only cost rewriting a branch that
+ * already exists.
+ *
+ * <p>Branch roots are hashes so their bits are used directly to select buckets. The all zero root
+ * marks an empty slot and is never cached.
+ *
+ * <p>The set is safe for concurrent access. Memory is split into segments, each with its own lock.
+ */
+class OffHeapBranchRootCache extends AbstractSet<Bytes32> {
+  static final int SLOTS_PER_BUCKET = 4;
+  private static final int SLOT_SIZE = Bytes32.SIZE;
+  private static final int BUCKET_SIZE = SLOTS_PER_BUCKET * SLOT_SIZE;
+  // 128MiB per segment
+  private static final int MAX_BUCKETS_PER_SEGMENT = 1 << 20;
+  private static final int MAX_SEGMENTS = 1 << 16;
+
+  private final Segment[] segments;
+  private final int bucketsPerSegment;
+
+  private OffHeapBranchRootCache(
+      final int segmentCount, final int bucketsPerSegment, final Counter evictionCounter) {
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new Segment(bucketsPerSegment, evictionCounter);
+    }
+    this.bucketsPerSegment = bucketsPerSegment;
+  }
+
+  public static OffHeapBranchRootCache create(final long capacity) {
+    return create(capacity, NoOpMetricsSystem.NO_OP_COUNTER);
+  }
+
+  /**
+   * Creates a cache able to hold {@code capacity} roots. Memory is allocated up front, with the
+   * capacity only rounded up to fill the last bucket of each 128MiB segment.
+   *
+   * @param capacity the number of roots to hold, 0 creates a cache that stores nothing
+   * @param evictionCounter counter incremented each time a root is overwritten
+   */
+  public static OffHeapBranchRootCache create(final long capacity, final Counter evictionCounter) {
+    checkArgument(capacity >= 0, "Capacity must not be negative");
+    if (capacity == 0) {
+      return new OffHeapBranchRootCache(0, 1, evictionCounter);
+    }
+    final long buckets = (capacity + SLOTS_PER_BUCKET - 1) / SLOTS_PER_BUCKET;
+    final long segmentCount = (buckets + MAX_BUCKETS_PER_SEGMENT - 1) / MAX_BUCKETS_PER_SEGMENT;
+    checkArgument(segmentCount <= MAX_SEGMENTS, "Capacity too large: %s", capacity);
+    final int bucketsPerSegment = (int) ((buckets + segmentCount - 1) / segmentCount);
+    return new OffHeapBranchRootCache((int) segmentCount, bucketsPerSegment, evictionCounter);
+  }
+
+  /** Returns the maximum number of roots which can be held */
+  public long getCapacity() {
+    return (long) segments.length * bucketsPerSegment * SLOTS_PER_BUCKET;
+  }
+
+  /** Returns the amount of direct memory allocated by this cache */
+  public long getAllocatedBytes() {
+    return getCapacity() * SLOT_SIZE;
+  }
+
+  /** Returns the number of roots which have been overwritten to make room for another root */
+  public long getEvictionCount() {
+    long evictions = 0;
+    for (Segment segment : segments) {
+      evictions += segment.getEvictionCount();
+    }
+    return evictions;
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    if (segments.length == 0 || !(o instanceof Bytes32) || ((Bytes32) o).isZero()) {
+      return false;
+    }
+    final Bytes32 root = (Bytes32) o;
+    return getSegment(root).contains(root, bucketsPerSegment);
+  }
+
+  @Override
+  public boolean add(final Bytes32 root) {
+    if (segments.length == 0 || root.isZero()) {
+      return false;
+    }
+    return getSegment(root).add(root, bucketsPerSegment);
+  }
+
+  @Override
+  public int size() {
+    long size = 0;
+    for (Segment segment : segments) {
+      size += segment.getSize();
+    }
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  /** Iterates over a snapshot of the roots currently held. Removal is not supported. */
+  @Override
+  public Iterator<Bytes32> iterator() {
+    final List<Bytes32> roots = new ArrayList<>();
+    for (Segment segment : segments) {
+      segment.copyRootsTo(roots);
+    }
+    return roots.iterator();
+  }
+
+  private Segment getSegment(final Bytes32 root) {
+    return segments[Math.floorMod(root.getLong(24), segments.length)];
+  }
+
+  private static class Segment {
+    private final ByteBuffer buffer;
+    private final Counter evictionCounter;
+    private long size = 0;
+    private long evictions = 0;
+
+    private Segment(final int buckets, final Counter evictionCounter) {
+      this.buffer = ByteBuffer.allocateDirect(buckets * BUCKET_SIZE);
+      this.evictionCounter = evictionCounter;
+    }
+
+    synchronized boolean contains(final Bytes32 root, final int bucketCount) {
+      return findSlot(primaryBucket(root, bucketCount), root) >= 0
+          || findSlot(secondaryBucket(root, bucketCount), root) >= 0;
+    }
+
+    synchronized boolean add(final Bytes32 root, final int bucketCount) {
+      final int primaryBucket = primaryBucket(root, bucketCount);
+      final int secondaryBucket = secondaryBucket(root, bucketCount);
+      if (findSlot(primaryBucket, root) >= 0 || findSlot(secondaryBucket, root) >= 0) {
+        return false;
+      }
+      int offset = findSlot(primaryBucket, Bytes32.ZERO);
+      if (offset < 0) {
+        offset = findSlot(secondaryBucket, Bytes32.ZERO);
+      }
+      if (offset >= 0) {
+        size++;
+      } else {
+        // Both buckets are full, use otherwise unused bits of the root to pick the slot to replace
+        final long selector = root.getLong(16);
+        final int bucket = (selector & 1) == 0 ? primaryBucket : secondaryBucket;
+        offset = bucket * BUCKET_SIZE + (int) ((selector >>> 1) % SLOTS_PER_BUCKET) * SLOT_SIZE;
+        evictions++;
+        evictionCounter.inc();
+      }
+      for (int i = 0; i < SLOT_SIZE; i += Long.BYTES) {
+        buffer.putLong(offset + i, root.getLong(i));
+      }
+      return true;
+    }
+
+    synchronized long getSize() {
+      return size;
+    }
+
+    synchronized long getEvictionCount() {
+      return evictions;
+    }
+
+    synchronized void copyRootsTo(final List<Bytes32> roots) {
+      final ByteBuffer slots = buffer.duplicate();
+      while (slots.hasRemaining()) {
+        final byte[] slot = new byte[SLOT_SIZE];
+        slots.get(slot);
+        final Bytes32 root = Bytes32.wrap(slot);
+        if (!root.isZero()) {
+          roots.add(root);
+        }
+      }
+    }
+
+    /** Returns the offset of the slot holding {@code root} in the bucket, or -1 if not present */
+    private int findSlot(final int bucket, final Bytes32 root) {
+      final int bucketOffset = bucket * BUCKET_SIZE;
+      for (int slot = 0; slot < SLOTS_PER_BUCKET; slot++) {
+        final int offset = bucketOffset + slot * SLOT_SIZE;
+        if (slotMatches(offset, root)) {
+          return offset;
+        }
+      }
+      return -1;
+    }
+
+    private boolean slotMatches(final int offset, final Bytes32 root) {
+      for (int i = 0; i < SLOT_SIZE; i += Long.BYTES) {
+        if (buffer.getLong(offset + i) != root.getLong(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int primaryBucket(final Bytes32 root, final int bucketCount) {
+      return Math.floorMod(root.getLong(0), bucketCount);
+    }
+
+    private static int secondaryBucket(final Bytes32 root, final int bucketCount) {
+      return Math.floorMod(root.getLong(8), bucketCount);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedTreeState;
+
+/**
+ * A {@link TreeNodeSource} which reads the nodes below a branch a few levels at a time, as the
+ * branch is loaded.
+ *
+ * <p>Loading a state node by node requires a separate database read for every branch and leaf.
+ * Instead, when a branch is loaded its descendants down to a bounded number of stored levels below
+ * it are requested together, one level at a time, using {@link
+ * KvStoreAccessor#getAll(tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn,
+ * Collection)}. Large levels are split into batches which are read in parallel. Roots not found as
+ * branches are then requested as leaves. Leaves of 32 bytes or less are not stored so roots found
+ * in neither column are recorded as their own leaf data.
+ *
+ * <p>Only subtrees which are accessed are prefetched, so reading a single field or validator only
+ * reads a bounded number of extra nodes rather than the whole state. Branches at the deepest
+ * prefetched level prefetch their own descendants when they are loaded. Each prefetched node is
+ * released once it has been loaded, so a subtree which appears more than once in the state is read
+ * from the database again the second time.
+ */
+class PrefetchingTreeNodeSource implements TreeNodeSource {
+  static final int DEFAULT_PREFETCH_DEPTH = 2;
+  static final int BATCH_SIZE = 256;
+
+  private final Map<Bytes32, CompressedBranchInfo> branches = new ConcurrentHashMap<>();
+  // Prefetched branches whose children have not been prefetched yet
+  private final Set<Bytes32> frontierBranchRoots = ConcurrentHashMap.newKeySet();
+  private final Map<Bytes32, Bytes> leaves = new ConcurrentHashMap<>();
+  private final Set<Bytes32> inlineLeafRoots = ConcurrentHashMap.newKeySet();
+  private final KvStoreAccessor db;
+  private final SchemaFinalizedTreeState schema;
+  private final Executor executor;
+  private final int prefetchDepth;
+  private final TreeNodeSource fallbackSource;
+
+  /** @param executor the executor used to read batches of nodes in parallel */
+  public PrefetchingTreeNodeSource(
+      final KvStoreAccessor db, final SchemaFinalizedTreeState schema, final Executor executor) {
+    this(db, schema, executor, DEFAULT_PREFETCH_DEPTH);
+  }
+
+  PrefetchingTreeNodeSource(
+      final KvStoreAccessor db,
+      final SchemaFinalizedTreeState schema,
+      final Executor executor,
+      final int prefetchDepth) {
+    this.db = db;
+    this.schema = schema;
+    this.executor = executor;
+    this.prefetchDepth = prefetchDepth;
+    this.fallbackSource = new KvStoreTreeNodeSource(db, schema);
+  }
+
+  @Override
+  public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
+    final CompressedBranchInfo prefetched = branches.remove(rootHash);
+    if (prefetched != null && !frontierBranchRoots.remove(rootHash)) {
+      return prefetched;
+    }
+    final CompressedBranchInfo branch =
+        prefetched != null ? prefetched : fallbackSource.loadBranchNode(rootHash, gIndex);
+    prefetchDescendants(branch);
+    return branch;
+  }
+
+  @Override
+  public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
+    if (inlineLeafRoots.remove(rootHash)) {
+      return rootHash;
+    }
+    final Bytes leaf = leaves.remove(rootHash);
+    return leaf != null ? leaf : fallbackSource.loadLeafNode(rootHash, gIndex);
+  }
+
+  int getPrefetchedNodeCount() {
+    return branches.size() + leaves.size();
+  }
+
+  private void prefetchDescendants(final CompressedBranchInfo branch) {
+    final Set<Bytes32> seen = new HashSet<>();
+    List<Bytes32> level = filterChildren(List.of(branch.getChildren()), seen);
+    for (int depth = 1; depth <= prefetchDepth && !level.isEmpty(); depth++) {
+      final boolean isFrontier = depth == prefetchDepth;
+      final List<CompletableFuture<List<Bytes32>>> batches = new ArrayList<>();
+      for (List<Bytes32> batch : Lists.partition(level, BATCH_SIZE)) {
+        batches.add(CompletableFuture.supplyAsync(() -> loadBatch(batch, isFrontier), executor));
+      }
+      final List<Bytes32> children = new ArrayList<>();
+      for (CompletableFuture<List<Bytes32>> batch : batches) {
+        children.addAll(batch.join());
+      }
+      level = filterChildren(children, seen);
+    }
+  }
+
+  private static List<Bytes32> filterChildren(
+      final List<Bytes32> children, final Set<Bytes32> seen) {
+    return children.stream()
+        .filter(child -> !TreeUtil.ZERO_TREES_BY_ROOT.containsKey(child) && seen.add(child))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Loads the nodes for a batch of roots and returns the child roots of any branches found, unless
+   * the batch is at the deepest prefetched level.
+   */
+  private List<Bytes32> loadBatch(final List<Bytes32> roots, final boolean isFrontier) {
+    final Map<Bytes32, CompressedBranchInfo> loadedBranches =
+        db.getAll(schema.getColumnFinalizedStateMerkleTreeBranches(), roots);
+    if (isFrontier) {
+      frontierBranchRoots.addAll(loadedBranches.keySet());
+    }
+    branches.putAll(loadedBranches);
+
+    final List<Bytes32> leafRoots =
+        roots.stream()
+            .filter(root -> !loadedBranches.containsKey(root))
+            .collect(Collectors.toList());
+    final Map<Bytes32, Bytes> loadedLeaves =
+        db.getAll(schema.getColumnFinalizedStateMerkleTreeLeaves(), leafRoots);
+    for (Bytes32 root : leafRoots) {
+      final Bytes leaf = loadedLeaves.get(root);
+      if (leaf != null) {
+        leaves.put(root, leaf);
+      } else {
+        inlineLeafRoots.add(root);
+      }
+    }
+
+    if (isFrontier) {
+      return List.of();
+    }
+    final List<Bytes32> children = new ArrayList<>();
+    for (CompressedBranchInfo branch : loadedBranches.values()) {
+      children.addAll(List.of(branch.getChildren()));
+    }
+    return children;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateSchema;
+
+/**
+ * Encodes a state as the binary difference from an earlier anchor state with the same schema.
+ *
+ * <p>Each top level field of the state is compared by hash tree root and only fields which changed
+ * are included. For those, the serialized field is compared byte by byte against the anchor's and
+ * only the changed ranges are written. Fields such as the validator registry or balances only
+ * change in place or grow at the end, so only the modified validators and balances are stored.
+ *
+ * <p>Comparing field roots is cheap when both states keep their cached tree hashes, so callers
+ * should hold on to the anchor rather than reloading it for each delta.
+ *
+ * <p>Deltas are taken against the anchor rather than chained so that any state can be rebuilt from
+ * one full state and one delta. A delta grows with the distance from its anchor, but that distance
+ * is bounded by the number of deltas written before the next full state.
+ *
+ * <p>The encoding is:
+ *
+ * <pre>
+ *   anchor slot (8 bytes)
+ *   changed field count (4 bytes)
+ *   for each changed field:
+ *     field index (4 bytes), field length (4 bytes), range count (4 bytes)
+ *     for each range: offset (4 bytes), length (4 bytes), bytes
+ * </pre>
+ */
+class StateSnapshotDelta {
+  // Unchanged runs shorter than this are included in the surrounding range as it costs less than
+  // the 8 bytes of overhead for starting a new range
+  private static final int MIN_UNCHANGED_RUN = 8;
+
+  private StateSnapshotDelta() {}
+
+  static boolean canEncode(final BeaconState anchor, final BeaconState state) {
+    return anchor.getBeaconStateSchema().equals(state.getBeaconStateSchema());
+  }
+
+  static Bytes encode(final BeaconState anchor, final BeaconState state) {
+    checkArgument(canEncode(anchor, state), "State and anchor must have the same schema");
+    final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (final DataOutputStream out = new DataOutputStream(byteStream)) {
+      out.writeLong(anchor.getSlot().longValue());
+      final List<Integer> changedFields = new ArrayList<>();
+      for (int i = 0; i < state.size(); i++) {
+        if (!state.get(i).hashTreeRoot().equals(anchor.get(i).hashTreeRoot())) {
+          changedFields.add(i);
+        }
+      }
+      out.writeInt(changedFields.size());
+      for (int fieldIndex : changedFields) {
+        writeFieldDelta(
+            out,
+            fieldIndex,
+            anchor.get(fieldIndex).sszSerialize().toArrayUnsafe(),
+            state.get(fieldIndex).sszSerialize().toArrayUnsafe());
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Bytes.wrap(byteStream.toByteArray());
+  }
+
+  static UInt64 getAnchorSlot(final Bytes delta) {
+    return UInt64.fromLongBits(delta.getLong(0));
+  }
+
+  static BeaconState apply(final BeaconState anchor, final Bytes delta) {
+    checkArgument(
+        getAnchorSlot(delta).equals(anchor.getSlot()),
+        "Delta was created from anchor at slot %s but applied to slot %s",
+        getAnchorSlot(delta),
+        anchor.getSlot());
+    final BeaconStateSchema<?, ?> schema = anchor.getBeaconStateSchema();
+    final List<SszData> fields = new ArrayList<>(anchor.size());
+    for (int i = 0; i < anchor.size(); i++) {
+      fields.add(anchor.get(i));
+    }
+    try (final DataInputStream in =
+        new DataInputStream(new ByteArrayInputStream(delta.toArrayUnsafe()))) {
+      in.readLong();
+      final int changedFieldCount = in.readInt();
+      for (int i = 0; i < changedFieldCount; i++) {
+        final int fieldIndex = in.readInt();
+        final byte[] field =
+            readField(in, anchor.get(fieldIndex).sszSerialize().toArrayUnsafe());
+        final SszSchema<?> fieldSchema = schema.getFieldSchemas().get(fieldIndex);
+        fields.set(fieldIndex, fieldSchema.sszDeserialize(Bytes.wrap(field)));
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return schema.createFromFieldValues(fields);
+  }
+
+  private static void writeFieldDelta(
+      final DataOutputStream out, final int fieldIndex, final byte[] base, final byte[] updated)
+      throws IOException {
+    final List<int[]> ranges = new ArrayList<>();
+    int i = 0;
+    while (i < updated.length) {
+      if (i < base.length && base[i] == updated[i]) {
+        i++;
+        continue;
+      }
+      final int start = i;
+      int end = i + 1;
+      int unchangedRun = 0;
+      for (int j = end; j < updated.length && unchangedRun < MIN_UNCHANGED_RUN; j++) {
+        if (j < base.length && base[j] == updated[j]) {
+          unchangedRun++;
+        } else {
+          unchangedRun = 0;
+          end = j + 1;
+        }
+      }
+      ranges.add(new int[] {start, end - start});
+      i = end;
+    }
+
+    out.writeInt(fieldIndex);
+    out.writeInt(updated.length);
+    out.writeInt(ranges.size());
+    for (int[] range : ranges) {
+      out.writeInt(range[0]);
+      out.writeInt(range[1]);
+      out.write(updated, range[0], range[1]);
+    }
+  }
+
+  private static byte[] readField(final DataInputStream in, final byte[] base) throws IOException {
+    final byte[] field = new byte[in.readInt()];
+    System.arraycopy(base, 0, field, 0, Math.min(base.length, field.length));
+    final int rangeCount = in.readInt();
+    for (int i = 0; i < rangeCount; i++) {
+      final int offset = in.readInt();
+      final int length = in.readInt();
+      in.readFully(field, offset, length);
+    }
+    return field;
+  }
+}
@@ -13,15 +13,16 @@
 
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.MustBeClosed;
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
@@ -36,6 +37,7 @@ import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransacti
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalized;
+import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
 
 public class V4FinalizedKvStoreDao<S extends SchemaFinalized> implements KvStoreFinalizedDao {
   private final KvStoreAccessor db;
@@ -53,6 +55,7 @@ public class V4FinalizedKvStoreDao<S extends SchemaFinalized> implements KvStore
 
   @Override
   public void close() throws Exception {
+    stateStorageLogic.close();
     db.close();
   }
 
@@ -61,6 +64,17 @@ public class V4FinalizedKvStoreDao<S extends SchemaFinalized> implements KvStore
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockSszAtSlot(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot)
+        .map(KvStoreSerializer::getSignedBlockSsz);
+  }
+
+  @VisibleForTesting
+  public Optional<Bytes> getRawFinalizedBlockAtSlot(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.getFirstEntry(schema.getColumnFinalizedBlocksBySlot()).map(ColumnEntry::getKey);
@@ -81,8 +95,8 @@ public class V4FinalizedKvStoreDao<S extends SchemaFinalized> implements KvStore
   public List<SignedBeaconBlock> getNonCanonicalBlocksAtSlot(final UInt64 slot) {
     Optional<Set<Bytes32>> maybeRoots = db.get(schema.getColumnNonCanonicalRootsBySlot(), slot);
     return maybeRoots.stream()
-        .flatMap(Collection::stream)
-        .flatMap(root -> db.get(schema.getColumnNonCanonicalBlocksByRoot(), root).stream())
+        .map(roots -> db.getAll(schema.getColumnNonCanonicalBlocksByRoot(), roots))
+        .flatMap(blocksByRoot -> blocksByRoot.values().stream())
         .collect(Collectors.toList());
   }
 
@@ -155,15 +169,39 @@ public class V4FinalizedKvStoreDao<S extends SchemaFinalized> implements KvStore
       final Map<String, KvStoreColumn<?, ?>> oldColumns = dao.schema.getColumnMap();
       for (String key : newColumns.keySet()) {
         final Optional<UInt64> maybeCount = displayCopyColumnMessage(key, oldColumns, dao, logger);
+        final KvStoreColumn<?, ?> newColumn = newColumns.get(key);
+        final UnaryOperator<Bytes> valueTranscoder =
+            createValueTranscoder(oldColumns.get(key), newColumn);
         try (final Stream<ColumnEntry<Bytes, Bytes>> oldEntryStream =
                 dao.streamRawColumn(oldColumns.get(key));
             BatchWriter batchWriter = new BatchWriter(batchSize, logger, db, maybeCount)) {
-          oldEntryStream.forEach(entry -> batchWriter.add(newColumns.get(key), entry));
+          oldEntryStream.forEach(
+              entry ->
+                  batchWriter.add(
+                      newColumn,
+                      ColumnEntry.create(entry.getKey(), valueTranscoder.apply(entry.getValue()))));
         }
       }
     }
   }
 
+  /**
+   * Raw values are copied as is, unless the new column writes values in a different format to the
+   * old one, e.g. when migrating to a database with compressed blocks.
+   */
+  @SuppressWarnings("unchecked")
+  private static <V> UnaryOperator<Bytes> createValueTranscoder(
+      final KvStoreColumn<?, V> oldColumn, final KvStoreColumn<?, ?> newColumn) {
+    final KvStoreSerializer<V> oldSerializer = oldColumn.getValueSerializer();
+    final KvStoreSerializer<V> newSerializer =
+        (KvStoreSerializer<V>) newColumn.getValueSerializer();
+    if (oldSerializer.equals(newSerializer)) {
+      return UnaryOperator.identity();
+    }
+    return value ->
+        Bytes.wrap(newSerializer.serialize(oldSerializer.deserialize(value.toArrayUnsafe())));
+  }
+
   private Optional<UInt64> displayCopyColumnMessage(
       final String key,
       final Map<String, KvStoreColumn<?, ?>> oldColumns,
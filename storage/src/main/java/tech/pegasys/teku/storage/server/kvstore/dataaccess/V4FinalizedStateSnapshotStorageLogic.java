@@ -14,6 +14,8 @@
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
@@ -25,32 +27,96 @@ public class V4FinalizedStateSnapshotStorageLogic
     implements V4FinalizedStateStorageLogic<SchemaFinalizedSnapshotState> {
 
   private final UInt64 stateStorageFrequency;
+  private final int maxStateDeltasPerSnapshot;
+  // The latest full state and number of deltas stored against it, loaded on first use and updated
+  // as updaters commit so the anchor isn't read back from disk and rehashed for every update
+  private volatile Optional<SnapshotAnchor> snapshotAnchor = Optional.empty();
 
   public V4FinalizedStateSnapshotStorageLogic(final long stateStorageFrequency) {
+    this(stateStorageFrequency, 0);
+  }
+
+  /**
+   * @param maxStateDeltasPerSnapshot the number of stored states to write as a delta from the
+   *     previous full state before writing another full state, or 0 to write every state in full
+   */
+  public V4FinalizedStateSnapshotStorageLogic(
+      final long stateStorageFrequency, final int maxStateDeltasPerSnapshot) {
     this.stateStorageFrequency = UInt64.valueOf(stateStorageFrequency);
+    this.maxStateDeltasPerSnapshot = maxStateDeltasPerSnapshot;
   }
 
   @Override
   public Optional<BeaconState> getLatestAvailableFinalizedState(
       final KvStoreAccessor db, final SchemaFinalizedSnapshotState schema, final UInt64 maxSlot) {
-    return db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), maxSlot)
-        .map(ColumnEntry::getValue);
+    final Optional<ColumnEntry<UInt64, BeaconState>> snapshot =
+        db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), maxSlot);
+    // Deltas are always written after the full state they are based on, so if there's a later
+    // delta it must be based on this snapshot
+    final Optional<ColumnEntry<UInt64, Bytes>> delta =
+        db.getFloorEntry(schema.getColumnFinalizedStateDeltasBySlot(), maxSlot);
+    if (snapshot.isPresent()
+        && delta.isPresent()
+        && delta.get().getKey().isGreaterThan(snapshot.get().getKey())) {
+      return Optional.of(
+          StateSnapshotDelta.apply(snapshot.get().getValue(), delta.get().getValue()));
+    }
+    return snapshot.map(ColumnEntry::getValue);
   }
 
   @Override
   public FinalizedStateUpdater<SchemaFinalizedSnapshotState> updater() {
-    return new FinalizedStateSnapshotUpdater(stateStorageFrequency);
+    return new FinalizedStateSnapshotUpdater(this);
+  }
+
+  private SnapshotAnchor getSnapshotAnchor(
+      final KvStoreAccessor db, final SchemaFinalizedSnapshotState schema) {
+    final Optional<SnapshotAnchor> cachedAnchor = snapshotAnchor;
+    if (cachedAnchor.isPresent()) {
+      return cachedAnchor.get();
+    }
+    final SnapshotAnchor loadedAnchor = loadSnapshotAnchor(db, schema);
+    snapshotAnchor = Optional.of(loadedAnchor);
+    return loadedAnchor;
+  }
+
+  private SnapshotAnchor loadSnapshotAnchor(
+      final KvStoreAccessor db, final SchemaFinalizedSnapshotState schema) {
+    final Optional<BeaconState> anchorState =
+        db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), UInt64.MAX_VALUE)
+            .map(ColumnEntry::getValue);
+    if (anchorState.isEmpty()) {
+      return new SnapshotAnchor(Optional.empty(), 0);
+    }
+    try (final Stream<ColumnEntry<UInt64, Bytes>> deltas =
+        db.stream(
+            schema.getColumnFinalizedStateDeltasBySlot(),
+            anchorState.get().getSlot().plus(1),
+            UInt64.MAX_VALUE)) {
+      return new SnapshotAnchor(anchorState, Math.toIntExact(deltas.count()));
+    }
+  }
+
+  private static class SnapshotAnchor {
+    private final Optional<BeaconState> state;
+    private final int deltaCount;
+
+    private SnapshotAnchor(final Optional<BeaconState> state, final int deltaCount) {
+      this.state = state;
+      this.deltaCount = deltaCount;
+    }
   }
 
   private static class FinalizedStateSnapshotUpdater
       implements V4FinalizedStateStorageLogic.FinalizedStateUpdater<SchemaFinalizedSnapshotState> {
 
-    private final UInt64 stateStorageFrequency;
+    private final V4FinalizedStateSnapshotStorageLogic logic;
     private Optional<UInt64> lastStateStoredSlot = Optional.empty();
     private boolean loadedLastStoreState = false;
+    private Optional<SnapshotAnchor> anchor = Optional.empty();
 
-    private FinalizedStateSnapshotUpdater(final UInt64 stateStorageFrequency) {
-      this.stateStorageFrequency = stateStorageFrequency;
+    private FinalizedStateSnapshotUpdater(final V4FinalizedStateSnapshotStorageLogic logic) {
+      this.logic = logic;
     }
 
     @Override
@@ -60,28 +126,65 @@ public class V4FinalizedStateSnapshotStorageLogic
         final SchemaFinalizedSnapshotState schema,
         final BeaconState state) {
       if (!loadedLastStoreState) {
-        lastStateStoredSlot = db.getLastKey(schema.getColumnFinalizedStatesBySlot());
+        lastStateStoredSlot = getLastStoredSlot(db, schema);
         loadedLastStoreState = true;
       }
       if (lastStateStoredSlot.isPresent()) {
-        UInt64 nextStorageSlot = lastStateStoredSlot.get().plus(stateStorageFrequency);
+        UInt64 nextStorageSlot = lastStateStoredSlot.get().plus(logic.stateStorageFrequency);
         if (state.getSlot().compareTo(nextStorageSlot) >= 0) {
-          addFinalizedState(transaction, schema, state);
+          addFinalizedState(db, transaction, schema, state);
         }
       } else {
-        addFinalizedState(transaction, schema, state);
+        addFinalizedState(db, transaction, schema, state);
       }
     }
 
     @Override
-    public void commit() {}
+    public void commit() {
+      // Only publish the new anchor once the states it describes have been committed
+      if (anchor.isPresent()) {
+        logic.snapshotAnchor = anchor;
+      }
+    }
 
     private void addFinalizedState(
+        final KvStoreAccessor db,
         final KvStoreTransaction transaction,
         final SchemaFinalizedSnapshotState schema,
         final BeaconState state) {
-      transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
       lastStateStoredSlot = Optional.of(state.getSlot());
+      if (logic.maxStateDeltasPerSnapshot == 0) {
+        transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
+        return;
+      }
+      final SnapshotAnchor currentAnchor =
+          anchor.orElseGet(() -> logic.getSnapshotAnchor(db, schema));
+      if (currentAnchor.state.isPresent()
+          && currentAnchor.deltaCount < logic.maxStateDeltasPerSnapshot
+          && StateSnapshotDelta.canEncode(currentAnchor.state.get(), state)) {
+        transaction.put(
+            schema.getColumnFinalizedStateDeltasBySlot(),
+            state.getSlot(),
+            StateSnapshotDelta.encode(currentAnchor.state.get(), state));
+        anchor =
+            Optional.of(new SnapshotAnchor(currentAnchor.state, currentAnchor.deltaCount + 1));
+      } else {
+        transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
+        anchor = Optional.of(new SnapshotAnchor(Optional.of(state), 0));
+      }
+    }
+
+    private Optional<UInt64> getLastStoredSlot(
+        final KvStoreAccessor db, final SchemaFinalizedSnapshotState schema) {
+      final Optional<UInt64> lastSnapshotSlot =
+          db.getLastKey(schema.getColumnFinalizedStatesBySlot());
+      final Optional<UInt64> lastDeltaSlot =
+          db.getLastKey(schema.getColumnFinalizedStateDeltasBySlot());
+      if (lastDeltaSlot.isPresent()
+          && lastSnapshotSlot.map(slot -> slot.isLessThan(lastDeltaSlot.get())).orElse(true)) {
+        return lastDeltaSlot;
+      }
+      return lastSnapshotSlot;
     }
   }
 }
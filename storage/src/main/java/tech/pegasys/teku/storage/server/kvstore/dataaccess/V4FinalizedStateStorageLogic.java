@@ -26,6 +26,8 @@ public interface V4FinalizedStateStorageLogic<S extends SchemaFinalized> {
 
   FinalizedStateUpdater<S> updater();
 
+  default void close() throws Exception {}
+
   interface FinalizedStateUpdater<S extends SchemaFinalized> {
     void addFinalizedState(
         KvStoreAccessor db, KvStoreTransaction transaction, S schema, BeaconState state);
@@ -13,36 +13,88 @@
 
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
-import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.dataproviders.generators.StreamingStateRegenerator;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedTreeState;
 
 public class V4FinalizedStateTreeStorageLogic
     implements V4FinalizedStateStorageLogic<SchemaFinalizedTreeState> {
+  private static final Logger LOG = LogManager.getLogger();
   private static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
+  private static final int MAX_NODES_PER_ASYNC_TRANSACTION = 50_000;
+  private static final int STATE_LOADER_THREADS =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+  private final MetricsSystem metricsSystem;
   private final LabelledMetric<Counter> branchNodeStoredCounter;
   private final Counter statesStoredCounter;
   private final Set<Bytes32> knownStoredBranchesCache;
   private final Spec spec;
   private final Counter leafNodeStoredCounter;
+  private final int maxQueuedStateTreeWrites;
+  private AsyncStateTreeWriter asyncWriter;
+  private ExecutorService stateLoaderExecutor;
 
   public V4FinalizedStateTreeStorageLogic(
       final MetricsSystem metricsSystem, final Spec spec, final int maxKnownNodeCacheSize) {
+    this(metricsSystem, spec, maxKnownNodeCacheSize, 0);
+  }
+
+  /**
+   * @param maxQueuedStateTreeWrites the maximum number of finalized states to hold in memory while
+   *     writing them in the background, or 0 to write state trees as part of the finalized update
+   *     transaction
+   */
+  public V4FinalizedStateTreeStorageLogic(
+      final MetricsSystem metricsSystem,
+      final Spec spec,
+      final int maxKnownNodeCacheSize,
+      final int maxQueuedStateTreeWrites) {
+    this.metricsSystem = metricsSystem;
     this.spec = spec;
-    this.knownStoredBranchesCache = LimitedSet.create(maxKnownNodeCacheSize);
+    this.maxQueuedStateTreeWrites = maxQueuedStateTreeWrites;
+    final OffHeapBranchRootCache knownBranchRoots =
+        OffHeapBranchRootCache.create(
+            maxKnownNodeCacheSize,
+            metricsSystem.createCounter(
+                TekuMetricCategory.STORAGE_FINALIZED_DB,
+                "known_branch_cache_evictions",
+                "Number of branch roots evicted from the known stored branches cache"));
+    this.knownStoredBranchesCache = knownBranchRoots;
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.STORAGE_FINALIZED_DB,
+        "known_branch_cache_size",
+        "Number of finalized state tree branch roots held in the known stored branches cache",
+        knownBranchRoots::size);
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.STORAGE_FINALIZED_DB,
+        "known_branch_cache_allocated_bytes",
+        "Off-heap memory allocated for the known stored branches cache",
+        knownBranchRoots::getAllocatedBytes);
     this.branchNodeStoredCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.STORAGE_FINALIZED_DB,
@@ -64,45 +116,186 @@ public class V4FinalizedStateTreeStorageLogic
   @Override
   public Optional<BeaconState> getLatestAvailableFinalizedState(
       final KvStoreAccessor db, final SchemaFinalizedTreeState dbSchema, final UInt64 maxSlot) {
-    return db.getFloorEntry(dbSchema.getColumnFinalizedStateRootsBySlot(), maxSlot)
-        .map(
-            entry ->
-                spec.atSlot(entry.getKey())
-                    .getSchemaDefinitions()
-                    .getBeaconStateSchema()
-                    .load(
-                        new KvStoreTreeNodeSource(db, dbSchema),
-                        entry.getValue(),
-                        GIndexUtil.SELF_G_INDEX));
+    // Check pending states first as they are only removed once they've been written to the db
+    final Optional<Map.Entry<UInt64, BeaconState>> pendingState =
+        getAsyncWriter().flatMap(writer -> writer.getLatestPendingState(maxSlot));
+    final Optional<ColumnEntry<UInt64, Bytes32>> storedStateRoot =
+        db.getFloorEntry(dbSchema.getColumnFinalizedStateRootsBySlot(), maxSlot);
+    if (pendingState.isPresent()
+        && storedStateRoot
+            .map(entry -> entry.getKey().isLessThanOrEqualTo(pendingState.get().getKey()))
+            .orElse(true)) {
+      return pendingState.map(Map.Entry::getValue);
+    }
+    return storedStateRoot.map(
+        entry ->
+            spec.atSlot(entry.getKey())
+                .getSchemaDefinitions()
+                .getBeaconStateSchema()
+                .load(
+                    new PrefetchingTreeNodeSource(db, dbSchema, getStateLoaderExecutor()),
+                    entry.getValue(),
+                    GIndexUtil.SELF_G_INDEX));
+  }
+
+  /**
+   * Regenerates and stores the finalized states recorded as pending but not held in memory by the
+   * background writer, replaying finalized blocks on top of the closest earlier state. Runs on
+   * startup for states not written before shutdown and on the writer thread for states that didn't
+   * fit in memory.
+   */
+  public void recoverPendingStates(
+      final KvStoreAccessor db, final SchemaFinalizedTreeState schema) {
+    final Optional<AsyncStateTreeWriter> writer = getAsyncWriter();
+    final List<ColumnEntry<UInt64, Bytes32>> pendingRoots;
+    try (final Stream<ColumnEntry<UInt64, Bytes32>> entries =
+        db.stream(schema.getColumnFinalizedStateTreePendingRootsBySlot())) {
+      pendingRoots =
+          entries
+              .filter(entry -> writer.map(w -> !w.isPendingInMemory(entry.getKey())).orElse(true))
+              .collect(Collectors.toList());
+    }
+    if (pendingRoots.isEmpty()) {
+      return;
+    }
+    LOG.info("Regenerating {} pending finalized states", pendingRoots.size());
+    for (ColumnEntry<UInt64, Bytes32> pendingRoot : pendingRoots) {
+      recoverPendingState(db, schema, pendingRoot.getKey(), pendingRoot.getValue());
+    }
+  }
+
+  private void recoverPendingState(
+      final KvStoreAccessor db,
+      final SchemaFinalizedTreeState schema,
+      final UInt64 slot,
+      final Bytes32 stateRoot) {
+    final Optional<BeaconState> preState =
+        slot.isZero()
+            ? Optional.empty()
+            : getLatestAvailableFinalizedState(db, schema, slot.minus(UInt64.ONE));
+    if (preState.isEmpty()) {
+      LOG.error(
+          "Unable to regenerate finalized state at slot {}, no earlier state available. "
+              + "Discarding the pending state.",
+          slot);
+      discardPendingState(db, schema, slot);
+      return;
+    }
+    final BeaconState state;
+    try (final Stream<ColumnEntry<UInt64, SignedBeaconBlock>> blocks =
+        db.stream(
+            schema.getColumnFinalizedBlocksBySlot(),
+            preState.get().getSlot().plus(UInt64.ONE),
+            slot)) {
+      state =
+          StreamingStateRegenerator.regenerate(
+              spec, preState.get(), blocks.map(ColumnEntry::getValue));
+    }
+    if (!state.hashTreeRoot().equals(stateRoot)) {
+      LOG.error(
+          "Unable to regenerate finalized state at slot {}, expected root {} but got {}. "
+              + "Discarding the pending state.",
+          slot,
+          stateRoot,
+          state.hashTreeRoot());
+      discardPendingState(db, schema, slot);
+      return;
+    }
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final StateTreeUpdater updater =
+          new StateTreeUpdater(knownStoredBranchesCache, this::recordStoredNodes);
+      updater.addFinalizedState(db, transaction, schema, state);
+      transaction.delete(schema.getColumnFinalizedStateTreePendingRootsBySlot(), slot);
+      transaction.commit();
+      updater.commit();
+    }
+  }
+
+  private void discardPendingState(
+      final KvStoreAccessor db, final SchemaFinalizedTreeState schema, final UInt64 slot) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.delete(schema.getColumnFinalizedStateTreePendingRootsBySlot(), slot);
+      transaction.commit();
+    }
   }
 
   @Override
   public FinalizedStateUpdater<SchemaFinalizedTreeState> updater() {
-    return new StateTreeUpdater(
-        knownStoredBranchesCache,
-        branchNodeStoredCounter,
-        statesStoredCounter,
-        leafNodeStoredCounter);
+    if (maxQueuedStateTreeWrites > 0) {
+      return new AsyncStateTreeUpdater(this);
+    }
+    return new StateTreeUpdater(knownStoredBranchesCache, this::recordStoredNodes);
+  }
+
+  @Override
+  public void close() throws Exception {
+    // Don't hold the lock while waiting for the writer thread as recovering states needs it
+    final Optional<AsyncStateTreeWriter> writer = getAsyncWriter();
+    if (writer.isPresent()) {
+      writer.get().close();
+    }
+    synchronized (this) {
+      if (stateLoaderExecutor != null) {
+        stateLoaderExecutor.shutdownNow();
+      }
+    }
+  }
+
+  private synchronized ExecutorService getStateLoaderExecutor() {
+    if (stateLoaderExecutor == null) {
+      stateLoaderExecutor =
+          Executors.newFixedThreadPool(
+              STATE_LOADER_THREADS,
+              new ThreadFactoryBuilder()
+                  .setNameFormat("finalized-state-loader-%d")
+                  .setDaemon(true)
+                  .build());
+    }
+    return stateLoaderExecutor;
+  }
+
+  private synchronized Optional<AsyncStateTreeWriter> getAsyncWriter() {
+    return Optional.ofNullable(asyncWriter);
+  }
+
+  private synchronized AsyncStateTreeWriter getOrCreateAsyncWriter(
+      final KvStoreAccessor db, final SchemaFinalizedTreeState schema) {
+    if (asyncWriter == null) {
+      asyncWriter =
+          new AsyncStateTreeWriter(
+              metricsSystem,
+              db,
+              schema,
+              knownStoredBranchesCache,
+              this::recordStoredNodes,
+              () -> recoverPendingStates(db, schema),
+              maxQueuedStateTreeWrites,
+              MAX_NODES_PER_ASYNC_TRANSACTION,
+              MAX_BRANCH_LEVELS_SKIPPED);
+    }
+    return asyncWriter;
+  }
+
+  private void recordStoredNodes(final TreeNodeStore nodeStore, final int statesStored) {
+    knownStoredBranchesCache.addAll(nodeStore.getStoredBranchRoots());
+    branchNodeStoredCounter.labels("stored").inc(nodeStore.getStoredBranchNodeCount());
+    branchNodeStoredCounter.labels("skipped").inc(nodeStore.getSkippedBranchNodeCount());
+    leafNodeStoredCounter.inc(nodeStore.getStoredLeafNodeCount());
+    statesStoredCounter.inc(statesStored);
   }
 
   private static class StateTreeUpdater implements FinalizedStateUpdater<SchemaFinalizedTreeState> {
 
     private final Set<Bytes32> knownStoredBranchesCache;
-    private final LabelledMetric<Counter> branchNodeStoredCounter;
-    private final Counter statesStoredCounter;
-    private final Counter leafNodeStoredCounter;
+    private final AsyncStateTreeWriter.CommitListener commitListener;
     private TreeNodeStore nodeStore;
     private int statesStored = 0;
 
     private StateTreeUpdater(
         final Set<Bytes32> knownStoredBranchesCache,
-        final LabelledMetric<Counter> branchNodeStoredCounter,
-        final Counter statesStoredCounter,
-        final Counter leafNodeStoredCounter) {
+        final AsyncStateTreeWriter.CommitListener commitListener) {
       this.knownStoredBranchesCache = knownStoredBranchesCache;
-      this.branchNodeStoredCounter = branchNodeStoredCounter;
-      this.statesStoredCounter = statesStoredCounter;
-      this.leafNodeStoredCounter = leafNodeStoredCounter;
+      this.commitListener = commitListener;
     }
 
     @Override
@@ -129,11 +322,47 @@ public class V4FinalizedStateTreeStorageLogic
     @Override
     public void commit() {
       if (nodeStore != null) {
-        knownStoredBranchesCache.addAll(nodeStore.getStoredBranchRoots());
-        branchNodeStoredCounter.labels("stored").inc(nodeStore.getStoredBranchNodeCount());
-        branchNodeStoredCounter.labels("skipped").inc(nodeStore.getSkippedBranchNodeCount());
-        leafNodeStoredCounter.inc(nodeStore.getStoredLeafNodeCount());
-        statesStoredCounter.inc(statesStored);
+        commitListener.onCommitted(nodeStore, statesStored);
+      }
+    }
+  }
+
+  /**
+   * Collects finalized states and hands them to the background writer once the finalized update
+   * they're part of is committed. Each state is recorded as pending in the finalized update so it
+   * can be regenerated if the process stops before the state is written.
+   */
+  private static class AsyncStateTreeUpdater
+      implements FinalizedStateUpdater<SchemaFinalizedTreeState> {
+
+    private final V4FinalizedStateTreeStorageLogic logic;
+    private final List<BeaconState> states = new ArrayList<>();
+    private AsyncStateTreeWriter writer;
+
+    private AsyncStateTreeUpdater(final V4FinalizedStateTreeStorageLogic logic) {
+      this.logic = logic;
+    }
+
+    @Override
+    public void addFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaFinalizedTreeState schema,
+        final BeaconState state) {
+      if (writer == null) {
+        writer = logic.getOrCreateAsyncWriter(db, schema);
+      }
+      transaction.put(
+          schema.getColumnFinalizedStateTreePendingRootsBySlot(),
+          state.getSlot(),
+          state.hashTreeRoot());
+      states.add(state);
+    }
+
+    @Override
+    public void commit() {
+      if (writer != null) {
+        writer.enqueue(states);
       }
     }
   }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -80,6 +81,11 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao {
     return db.get(schema.getColumnHotBlocksByRoot(), root);
   }
 
+  @Override
+  public Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Collection<Bytes32> roots) {
+    return db.getAll(schema.getColumnHotBlocksByRoot(), roots);
+  }
+
   @Override
   public Optional<CheckpointEpochs> getHotBlockCheckpointEpochs(final Bytes32 root) {
     return db.get(schema.getColumnHotBlockCheckpointEpochsByRoot(), root);
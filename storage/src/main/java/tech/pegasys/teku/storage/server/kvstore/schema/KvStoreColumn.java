@@ -20,31 +20,60 @@ import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
 
 public class KvStoreColumn<TKey, TValue> {
+
+  /**
+   * Describes how a column is predominantly read so that storage engines which support it can tune
+   * the column accordingly.
+   */
+  public enum AccessPattern {
+    /** No dominant access pattern, use the engine defaults. */
+    MIXED,
+    /** Mostly random lookups of individual keys, such as entries keyed by a hash. */
+    POINT_LOOKUP,
+    /** Mostly iterated over ranges of ordered keys, such as entries keyed by slot. */
+    RANGE_SCAN
+  }
+
   private final Bytes id;
   private final KvStoreSerializer<TKey> keySerializer;
   private final KvStoreSerializer<TValue> valueSerializer;
+  private final AccessPattern accessPattern;
 
   private KvStoreColumn(
       final byte[] id,
       final KvStoreSerializer<TKey> keySerializer,
-      final KvStoreSerializer<TValue> valueSerializer) {
+      final KvStoreSerializer<TValue> valueSerializer,
+      final AccessPattern accessPattern) {
     this.id = Bytes.wrap(id);
     this.keySerializer = keySerializer;
     this.valueSerializer = valueSerializer;
+    this.accessPattern = accessPattern;
   }
 
   public static <K, V> KvStoreColumn<K, V> create(
       final int id,
       final KvStoreSerializer<K> keySerializer,
       final KvStoreSerializer<V> valueSerializer) {
+    return create(id, keySerializer, valueSerializer, AccessPattern.MIXED);
+  }
+
+  public static <K, V> KvStoreColumn<K, V> create(
+      final int id,
+      final KvStoreSerializer<K> keySerializer,
+      final KvStoreSerializer<V> valueSerializer,
+      final AccessPattern accessPattern) {
     final byte byteId = toByteExact(id);
-    return new KvStoreColumn<>(new byte[] {byteId}, keySerializer, valueSerializer);
+    return new KvStoreColumn<>(new byte[] {byteId}, keySerializer, valueSerializer, accessPattern);
   }
 
   public Bytes getId() {
     return id;
   }
 
+  public AccessPattern getAccessPattern() {
+    return accessPattern;
+  }
+
   public KvStoreSerializer<TKey> getKeySerializer() {
     return keySerializer;
   }
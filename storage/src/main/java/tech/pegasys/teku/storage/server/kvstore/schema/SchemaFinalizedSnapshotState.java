@@ -14,6 +14,7 @@
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
@@ -21,12 +22,16 @@ public interface SchemaFinalizedSnapshotState extends SchemaFinalized {
 
   KvStoreColumn<UInt64, BeaconState> getColumnFinalizedStatesBySlot();
 
+  /** States stored as a delta from the closest earlier full state in the states by slot column */
+  KvStoreColumn<UInt64, Bytes> getColumnFinalizedStateDeltasBySlot();
+
   @Override
   default Map<String, KvStoreColumn<?, ?>> getColumnMap() {
     return Map.of(
         "SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot(),
         "FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot(),
         "FINALIZED_STATES_BY_SLOT", getColumnFinalizedStatesBySlot(),
+        "FINALIZED_STATE_DELTAS_BY_SLOT", getColumnFinalizedStateDeltasBySlot(),
         "SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot(),
         "NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot(),
         "NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot());
@@ -27,6 +27,9 @@ public interface SchemaFinalizedTreeState extends SchemaFinalized {
 
   KvStoreColumn<Bytes32, CompressedBranchInfo> getColumnFinalizedStateMerkleTreeBranches();
 
+  /** Roots of finalized states whose state tree has been queued but not yet written. */
+  KvStoreColumn<UInt64, Bytes32> getColumnFinalizedStateTreePendingRootsBySlot();
+
   @Override
   default Map<String, KvStoreColumn<?, ?>> getColumnMap() {
     return Map.of(
@@ -35,6 +38,7 @@ public interface SchemaFinalizedTreeState extends SchemaFinalized {
         "FINALIZED_STATE_ROOTS_BY_SLOT", getColumnFinalizedStateRootsBySlot(),
         "FINALIZED_STATE_TREE_LEAVES", getColumnFinalizedStateMerkleTreeLeaves(),
         "FINALIZED_STATE_TREE_BRANCHES", getColumnFinalizedStateMerkleTreeBranches(),
+        "FINALIZED_STATE_TREE_PENDING_ROOTS", getColumnFinalizedStateTreePendingRootsBySlot(),
         "SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot(),
         "NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot(),
         "NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot());
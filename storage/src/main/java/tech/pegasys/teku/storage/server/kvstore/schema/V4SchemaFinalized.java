@@ -13,11 +13,15 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.AccessPattern.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.AccessPattern.RANGE_SCAN;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
 
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -27,14 +31,16 @@ import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
 
 public class V4SchemaFinalized implements SchemaFinalizedSnapshotState {
   private static final KvStoreColumn<Bytes32, UInt64> SLOTS_BY_FINALIZED_ROOT =
-      KvStoreColumn.create(1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+      KvStoreColumn.create(1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
   private final KvStoreColumn<UInt64, SignedBeaconBlock> finalizedBlocksBySlot;
   private final KvStoreColumn<UInt64, BeaconState> finalizedStatesBySlot;
   private final KvStoreColumn<Bytes32, SignedBeaconBlock> nonCanonicalBlocksByRoot;
   private static final KvStoreColumn<Bytes32, UInt64> SLOTS_BY_FINALIZED_STATE_ROOT =
-      KvStoreColumn.create(4, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+      KvStoreColumn.create(4, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
   private static final KvStoreColumn<UInt64, Set<Bytes32>> NON_CANONICAL_BLOCK_ROOTS_BY_SLOT =
-      KvStoreColumn.create(6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
+      KvStoreColumn.create(6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER, RANGE_SCAN);
+  private static final KvStoreColumn<UInt64, Bytes> FINALIZED_STATE_DELTAS_BY_SLOT =
+      KvStoreColumn.create(7, UINT64_SERIALIZER, BYTES_SERIALIZER, RANGE_SCAN);
 
   private static final KvStoreVariable<UInt64> OPTIMISTIC_TRANSITION_BLOCK_SLOT =
       KvStoreVariable.create(1, UINT64_SERIALIZER);
@@ -42,12 +48,16 @@ public class V4SchemaFinalized implements SchemaFinalizedSnapshotState {
   public V4SchemaFinalized(final Spec spec) {
     finalizedBlocksBySlot =
         KvStoreColumn.create(
-            2, UINT64_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
+            2, UINT64_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec), RANGE_SCAN);
     this.finalizedStatesBySlot =
-        KvStoreColumn.create(3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+        KvStoreColumn.create(
+            3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec), RANGE_SCAN);
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
-            5, BYTES32_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
+            5,
+            BYTES32_SERIALIZER,
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            POINT_LOOKUP);
   }
 
   @Override
@@ -65,6 +75,11 @@ public class V4SchemaFinalized implements SchemaFinalizedSnapshotState {
     return finalizedStatesBySlot;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, Bytes> getColumnFinalizedStateDeltasBySlot() {
+    return FINALIZED_STATE_DELTAS_BY_SLOT;
+  }
+
   @Override
   public KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedStateRoot() {
     return SLOTS_BY_FINALIZED_STATE_ROOT;
@@ -13,11 +13,15 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.AccessPattern.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.AccessPattern.RANGE_SCAN;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
 
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -35,28 +39,40 @@ public class V6SnapshotSchemaFinalized implements SchemaFinalizedSnapshotState {
   private static final int ID_OFFSET = 128;
 
   private static final KvStoreColumn<Bytes32, UInt64> SLOTS_BY_FINALIZED_ROOT =
-      KvStoreColumn.create(ID_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+      KvStoreColumn.create(ID_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
   private final KvStoreColumn<UInt64, SignedBeaconBlock> finalizedBlocksBySlot;
   private final KvStoreColumn<UInt64, BeaconState> finalizedStatesBySlot;
   private final KvStoreColumn<Bytes32, SignedBeaconBlock> nonCanonicalBlocksByRoot;
   private static final KvStoreColumn<Bytes32, UInt64> SLOTS_BY_FINALIZED_STATE_ROOT =
-      KvStoreColumn.create(ID_OFFSET + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+      KvStoreColumn.create(ID_OFFSET + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
   private static final KvStoreColumn<UInt64, Set<Bytes32>> NON_CANONICAL_BLOCK_ROOTS_BY_SLOT =
-      KvStoreColumn.create(ID_OFFSET + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
+      KvStoreColumn.create(ID_OFFSET + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER, RANGE_SCAN);
+  private static final KvStoreColumn<UInt64, Bytes> FINALIZED_STATE_DELTAS_BY_SLOT =
+      KvStoreColumn.create(ID_OFFSET + 7, UINT64_SERIALIZER, BYTES_SERIALIZER, RANGE_SCAN);
 
   private static final KvStoreVariable<UInt64> OPTIMISTIC_TRANSITION_BLOCK_SLOT =
       KvStoreVariable.create(ID_OFFSET + 1, UINT64_SERIALIZER);
 
   public V6SnapshotSchemaFinalized(final Spec spec) {
+    this(spec, false);
+  }
+
+  /** Blocks are written compressed if {@code compressBlocks} is set and are readable either way. */
+  public V6SnapshotSchemaFinalized(final Spec spec, final boolean compressBlocks) {
+    final KvStoreSerializer<SignedBeaconBlock> blockSerializer =
+        compressBlocks
+            ? KvStoreSerializer.createCompressedSignedBlockSerializer(spec)
+            : KvStoreSerializer.createSignedBlockSerializer(spec);
     finalizedBlocksBySlot =
-        KvStoreColumn.create(
-            ID_OFFSET + 2, UINT64_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
+        KvStoreColumn.create(ID_OFFSET + 2, UINT64_SERIALIZER, blockSerializer, RANGE_SCAN);
     finalizedStatesBySlot =
         KvStoreColumn.create(
-            ID_OFFSET + 3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+            ID_OFFSET + 3,
+            UINT64_SERIALIZER,
+            KvStoreSerializer.createStateSerializer(spec),
+            RANGE_SCAN);
     nonCanonicalBlocksByRoot =
-        KvStoreColumn.create(
-            ID_OFFSET + 5, BYTES32_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
+        KvStoreColumn.create(ID_OFFSET + 5, BYTES32_SERIALIZER, blockSerializer, POINT_LOOKUP);
   }
 
   @Override
@@ -74,6 +90,11 @@ public class V6SnapshotSchemaFinalized implements SchemaFinalizedSnapshotState {
     return finalizedStatesBySlot;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, Bytes> getColumnFinalizedStateDeltasBySlot() {
+    return FINALIZED_STATE_DELTAS_BY_SLOT;
+  }
+
   @Override
   public KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedStateRoot() {
     return SLOTS_BY_FINALIZED_STATE_ROOT;
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.AccessPattern.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.AccessPattern.RANGE_SCAN;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
@@ -38,19 +40,24 @@ public class V6TreeSchemaFinalized implements SchemaFinalizedTreeState {
   private static final int ID_OFFSET = 128;
 
   private static final KvStoreColumn<Bytes32, UInt64> SLOTS_BY_FINALIZED_ROOT =
-      KvStoreColumn.create(ID_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+      KvStoreColumn.create(ID_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
   private static final KvStoreColumn<Bytes32, UInt64> SLOTS_BY_FINALIZED_STATE_ROOT =
-      KvStoreColumn.create(ID_OFFSET + 2, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+      KvStoreColumn.create(ID_OFFSET + 2, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
   private static final KvStoreColumn<UInt64, Set<Bytes32>> NON_CANONICAL_BLOCK_ROOTS_BY_SLOT =
-      KvStoreColumn.create(ID_OFFSET + 3, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
+      KvStoreColumn.create(ID_OFFSET + 3, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER, RANGE_SCAN);
   private static final KvStoreColumn<UInt64, Bytes32> FINALIZED_STATE_ROOTS_BY_SLOT =
-      KvStoreColumn.create(ID_OFFSET + 4, UINT64_SERIALIZER, BYTES32_SERIALIZER);
+      KvStoreColumn.create(ID_OFFSET + 4, UINT64_SERIALIZER, BYTES32_SERIALIZER, RANGE_SCAN);
   private static final KvStoreColumn<Bytes32, Bytes> FINALIZED_STATE_TREE_LEAVES_BY_ROOT =
-      KvStoreColumn.create(ID_OFFSET + 5, BYTES32_SERIALIZER, BYTES_SERIALIZER);
+      KvStoreColumn.create(ID_OFFSET + 5, BYTES32_SERIALIZER, BYTES_SERIALIZER, POINT_LOOKUP);
   private static final KvStoreColumn<Bytes32, CompressedBranchInfo>
       FINALIZED_STATE_TREE_BRANCHES_BY_ROOT =
           KvStoreColumn.create(
-              ID_OFFSET + 6, BYTES32_SERIALIZER, COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER);
+              ID_OFFSET + 6,
+              BYTES32_SERIALIZER,
+              COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER,
+              POINT_LOOKUP);
+  private static final KvStoreColumn<UInt64, Bytes32> FINALIZED_STATE_TREE_PENDING_ROOTS_BY_SLOT =
+      KvStoreColumn.create(ID_OFFSET + 9, UINT64_SERIALIZER, BYTES32_SERIALIZER, RANGE_SCAN);
 
   private static final KvStoreVariable<UInt64> OPTIMISTIC_TRANSITION_BLOCK_SLOT =
       KvStoreVariable.create(ID_OFFSET + 1, UINT64_SERIALIZER);
@@ -59,12 +66,19 @@ public class V6TreeSchemaFinalized implements SchemaFinalizedTreeState {
   private final KvStoreColumn<Bytes32, SignedBeaconBlock> nonCanonicalBlocksByRoot;
 
   public V6TreeSchemaFinalized(final Spec spec) {
+    this(spec, false);
+  }
+
+  /** Blocks are written compressed if {@code compressBlocks} is set and are readable either way. */
+  public V6TreeSchemaFinalized(final Spec spec, final boolean compressBlocks) {
+    final KvStoreSerializer<SignedBeaconBlock> blockSerializer =
+        compressBlocks
+            ? KvStoreSerializer.createCompressedSignedBlockSerializer(spec)
+            : KvStoreSerializer.createSignedBlockSerializer(spec);
     finalizedBlocksBySlot =
-        KvStoreColumn.create(
-            ID_OFFSET + 7, UINT64_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
+        KvStoreColumn.create(ID_OFFSET + 7, UINT64_SERIALIZER, blockSerializer, RANGE_SCAN);
     nonCanonicalBlocksByRoot =
-        KvStoreColumn.create(
-            ID_OFFSET + 8, BYTES32_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
+        KvStoreColumn.create(ID_OFFSET + 8, BYTES32_SERIALIZER, blockSerializer, POINT_LOOKUP);
   }
 
   @Override
@@ -111,4 +125,9 @@ public class V6TreeSchemaFinalized implements SchemaFinalizedTreeState {
   public KvStoreColumn<Bytes32, CompressedBranchInfo> getColumnFinalizedStateMerkleTreeBranches() {
     return FINALIZED_STATE_TREE_BRANCHES_BY_ROOT;
   }
+
+  @Override
+  public KvStoreColumn<UInt64, Bytes32> getColumnFinalizedStateTreePendingRootsBySlot() {
+    return FINALIZED_STATE_TREE_PENDING_ROOTS_BY_SLOT;
+  }
 }
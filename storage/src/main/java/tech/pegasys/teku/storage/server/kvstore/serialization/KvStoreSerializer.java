@@ -51,7 +51,24 @@ public interface KvStoreSerializer<T> {
   }
 
   static KvStoreSerializer<SignedBeaconBlock> createSignedBlockSerializer(final Spec spec) {
-    return new SignedBeaconBlockSerializer(spec);
+    return new SignedBeaconBlockSerializer(spec, false);
+  }
+
+  /**
+   * Creates a block serializer which writes snappy compressed values. Values written by either
+   * block serializer can be read by both.
+   */
+  static KvStoreSerializer<SignedBeaconBlock> createCompressedSignedBlockSerializer(
+      final Spec spec) {
+    return new SignedBeaconBlockSerializer(spec, true);
+  }
+
+  /**
+   * Returns the SSZ of a value written by a block serializer, so it can be sent on without
+   * deserializing the block.
+   */
+  static Bytes getSignedBlockSsz(final Bytes storedValue) {
+    return SignedBeaconBlockSerializer.getSsz(storedValue);
   }
 
   T deserialize(final byte[] data);
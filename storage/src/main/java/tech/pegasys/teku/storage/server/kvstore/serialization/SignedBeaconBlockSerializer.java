@@ -13,27 +13,81 @@
 
 package tech.pegasys.teku.storage.server.kvstore.serialization;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.Objects;
 import org.apache.tuweni.bytes.Bytes;
+import org.xerial.snappy.Snappy;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 
-class SignedBeaconBlockSerializer implements KvStoreSerializer<SignedBeaconBlock> {
+/**
+ * Serializes blocks as plain SSZ or, when compression is enabled, as a format byte followed by the
+ * snappy compressed SSZ.
+ *
+ * <p>Plain SSZ always starts with the 4 byte offset of the block message, which is 100, so the
+ * first byte of an uncompressed value is never {@link #FORMAT_SNAPPY}. This allows both formats to
+ * be read regardless of whether compression is enabled, and lets compressed and uncompressed values
+ * coexist in the same column.
+ */
+public class SignedBeaconBlockSerializer implements KvStoreSerializer<SignedBeaconBlock> {
+  public static final byte FORMAT_SNAPPY = 0x01;
 
   private final Spec spec;
+  private final boolean compress;
 
-  SignedBeaconBlockSerializer(final Spec spec) {
+  SignedBeaconBlockSerializer(final Spec spec, final boolean compress) {
     this.spec = spec;
+    this.compress = compress;
   }
 
   @Override
   public SignedBeaconBlock deserialize(final byte[] data) {
-    return spec.deserializeSignedBeaconBlock(Bytes.wrap(data));
+    return spec.deserializeSignedBeaconBlock(getSsz(Bytes.wrap(data)));
+  }
+
+  /**
+   * Returns the SSZ of a stored block value without deserializing it, uncompressing it if required.
+   */
+  static Bytes getSsz(final Bytes storedValue) {
+    if (!storedValue.isEmpty() && storedValue.get(0) == FORMAT_SNAPPY) {
+      return Bytes.wrap(uncompress(storedValue.toArrayUnsafe()));
+    }
+    return storedValue;
   }
 
   @Override
   public byte[] serialize(final SignedBeaconBlock value) {
-    return value.sszSerialize().toArrayUnsafe();
+    final byte[] ssz = value.sszSerialize().toArrayUnsafe();
+    if (!compress) {
+      return ssz;
+    }
+    final byte[] compressed = compress(ssz);
+    // Signatures and roots don't compress, so small blocks may not get any smaller
+    return compressed.length < ssz.length ? compressed : ssz;
+  }
+
+  private static byte[] compress(final byte[] ssz) {
+    try {
+      final byte[] output = new byte[1 + Snappy.maxCompressedLength(ssz.length)];
+      output[0] = FORMAT_SNAPPY;
+      final int compressedLength = Snappy.rawCompress(ssz, 0, ssz.length, output, 1);
+      return Arrays.copyOf(output, 1 + compressedLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to compress block", e);
+    }
+  }
+
+  private static byte[] uncompress(final byte[] data) {
+    try {
+      final int compressedLength = data.length - 1;
+      final byte[] output = new byte[Snappy.uncompressedLength(data, 1, compressedLength)];
+      Snappy.uncompress(data, 1, compressedLength, output, 0);
+      return output;
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to uncompress block", e);
+    }
   }
 
   @Override
@@ -45,11 +99,11 @@ class SignedBeaconBlockSerializer implements KvStoreSerializer<SignedBeaconBlock
       return false;
     }
     final SignedBeaconBlockSerializer that = (SignedBeaconBlockSerializer) o;
-    return Objects.equals(spec, that.spec);
+    return compress == that.compress && Objects.equals(spec, that.spec);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(spec);
+    return Objects.hash(spec, compress);
   }
 }
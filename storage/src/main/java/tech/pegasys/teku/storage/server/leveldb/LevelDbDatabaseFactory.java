@@ -41,6 +41,7 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration finalizedConfiguration,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int maxStateDeltasPerSnapshot,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
     final V4SchemaFinalized schemaFinalized = new V4SchemaFinalized(spec);
@@ -57,6 +58,7 @@ public class LevelDbDatabaseFactory {
         finalizedDb,
         stateStorageMode,
         stateStorageFrequency,
+        maxStateDeltasPerSnapshot,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -66,11 +68,14 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int maxStateDeltasPerSnapshot,
       final boolean storeNonCanonicalBlocks,
+      final boolean compressFinalizedBlocks,
       final Spec spec) {
     final KvStoreAccessor db;
     final V4SchemaHot schemaHot = new V4SchemaHot(spec);
-    final V6SnapshotSchemaFinalized schemaFinalized = new V6SnapshotSchemaFinalized(spec);
+    final V6SnapshotSchemaFinalized schemaFinalized =
+        new V6SnapshotSchemaFinalized(spec, compressFinalizedBlocks);
     final List<KvStoreColumn<?, ?>> allColumns = new ArrayList<>(schemaHot.getAllColumns());
     allColumns.addAll(schemaFinalized.getAllColumns());
     db = LevelDbInstanceFactory.create(metricsSystem, STORAGE, hotConfiguration, allColumns);
@@ -83,6 +88,7 @@ public class LevelDbDatabaseFactory {
         schemaFinalized,
         stateStorageMode,
         stateStorageFrequency,
+        maxStateDeltasPerSnapshot,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -92,11 +98,14 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
+      final boolean compressFinalizedBlocks,
       final int maxKnownNodeCacheSize,
+      final int maxQueuedStateTreeWrites,
       final Spec spec) {
 
     final V4SchemaHot schemaHot = new V4SchemaHot(spec);
-    final V6TreeSchemaFinalized schemaFinalized = new V6TreeSchemaFinalized(spec);
+    final V6TreeSchemaFinalized schemaFinalized =
+        new V6TreeSchemaFinalized(spec, compressFinalizedBlocks);
     final List<KvStoreColumn<?, ?>> allColumns = new ArrayList<>(schemaHot.getAllColumns());
     allColumns.addAll(schemaFinalized.getAllColumns());
     final KvStoreAccessor db =
@@ -110,6 +119,7 @@ public class LevelDbDatabaseFactory {
         stateStorageMode,
         storeNonCanonicalBlocks,
         maxKnownNodeCacheSize,
+        maxQueuedStateTreeWrites,
         spec);
   }
 }
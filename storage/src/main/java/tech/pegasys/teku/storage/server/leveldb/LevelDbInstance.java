@@ -21,16 +21,20 @@ import static tech.pegasys.teku.storage.server.leveldb.LevelDbUtils.getKeyAfterC
 import static tech.pegasys.teku.storage.server.leveldb.LevelDbUtils.getVariableKey;
 import static tech.pegasys.teku.storage.server.leveldb.LevelDbUtils.isFromColumn;
 
+import com.google.common.primitives.UnsignedBytes;
 import com.google.errorprone.annotations.MustBeClosed;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -110,6 +114,45 @@ public class LevelDbInstance implements KvStoreAccessor {
         .map(column.getValueSerializer()::deserialize);
   }
 
+  @Override
+  public <K> Optional<Bytes> getRaw(final KvStoreColumn<K, ?> column, final K key) {
+    assertOpen();
+    return Optional.ofNullable(db.get(getColumnKey(column, key))).map(Bytes::wrap);
+  }
+
+  /**
+   * LevelDB has no multi-get, so keys are looked up in sorted order with a single iterator. Each
+   * seek then moves forward through the same table files rather than every key starting a new
+   * lookup, and all values are read from the same snapshot.
+   */
+  @Override
+  public <K, V> Map<K, V> getAll(final KvStoreColumn<K, V> column, final Collection<K> keys) {
+    if (keys.size() <= 1) {
+      final Map<K, V> values = new HashMap<>();
+      keys.forEach(key -> get(column, key).ifPresent(value -> values.put(key, value)));
+      return values;
+    }
+    final NavigableMap<byte[], K> keysByColumnKey =
+        new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+    keys.forEach(key -> keysByColumnKey.put(getColumnKey(column, key), key));
+    return withIterator(
+        iterator -> {
+          final Map<K, V> values = new HashMap<>();
+          for (Map.Entry<byte[], K> key : keysByColumnKey.entrySet()) {
+            iterator.seek(key.getKey());
+            if (!iterator.hasNext()) {
+              // All remaining keys are after the last entry in the database
+              break;
+            }
+            final Map.Entry<byte[], byte[]> next = iterator.peekNext();
+            if (Arrays.equals(next.getKey(), key.getKey())) {
+              values.put(key.getValue(), column.getValueSerializer().deserialize(next.getValue()));
+            }
+          }
+          return values;
+        });
+  }
+
   @Override
   public <K, V> Map<K, V> getAll(final KvStoreColumn<K, V> column) {
     return withIterator(
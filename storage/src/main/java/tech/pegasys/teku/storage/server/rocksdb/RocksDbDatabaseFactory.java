@@ -40,6 +40,7 @@ public class RocksDbDatabaseFactory {
       final KvStoreConfiguration finalizedConfiguration,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int maxStateDeltasPerSnapshot,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
     final KvStoreAccessor hotDb =
@@ -57,6 +58,7 @@ public class RocksDbDatabaseFactory {
         finalizedDb,
         stateStorageMode,
         stateStorageFrequency,
+        maxStateDeltasPerSnapshot,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -68,6 +70,7 @@ public class RocksDbDatabaseFactory {
       final SchemaFinalizedSnapshotState schemaFinalized,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int maxStateDeltasPerSnapshot,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
 
@@ -84,6 +87,7 @@ public class RocksDbDatabaseFactory {
         schemaFinalized,
         stateStorageMode,
         stateStorageFrequency,
+        maxStateDeltasPerSnapshot,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -15,6 +15,10 @@ package tech.pegasys.teku.storage.server.rocksdb;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -76,12 +80,17 @@ public class RocksDbInstance implements KvStoreAccessor {
 
   @Override
   public <K, V> Optional<V> get(KvStoreColumn<K, V> column, K key) {
+    return getRaw(column, key)
+        .map(data -> column.getValueSerializer().deserialize(data.toArrayUnsafe()));
+  }
+
+  @Override
+  public <K> Optional<Bytes> getRaw(final KvStoreColumn<K, ?> column, final K key) {
     assertOpen();
     final ColumnFamilyHandle handle = columnHandles.get(column);
     final byte[] keyBytes = column.getKeySerializer().serialize(key);
     try {
-      return Optional.ofNullable(db.get(handle, keyBytes))
-          .map(data -> column.getValueSerializer().deserialize(data));
+      return Optional.ofNullable(db.get(handle, keyBytes)).map(Bytes::wrap);
     } catch (RocksDBException e) {
       throw RocksDbExceptionUtil.wrapException("Failed to get value", e);
     }
@@ -95,6 +104,34 @@ public class RocksDbInstance implements KvStoreAccessor {
     }
   }
 
+  @Override
+  public <K, V> Map<K, V> getAll(final KvStoreColumn<K, V> column, final Collection<K> keys) {
+    assertOpen();
+    if (keys.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final List<K> keyList = new ArrayList<>(keys);
+    final List<byte[]> keyBytes = new ArrayList<>(keyList.size());
+    for (K key : keyList) {
+      keyBytes.add(column.getKeySerializer().serialize(key));
+    }
+    final List<ColumnFamilyHandle> handles =
+        Collections.nCopies(keyList.size(), columnHandles.get(column));
+    try {
+      final List<byte[]> values = db.multiGetAsList(handles, keyBytes);
+      final Map<K, V> result = new HashMap<>();
+      for (int i = 0; i < values.size(); i++) {
+        final byte[] value = values.get(i);
+        if (value != null) {
+          result.put(keyList.get(i), column.getValueSerializer().deserialize(value));
+        }
+      }
+      return result;
+    } catch (RocksDBException e) {
+      throw RocksDbExceptionUtil.wrapException("Failed to get values", e);
+    }
+  }
+
   @Override
   public <K, V> Optional<ColumnEntry<K, V>> getFloorEntry(KvStoreColumn<K, V> column, final K key) {
     assertOpen();
@@ -18,6 +18,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -26,11 +27,13 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.Env;
 import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDBException;
@@ -41,9 +44,13 @@ import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.AccessPattern;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
 public class RocksDbInstanceFactory {
+  private static final int POINT_LOOKUP_BLOOM_BITS_PER_KEY = 10;
+  private static final long RANGE_SCAN_BLOCK_SIZE = 64 * 1024;
+
   static {
     RocksDbUtil.loadNativeLibrary();
   }
@@ -65,11 +72,10 @@ public class RocksDbInstanceFactory {
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
     final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
-        createColumnFamilyOptions(configuration, blockCache);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats, blockCache));
+    final Map<AccessPattern, ColumnFamilyOptions> columnFamilyOptions =
+        createColumnFamilyOptions(configuration, blockCache, resources);
 
     List<ColumnFamilyDescriptor> columnDescriptors =
         createColumnFamilyDescriptors(columns, columnFamilyOptions);
@@ -104,6 +110,7 @@ public class RocksDbInstanceFactory {
       resources.add(db);
 
       rocksDbStats.registerMetrics(db);
+      rocksDbStats.registerColumnMetrics(db, columnHandlesMap);
 
       return new RocksDbInstance(db, defaultHandle, columnHandlesMap, resources);
     } catch (RocksDBException e) {
@@ -147,31 +154,65 @@ public class RocksDbInstanceFactory {
     return options;
   }
 
-  private static ColumnFamilyOptions createColumnFamilyOptions(
-      final KvStoreConfiguration configuration, final Cache cache) {
-    return new ColumnFamilyOptions()
-        .setCompressionType(configuration.getCompressionType())
-        .setBottommostCompressionType(configuration.getBottomMostCompressionType())
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+  private static Map<AccessPattern, ColumnFamilyOptions> createColumnFamilyOptions(
+      final KvStoreConfiguration configuration,
+      final Cache cache,
+      final List<AutoCloseable> resources) {
+    final Map<AccessPattern, ColumnFamilyOptions> optionsByAccessPattern =
+        new EnumMap<>(AccessPattern.class);
+    for (AccessPattern accessPattern : AccessPattern.values()) {
+      final ColumnFamilyOptions options =
+          new ColumnFamilyOptions()
+              .setCompressionType(configuration.getCompressionType())
+              .setBottommostCompressionType(configuration.getBottomMostCompressionType())
+              .setTableFormatConfig(createBlockBasedTableConfig(cache, accessPattern, resources));
+      resources.add(options);
+      optionsByAccessPattern.put(accessPattern, options);
+    }
+    return optionsByAccessPattern;
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final Map<AccessPattern, ColumnFamilyOptions> columnFamilyOptions) {
     List<ColumnFamilyDescriptor> columnDescriptors =
         columns.stream()
             .map(
-                col -> new ColumnFamilyDescriptor(col.getId().toArrayUnsafe(), columnFamilyOptions))
+                col ->
+                    new ColumnFamilyDescriptor(
+                        col.getId().toArrayUnsafe(),
+                        columnFamilyOptions.get(col.getAccessPattern())))
             .collect(Collectors.toList());
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(
+            Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(),
+            columnFamilyOptions.get(AccessPattern.MIXED)));
     return columnDescriptors;
   }
 
-  private static BlockBasedTableConfig createBlockBasedTableConfig(final Cache cache) {
-    return new BlockBasedTableConfig()
-        .setBlockCache(cache)
-        .setCacheIndexAndFilterBlocks(true)
-        .setFormatVersion(4); // Use the latest format version (only applies to new tables)
+  private static BlockBasedTableConfig createBlockBasedTableConfig(
+      final Cache cache, final AccessPattern accessPattern, final List<AutoCloseable> resources) {
+    final BlockBasedTableConfig config =
+        new BlockBasedTableConfig()
+            .setBlockCache(cache)
+            .setCacheIndexAndFilterBlocks(true)
+            .setFormatVersion(4); // Use the latest format version (only applies to new tables)
+    switch (accessPattern) {
+      case POINT_LOOKUP:
+        final BloomFilter bloomFilter = new BloomFilter(POINT_LOOKUP_BLOOM_BITS_PER_KEY, false);
+        resources.add(bloomFilter);
+        config
+            .setFilterPolicy(bloomFilter)
+            .setPinL0FilterAndIndexBlocksInCache(true)
+            .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash);
+        break;
+      case RANGE_SCAN:
+        // Iterators don't consult bloom filters so larger blocks just reduce the number of reads.
+        config.setBlockSize(RANGE_SCAN_BLOCK_SIZE);
+        break;
+      case MIXED:
+        break;
+    }
+    return config;
   }
 }
@@ -17,18 +17,22 @@ import io.prometheus.client.Collector;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.HistogramData;
 import org.rocksdb.HistogramType;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.TickerType;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 
 /**
  * Taken from
@@ -219,6 +223,55 @@ public class RocksDbStats implements AutoCloseable {
     }
   }
 
+  /**
+   * Registers per-column gauges so the effect of each column's tuning can be observed separately.
+   * Columns are labelled by their hex encoded id.
+   */
+  public void registerColumnMetrics(
+      final RocksDB database, final Map<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles) {
+    final LabelledGauge estimatedKeys =
+        metricsSystem.createLabelledGauge(
+            category,
+            "column_estimated_keys",
+            "Estimated number of keys in each RocksDB column",
+            "column",
+            "access_pattern");
+    final LabelledGauge totalSstFilesSize =
+        metricsSystem.createLabelledGauge(
+            category,
+            "column_total_sst_files_size",
+            "Total size in bytes of the SST files for each RocksDB column",
+            "column",
+            "access_pattern");
+    columnHandles.forEach(
+        (column, handle) -> {
+          final String columnId = column.getId().toHexString();
+          final String accessPattern = column.getAccessPattern().name().toLowerCase();
+          estimatedKeys.labels(
+              () -> getLongProperty(database, handle, "rocksdb.estimate-num-keys"),
+              columnId,
+              accessPattern);
+          totalSstFilesSize.labels(
+              () -> getLongProperty(database, handle, "rocksdb.total-sst-files-size"),
+              columnId,
+              accessPattern);
+        });
+  }
+
+  private long getLongProperty(
+      final RocksDB database, final ColumnFamilyHandle handle, final String name) {
+    return ifOpen(
+        () -> {
+          try {
+            return database.getLongProperty(handle, name);
+          } catch (RocksDBException e) {
+            LOG.warn("Failed to load " + name + " column property for RocksDB metrics");
+            return 0L;
+          }
+        },
+        0L);
+  }
+
   private long getLongProperty(final RocksDB database, final String name) {
     return ifOpen(
         () -> {
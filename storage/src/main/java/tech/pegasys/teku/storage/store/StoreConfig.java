@@ -26,21 +26,26 @@ public class StoreConfig {
   public static final int DEFAULT_BLOCK_CACHE_SIZE = DEFAULT_STATE_CACHE_SIZE * 2;
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
+  // Parallel state hashing is disabled by default
+  public static final int DEFAULT_PARALLEL_HASHING_THRESHOLD = 0;
 
   private final int stateCacheSize;
   private final int blockCacheSize;
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
+  private final int parallelHashingThreshold;
 
   private StoreConfig(
       final int stateCacheSize,
       final int blockCacheSize,
       final int checkpointStateCacheSize,
-      final int hotStatePersistenceFrequencyInEpochs) {
+      final int hotStatePersistenceFrequencyInEpochs,
+      final int parallelHashingThreshold) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
+    this.parallelHashingThreshold = parallelHashingThreshold;
   }
 
   public static Builder builder() {
@@ -67,6 +72,18 @@ public class StoreConfig {
     return hotStatePersistenceFrequencyInEpochs;
   }
 
+  /**
+   * Minimal number of dirty tree nodes on a single tree level to hash them in parallel. A value of
+   * zero disables parallel hashing.
+   */
+  public int getParallelHashingThreshold() {
+    return parallelHashingThreshold;
+  }
+
+  public boolean isParallelHashingEnabled() {
+    return parallelHashingThreshold > 0;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -79,7 +96,8 @@ public class StoreConfig {
     return stateCacheSize == that.stateCacheSize
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
-        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs;
+        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && parallelHashingThreshold == that.parallelHashingThreshold;
   }
 
   @Override
@@ -88,7 +106,8 @@ public class StoreConfig {
         stateCacheSize,
         blockCacheSize,
         checkpointStateCacheSize,
-        hotStatePersistenceFrequencyInEpochs);
+        hotStatePersistenceFrequencyInEpochs,
+        parallelHashingThreshold);
   }
 
   public static class Builder {
@@ -97,6 +116,7 @@ public class StoreConfig {
     private int checkpointStateCacheSize = DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
+    private int parallelHashingThreshold = DEFAULT_PARALLEL_HASHING_THRESHOLD;
 
     private Builder() {}
 
@@ -105,7 +125,8 @@ public class StoreConfig {
           stateCacheSize,
           blockCacheSize,
           checkpointStateCacheSize,
-          hotStatePersistenceFrequencyInEpochs);
+          hotStatePersistenceFrequencyInEpochs,
+          parallelHashingThreshold);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -138,6 +159,15 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder parallelHashingThreshold(final int parallelHashingThreshold) {
+      if (parallelHashingThreshold < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid parallelHashingThreshold: %d", parallelHashingThreshold));
+      }
+      this.parallelHashingThreshold = parallelHashingThreshold;
+      return this;
+    }
+
     private void validateCacheSize(final int cacheSize) {
       checkArgument(cacheSize >= 0, "Cache size cannot be negative");
       checkArgument(
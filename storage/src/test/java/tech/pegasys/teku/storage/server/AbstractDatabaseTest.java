@@ -1221,6 +1221,9 @@ public abstract class AbstractDatabaseTest {
       assertThat(database.getFinalizedBlockAtSlot(block.getSlot()))
           .describedAs("Block at slot %s", block.getSlot())
           .contains(block);
+      assertThat(database.getFinalizedBlockSszAtSlot(block.getSlot()))
+          .describedAs("Block SSZ at slot %s", block.getSlot())
+          .contains(block.sszSerialize());
     }
   }
 
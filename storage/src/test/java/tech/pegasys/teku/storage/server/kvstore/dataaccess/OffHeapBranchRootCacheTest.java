@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class OffHeapBranchRootCacheTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @Test
+  void shouldContainAddedRoots() {
+    final OffHeapBranchRootCache cache = OffHeapBranchRootCache.create(100);
+    final Bytes32 root1 = dataStructureUtil.randomBytes32();
+    final Bytes32 root2 = dataStructureUtil.randomBytes32();
+
+    assertThat(cache.add(root1)).isTrue();
+    assertThat(cache.add(root2)).isTrue();
+    assertThat(cache.add(root1)).isFalse();
+
+    assertThat(cache).hasSize(2);
+    assertThat(cache.contains(root1)).isTrue();
+    assertThat(cache.contains(root2)).isTrue();
+    assertThat(cache.contains(dataStructureUtil.randomBytes32())).isFalse();
+    assertThat(cache).containsExactlyInAnyOrder(root1, root2);
+  }
+
+  @Test
+  void shouldNotReportRootsSharingBucketsAsPresent() {
+    final OffHeapBranchRootCache cache = OffHeapBranchRootCache.create(1);
+    final Bytes32 root = Bytes32.fromHexString("0x01");
+    final Bytes32 otherRoot = Bytes32.fromHexString("0x02");
+
+    cache.add(root);
+
+    assertThat(cache.contains(otherRoot)).isFalse();
+  }
+
+  @Test
+  void shouldOnlyRoundCapacityUpToWholeBuckets() {
+    assertThat(OffHeapBranchRootCache.create(1).getCapacity()).isEqualTo(4);
+    assertThat(OffHeapBranchRootCache.create(100).getCapacity()).isEqualTo(100);
+    assertThat(OffHeapBranchRootCache.create(101).getCapacity()).isEqualTo(104);
+    assertThat(OffHeapBranchRootCache.create(100).getAllocatedBytes()).isEqualTo(100 * 32);
+  }
+
+  @Test
+  void shouldEvictRootsWhenFull() {
+    final Counter evictionCounter = mock(Counter.class);
+    final OffHeapBranchRootCache cache = OffHeapBranchRootCache.create(8, evictionCounter);
+    final List<Bytes32> roots = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final Bytes32 root = dataStructureUtil.randomBytes32();
+      roots.add(root);
+      cache.add(root);
+    }
+
+    assertThat(cache.size()).isLessThanOrEqualTo(8);
+    assertThat(cache.getEvictionCount()).isEqualTo(100 - cache.size());
+    verify(evictionCounter, times(100 - cache.size())).inc();
+    assertThat(roots).containsAll(cache);
+    // The most recently added root is always present
+    assertThat(cache.contains(roots.get(roots.size() - 1))).isTrue();
+  }
+
+  @Test
+  void shouldNeverCacheZeroRoot() {
+    final OffHeapBranchRootCache cache = OffHeapBranchRootCache.create(10);
+
+    assertThat(cache.add(Bytes32.ZERO)).isFalse();
+    assertThat(cache.contains(Bytes32.ZERO)).isFalse();
+    assertThat(cache).isEmpty();
+  }
+
+  @Test
+  void shouldStoreNothingWhenCapacityIsZero() {
+    final OffHeapBranchRootCache cache = OffHeapBranchRootCache.create(0);
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+
+    assertThat(cache.add(root)).isFalse();
+    assertThat(cache.contains(root)).isFalse();
+    assertThat(cache.getAllocatedBytes()).isZero();
+  }
+
+  @Test
+  void shouldRejectNegativeCapacity() {
+    assertThatThrownBy(() -> OffHeapBranchRootCache.create(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
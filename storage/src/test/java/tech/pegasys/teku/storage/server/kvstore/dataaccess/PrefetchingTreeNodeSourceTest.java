@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedTreeState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6TreeSchemaFinalized;
+
+class PrefetchingTreeNodeSourceTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SchemaFinalizedTreeState schema = new V6TreeSchemaFinalized(spec);
+  private final KvStoreAccessor accessor =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+
+  private final Bytes32 rootHash = dataStructureUtil.randomBytes32();
+  private final Bytes32 childBranchRoot = dataStructureUtil.randomBytes32();
+  private final Bytes32 storedLeafRoot = dataStructureUtil.randomBytes32();
+  private final Bytes32 inlineLeafRoot = dataStructureUtil.randomBytes32();
+  private final Bytes32 nestedLeafRoot = dataStructureUtil.randomBytes32();
+  private final Bytes32 zeroTreeRoot = TreeUtil.ZERO_TREES[3].hashTreeRoot();
+  private final Bytes storedLeaf = dataStructureUtil.randomBytes(64);
+  private final Bytes nestedLeaf = dataStructureUtil.randomBytes(48);
+
+  private final CompressedBranchInfo rootBranch =
+      new CompressedBranchInfo(
+          2, new Bytes32[] {childBranchRoot, storedLeafRoot, inlineLeafRoot, zeroTreeRoot});
+  private final CompressedBranchInfo childBranch =
+      new CompressedBranchInfo(1, new Bytes32[] {nestedLeafRoot});
+
+  @Test
+  void shouldNotReadNodesBeforeBranchIsLoaded() {
+    storeTree();
+
+    final PrefetchingTreeNodeSource source = createSource(2);
+
+    assertThat(source.getPrefetchedNodeCount()).isZero();
+  }
+
+  @Test
+  void shouldLoadDescendantsWithoutFurtherDatabaseReads() throws Exception {
+    storeTree();
+
+    final PrefetchingTreeNodeSource source = createSource(2);
+    assertThat(source.loadBranchNode(rootHash, 1)).isEqualTo(rootBranch);
+    // One branch and two stored leaves
+    assertThat(source.getPrefetchedNodeCount()).isEqualTo(3);
+    accessor.close();
+
+    assertThat(source.loadBranchNode(childBranchRoot, 4)).isEqualTo(childBranch);
+    assertThat(source.loadLeafNode(storedLeafRoot, 5)).isEqualTo(storedLeaf);
+    assertThat(source.loadLeafNode(inlineLeafRoot, 6)).isEqualTo(inlineLeafRoot);
+    assertThat(source.loadLeafNode(nestedLeafRoot, 8)).isEqualTo(nestedLeaf);
+    assertThat(source.getPrefetchedNodeCount()).isZero();
+  }
+
+  @Test
+  void shouldOnlyPrefetchToConfiguredDepth() {
+    storeTree();
+
+    final PrefetchingTreeNodeSource source = createSource(1);
+    assertThat(source.loadBranchNode(rootHash, 1)).isEqualTo(rootBranch);
+    // The child branch and the stored leaf, but not the leaf below the child branch
+    assertThat(source.getPrefetchedNodeCount()).isEqualTo(2);
+
+    // Loading the child branch prefetches the next levels below it
+    assertThat(source.loadBranchNode(childBranchRoot, 4)).isEqualTo(childBranch);
+    assertThat(source.getPrefetchedNodeCount()).isEqualTo(2);
+    assertThat(source.loadLeafNode(nestedLeafRoot, 8)).isEqualTo(nestedLeaf);
+    assertThat(source.getPrefetchedNodeCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldFallBackToDatabaseWhenNodeLoadedAgain() {
+    storeTree();
+
+    final PrefetchingTreeNodeSource source = createSource(2);
+    assertThat(source.loadBranchNode(rootHash, 1)).isEqualTo(rootBranch);
+
+    assertThat(source.loadLeafNode(storedLeafRoot, 5)).isEqualTo(storedLeaf);
+    assertThat(source.loadLeafNode(storedLeafRoot, 5)).isEqualTo(storedLeaf);
+    assertThat(source.loadLeafNode(inlineLeafRoot, 6)).isEqualTo(inlineLeafRoot);
+    assertThat(source.loadLeafNode(inlineLeafRoot, 6)).isEqualTo(inlineLeafRoot);
+    assertThat(source.loadBranchNode(childBranchRoot, 4)).isEqualTo(childBranch);
+    assertThat(source.loadBranchNode(childBranchRoot, 4)).isEqualTo(childBranch);
+  }
+
+  private PrefetchingTreeNodeSource createSource(final int prefetchDepth) {
+    return new PrefetchingTreeNodeSource(accessor, schema, Runnable::run, prefetchDepth);
+  }
+
+  private void storeTree() {
+    try (final KvStoreTransaction transaction = accessor.startTransaction()) {
+      transaction.put(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash, rootBranch);
+      transaction.put(
+          schema.getColumnFinalizedStateMerkleTreeBranches(), childBranchRoot, childBranch);
+      transaction.put(schema.getColumnFinalizedStateMerkleTreeLeaves(), storedLeafRoot, storedLeaf);
+      transaction.put(schema.getColumnFinalizedStateMerkleTreeLeaves(), nestedLeafRoot, nestedLeaf);
+      transaction.commit();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StateSnapshotDeltaTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState anchor = dataStructureUtil.randomBeaconState(64);
+
+  @Test
+  void shouldRecreateStateFromAnchorAndDelta() {
+    final BeaconState state =
+        anchor.updated(
+            s -> {
+              s.setSlot(anchor.getSlot().plus(100));
+              s.getBalances().setElement(3, UInt64.valueOf(1234));
+              s.getValidators().append(dataStructureUtil.randomValidator());
+              s.getBalances().appendElement(UInt64.valueOf(32_000_000_000L));
+            });
+
+    final Bytes delta = StateSnapshotDelta.encode(anchor, state);
+
+    assertThat(StateSnapshotDelta.getAnchorSlot(delta)).isEqualTo(anchor.getSlot());
+    assertThat(StateSnapshotDelta.apply(anchor, delta)).isEqualTo(state);
+  }
+
+  @Test
+  void shouldOnlyIncludeChangedBytes() {
+    final BeaconState state =
+        anchor.updated(s -> s.getBalances().setElement(3, UInt64.valueOf(1234)));
+
+    final Bytes delta = StateSnapshotDelta.encode(anchor, state);
+
+    assertThat(delta.size()).isLessThan(64);
+    assertThat(StateSnapshotDelta.apply(anchor, delta)).isEqualTo(state);
+  }
+
+  @Test
+  void shouldRecreateStateWhenListsShrink() {
+    final BeaconState state =
+        anchor.updated(
+            s -> {
+              s.getEth1_data_votes().clear();
+              s.getHistorical_roots().clear();
+            });
+
+    final Bytes delta = StateSnapshotDelta.encode(anchor, state);
+
+    assertThat(StateSnapshotDelta.apply(anchor, delta)).isEqualTo(state);
+  }
+
+  @Test
+  void shouldRejectDeltaAppliedToDifferentAnchor() {
+    final BeaconState state = anchor.updated(s -> s.setSlot(anchor.getSlot().plus(1)));
+    final Bytes delta = StateSnapshotDelta.encode(anchor, state);
+
+    assertThatThrownBy(() -> StateSnapshotDelta.apply(state, delta))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -30,6 +30,7 @@ import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotState;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SnapshotSchemaFinalized;
@@ -126,4 +127,102 @@ class V4FinalizedStateSnapshotStorageLogicTest {
     updater.addFinalizedState(db, transaction, schema, state2);
     verifyNoMoreInteractions(transaction);
   }
+
+  @Test
+  void updater_shouldStoreDeltasBetweenFullStatesWhenEnabled() {
+    final KvStoreAccessor mockDb =
+        MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+    final V4FinalizedStateSnapshotStorageLogic deltaLogic =
+        new V4FinalizedStateSnapshotStorageLogic(STATE_STORAGE_FREQUENCY, 2);
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(100));
+    final BeaconState state2 = nextStoredState(state1);
+    final BeaconState state3 = nextStoredState(state2);
+    final BeaconState state4 = nextStoredState(state3);
+
+    storeStates(mockDb, deltaLogic, state1, state2);
+    // New updater must continue counting deltas from the ones already stored
+    storeStates(mockDb, deltaLogic, state3, state4);
+
+    assertThat(mockDb.getAll(schema.getColumnFinalizedStatesBySlot()).keySet())
+        .containsExactlyInAnyOrder(state1.getSlot(), state4.getSlot());
+    assertThat(mockDb.getAll(schema.getColumnFinalizedStateDeltasBySlot()).keySet())
+        .containsExactlyInAnyOrder(state2.getSlot(), state3.getSlot());
+
+    assertThat(deltaLogic.getLatestAvailableFinalizedState(mockDb, schema, state1.getSlot()))
+        .contains(state1);
+    assertThat(deltaLogic.getLatestAvailableFinalizedState(mockDb, schema, state2.getSlot()))
+        .contains(state2);
+    assertThat(
+            deltaLogic.getLatestAvailableFinalizedState(
+                mockDb, schema, state4.getSlot().minusMinZero(1)))
+        .contains(state3);
+    assertThat(deltaLogic.getLatestAvailableFinalizedState(mockDb, schema, state4.getSlot()))
+        .contains(state4);
+  }
+
+  @Test
+  void updater_shouldLoadAnchorAndDeltaCountFromDatabaseAfterRestart() {
+    final KvStoreAccessor mockDb =
+        MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(100));
+    final BeaconState state2 = nextStoredState(state1);
+    final BeaconState state3 = nextStoredState(state2);
+    final BeaconState state4 = nextStoredState(state3);
+
+    final V4FinalizedStateSnapshotStorageLogic originalLogic =
+        new V4FinalizedStateSnapshotStorageLogic(STATE_STORAGE_FREQUENCY, 2);
+    storeStates(mockDb, originalLogic, state1, state2);
+    final V4FinalizedStateSnapshotStorageLogic restartedLogic =
+        new V4FinalizedStateSnapshotStorageLogic(STATE_STORAGE_FREQUENCY, 2);
+    storeStates(mockDb, restartedLogic, state3, state4);
+
+    assertThat(mockDb.getAll(schema.getColumnFinalizedStatesBySlot()).keySet())
+        .containsExactlyInAnyOrder(state1.getSlot(), state4.getSlot());
+    assertThat(restartedLogic.getLatestAvailableFinalizedState(mockDb, schema, state3.getSlot()))
+        .contains(state3);
+  }
+
+  @Test
+  void updater_shouldNotCountDeltasFromUncommittedUpdates() {
+    final KvStoreAccessor mockDb =
+        MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+    final V4FinalizedStateSnapshotStorageLogic deltaLogic =
+        new V4FinalizedStateSnapshotStorageLogic(STATE_STORAGE_FREQUENCY, 1);
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(100));
+    final BeaconState state2 = nextStoredState(state1);
+    storeStates(mockDb, deltaLogic, state1);
+
+    try (final KvStoreTransaction transaction = mockDb.startTransaction()) {
+      deltaLogic.updater().addFinalizedState(mockDb, transaction, schema, state2);
+      transaction.rollback();
+    }
+    storeStates(mockDb, deltaLogic, state2);
+
+    assertThat(mockDb.getAll(schema.getColumnFinalizedStateDeltasBySlot()).keySet())
+        .containsExactly(state2.getSlot());
+    assertThat(deltaLogic.getLatestAvailableFinalizedState(mockDb, schema, state2.getSlot()))
+        .contains(state2);
+  }
+
+  private BeaconState nextStoredState(final BeaconState state) {
+    return state.updated(
+        s -> {
+          s.setSlot(state.getSlot().plus(STATE_STORAGE_FREQUENCY));
+          s.getBalances().setElement(0, dataStructureUtil.randomUInt64());
+        });
+  }
+
+  private void storeStates(
+      final KvStoreAccessor db,
+      final V4FinalizedStateSnapshotStorageLogic logic,
+      final BeaconState... states) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaFinalizedSnapshotState> updater = logic.updater();
+      for (BeaconState state : states) {
+        updater.addFinalizedState(db, transaction, schema, state);
+      }
+      transaction.commit();
+      updater.commit();
+    }
+  }
 }
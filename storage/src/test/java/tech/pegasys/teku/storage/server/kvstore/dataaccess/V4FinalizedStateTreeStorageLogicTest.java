@@ -14,13 +14,16 @@
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.Waiter.waitFor;
 
 import java.util.Optional;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.core.ChainBuilder;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
@@ -78,6 +81,170 @@ class V4FinalizedStateTreeStorageLogicTest {
     assertStateReloads(state4);
   }
 
+  @Test
+  void shouldWriteStatesInBackgroundWhenQueueingEnabled() throws Exception {
+    final V4FinalizedStateTreeStorageLogic asyncLogic =
+        new V4FinalizedStateTreeStorageLogic(new NoOpMetricsSystem(), spec, 1000, 2);
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    final BeaconState state2 = dataStructureUtil.randomBeaconState(UInt64.valueOf(5));
+    final BeaconState state3 = dataStructureUtil.randomBeaconState(UInt64.valueOf(7));
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaFinalizedTreeState> updater = asyncLogic.updater();
+      updater.addFinalizedState(db, transaction, schema, state1);
+      updater.addFinalizedState(db, transaction, schema, state2);
+      updater.addFinalizedState(db, transaction, schema, state3);
+      transaction.commit();
+      updater.commit();
+    }
+
+    // States are available whether or not they have been written yet
+    assertThat(asyncLogic.getLatestAvailableFinalizedState(db, schema, UInt64.valueOf(6)))
+        .contains(state2);
+    assertThat(asyncLogic.getLatestAvailableFinalizedState(db, schema, UInt64.valueOf(7)))
+        .contains(state3);
+
+    // Closing waits for all queued states to be written
+    asyncLogic.close();
+    assertStateReloads(state1);
+    assertStateReloads(state2);
+    assertStateReloads(state3);
+    assertThat(db.getAll(schema.getColumnFinalizedStateTreePendingRootsBySlot())).isEmpty();
+  }
+
+  @Test
+  void shouldRecordQueuedStatesAsPendingInFinalizedUpdate() throws Exception {
+    final V4FinalizedStateTreeStorageLogic asyncLogic =
+        new V4FinalizedStateTreeStorageLogic(new NoOpMetricsSystem(), spec, 1000, 2);
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      asyncLogic.updater().addFinalizedState(db, transaction, schema, state);
+      transaction.commit();
+    }
+
+    // The updater wasn't committed so the state was never queued but remains recoverable
+    assertThat(db.get(schema.getColumnFinalizedStateTreePendingRootsBySlot(), state.getSlot()))
+        .contains(state.hashTreeRoot());
+    asyncLogic.close();
+  }
+
+  @Test
+  void recoverPendingStates_shouldRegenerateStatesFromFinalizedBlocks() {
+    final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+    final SignedBlockAndState genesis = chainBuilder.generateGenesis();
+    chainBuilder.generateBlocksUpToSlot(3);
+    final BeaconState pendingState = chainBuilder.getStateAtSlot(3);
+    storeState(genesis.getState());
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      chainBuilder
+          .streamBlocksAndStates(1, 3)
+          .forEach(
+              blockAndState ->
+                  transaction.put(
+                      schema.getColumnFinalizedBlocksBySlot(),
+                      blockAndState.getSlot(),
+                      blockAndState.getBlock()));
+      transaction.put(
+          schema.getColumnFinalizedStateTreePendingRootsBySlot(),
+          pendingState.getSlot(),
+          pendingState.hashTreeRoot());
+      transaction.commit();
+    }
+
+    logic.recoverPendingStates(db, schema);
+
+    assertStateReloads(pendingState);
+    assertThat(db.getAll(schema.getColumnFinalizedStateTreePendingRootsBySlot())).isEmpty();
+  }
+
+  @Test
+  void shouldRegenerateStatesThatDoNotFitInMemory() throws Exception {
+    final V4FinalizedStateTreeStorageLogic asyncLogic =
+        new V4FinalizedStateTreeStorageLogic(new NoOpMetricsSystem(), spec, 1000, 1);
+    final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+    final SignedBlockAndState genesis = chainBuilder.generateGenesis();
+    chainBuilder.generateBlocksUpToSlot(3);
+    storeState(genesis.getState());
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaFinalizedTreeState> updater = asyncLogic.updater();
+      chainBuilder
+          .streamBlocksAndStates(1, 3)
+          .forEach(
+              blockAndState -> {
+                transaction.put(
+                    schema.getColumnFinalizedBlocksBySlot(),
+                    blockAndState.getSlot(),
+                    blockAndState.getBlock());
+                updater.addFinalizedState(db, transaction, schema, blockAndState.getState());
+              });
+      transaction.commit();
+      updater.commit();
+    }
+
+    waitFor(
+        () ->
+            assertThat(db.getAll(schema.getColumnFinalizedStateTreePendingRootsBySlot()))
+                .isEmpty());
+    asyncLogic.close();
+    assertStateReloads(chainBuilder.getStateAtSlot(1));
+    assertStateReloads(chainBuilder.getStateAtSlot(2));
+    assertStateReloads(chainBuilder.getStateAtSlot(3));
+  }
+
+  @Test
+  void recoverPendingStates_shouldDiscardStatesWhenNoEarlierStateAvailable() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.put(
+          schema.getColumnFinalizedStateTreePendingRootsBySlot(),
+          state.getSlot(),
+          state.hashTreeRoot());
+      transaction.commit();
+    }
+
+    logic.recoverPendingStates(db, schema);
+
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state.getSlot())).isEmpty();
+    assertThat(db.getAll(schema.getColumnFinalizedStateTreePendingRootsBySlot())).isEmpty();
+  }
+
+  @Test
+  void recoverPendingStates_shouldDiscardStatesWhenRegeneratedRootDiffers() {
+    final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+    final SignedBlockAndState genesis = chainBuilder.generateGenesis();
+    chainBuilder.generateBlocksUpToSlot(1);
+    storeState(genesis.getState());
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.put(
+          schema.getColumnFinalizedBlocksBySlot(), UInt64.ONE, chainBuilder.getBlockAtSlot(1));
+      transaction.put(
+          schema.getColumnFinalizedStateTreePendingRootsBySlot(),
+          UInt64.ONE,
+          dataStructureUtil.randomBytes32());
+      transaction.commit();
+    }
+
+    logic.recoverPendingStates(db, schema);
+
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, UInt64.ONE))
+        .contains(genesis.getState());
+    assertThat(db.getAll(schema.getColumnFinalizedStateTreePendingRootsBySlot())).isEmpty();
+  }
+
+  @Test
+  void shouldNotWriteQueuedStatesWhenUpdaterNotCommitted() throws Exception {
+    final V4FinalizedStateTreeStorageLogic asyncLogic =
+        new V4FinalizedStateTreeStorageLogic(new NoOpMetricsSystem(), spec, 1000, 2);
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      asyncLogic.updater().addFinalizedState(db, transaction, schema, state);
+    }
+
+    asyncLogic.close();
+    assertThat(asyncLogic.getLatestAvailableFinalizedState(db, schema, state.getSlot())).isEmpty();
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state.getSlot())).isEmpty();
+    assertThat(db.getAll(schema.getColumnFinalizedStateTreePendingRootsBySlot())).isEmpty();
+  }
+
   private void assertStateReloads(final BeaconState state) {
     assertStateReloads(state, state.getSlot());
   }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class SignedBeaconBlockSerializerTest {
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  private final KvStoreSerializer<SignedBeaconBlock> serializer =
+      new SignedBeaconBlockSerializer(spec, false);
+  private final KvStoreSerializer<SignedBeaconBlock> compressedSerializer =
+      new SignedBeaconBlockSerializer(spec, true);
+
+  @Test
+  public void roundTrip_uncompressed() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(11);
+    final byte[] bytes = serializer.serialize(block);
+    assertThat(bytes).isEqualTo(block.sszSerialize().toArrayUnsafe());
+    assertThat(bytes[0]).isNotEqualTo(SignedBeaconBlockSerializer.FORMAT_SNAPPY);
+    assertThat(serializer.deserialize(bytes)).isEqualTo(block);
+  }
+
+  @Test
+  public void roundTrip_compressed() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(11);
+    final byte[] bytes = compressedSerializer.serialize(block);
+    assertThat(bytes.length).isLessThanOrEqualTo(block.sszSerialize().size());
+    assertThat(compressedSerializer.deserialize(bytes)).isEqualTo(block);
+  }
+
+  @Test
+  public void serialize_shouldCompressBlocksWithRepeatedContent() {
+    final SchemaDefinitions schemaDefinitions = spec.getGenesisSchemaDefinitions();
+    final BeaconBlock block =
+        schemaDefinitions
+            .getBeaconBlockSchema()
+            .create(
+                UInt64.valueOf(11),
+                dataStructureUtil.randomUInt64(),
+                dataStructureUtil.randomBytes32(),
+                dataStructureUtil.randomBytes32(),
+                schemaDefinitions.getBeaconBlockBodySchema().createEmpty());
+    final SignedBeaconBlock signedBlock = dataStructureUtil.signedBlock(block);
+
+    final byte[] bytes = compressedSerializer.serialize(signedBlock);
+    assertThat(bytes[0]).isEqualTo(SignedBeaconBlockSerializer.FORMAT_SNAPPY);
+    assertThat(bytes.length).isLessThan(signedBlock.sszSerialize().size());
+    assertThat(compressedSerializer.deserialize(bytes)).isEqualTo(signedBlock);
+  }
+
+  @Test
+  public void deserialize_shouldReadValuesWrittenWithOrWithoutCompression() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(11);
+    assertThat(serializer.deserialize(compressedSerializer.serialize(block))).isEqualTo(block);
+    assertThat(compressedSerializer.deserialize(serializer.serialize(block))).isEqualTo(block);
+  }
+}
@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.server.leveldb;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
 
@@ -107,6 +108,37 @@ class LevelDbInstanceTest {
     assertThat(instance.get(COLUMN_3, 1)).isEmpty();
   }
 
+  @Test
+  void getAll_shouldReturnValuesForKeysPresentInColumn() {
+    try (final KvStoreTransaction update = instance.startTransaction()) {
+      update.put(COLUMN_1, 0, 10);
+      update.put(COLUMN_1, 2, 12);
+      update.put(COLUMN_2, 1, 21);
+      update.commit();
+    }
+
+    assertThat(instance.getAll(COLUMN_1, List.of(0, 1, 2)))
+        .containsOnly(entry(0, 10), entry(2, 12));
+    assertThat(instance.getAll(COLUMN_2, List.of(0, 1, 2))).containsOnly(entry(1, 21));
+    assertThat(instance.getAll(COLUMN_3, List.of(0, 1, 2))).isEmpty();
+  }
+
+  @Test
+  void getAll_shouldReturnValuesForUnsortedAndSingleKeys() {
+    try (final KvStoreTransaction update = instance.startTransaction()) {
+      update.put(COLUMN_1, 0, 10);
+      update.put(COLUMN_1, 2, 12);
+      update.put(COLUMN_1, 4, 14);
+      update.commit();
+    }
+
+    assertThat(instance.getAll(COLUMN_1, List.of(4, 3, 0)))
+        .containsOnly(entry(0, 10), entry(4, 14));
+    assertThat(instance.getAll(COLUMN_1, List.of(2))).containsOnly(entry(2, 12));
+    assertThat(instance.getAll(COLUMN_1, List.of(3))).isEmpty();
+    assertThat(instance.getAll(COLUMN_1, List.of())).isEmpty();
+  }
+
   @Test
   void shouldStoreAndLoadVariables() {
     assertThat(instance.get(VARIABLE_1)).isEmpty();
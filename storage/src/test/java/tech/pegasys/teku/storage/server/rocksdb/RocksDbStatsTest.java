@@ -18,18 +18,26 @@ import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.AccessPattern;
 
 class RocksDbStatsTest {
 
@@ -55,4 +63,28 @@ class RocksDbStatsTest {
         metricsSystem.streamObservations().collect(Collectors.toList());
     assertThat(metrics).isNotEmpty();
   }
+
+  @Test
+  void shouldReportColumnMetricsLabelledByColumn() throws Exception {
+    final ObservableMetricsSystem metricsSystem =
+        new PrometheusMetricsSystem(Set.of(TekuMetricCategory.STORAGE_FINALIZED_DB), true);
+    final KvStoreColumn<Bytes32, Bytes> column =
+        KvStoreColumn.create(5, BYTES32_SERIALIZER, BYTES_SERIALIZER, AccessPattern.POINT_LOOKUP);
+    final ColumnFamilyHandle handle = mock(ColumnFamilyHandle.class);
+    when(database.getLongProperty(handle, "rocksdb.estimate-num-keys")).thenReturn(42L);
+
+    try (RocksDbStats stats =
+        new RocksDbStats(metricsSystem, TekuMetricCategory.STORAGE_FINALIZED_DB)) {
+      stats.registerColumnMetrics(database, Map.of(column, handle));
+
+      final List<Observation> metrics =
+          metricsSystem
+              .streamObservations(TekuMetricCategory.STORAGE_FINALIZED_DB)
+              .filter(observation -> observation.getMetricName().equals("column_estimated_keys"))
+              .collect(Collectors.toList());
+      assertThat(metrics).hasSize(1);
+      assertThat(metrics.get(0).getLabels()).containsExactly("0x05", "point_lookup");
+      assertThat(metrics.get(0).getValue()).isEqualTo(42d);
+    }
+  }
 }
@@ -36,6 +36,7 @@ public class InMemoryKvStoreDatabaseFactory {
         coldDb,
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -54,6 +55,7 @@ public class InMemoryKvStoreDatabaseFactory {
         new V6SnapshotSchemaFinalized(spec),
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -72,6 +74,7 @@ public class InMemoryKvStoreDatabaseFactory {
         storageMode,
         storeNonCanonicalBlocks,
         1000,
+        0,
         spec);
   }
 }
@@ -13,7 +13,12 @@
 
 package tech.pegasys.teku.storage.server.kvstore;
 
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreFinalizedDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreHotDao;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedKvStoreDao;
 
 public class TestKvStoreDatabase {
   private final KvStoreDatabase db;
@@ -25,4 +30,12 @@ public class TestKvStoreDatabase {
   public KvStoreHotDao getHotDao() {
     return db.hotDao;
   }
+
+  public KvStoreFinalizedDao getFinalizedDao() {
+    return db.finalizedDao;
+  }
+
+  public Optional<Bytes> getRawFinalizedBlockAtSlot(final UInt64 slot) {
+    return ((V4FinalizedKvStoreDao<?>) db.finalizedDao).getRawFinalizedBlockAtSlot(slot);
+  }
 }
@@ -153,6 +153,7 @@ public class FileBackedStorageSystemBuilder {
         KvStoreConfiguration.v5ArchiveDefaults().withDatabaseDir(archiveDir),
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -167,6 +168,7 @@ public class FileBackedStorageSystemBuilder {
         new V6SnapshotSchemaFinalized(spec),
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -178,7 +180,9 @@ public class FileBackedStorageSystemBuilder {
         configDefault.withDatabaseDir(hotDir),
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
+        false,
         spec);
   }
 
@@ -189,7 +193,9 @@ public class FileBackedStorageSystemBuilder {
         configDefault.withDatabaseDir(hotDir),
         storageMode,
         storeNonCanonicalBlocks,
+        false,
         10_000,
+        0,
         spec);
   }
 
@@ -200,6 +206,7 @@ public class FileBackedStorageSystemBuilder {
         KvStoreConfiguration.v5ArchiveDefaults().withDatabaseDir(archiveDir),
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -211,6 +218,7 @@ public class FileBackedStorageSystemBuilder {
         KvStoreConfiguration.v4Settings(archiveDir),
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -70,11 +70,50 @@ public class DataStorageOptions {
   @CommandLine.Option(
       names = {"--Xdata-storage-max-known-node-cache-size"},
       paramLabel = "<INTEGER>",
-      description = "Maximum size of the in-memory known node cache for finalized states",
+      description =
+          "Maximum number of branch roots held in the off-heap known node cache for finalized"
+              + " states. Each entry uses 32 bytes and the memory is allocated on startup.",
       arity = "1",
       hidden = true)
   private int maxKnownNodeCacheSize = StorageConfiguration.DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-max-queued-state-tree-writes"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum number of finalized states held in memory while their state tree is written in"
+              + " the background, states that don't fit are regenerated from blocks. Set to 0"
+              + " (default) to write state trees as part of each finalized update.",
+      arity = "1",
+      hidden = true)
+  private int maxQueuedStateTreeWrites = StorageConfiguration.DEFAULT_MAX_QUEUED_STATE_TREE_WRITES;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-max-state-deltas-per-snapshot"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of finalized states to store as a delta from the previous full state before"
+              + " storing another full state. Only applies when storing state snapshots."
+              + " Set to 0 to store every state in full.",
+      arity = "1",
+      hidden = true)
+  private int maxStateDeltasPerSnapshot =
+      StorageConfiguration.DEFAULT_MAX_STATE_DELTAS_PER_SNAPSHOT;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-compress-finalized-blocks-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Compress finalized and non-canonical blocks when writing them to the database."
+              + " Only applies to single database versions (v6, leveldb2, leveldb-tree)."
+              + " Existing blocks are only compressed by migrate-data.",
+      fallbackValue = "true",
+      arity = "0..1",
+      hidden = true)
+  private boolean compressFinalizedBlocksEnabled =
+      StorageConfiguration.DEFAULT_COMPRESS_FINALIZED_BLOCKS_ENABLED;
+
   public StateStorageMode getDataStorageMode() {
     return dataStorageMode;
   }
@@ -86,7 +125,10 @@ public class DataStorageOptions {
                 .dataStorageFrequency(dataStorageFrequency)
                 .dataStorageCreateDbVersion(parseDatabaseVersion())
                 .storeNonCanonicalBlocks(storeNonCanonicalBlocksEnabled)
-                .maxKnownNodeCacheSize(maxKnownNodeCacheSize));
+                .maxKnownNodeCacheSize(maxKnownNodeCacheSize)
+                .maxQueuedStateTreeWrites(maxQueuedStateTreeWrites)
+                .maxStateDeltasPerSnapshot(maxStateDeltasPerSnapshot)
+                .compressFinalizedBlocks(compressFinalizedBlocksEnabled));
   }
 
   private DatabaseVersion parseDatabaseVersion() {
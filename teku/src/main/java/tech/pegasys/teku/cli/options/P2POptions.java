@@ -154,6 +154,37 @@ public class P2POptions {
       arity = "1")
   private boolean multiPeerSyncEnabled = SyncConfig.DEFAULT_MULTI_PEER_SYNC_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-sync-batch-signature-verification-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Verify the signatures from all blocks in a sync batch together before importing them",
+      hidden = true,
+      arity = "1")
+  private boolean batchSignatureVerificationEnabled =
+      SyncConfig.DEFAULT_BATCH_SIGNATURE_VERIFICATION_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-sync-pipelined-import-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Overlap state transitions, signature verification and import of blocks during sync",
+      hidden = true,
+      arity = "1")
+  private boolean pipelinedImportEnabled = SyncConfig.DEFAULT_PIPELINED_IMPORT_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-historical-sync-max-concurrent-requests"},
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description = "Maximum number of peers to request historical blocks from concurrently",
+      hidden = true,
+      arity = "1")
+  private int historicalSyncMaxConcurrentRequests =
+      SyncConfig.DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_REQUESTS;
+
   @Option(
       names = {"--p2p-subscribe-all-subnets-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -301,6 +332,11 @@ public class P2POptions {
                   .listenPort(p2pPort)
                   .advertisedIp(Optional.ofNullable(p2pAdvertisedIp));
             })
-        .sync(s -> s.isMultiPeerSyncEnabled(multiPeerSyncEnabled));
+        .sync(
+            s ->
+                s.isMultiPeerSyncEnabled(multiPeerSyncEnabled)
+                    .isBatchSignatureVerificationEnabled(batchSignatureVerificationEnabled)
+                    .isPipelinedImportEnabled(pipelinedImportEnabled)
+                    .historicalSyncMaxConcurrentRequests(historicalSyncMaxConcurrentRequests));
   }
 }
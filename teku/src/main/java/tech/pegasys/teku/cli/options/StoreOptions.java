@@ -28,8 +28,19 @@ public class StoreOptions {
   private int hotStatePersistenceFrequencyInEpochs =
       StoreConfig.DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
 
+  @Option(
+      hidden = true,
+      names = {"--Xparallel-hashing-threshold"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Minimal number of modified tree nodes on a single state tree level to hash them on multiple threads. A value of zero disables parallel hashing.",
+      arity = "1")
+  private int parallelHashingThreshold = StoreConfig.DEFAULT_PARALLEL_HASHING_THRESHOLD;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.store(
-        b -> b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs));
+        b ->
+            b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs)
+                .parallelHashingThreshold(parallelHashingThreshold));
   }
 }
@@ -100,6 +100,17 @@ public class MigrateDatabaseCommand implements Runnable {
       arity = "1")
   private Integer batchSize = 100;
 
+  @CommandLine.Option(
+      names = {"--Xcompress-finalized-blocks-enabled"},
+      paramLabel = "<BOOLEAN>",
+      hidden = true,
+      description =
+          "Compress finalized and non-canonical blocks in the new database."
+              + " May be used to compress an existing database without changing its version.",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean compressFinalizedBlocks = false;
+
   private DataDirLayout dataDirLayout;
 
   // OVERVIEW
@@ -149,6 +160,7 @@ public class MigrateDatabaseCommand implements Runnable {
             .network(network)
             .storageMode(dataStorageMode)
             .batchSize(batchSize)
+            .compressFinalizedBlocks(compressFinalizedBlocks)
             .statusUpdater(SUB_COMMAND_LOG::display)
             .build();
 
@@ -214,7 +226,7 @@ public class MigrateDatabaseCommand implements Runnable {
       final DatabaseVersion currentDatabaseVersion =
           DatabaseVersion.fromString(versionValue)
               .orElseThrow(() -> new IOException("Could not read db.version file"));
-      if (currentDatabaseVersion.equals(databaseVersion)) {
+      if (currentDatabaseVersion.equals(databaseVersion) && !compressFinalizedBlocks) {
         SUB_COMMAND_LOG.exit(0, "The specified database is already the requested version");
       }
       return currentDatabaseVersion;
@@ -42,6 +42,7 @@ public class DatabaseMigrater {
   private final Spec spec;
   private final String network;
   private final StateStorageMode storageMode;
+  private final boolean compressFinalizedBlocks;
   private KvStoreDatabase originalDatabase;
 
   KvStoreDatabase getOriginalDatabase() {
@@ -58,12 +59,14 @@ public class DatabaseMigrater {
       final DataDirLayout dataDirLayout,
       final String network,
       final StateStorageMode storageMode,
+      final boolean compressFinalizedBlocks,
       final Spec spec,
       final int batchSize,
       final Consumer<String> statusUpdater) {
     this.dataDirLayout = dataDirLayout;
     this.network = network;
     this.storageMode = storageMode;
+    this.compressFinalizedBlocks = compressFinalizedBlocks;
     this.spec = spec;
     this.batchSize = batchSize;
     this.statusUpdater = statusUpdater;
@@ -101,9 +104,9 @@ public class DatabaseMigrater {
     final Path originalDatabasePath = dataDirLayout.getBeaconDataDirectory();
 
     statusUpdater.accept("Opening original database...");
-    originalDatabase = createDatabase(originalDatabasePath, sourceDatabaseVersion);
+    originalDatabase = createDatabase(originalDatabasePath, sourceDatabaseVersion, false);
     statusUpdater.accept("Creating a new database...");
-    newDatabase = createDatabase(newDatabasePath, targetDatabaseVersion);
+    newDatabase = createDatabase(newDatabasePath, targetDatabaseVersion, compressFinalizedBlocks);
   }
 
   @VisibleForTesting
@@ -172,7 +175,10 @@ public class DatabaseMigrater {
   }
 
   @VisibleForTesting
-  KvStoreDatabase createDatabase(final Path databasePath, DatabaseVersion databaseVersion)
+  KvStoreDatabase createDatabase(
+      final Path databasePath,
+      final DatabaseVersion databaseVersion,
+      final boolean compressFinalizedBlocks)
       throws DatabaseMigraterError {
     final Eth2NetworkConfiguration config = Eth2NetworkConfiguration.builder(network).build();
     final VersionedDatabaseFactory databaseFactory =
@@ -185,6 +191,9 @@ public class DatabaseMigrater {
             config.getEth1DepositContractAddress(),
             true,
             0,
+            0,
+            0,
+            compressFinalizedBlocks,
             spec);
     final Database database = databaseFactory.createDatabase();
     if (!(database instanceof KvStoreDatabase)) {
@@ -210,6 +219,7 @@ public class DatabaseMigrater {
     private Consumer<String> statusUpdater;
     private String network;
     private StateStorageMode storageMode = StateStorageMode.ARCHIVE;
+    private boolean compressFinalizedBlocks = false;
     private Spec spec;
 
     public Builder dataOptions(final ValidatorClientDataOptions dataOptions) {
@@ -245,6 +255,11 @@ public class DatabaseMigrater {
       return this;
     }
 
+    public Builder compressFinalizedBlocks(final boolean compressFinalizedBlocks) {
+      this.compressFinalizedBlocks = compressFinalizedBlocks;
+      return this;
+    }
+
     public Builder statusUpdater(final Consumer<String> statusUpdater) {
       this.statusUpdater = statusUpdater;
       return this;
@@ -259,7 +274,13 @@ public class DatabaseMigrater {
       checkNotNull(dataDirLayout);
       checkNotNull(spec);
       return new DatabaseMigrater(
-          dataDirLayout, network, storageMode, spec, batchSize, statusUpdater);
+          dataDirLayout,
+          network,
+          storageMode,
+          compressFinalizedBlocks,
+          spec,
+          batchSize,
+          statusUpdater);
     }
   }
 }
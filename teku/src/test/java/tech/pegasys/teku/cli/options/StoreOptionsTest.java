@@ -66,4 +66,22 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(output).isNotEmpty();
     assertThat(output).contains("Invalid value");
   }
+
+  @Test
+  public void parallelHashingThreshold_shouldRespectCLIArg() {
+    final String[] args = {
+      "--Xparallel-hashing-threshold", "8192",
+    };
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments(args);
+    final StoreConfig globalConfiguration = tekuConfiguration.beaconChain().storeConfig();
+    assertThat(globalConfiguration.getParallelHashingThreshold()).isEqualTo(8192);
+    assertThat(globalConfiguration.isParallelHashingEnabled()).isTrue();
+  }
+
+  @Test
+  public void parallelHashingThreshold_shouldBeDisabledByDefault() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.isParallelHashingEnabled()).isFalse();
+  }
 }
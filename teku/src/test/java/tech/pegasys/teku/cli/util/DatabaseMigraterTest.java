@@ -16,6 +16,7 @@ package tech.pegasys.teku.cli.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.Mockito.mock;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.SignedBeaconBlockSerializer.FORMAT_SNAPPY;
 
 import com.google.common.io.Resources;
 import java.io.IOException;
@@ -34,11 +35,13 @@ import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.kvstore.TestKvStoreDatabase;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreFinalizedDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreHotDao;
 
 public class DatabaseMigraterTest {
@@ -139,6 +142,32 @@ public class DatabaseMigraterTest {
     migrater.closeDatabases();
   }
 
+  @Test
+  void shouldCompressFinalizedBlocksWhenEnabled(@TempDir Path tmpDir) throws Exception {
+    final DataDirLayout dataDirLayout = prepareTempDir(tmpDir, "5");
+    final DatabaseMigrater migrater =
+        getDatabaseMigraterBuilder(dataDirLayout).compressFinalizedBlocks(true).build();
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
+    migrater.openDatabases(DatabaseVersion.V5, DatabaseVersion.LEVELDB2);
+    final TestKvStoreDatabase originalDb = new TestKvStoreDatabase(migrater.getOriginalDatabase());
+    try (KvStoreFinalizedDao.FinalizedUpdater updater =
+        originalDb.getFinalizedDao().finalizedUpdater()) {
+      updater.addFinalizedBlock(block);
+      updater.commit();
+    }
+
+    migrater.migrateData();
+    final TestKvStoreDatabase newDb = new TestKvStoreDatabase(migrater.getNewDatabase());
+    assertThat(newDb.getFinalizedDao().getFinalizedBlockAtSlot(block.getSlot())).contains(block);
+    assertThat(newDb.getFinalizedDao().getFinalizedBlock(block.getRoot())).contains(block);
+    assertThat(originalDb.getRawFinalizedBlockAtSlot(block.getSlot()))
+        .hasValueSatisfying(value -> assertThat(value.get(0)).isNotEqualTo(FORMAT_SNAPPY));
+    assertThat(newDb.getRawFinalizedBlockAtSlot(block.getSlot()))
+        .hasValueSatisfying(value -> assertThat(value.get(0)).isEqualTo(FORMAT_SNAPPY));
+
+    migrater.closeDatabases();
+  }
+
   @Test
   void shouldCopyVariablesFromHotDb(@TempDir Path tmpDir) throws Exception {
     final DataDirLayout dataDirLayout = prepareTempDir(tmpDir, "5");
@@ -187,13 +216,16 @@ public class DatabaseMigraterTest {
   }
 
   private DatabaseMigrater getDatabaseMigrater(final DataDirLayout dataDirLayout) {
+    return getDatabaseMigraterBuilder(dataDirLayout).build();
+  }
+
+  private DatabaseMigrater.Builder getDatabaseMigraterBuilder(final DataDirLayout dataDirLayout) {
     return DatabaseMigrater.builder()
         .dataDirLayout(dataDirLayout)
         .storageMode(StateStorageMode.ARCHIVE)
         .network("minimal")
         .spec(spec)
-        .statusUpdater(logger)
-        .build();
+        .statusUpdater(logger);
   }
 
   private DataDirLayout makeDatabaseStructure(final Path beaconFolder, final String dbVersionString)